@@ -41,6 +41,9 @@ public final class CamelKSettings {
     private static final String DELAY_BETWEEN_ATTEMPTS_ENV = CAMELK_ENV_PREFIX + "DELAY_BETWEEN_ATTEMPTS";
     private static final String DELAY_BETWEEN_ATTEMPTS_DEFAULT = String.valueOf(KubernetesSettings.getDelayBetweenAttempts());
 
+    private static final String WAIT_STRATEGY_PROPERTY = CAMELK_PROPERTY_PREFIX + "wait.strategy";
+    private static final String WAIT_STRATEGY_ENV = CAMELK_ENV_PREFIX + "WAIT_STRATEGY";
+
     private static final String NAMESPACE_PROPERTY = CAMELK_PROPERTY_PREFIX + "namespace";
     private static final String NAMESPACE_ENV = CAMELK_ENV_PREFIX + "NAMESPACE";
 
@@ -101,6 +104,15 @@ public final class CamelKSettings {
                 System.getenv(DELAY_BETWEEN_ATTEMPTS_ENV) != null ? System.getenv(DELAY_BETWEEN_ATTEMPTS_ENV) : DELAY_BETWEEN_ATTEMPTS_DEFAULT));
     }
 
+    /**
+     * Wait strategy used when verifying Camel K resources (fixed, exponential or watch).
+     * @return
+     */
+    public static String getWaitStrategy() {
+        return System.getProperty(WAIT_STRATEGY_PROPERTY,
+                System.getenv(WAIT_STRATEGY_ENV) != null ? System.getenv(WAIT_STRATEGY_ENV) : KubernetesSettings.getWaitStrategy());
+    }
+
     /**
      * Namespace to work on when performing Kubernetes client operations such as creating Pods.
      * @return
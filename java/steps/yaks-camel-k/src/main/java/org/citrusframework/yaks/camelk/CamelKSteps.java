@@ -61,6 +61,7 @@ public class CamelKSteps {
     private boolean autoRemoveResources = CamelKSettings.isAutoRemoveResources();
     private int maxAttempts = CamelKSettings.getMaxAttempts();
     private long delayBetweenAttempts = CamelKSettings.getDelayBetweenAttempts();
+    private String waitStrategy = CamelKSettings.getWaitStrategy();
 
     private List<String> propertyFiles;
     private Map<String, String> properties;
@@ -69,6 +70,9 @@ public class CamelKSteps {
     private List<String> envVarFiles;
     private Map<String, String> envVars;
 
+    /** Integrations created in the current scenario that get removed at the end of the scenario */
+    private List<String> autoRemoveIntegrations;
+
     private boolean supportVariablesInSources = CamelKSettings.isSupportVariablesInSources();
     private boolean stopOnErrorStatus = CamelKSettings.isStopOnErrorStatus();
 
@@ -84,6 +88,7 @@ public class CamelKSteps {
         buildProperties = new LinkedHashMap<>();
         envVarFiles = new ArrayList<>();
         envVars = new LinkedHashMap<>();
+        autoRemoveIntegrations = new ArrayList<>();
 
         if (!context.getVariables().containsKey(VariableNames.OPERATOR_NAMESPACE.value())) {
             context.setVariable(VariableNames.OPERATOR_NAMESPACE.value(), CamelKSettings.getOperatorNamespace());
@@ -124,6 +129,7 @@ public class CamelKSteps {
     public void configureResourcePolling(Map<String, Object> configuration) {
         maxAttempts = Integer.parseInt(configuration.getOrDefault("maxAttempts", maxAttempts).toString());
         delayBetweenAttempts = Long.parseLong(configuration.getOrDefault("delayBetweenAttempts", delayBetweenAttempts).toString());
+        waitStrategy = configuration.getOrDefault("waitStrategy", waitStrategy).toString();
     }
 
     @Given("^Camel K namespace ([^\\s]+)$")
@@ -195,6 +201,31 @@ public class CamelKSteps {
 		createIntegration(name, language, configuration.get("source"), configuration);
 	}
 
+    @Given("^update Camel K integration ([a-z0-9][a-z0-9-\\.]+[a-z0-9])\\.([a-z0-9-]+) with configuration:?$")
+    public void updateIntegration(String name, String language, Map<String, String> configuration) {
+        if (configuration.get("source") == null) {
+            throw new IllegalStateException("Specify 'source' parameter");
+        }
+
+        runner.run(integration(camelk().client(k8sClient).updateIntegration(configuration.getOrDefault("name", name)),
+                name, language, configuration.get("source"), configuration));
+    }
+
+    @Given("^update Camel K integration ([a-z0-9][a-z0-9-\\.]+[a-z0-9])\\.([a-z0-9-]+)$")
+    public void updateIntegration(String name, String language, String source) {
+        runner.run(camelk()
+                    .client(k8sClient)
+                    .updateIntegration(name)
+                    .properties(properties)
+                    .propertyFiles(propertyFiles)
+                    .buildProperties(buildProperties)
+                    .buildPropertyFiles(buildPropertyFiles)
+                    .envVars(envVars)
+                    .envVarFiles(envVarFiles)
+                    .supportVariables(supportVariablesInSources)
+                    .source(name + "." + language, source));
+    }
+
 	@Given("^load Camel K integration ([a-zA-Z0-9][a-zA-Z0-9-\\.]+[a-zA-Z0-9])\\.([a-z0-9-]+)$")
 	public void loadIntegrationFromFile(String name, String language) {
         try {
@@ -228,8 +259,7 @@ public class CamelKSteps {
                     .source(name + "." + language, source));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteIntegration(name)));
+            autoRemoveIntegration(name);
         }
 	}
 
@@ -249,6 +279,7 @@ public class CamelKSteps {
                 .verifyIntegration(name)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy)
                 .isRunning());
     }
 
@@ -260,6 +291,7 @@ public class CamelKSteps {
                 .verifyIntegration(name)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy)
                 .isStopped());
     }
 
@@ -277,6 +309,7 @@ public class CamelKSteps {
                 .stopOnErrorStatus(stopOnErrorStatus)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy)
                 .waitForLogMessage(message));
     }
 
@@ -296,14 +329,36 @@ public class CamelKSteps {
                     .stopOnErrorStatus(stopOnErrorStatus)
                     .maxAttempts(maxAttempts)
                     .delayBetweenAttempts(delayBetweenAttempts)
+                    .waitStrategy(waitStrategy)
                     .waitForLogMessage(message)));
     }
 
     private void createIntegration(String name, String language, String source, Map<String, String> configuration) {
-        CreateIntegrationAction.Builder create = camelk()
-                .client(k8sClient)
-                .createIntegration(configuration.getOrDefault("name", name))
-                .source(name + "." + language, source)
+        runner.run(integration(camelk().client(k8sClient).createIntegration(configuration.getOrDefault("name", name)),
+                name, language, source, configuration));
+
+        if (autoRemoveResources) {
+            autoRemoveIntegration(configuration.getOrDefault("name", name));
+        }
+    }
+
+    /**
+     * Removes given integration at the end of the scenario. All integrations of the scenario are removed with a single
+     * finally action, so local integrations are stopped all at once.
+     * @param name
+     */
+    private void autoRemoveIntegration(String name) {
+        if (autoRemoveIntegrations.isEmpty()) {
+            runner.then(doFinally()
+                    .actions(camelk().client(k8sClient).deleteIntegrations(autoRemoveIntegrations)));
+        }
+
+        autoRemoveIntegrations.add(name);
+    }
+
+    private CreateIntegrationAction.Builder integration(CreateIntegrationAction.Builder create, String name, String language,
+                                                        String source, Map<String, String> configuration) {
+        create.source(name + "." + language, source)
                 .dependencies(configuration.getOrDefault("dependencies", "").trim())
                 .buildProperties(configuration.getOrDefault("build-properties", "").trim())
                 .buildProperties(buildProperties)
@@ -322,11 +377,6 @@ public class CamelKSteps {
             create.openApi(openApiSpec);
         }
 
-        runner.run(create);
-
-        if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(camelk().client(k8sClient).deleteIntegration(configuration.getOrDefault("name", name))));
-        }
+        return create;
     }
 }
@@ -16,7 +16,16 @@
 
 package org.citrusframework.yaks.camelk;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.apache.camel.v1.IntegrationStatus;
+import org.apache.camel.v1.integrationstatus.Conditions;
 
 /**
  * @author Christoph Deppisch
@@ -38,4 +47,60 @@ public class CamelKSupport {
                 .withScope("Namespaced")
                 .build();
     }
+
+    /**
+     * Gets the status phase of given Camel K resource.
+     * @param resource
+     * @return the phase or null if the resource has no status yet.
+     */
+    public static String getPhase(GenericKubernetesResource resource) {
+        Object phase = resource.get("status", "phase");
+        return phase != null ? phase.toString() : null;
+    }
+
+    /**
+     * Gets reason and message of the Ready condition of given Camel K resource in case the condition is not satisfied.
+     * @param resource
+     * @return
+     */
+    public static String getReadyConditionErrorDetails(GenericKubernetesResource resource) {
+        List<Map<String, Object>> conditions = resource.get("status", "conditions");
+        return getReadyConditionErrorDetails(conditions, condition -> String.valueOf(condition.get("type")),
+                condition -> String.valueOf(condition.get("status")),
+                condition -> "%s: %s".formatted(condition.get("reason"), condition.get("message")));
+    }
+
+    /**
+     * Gets reason and message of the Ready condition of given integration status in case the condition is not satisfied.
+     * @param status
+     * @return
+     */
+    public static String getReadyConditionErrorDetails(IntegrationStatus status) {
+        return getReadyConditionErrorDetails(status.getConditions(), Conditions::getType, Conditions::getStatus,
+                condition -> "%s: %s".formatted(condition.getReason(), condition.getMessage()));
+    }
+
+    /**
+     * Gets reason and message of the Ready condition of given pod in case the condition is not satisfied.
+     * @param pod
+     * @return
+     */
+    public static String getReadyConditionErrorDetails(Pod pod) {
+        return getReadyConditionErrorDetails(pod.getStatus() != null ? pod.getStatus().getConditions() : null,
+                PodCondition::getType, PodCondition::getStatus,
+                condition -> "%s: %s".formatted(condition.getReason(), condition.getMessage()));
+    }
+
+    private static <T> String getReadyConditionErrorDetails(List<T> conditions, Function<T, String> type,
+                                                            Function<T, String> status, Function<T, String> details) {
+        if (conditions != null) {
+            for (T condition : conditions) {
+                if ("Ready".equals(type.apply(condition)) && "False".equalsIgnoreCase(status.apply(condition))) {
+                    return details.apply(condition);
+                }
+            }
+        }
+
+        return "Unknown error";
+    }
 }
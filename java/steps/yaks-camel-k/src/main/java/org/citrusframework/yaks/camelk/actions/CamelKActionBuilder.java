@@ -16,6 +16,8 @@
 
 package org.citrusframework.yaks.camelk.actions;
 
+import java.util.List;
+
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.citrusframework.TestActionBuilder;
 import org.citrusframework.yaks.camelk.actions.integration.CreateIntegrationAction;
@@ -70,6 +72,19 @@ public class CamelKActionBuilder implements TestActionBuilder.DelegatingTestActi
         return builder;
     }
 
+    /**
+     * Update integration instance. Local integrations running in Camel JBang dev mode are reloaded in place.
+     * @param integrationName the name of the Camel K integration.
+     */
+    public CreateIntegrationAction.Builder updateIntegration(String integrationName) {
+        CreateIntegrationAction.Builder builder = new CreateIntegrationAction.Builder()
+                .client(kubernetesClient)
+                .integration(integrationName)
+                .reload(true);
+        this.delegate = builder;
+        return builder;
+    }
+
     /**
      * Delete integration instance.
      * @param integrationName the name of the Camel K integration.
@@ -82,6 +97,18 @@ public class CamelKActionBuilder implements TestActionBuilder.DelegatingTestActi
         return builder;
     }
 
+    /**
+     * Delete integration instances. Local integrations are stopped all at once.
+     * @param integrationNames the names of the Camel K integrations, read when the action is executed.
+     */
+    public DeleteIntegrationAction.Builder deleteIntegrations(List<String> integrationNames) {
+        DeleteIntegrationAction.Builder builder = new DeleteIntegrationAction.Builder()
+                .client(kubernetesClient)
+                .integrations(integrationNames);
+        this.delegate = builder;
+        return builder;
+    }
+
     /**
      * Create kamelet CRD in current namespace.
      * @param kameletName the name of the Kamelet.
@@ -17,22 +17,29 @@
 package org.citrusframework.yaks.camelk.actions.integration;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.apache.camel.v1.Integration;
 import org.apache.camel.v1.IntegrationBuilder;
 import org.apache.camel.v1.IntegrationSpecBuilder;
@@ -40,13 +47,19 @@ import org.apache.camel.v1.integrationspec.SourcesBuilder;
 import org.apache.camel.v1.integrationspec.Traits;
 import org.apache.camel.v1.integrationspec.traits.AddonsBuilder;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.util.FileUtils;
 import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.camelk.actions.AbstractCamelKAction;
 import org.citrusframework.yaks.camelk.jbang.CamelJBangSettings;
 import org.citrusframework.yaks.camelk.jbang.ProcessAndOutput;
 import org.citrusframework.yaks.camelk.model.IntegrationList;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
+import org.citrusframework.yaks.kubernetes.logs.LogMessageMatcher;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
 import org.citrusframework.yaks.util.ResourceUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,6 +77,29 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CreateIntegrationAction.class);
 
+    /** Prefix of Camel K modeline instructions in integration sources */
+    private static final String MODELINE_PREFIX = "// camel-k:";
+
+    /** Property expression format key=value */
+    private static final Pattern PROPERTY_FORMAT = Pattern.compile("[^\\s]+=.*");
+
+    /** Maximum number of cached integration specs */
+    private static final int SPEC_CACHE_SIZE = 100;
+
+    /** Integration specs built by this action, keyed by a hash of the resolved source and configuration */
+    private static final Map<String, Integration> SPEC_CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integration> eldest) {
+            return size() > SPEC_CACHE_SIZE;
+        }
+    });
+
+    /** Message printed by Camel JBang when an updated integration could not be reloaded */
+    private static final String RELOAD_ERROR_MESSAGE = "Error reloading routes";
+
+    /** Delay between checks of the process output while waiting for the integration to reload */
+    private static final long RELOAD_POLL_DELAY = 100L;
+
     private final String integrationName;
     private final String fileName;
     private final String source;
@@ -81,6 +117,7 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
     private final List<String> configs;
     private final List<String> connects;
     private final boolean supportVariables;
+    private final boolean reload;
 
     /**
      * Constructor using given builder.
@@ -105,6 +142,7 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         this.configs = builder.configs;
         this.connects = builder.connects;
         this.supportVariables = builder.supportVariables;
+        this.reload = builder.reload;
     }
 
     @Override
@@ -120,28 +158,63 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             resolvedSource = source;
         }
 
+        String resolvedFileName = context.replaceDynamicContentInString(fileName);
+        Map<String, List<String>> modelines = parseModelines(resolvedSource);
+
+        String specKey = specCacheKey(name, resolvedFileName, resolvedSource, modelines, context);
+        Integration cached = SPEC_CACHE.get(specKey);
+
+        final Integration integration;
+        if (cached != null) {
+            LOG.debug(String.format("Using cached spec for Camel K integration '%s'", name));
+            integration = new IntegrationBuilder(cached).build();
+        } else {
+            integration = buildIntegration(name, resolvedFileName, resolvedSource, modelines, context);
+            SPEC_CACHE.put(specKey, new IntegrationBuilder(integration).build());
+        }
+
+        if (YaksSettings.isLocal(clusterType(context))) {
+            createLocalIntegration(integration, integration.getMetadata().getName(), reload, context);
+        } else {
+            createIntegration(getKubernetesClient(), namespace(context), integration);
+        }
+
+        LOG.info(String.format("Successfully created Camel K integration '%s'", integration.getMetadata().getName()));
+    }
+
+    /**
+     * Builds the integration from given source and the configuration of this action.
+     * @param name
+     * @param resolvedFileName
+     * @param resolvedSource
+     * @param modelines
+     * @param context
+     * @return
+     */
+    private Integration buildIntegration(String name, String resolvedFileName, String resolvedSource,
+                                         Map<String, List<String>> modelines, TestContext context) {
         final IntegrationBuilder integrationBuilder = new IntegrationBuilder()
                 .withNewMetadata()
                     .withName(name)
                 .endMetadata();
 
         IntegrationSpecBuilder specBuilder = new IntegrationSpecBuilder();
-        specBuilder.addToSources(new SourcesBuilder().withName(context.replaceDynamicContentInString(fileName)).withContent(resolvedSource).build());
+        specBuilder.addToSources(new SourcesBuilder().withName(resolvedFileName).withContent(resolvedSource).build());
 
-        List<String> resolvedDependencies = resolveDependencies(resolvedSource, context.resolveDynamicValuesInList(dependencies));
+        List<String> resolvedDependencies = resolveDependencies(modelines, context.resolveDynamicValuesInList(dependencies));
         if (!resolvedDependencies.isEmpty()) {
             specBuilder.addAllToDependencies(resolvedDependencies);
         }
         Map<String, Map<String, Object>> traitConfigMap = new HashMap<>();
-        addPropertyConfigurationSpec(traitConfigMap, resolvedSource, context);
-        addRuntimeConfigurationSpec(traitConfigMap, resolvedSource, context);
-        addResourcesSpec(traitConfigMap, resolvedSource, context);
-        addVolumesSpec(traitConfigMap, resolvedSource, context);
-        addConnectsSpec(traitConfigMap, resolvedSource, context);
-        addBuildPropertyConfigurationSpec(traitConfigMap, resolvedSource, context);
-        addEnvVarConfigurationSpec(traitConfigMap, resolvedSource, context);
-        addOpenApiSpec(traitConfigMap, resolvedSource, context);
-        addTraitSpec(traitConfigMap, resolvedSource, context);
+        addPropertyConfigurationSpec(traitConfigMap, modelines, context);
+        addRuntimeConfigurationSpec(traitConfigMap, modelines, context);
+        addResourcesSpec(traitConfigMap, modelines, context);
+        addVolumesSpec(traitConfigMap, modelines, context);
+        addConnectsSpec(traitConfigMap, modelines, context);
+        addBuildPropertyConfigurationSpec(traitConfigMap, modelines, context);
+        addEnvVarConfigurationSpec(traitConfigMap, modelines, context);
+        addOpenApiSpec(traitConfigMap, modelines, context);
+        addTraitSpec(traitConfigMap, modelines, context);
 
         Traits traitModel = (KubernetesSupport.json().convertValue(traitConfigMap, Traits.class));
 
@@ -158,24 +231,68 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
 
         specBuilder.withTraits(traitModel);
 
-        final Integration integration = integrationBuilder
+        return integrationBuilder
                 .withSpec(specBuilder.build())
                 .build();
-        if (YaksSettings.isLocal(clusterType(context))) {
-            createLocalIntegration(integration, integration.getMetadata().getName(), context);
-        } else {
-            createIntegration(getKubernetesClient(), namespace(context), integration);
-        }
+    }
 
-        LOG.info(String.format("Successfully created Camel K integration '%s'", integration.getMetadata().getName()));
+    /**
+     * Computes the cache key for the integration spec. The key covers the source and all configuration values of this action
+     * with test variables resolved, so the cached spec is only reused when the integration would be built exactly the same.
+     * @param name
+     * @param resolvedFileName
+     * @param resolvedSource
+     * @param modelines
+     * @param context
+     * @return
+     */
+    private String specCacheKey(String name, String resolvedFileName, String resolvedSource,
+                                Map<String, List<String>> modelines, TestContext context) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            Consumer<String> update = value -> {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            };
+
+            update.accept(name);
+            update.accept(resolvedFileName);
+            update.accept(resolvedSource);
+
+            // modeline values that are resolved with test variables regardless of variable support in the source
+            for (String kind : List.of("config", "resource", "volume", "connect", "open-api")) {
+                modelines.getOrDefault(kind, Collections.emptyList())
+                        .forEach(value -> update.accept(context.replaceDynamicContentInString(value)));
+                update.accept(kind);
+            }
+
+            for (List<String> values : List.of(dependencies, properties, buildProperties, envVars, traits)) {
+                context.resolveDynamicValuesInList(values).forEach(update);
+                update.accept("");
+            }
+
+            for (List<String> values : List.of(configs, resources, volumes, connects, openApis)) {
+                values.forEach(value -> update.accept(context.replaceDynamicContentInString(value)));
+                update.accept("");
+            }
+
+            for (List<String> files : List.of(propertyFiles, buildPropertyFiles, envVarFiles)) {
+                for (String file : files) {
+                    update.accept(file);
+                    update.accept(context.replaceDynamicContentInString(FileUtils.readToString(ResourceUtils.resolve(file, context))));
+                }
+                update.accept("");
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new CitrusRuntimeException("Failed to compute Camel K integration spec cache key", e);
+        }
     }
 
-    private void addResourcesSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addResourcesSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         String traitName = "mount.resources";
-        Pattern pattern = getModelinePattern("resource");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            String resource = matcher.group(1);
+        for (String resource : modelines.getOrDefault("resource", Collections.emptyList())) {
             addTraitSpec("%s=%s".formatted(traitName, context.replaceDynamicContentInString(resource)), traitConfigMap, true);
         }
 
@@ -184,12 +301,9 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         }
     }
 
-    private void addVolumesSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addVolumesSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         String traitName = "mount.volumes";
-        Pattern pattern = getModelinePattern("volume");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            String volume = matcher.group(1);
+        for (String volume : modelines.getOrDefault("volume", Collections.emptyList())) {
             addTraitSpec("%s=%s".formatted(traitName, context.replaceDynamicContentInString(volume)), traitConfigMap, true);
         }
 
@@ -198,12 +312,9 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         }
     }
 
-    private void addConnectsSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addConnectsSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         String traitName = "service-binding.services";
-        Pattern pattern = getModelinePattern("connect");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            String connect = matcher.group(1);
+        for (String connect : modelines.getOrDefault("connect", Collections.emptyList())) {
             addTraitSpec("%s=%s".formatted(traitName, context.replaceDynamicContentInString(connect)), traitConfigMap, true);
         }
 
@@ -223,19 +334,20 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             LOG.debug(KubernetesSupport.dumpYaml(integration));
         }
 
-        k8sClient.resources(Integration.class, IntegrationList.class)
-                .inNamespace(namespace)
-                .resource(integration)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(k8sClient.resources(Integration.class, IntegrationList.class)
+                .inNamespace(namespace), integration);
     }
 
     /**
-     * Creates the Camel K integration with local JBang runtime.
+     * Creates the Camel K integration with local JBang runtime. When reload is enabled and the integration is already running
+     * in Camel JBang dev mode the integration file is updated in place and the running process reloads the routes.
+     * Otherwise, the running integration is stopped and run again.
      * @param integration
      * @param name
+     * @param reload
      * @param context
      */
-    private static void createLocalIntegration(Integration integration, String name, TestContext context) {
+    private static void createLocalIntegration(Integration integration, String name, boolean reload, TestContext context) {
         try {
             String integrationYaml = KubernetesSupport.dumpYaml(integration);
 
@@ -249,6 +361,21 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             Path workDir = CamelJBangSettings.getWorkDir();
             Files.createDirectories(workDir);
             Path file = workDir.resolve(String.format("i-%s.yaml", name));
+
+            if (reload) {
+                Optional<ProcessAndOutput> running = camel().getProcess(name);
+                if (running.isPresent() && CamelJBangSettings.isCamelDevMode()) {
+                    reloadLocalIntegration(name, file, integrationYaml, running.get(), context);
+                    return;
+                }
+
+                if (running.isPresent()) {
+                    LOG.info(String.format("Restarting Camel K integration '%s' - enable Camel JBang dev mode to reload the integration in place", name));
+                    camel().stop(running.get().getCamelProcessId());
+                    running.get().getProcess().waitFor(CamelJBangSettings.getReloadTimeout(), TimeUnit.MILLISECONDS);
+                }
+            }
+
             Files.writeString(file, integrationYaml,
                     StandardOpenOption.WRITE,
                     StandardOpenOption.CREATE,
@@ -269,7 +396,72 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             context.setVariable(name + ":process:" + pid, pao);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to create integration file", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while restarting Camel K integration '%s'", name), e);
+        }
+    }
+
+    /**
+     * Updates the integration file of a running Camel JBang dev mode process and waits for the process to print
+     * the reload message. Fails when the process reports an error while reloading the routes.
+     * @param name
+     * @param file
+     * @param integrationYaml
+     * @param pao
+     * @param context
+     * @throws IOException
+     */
+    private static void reloadLocalIntegration(String name, Path file, String integrationYaml, ProcessAndOutput pao,
+                                               TestContext context) throws IOException {
+        Long pid = pao.getCamelProcessId();
+        context.setVariable(name + ":pid", pid);
+        context.setVariable(name + ":process:" + pid, pao);
+
+        if (Files.exists(file) && Files.readString(file).equals(integrationYaml)) {
+            LOG.info(String.format("Camel K integration '%s' is up-to-date - skip reload", name));
+            return;
+        }
+
+        // only output printed after the update is relevant
+        AtomicLong position = new AtomicLong();
+        pao.nextOutput(position);
+
+        long start = System.currentTimeMillis();
+        Files.writeString(file, integrationYaml,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        LogMessageMatcher reloaded = new LogMessageMatcher(CamelJBangSettings.getReloadMessage());
+        LogMessageMatcher failed = new LogMessageMatcher(RELOAD_ERROR_MESSAGE);
+        long timeout = CamelJBangSettings.getReloadTimeout();
+        WaitResult<Boolean> result = WaitStrategies.fixed((int) Math.max(1L, timeout / RELOAD_POLL_DELAY), RELOAD_POLL_DELAY)
+                .waitFor(String.format("integration '%s' to reload", name), () -> {
+                    String output = pao.nextOutput(position);
+                    if (failed.scan(output)) {
+                        throw new CitrusRuntimeException(String.format("Failed to reload Camel K integration '%s': %s", name, failed.getTail()));
+                    }
+
+                    if (reloaded.scan(output)) {
+                        return Boolean.TRUE;
+                    }
+
+                    if (!pao.getProcess().isAlive()) {
+                        throw new CitrusRuntimeException(String.format("Camel K integration '%s' has stopped while reloading - exit code %d",
+                                name, pao.getProcess().exitValue()));
+                    }
+
+                    return null;
+                });
+
+        if (result.isSatisfied()) {
+            LOG.info(String.format("Reloaded Camel K integration '%s' in %d ms", name, System.currentTimeMillis() - start));
+            return;
         }
+
+        throw new ActionTimeoutException(timeout,
+                new CitrusRuntimeException(String.format("Camel K integration '%s' has not been reloaded", name)));
     }
 
     /**
@@ -294,12 +486,9 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         return args.toArray(String[]::new);
     }
 
-    private void addOpenApiSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addOpenApiSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         String traitName = "openapi.configmaps";
-        Pattern pattern = getModelinePattern("open-api");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            String openApiSpecFile = matcher.group(1);
+        for (String openApiSpecFile : modelines.getOrDefault("open-api", Collections.emptyList())) {
             addTraitSpec("%s=%s".formatted(traitName, context.replaceDynamicContentInString(openApiSpecFile)), traitConfigMap, true);
         }
 
@@ -308,17 +497,15 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         }
     }
 
-    private void addTraitSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addTraitSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         if (traits != null && !traits.isEmpty()) {
             for (String t : context.resolveDynamicValuesInList(traits)) {
                 addTraitSpec(t, traitConfigMap, false);
             }
         }
 
-        Pattern pattern = getModelinePattern("trait");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            addTraitSpec(matcher.group(1), traitConfigMap, false);
+        for (String trait : modelines.getOrDefault("trait", Collections.emptyList())) {
+            addTraitSpec(trait, traitConfigMap, false);
         }
     }
 
@@ -412,7 +599,7 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         }
     }
 
-    private void addPropertyConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addPropertyConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         final String traitName = "camel.properties";
 
         if (properties != null && !properties.isEmpty()) {
@@ -441,14 +628,12 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             }
         }
 
-        Pattern pattern = getModelinePattern("property");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            addTraitSpec(String.format("%s=%s", traitName, matcher.group(1)), traitConfigMap, true);
+        for (String value : modelines.getOrDefault("property", Collections.emptyList())) {
+            addTraitSpec(String.format("%s=%s", traitName, value), traitConfigMap, true);
         }
     }
 
-    private void addBuildPropertyConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addBuildPropertyConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         final String traitName = "builder.properties";
 
         if (buildProperties != null && !buildProperties.isEmpty()) {
@@ -477,14 +662,12 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             }
         }
 
-        Pattern pattern = getModelinePattern("build-property");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            addTraitSpec(String.format("%s=%s", traitName, matcher.group(1)), traitConfigMap, true);
+        for (String value : modelines.getOrDefault("build-property", Collections.emptyList())) {
+            addTraitSpec(String.format("%s=%s", traitName, value), traitConfigMap, true);
         }
     }
 
-    private void addEnvVarConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addEnvVarConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         final String traitName = "environment.vars";
 
         if (envVars != null && !envVars.isEmpty()) {
@@ -513,19 +696,14 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             }
         }
 
-        Pattern pattern = getModelinePattern("env");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            addTraitSpec(String.format("%s=%s", traitName, matcher.group(1)), traitConfigMap, true);
+        for (String value : modelines.getOrDefault("env", Collections.emptyList())) {
+            addTraitSpec(String.format("%s=%s", traitName, value), traitConfigMap, true);
         }
     }
 
-    private void addRuntimeConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, String source, TestContext context) {
+    private void addRuntimeConfigurationSpec(Map<String, Map<String, Object>> traitConfigMap, Map<String, List<String>> modelines, TestContext context) {
         String traitName = "mount.configs";
-        Pattern pattern = getModelinePattern("config");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            String resource = matcher.group(1);
+        for (String resource : modelines.getOrDefault("config", Collections.emptyList())) {
             addTraitSpec("%s=%s".formatted(traitName, context.replaceDynamicContentInString(resource)), traitConfigMap, true);
         }
 
@@ -548,27 +726,20 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
      * @return
      */
     private static boolean isValidPropertyFormat(String property) {
-        String patternString = "[^\\s]+=.*";
-
-        Pattern pattern = Pattern.compile(patternString);
-
-        Matcher matcher = pattern.matcher(property);
-        return matcher.matches();
+        return PROPERTY_FORMAT.matcher(property).matches();
     }
 
     /**
      * Resolve dependencies for Camel K integration and support modeline instructions in given source.
-     * @param source
+     * @param modelines
      * @param dependencies
      * @return
      */
-    private static List<String> resolveDependencies(String source, List<String> dependencies) {
+    private static List<String> resolveDependencies(Map<String, List<String>> modelines, List<String> dependencies) {
         List<String> resolved = new ArrayList<>(dependencies);
 
-        Pattern pattern = getModelinePattern("dependency");
-        Matcher matcher = pattern.matcher(source);
-        while (matcher.find()) {
-            String dependency = matcher.group(1);
+        for (String modelineDependency : modelines.getOrDefault("dependency", Collections.emptyList())) {
+            String dependency = modelineDependency;
 
             if (dependency.startsWith("camel-quarkus-")) {
                 dependency = "camel:" + dependency.substring("camel-quarkus-".length());
@@ -585,12 +756,33 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
     }
 
     /**
-     * Create regexp pattern to match Camel K modeling instruction with given name.
-     * @param name
+     * Reads all Camel K modeline instructions (e.g. "// camel-k: trait=route.enabled=true") from given source in a single pass.
+     * Each modeline instruction is given on its own line. The values are grouped by the instruction name in order of appearance.
+     * @param source
      * @return
      */
-    private static Pattern getModelinePattern(String name) {
-        return Pattern.compile(String.format("^// camel-k: ?%s=(.+)$", name), Pattern.MULTILINE);
+    static Map<String, List<String>> parseModelines(String source) {
+        Map<String, List<String>> modelines = new HashMap<>();
+        if (source == null || !source.contains(MODELINE_PREFIX)) {
+            return modelines;
+        }
+
+        source.lines()
+                .filter(line -> line.startsWith(MODELINE_PREFIX))
+                .forEach(line -> {
+                    int start = MODELINE_PREFIX.length();
+                    if (line.startsWith(" ", start)) {
+                        start++;
+                    }
+
+                    int separator = line.indexOf('=', start);
+                    if (separator > start && separator < line.length() - 1 && !Character.isWhitespace(line.charAt(start))) {
+                        modelines.computeIfAbsent(line.substring(start, separator), key -> new ArrayList<>())
+                                .add(line.substring(separator + 1));
+                    }
+                });
+
+        return modelines;
     }
 
     /**
@@ -633,6 +825,7 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
         private final List<String> configs = new ArrayList<>();
         private final List<String> connects = new ArrayList<>();
         private boolean supportVariables = true;
+        private boolean reload;
 
         public Builder integration(String integrationName) {
             this.integrationName = integrationName;
@@ -649,6 +842,11 @@ public class CreateIntegrationAction extends AbstractCamelKAction {
             return this;
         }
 
+        public Builder reload(boolean reload) {
+            this.reload = reload;
+            return this;
+        }
+
         public Builder source(String source) {
             this.source = source;
             return this;
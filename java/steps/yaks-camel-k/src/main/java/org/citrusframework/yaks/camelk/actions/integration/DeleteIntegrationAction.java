@@ -16,6 +16,12 @@
 
 package org.citrusframework.yaks.camelk.actions.integration;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.apache.camel.v1.Integration;
 import org.citrusframework.context.TestContext;
@@ -31,27 +37,70 @@ import static org.citrusframework.yaks.camelk.jbang.CamelJBang.camel;
  */
 public class DeleteIntegrationAction extends AbstractCamelKAction {
 
-    private final String integrationName;
+    private final List<String> integrationNames;
 
     public DeleteIntegrationAction(Builder builder) {
         super("delete-integration", builder);
 
-        this.integrationName = builder.integrationName;
+        this.integrationNames = builder.integrationNames;
     }
 
     @Override
     public void doExecute(TestContext context) {
-        String name = context.replaceDynamicContentInString(integrationName);
+        List<String> names = context.resolveDynamicValuesInList(new ArrayList<>(integrationNames));
+        if (names.isEmpty()) {
+            return;
+        }
 
-        LOG.info(String.format("Deleting Camel K integration '%s'", name));
+        LOG.info(String.format("Deleting Camel K integration(s) %s", names));
 
         if (YaksSettings.isLocal(clusterType(context))) {
-            deleteLocalIntegration(name, context);
+            deleteLocalIntegrations(names, context);
         } else {
-            deleteIntegration(getKubernetesClient(), namespace(context), name);
+            names.forEach(name -> deleteIntegration(getKubernetesClient(), namespace(context), name));
         }
 
-        LOG.info(String.format("Successfully deleted Camel K integration '%s'", name));
+        LOG.info(String.format("Successfully deleted Camel K integration(s) %s", names));
+    }
+
+    /**
+     * Stops all local integrations at once so the time to stop does not depend on the number of integrations.
+     * Integrations without a known process id do not prevent the other integrations from being stopped. These
+     * integrations are reported after all other integrations have been stopped.
+     * @param names
+     * @param context
+     */
+    private static void deleteLocalIntegrations(List<String> names, TestContext context) {
+        Map<String, Long> pids = new LinkedHashMap<>();
+        List<String> unresolved = new ArrayList<>();
+        List<Map<String, String>> running = null;
+
+        for (String name : names) {
+            if (context.getVariables().containsKey(name + ":pid")) {
+                pids.put(name, context.getVariable(name + ":pid", Long.class));
+                continue;
+            }
+
+            if (running == null) {
+                running = camel().getAll();
+            }
+
+            Optional<Long> pid = getLocalIntegrationPid(name, running);
+            if (pid.isPresent()) {
+                pids.put(name, pid.get());
+            } else {
+                unresolved.add(name);
+            }
+        }
+
+        if (!pids.isEmpty()) {
+            camel().stop(pids.values());
+        }
+
+        if (!unresolved.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Unable to retrieve integration process id for %s - " +
+                    "stopped integration(s) %s", unresolved, pids.keySet()));
+        }
     }
 
     /**
@@ -68,22 +117,15 @@ public class DeleteIntegrationAction extends AbstractCamelKAction {
     }
 
     /**
-     * Deletes the Camel K integration from local JBang runtime.
+     * Gets the process id of the Camel K integration running in local JBang runtime.
      * @param name
-     * @param context
+     * @param running properties of all running integrations.
      */
-    private static void deleteLocalIntegration(String name, TestContext context) {
-        Long pid;
-        if (context.getVariables().containsKey(name + ":pid")) {
-            pid = context.getVariable(name + ":pid", Long.class);
-        } else {
-            pid = camel().getAll().stream()
-                    .filter(props -> name.equals(props.get("NAME")) && !props.getOrDefault("PID", "").isBlank())
-                    .map(props -> Long.valueOf(props.get("PID"))).findFirst()
-                    .orElseThrow(() -> new CitrusRuntimeException(String.format("Unable to retrieve integration process id %s:pid", name)));
-        }
-
-        camel().stop(pid);
+    private static Optional<Long> getLocalIntegrationPid(String name, List<Map<String, String>> running) {
+        return running.stream()
+                .filter(props -> name.equals(props.get("NAME")) && !props.getOrDefault("PID", "").isBlank())
+                .map(props -> Long.valueOf(props.get("PID")))
+                .findFirst();
     }
 
     /**
@@ -91,10 +133,21 @@ public class DeleteIntegrationAction extends AbstractCamelKAction {
      */
     public static class Builder extends AbstractCamelKAction.Builder<DeleteIntegrationAction, Builder> {
 
-        private String integrationName;
+        private List<String> integrationNames = new ArrayList<>();
 
         public Builder integration(String integrationName) {
-            this.integrationName = integrationName;
+            this.integrationNames.add(integrationName);
+            return this;
+        }
+
+        /**
+         * Deletes all integrations in given list. The list is read when the action is executed, so integrations added
+         * to the list after the action has been built are deleted, too.
+         * @param integrationNames
+         * @return
+         */
+        public Builder integrations(List<String> integrationNames) {
+            this.integrationNames = integrationNames;
             return this;
         }
 
@@ -16,24 +16,41 @@
 
 package org.citrusframework.yaks.camelk.actions.integration;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.api.model.PodCondition;
-import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ContainerResource;
+import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.TimeTailPrettyLoggable;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import org.apache.camel.v1.Integration;
-import org.apache.camel.v1.IntegrationStatus;
-import org.apache.camel.v1.integrationstatus.Conditions;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.camelk.CamelKSettings;
+import org.citrusframework.yaks.camelk.CamelKSupport;
 import org.citrusframework.yaks.camelk.actions.AbstractCamelKAction;
 import org.citrusframework.yaks.camelk.jbang.ProcessAndOutput;
 import org.citrusframework.yaks.camelk.model.IntegrationList;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.events.FatalEventException;
+import org.citrusframework.yaks.kubernetes.events.FatalEventMonitor;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.citrusframework.yaks.kubernetes.logs.LogMessageMatcher;
+import org.citrusframework.yaks.kubernetes.logs.PodLogCursor;
+import org.citrusframework.yaks.kubernetes.logs.PodLogFollower;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitSignal;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +68,8 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
     private static final Logger INTEGRATION_STATUS_LOG = LoggerFactory.getLogger("INTEGRATION_STATUS");
     private static final Logger INTEGRATION_LOG = LoggerFactory.getLogger("INTEGRATION_LOGS");
 
+    private static final ResourceDefinitionContext INTEGRATION_CRD = CamelKSupport.camelkCRDContext("integrations", CamelKSettings.V1);
+
     private final String integrationName;
     private final String logMessage;
     private final int maxAttempts;
@@ -61,6 +80,8 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
 
     private final boolean stopOnErrorStatus;
 
+    private final WaitStrategy waitStrategy;
+
     /**
      * Constructor using given builder.
      * @param builder
@@ -74,6 +95,8 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
         this.printLogs = builder.printLogs;
         this.stopOnErrorStatus = builder.stopOnErrorStatus;
+        this.waitStrategy = Optional.ofNullable(builder.waitStrategy)
+                .orElseGet(() -> WaitStrategies.create(builder.waitStrategyName, maxAttempts, delayBetweenAttempts));
     }
 
     @Override
@@ -99,53 +122,60 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
         }
     }
 
+    /**
+     * Wait for the local integration process to print given message. Each attempt scans only the process output
+     * that has been produced since the previous attempt.
+     * @param pid
+     * @param integration
+     * @param message
+     * @param context
+     */
     private void verifyLocalIntegrationLogs(Long pid, String integration, String message, TestContext context) {
         if (printLogs) {
             INTEGRATION_LOG.info(String.format("Waiting for integration '%s' to log message", integration));
         }
 
-        String log;
-        int offset = 0;
+        LogMessageMatcher matcher = new LogMessageMatcher(message);
+        AtomicLong position = new AtomicLong();
 
         ProcessAndOutput pao = context.getVariable(integration + ":process:" + pid, ProcessAndOutput.class);
-        for (int i = 0; i < maxAttempts; i++) {
-            log = pao.getOutput();
+        WaitResult<Boolean> result = getPollingStrategy().waitFor(String.format("integration '%s' to log message", integration), () -> {
+            String newOutput = pao.nextOutput(position);
 
-            if (printLogs && (offset < log.length())) {
-                INTEGRATION_LOG.info(log.substring(offset));
-                offset = log.length();
+            if (newOutput.isEmpty()) {
+                return null;
             }
 
-            if (log.contains(message)) {
-                LOG.info("Verified integration logs - All values OK!");
-                return;
+            if (printLogs) {
+                INTEGRATION_LOG.info(newOutput);
             }
 
-            if (!printLogs) {
-                LOG.warn(String.format("Waiting for integration '%s' to log message - retry in %s ms", integration, delayBetweenAttempts));
-            }
+            return matcher.scan(newOutput) ? Boolean.TRUE : null;
+        });
 
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for integration logs", e);
-            }
+        if (result.isSatisfied()) {
+            LOG.info("Verified integration logs - All values OK!");
+            return;
+        }
+
+        if (!printLogs) {
+            LOG.info(String.format("Last log output of integration '%s':%n%s", integration, matcher.getTail()));
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException(getPollingStrategy().getTimeout(),
                 new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
-                        "has not printed message '%s' after %d attempts", integration, message, maxAttempts)));
+                        "has not printed message '%s' after %d attempts", integration, message, result.getAttempts())));
     }
 
     private Long verifyLocalIntegrationStatus(String integration, String phase, TestContext context) {
         INTEGRATION_STATUS_LOG.info(String.format("Waiting for integration '%s' to be in state '%s'", integration, phase));
 
-        for (int i = 0; i < maxAttempts; i++) {
+        WaitResult<Long> result = getPollingStrategy().waitFor(String.format("integration '%s' to be in state '%s'", integration, phase), () -> {
             if (context.getVariables().containsKey(integration + ":pid")) {
                 Long pid = context.getVariable(integration + ":pid", Long.class);
                 Map<String, String> properties = camel().get(pid);
-                if ((phase.equals("Stopped") && properties.isEmpty()) || (!properties.isEmpty() && properties.get("STATUS").equals(phase))) {
-                    LOG.info(String.format("Verified integration '%s' state '%s' - All values OK!", integration, phase));
+                if ((phase.equals("Stopped") && (properties.isEmpty() || "Terminated".equals(properties.get("STATUS"))))
+                        || (!properties.isEmpty() && properties.get("STATUS").equals(phase))) {
                     return pid;
                 } else if (phase.equals("Error")) {
                     LOG.info(String.format("Integration '%s' is in state 'Error'", integration));
@@ -155,17 +185,17 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
                 }
             }
 
-            LOG.info(String.format("Waiting for integration '%s' to be in state '%s'- retry in %s ms", integration, phase, delayBetweenAttempts));
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for integration state", e);
-            }
+            return null;
+        });
+
+        if (result.isSatisfied()) {
+            LOG.info(String.format("Verified integration '%s' state '%s' - All values OK!", integration, phase));
+            return result.getResult();
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException(getPollingStrategy().getTimeout(),
                 new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
-                        "is not in state '%s' after %d attempts", integration, phase, maxAttempts)));
+                        "is not in state '%s' after %d attempts", integration, phase, result.getAttempts())));
 
     }
 
@@ -178,7 +208,9 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
     }
 
     /**
-     * Wait for integration pod to log given message.
+     * Wait for integration pod to log given message. Follows the pod log stream when the wait strategy is backed by a watch.
+     * Otherwise polls the pod logs and scans only the log output that has been added since the previous attempt.
+     * The log output is not retained apart from a bounded tail window used for error reporting.
      * @param pod
      * @param name
      * @param namespace
@@ -189,65 +221,130 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
             INTEGRATION_LOG.info(String.format("Waiting for pod '%s' to log message", name));
         }
 
-        String log;
-        int offset = 0;
+        LogMessageMatcher matcher = new LogMessageMatcher(message);
 
-        for (int i = 0; i < maxAttempts; i++) {
-            log = getIntegrationPodLogs(pod, namespace);
-
-            if (printLogs && (offset < log.length())) {
-                INTEGRATION_LOG.info(log.substring(offset));
-                offset = log.length();
+        int attempts;
+        long timeout;
+        if (waitStrategy.isWatch()) {
+            timeout = waitStrategy.getTimeout();
+            try {
+                attempts = new PodLogFollower(sinceTime -> getIntegrationPodLogs(pod, namespace, sinceTime).watchLog(),
+                        () -> isIntegrationPodRunning(pod, namespace), delayBetweenAttempts, printLogs ? INTEGRATION_LOG::info : null)
+                        .follow(name, matcher, timeout);
+            } catch (KubernetesClientException e) {
+                LOG.warn(String.format("Failed to follow logs of integration '%s' - fallback to polling pod logs", name), e);
+                matcher.reset();
+                attempts = pollIntegrationLogs(pod, name, namespace, matcher);
             }
+        } else {
+            timeout = getPollingStrategy().getTimeout();
+            attempts = pollIntegrationLogs(pod, name, namespace, matcher);
+        }
 
-            if (log.contains(message)) {
-                LOG.info("Verified integration logs - All values OK!");
-                return;
-            }
+        if (matcher.isMatched()) {
+            LOG.info("Verified integration logs - All values OK!");
+            return;
+        }
 
-            if (!printLogs) {
-                LOG.warn(String.format("Waiting for integration '%s' to log message - retry in %s ms", name, delayBetweenAttempts));
-            }
+        if (!printLogs) {
+            LOG.info(String.format("Last log output of integration '%s':%n%s", name, matcher.getTail()));
+        }
 
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for integration pod logs", e);
+        throw new ActionTimeoutException(timeout,
+                new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
+                        "has not printed message '%s' after %d attempts", name, message, attempts)));
+    }
+
+    /**
+     * Poll integration pod logs using the polling strategy. Only the log output that has been added since the previous
+     * attempt is requested and passed to the matcher.
+     * @param pod
+     * @param name
+     * @param namespace
+     * @param matcher
+     * @return number of attempts.
+     */
+    private int pollIntegrationLogs(Pod pod, String name, String namespace, LogMessageMatcher matcher) {
+        PodLogCursor cursor = new PodLogCursor();
+
+        WaitResult<Boolean> result = getPollingStrategy().waitFor(String.format("integration '%s' to log message", name), () -> {
+            String newLogs = cursor.acceptAll(getIntegrationPodLogs(pod, namespace, cursor.getSinceTime()).getLog());
+
+            if (!newLogs.isEmpty()) {
+                if (printLogs) {
+                    INTEGRATION_LOG.info(newLogs);
+                }
+
+                if (matcher.scan(newLogs)) {
+                    return true;
+                }
             }
+
+            return null;
+        });
+
+        return result.getAttempts();
+    }
+
+    /**
+     * Retrieve log messages with timestamps from given pod. Only log messages since given time are retrieved
+     * unless since time is null.
+     * @param pod
+     * @param namespace
+     * @param sinceTime
+     * @return
+     */
+    private Loggable getIntegrationPodLogs(Pod pod, String namespace, String sinceTime) {
+        TimeTailPrettyLoggable logs = getIntegrationPodLogResource(pod, namespace).usingTimestamps();
+        if (sinceTime != null) {
+            return logs.sinceTime(sinceTime);
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
-                new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
-                        "has not printed message '%s' after %d attempts", name, message, maxAttempts)));
+        return logs;
     }
 
     /**
-     * Retrieve log messages from given pod.
+     * Checks whether given integration pod is still running and may print more log messages.
      * @param pod
      * @param namespace
      * @return
      */
-    private String getIntegrationPodLogs(Pod pod, String namespace) {
+    private boolean isIntegrationPodRunning(Pod pod, String namespace) {
+        Pod current = getKubernetesClient().pods()
+                .inNamespace(namespace)
+                .withName(pod.getMetadata().getName())
+                .get();
+
+        if (current == null || current.getStatus() == null) {
+            return false;
+        }
+
+        return !"Succeeded".equals(current.getStatus().getPhase()) && !"Failed".equals(current.getStatus().getPhase());
+    }
+
+    /**
+     * Get the log resource for given pod. Selects the first container in case the pod has multiple containers.
+     * @param pod
+     * @param namespace
+     * @return
+     */
+    private ContainerResource getIntegrationPodLogResource(Pod pod, String namespace) {
         PodResource podRes = getKubernetesClient().pods()
                 .inNamespace(namespace)
                 .withName(pod.getMetadata().getName());
 
-        String containerName = null;
         if (pod.getSpec() != null && pod.getSpec().getContainers() != null && pod.getSpec().getContainers().size() > 1) {
-            containerName = pod.getSpec().getContainers().get(0).getName();
+            return podRes.inContainer(pod.getSpec().getContainers().get(0).getName());
         }
 
-        String logs;
-        if (containerName != null) {
-            logs = podRes.inContainer(containerName).getLog();
-        } else {
-            logs = podRes.getLog();
-        }
-        return logs;
+        return podRes;
     }
 
     /**
-     * Wait for given pod to be in given state.
+     * Wait for given pod to be in given state. Aborts the wait as soon as a fatal Kubernetes event
+     * (e.g. image pull failure) is reported for the integration or its pods. Checks the integration state each time an
+     * integration or one of its pods changes when the wait strategy is backed by a watch. The watches are shared with all other
+     * actions waiting on integrations and pods in the same namespace.
      * @param name
      * @param phase
      * @param namespace
@@ -256,40 +353,117 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
     private Pod verifyIntegrationPod(String name, String phase, String namespace) {
         INTEGRATION_STATUS_LOG.info(String.format("Waiting for integration '%s' to be in state '%s'", name, phase));
 
-        for (int i = 0; i < maxAttempts; i++) {
-            Integration integration = getIntegration(name, namespace);
-            if (integration != null && integration.getStatus() != null) {
-                if ("Error".equals(integration.getStatus().getPhase())) {
-                    String readyConditionError = getReadyConditionErrorDetails(integration.getStatus());
-                    if (stopOnErrorStatus) {
-                        INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' is in state 'Error' - %s", name, readyConditionError));
-                        throw new CitrusRuntimeException(String.format("Failed to verify integration '%s' - is in state 'Error' - %s", name, readyConditionError));
+        WaitSignal signal = new WaitSignal();
+        WaitStrategy strategy = waitStrategy;
+        KubernetesInformerCache.Subscription subscription = () -> {};
+        if (waitStrategy.isWatch()) {
+            try {
+                subscription = subscribe(namespace, signal);
+            } catch (KubernetesClientException e) {
+                LOG.warn(String.format("Failed to watch pods of integration '%s' - fallback to polling integration state", name), e);
+                strategy = getPollingStrategy();
+            }
+        }
+
+        try (FatalEventMonitor monitor = monitorFatalEvents(name, phase, namespace)) {
+            monitor.fatalError().thenRun(signal::signal);
+
+            WaitResult<Pod> result = strategy.waitFor(String.format("integration '%s' to be in state '%s'", name, phase), () -> {
+                monitor.verify();
+
+                Integration integration = getIntegration(name, namespace);
+                if (integration != null && integration.getStatus() != null) {
+                    if ("Error".equals(integration.getStatus().getPhase())) {
+                        String readyConditionError = CamelKSupport.getReadyConditionErrorDetails(integration.getStatus());
+                        if (stopOnErrorStatus) {
+                            INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' is in state 'Error' - %s", name, readyConditionError));
+                            throw new CitrusRuntimeException(String.format("Failed to verify integration '%s' - is in state 'Error' - %s", name, readyConditionError));
+                        } else {
+                            INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' is in state 'Error' - %s. Will keep checking ...", name, readyConditionError));
+                        }
                     } else {
-                        INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' is in state 'Error' - %s. Will keep checking ...", name, readyConditionError));
-                    }
-                } else {
-                    Pod pod = getIntegrationPod(name, phase, namespace);
-                    if (pod != null) {
-                        LOG.info(String.format("Verified integration pod '%s' state '%s' - All values OK!", name, phase));
-                        return pod;
+                        return getIntegrationPod(name, phase, namespace);
                     }
                 }
-            }
 
-            LOG.info(String.format("Waiting for integration '%s' to be in state '%s'- retry in %s ms", name, phase, delayBetweenAttempts));
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for integration pod state", e);
+                return null;
+            }, signal);
+
+            if (result.isSatisfied()) {
+                LOG.info(String.format("Verified integration pod '%s' state '%s' - All values OK!", name, phase));
+                return result.getResult();
             }
+
+            throw new ActionTimeoutException(strategy.getTimeout(),
+                    new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
+                            "is not in state '%s' after %d attempts", name, phase, result.getAttempts())));
+        } catch (FatalEventException e) {
+            throw new ActionTimeoutException(strategy.getTimeout(),
+                    new CitrusRuntimeException(String.format("Failed to verify integration '%s' - %s", name, e.getMessage()), e));
+        } finally {
+            subscription.close();
         }
+    }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
-                new CitrusRuntimeException(String.format("Failed to verify integration '%s' - " +
-                        "is not in state '%s' after %d attempts", name, phase, maxAttempts)));
+    /**
+     * Starts fatal event monitor for the integration and its pods. Monitor is only active when the integration is expected
+     * to be running. The monitor is active for both watch and polling wait strategies.
+     * @param name
+     * @param phase
+     * @param namespace
+     * @return
+     */
+    private FatalEventMonitor monitorFatalEvents(String name, String phase, String namespace) {
+        if (!"Running".equals(phase)) {
+            return new FatalEventMonitor(getKubernetesClient(), namespace, Collections.emptySet());
+        }
+
+        return new FatalEventMonitor(getKubernetesClient(), namespace)
+                .involvedPods(pod -> pod.getMetadata().getLabels() != null &&
+                        name.equals(pod.getMetadata().getLabels().get(CamelKSettings.INTEGRATION_LABEL)))
+                .involvedObject("Integration", name)
+                .start();
     }
 
+    /**
+     * Subscribe to integration and pod changes in given namespace using the shared informer cache.
+     * @param namespace
+     * @param signal
+     * @return subscription that removes both handlers when closed.
+     */
+    private KubernetesInformerCache.Subscription subscribe(String namespace, WaitSignal signal) {
+        KubernetesInformerCache cache = KubernetesSupport.getInformerCache(getKubernetesClient());
+        KubernetesInformerCache.Subscription integrations = cache.subscribeResources(namespace, INTEGRATION_CRD, signal.handler());
+        try {
+            KubernetesInformerCache.Subscription pods = cache.subscribePods(namespace, signal.handler());
+            return () -> {
+                pods.close();
+                integrations.close();
+            };
+        } catch (KubernetesClientException e) {
+            integrations.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieve integration. Reads the integration from the shared informer cache when the wait strategy is backed by a watch.
+     * Falls back to getting the integration from the API server in case the informer is not available.
+     * @param name
+     * @param namespace
+     * @return
+     */
     private Integration getIntegration(String name, String namespace) {
+        if (waitStrategy.isWatch()) {
+            try {
+                GenericKubernetesResource resource = KubernetesSupport.getInformerCache(getKubernetesClient())
+                        .getResource(namespace, INTEGRATION_CRD, name);
+                return resource != null ? KubernetesSupport.json().convertValue(resource, Integration.class) : null;
+            } catch (KubernetesClientException e) {
+                LOG.warn(String.format("Failed to read integration '%s' from informer cache - fallback to get integration", name), e);
+            }
+        }
+
         return getKubernetesClient().resources(Integration.class, IntegrationList.class)
                 .inNamespace(namespace)
                 .withName(name)
@@ -304,23 +478,20 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
      * @return
      */
     private Pod getIntegrationPod(final String integration, final String phase, final String namespace) {
-        PodList pods = getKubernetesClient().pods()
-                .inNamespace(namespace)
-                .withLabel(CamelKSettings.INTEGRATION_LABEL, integration)
-                .list();
+        List<Pod> pods = getIntegrationPods(integration, namespace);
 
-        if (pods.getItems().isEmpty()) {
+        if (pods.isEmpty()) {
             INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' not yet available. Will keep checking ...", integration));
         }
 
-        return pods.getItems().stream()
+        return pods.stream()
                 .filter(pod -> {
                     boolean verified = KubernetesSupport.verifyPodStatus(pod, phase);
 
                     if (!verified) {
                         if (pod != null && pod.getStatus() != null &&
                                 "Error".equals(pod.getStatus().getPhase())) {
-                            String readyConditionError = getReadyConditionErrorDetails(pod);
+                            String readyConditionError = CamelKSupport.getReadyConditionErrorDetails(pod);
                             if (stopOnErrorStatus) {
                                 INTEGRATION_STATUS_LOG.info(String.format("Integration '%s' is in state 'Error' - %s", integration, readyConditionError));
                                 throw new CitrusRuntimeException(String.format("Failed to verify integration '%s' - is in state 'Error' - %s", integration, readyConditionError));
@@ -338,24 +509,36 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
                 .orElse(null);
     }
 
-    private String getReadyConditionErrorDetails(IntegrationStatus status) {
-        for (Conditions condition : status.getConditions()) {
-            if ("Ready".equals(condition.getType()) && "False".equalsIgnoreCase(condition.getStatus())) {
-                return "%s: %s".formatted(condition.getReason(), condition.getMessage());
+    /**
+     * Retrieve pods for given integration. Reads pods from the shared informer cache when the wait strategy is backed by a watch.
+     * Falls back to listing the pods on the API server in case the informer is not available.
+     * @param integration
+     * @param namespace
+     * @return
+     */
+    private List<Pod> getIntegrationPods(String integration, String namespace) {
+        if (waitStrategy.isWatch()) {
+            try {
+                return KubernetesSupport.getInformerCache(getKubernetesClient())
+                        .getPods(namespace, CamelKSettings.INTEGRATION_LABEL, integration);
+            } catch (KubernetesClientException e) {
+                LOG.warn(String.format("Failed to read pods for integration '%s' from informer cache - fallback to list pods", integration), e);
             }
         }
 
-        return "Unknown error";
+        return getKubernetesClient().pods()
+                .inNamespace(namespace)
+                .withLabel(CamelKSettings.INTEGRATION_LABEL, integration)
+                .list()
+                .getItems();
     }
 
-    private String getReadyConditionErrorDetails(Pod pod) {
-        for (PodCondition condition : pod.getStatus().getConditions()) {
-            if ("Ready".equals(condition.getType()) && "False".equalsIgnoreCase(condition.getStatus())) {
-                return "%s: %s".formatted(condition.getReason(), condition.getMessage());
-            }
-        }
-
-        return "Unknown error";
+    /**
+     * Gets strategy used to poll integration state and logs. Replaces watch strategies with a fixed delay strategy.
+     * @return
+     */
+    private WaitStrategy getPollingStrategy() {
+        return WaitStrategies.polling(waitStrategy, maxAttempts, delayBetweenAttempts);
     }
 
     /**
@@ -374,6 +557,9 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
 
         private boolean stopOnErrorStatus = true;
 
+        private String waitStrategyName = CamelKSettings.getWaitStrategy();
+        private WaitStrategy waitStrategy;
+
         public Builder isRunning() {
             this.phase = "Running";
             return this;
@@ -409,6 +595,16 @@ public class VerifyIntegrationAction extends AbstractCamelKAction {
             return this;
         }
 
+        public Builder waitStrategy(String waitStrategyName) {
+            this.waitStrategyName = waitStrategyName;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
         public Builder stopOnErrorStatus(boolean stopOnErrorStatus) {
             this.stopOnErrorStatus = stopOnErrorStatus;
             return this;
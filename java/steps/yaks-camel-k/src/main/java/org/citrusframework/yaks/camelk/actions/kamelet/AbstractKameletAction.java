@@ -16,10 +16,20 @@
 
 package org.citrusframework.yaks.camelk.actions.kamelet;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.camelk.CamelKSupport;
 import org.citrusframework.yaks.camelk.KameletSettings;
 import org.citrusframework.yaks.camelk.VariableNames;
 import org.citrusframework.yaks.camelk.actions.AbstractCamelKAction;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.citrusframework.yaks.kubernetes.wait.WaitSignal;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategy;
 
 /**
  * @author Christoph Deppisch
@@ -49,6 +59,45 @@ public abstract class AbstractKameletAction extends AbstractCamelKAction {
         return apiVersion;
     }
 
+    /**
+     * Waits for given resource to be present using the shared informer cache of the resource type. Checks the resource each
+     * time a resource change is reported, so all actions waiting on the same resource type share a single watch. Logs state
+     * transitions of the resource and fails with the Ready condition error details as soon as the resource is in state 'Error'.
+     * @param kind
+     * @param namespace
+     * @param name
+     * @param crdContext
+     * @param waitStrategy
+     * @return the resource or null if not present within the timeout of the wait strategy.
+     */
+    protected GenericKubernetesResource watchResource(String kind, String namespace, String name,
+                                                      ResourceDefinitionContext crdContext, WaitStrategy waitStrategy) {
+        KubernetesInformerCache cache = KubernetesSupport.getInformerCache(getKubernetesClient());
+        WaitSignal signal = new WaitSignal();
+        AtomicReference<String> lastPhase = new AtomicReference<>();
+
+        try (KubernetesInformerCache.Subscription ignored = cache.subscribeResources(namespace, crdContext, signal.handler())) {
+            return waitStrategy.waitFor(String.format("%s '%s'", kind, name), () -> {
+                GenericKubernetesResource resource = cache.getResource(namespace, crdContext, name);
+                if (resource != null) {
+                    String phase = CamelKSupport.getPhase(resource);
+                    if ("Error".equals(phase)) {
+                        String readyConditionError = CamelKSupport.getReadyConditionErrorDetails(resource);
+                        LOG.info(String.format("Camel K %s '%s' is in state 'Error' - %s", kind, name, readyConditionError));
+                        throw new CitrusRuntimeException(String.format("Failed to verify %s '%s' - is in state 'Error' - %s",
+                                kind, name, readyConditionError));
+                    }
+
+                    if (phase != null && !phase.equals(lastPhase.getAndSet(phase))) {
+                        LOG.info(String.format("Camel K %s '%s' is in state '%s'", kind, name, phase));
+                    }
+                }
+
+                return resource;
+            }, signal).getResult();
+        }
+    }
+
     /**
      * Action builder.
      */
@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.apache.camel.v1.Kamelet;
 import org.apache.camel.v1.KameletBuilder;
 import org.apache.camel.v1.KameletSpecBuilder;
@@ -48,6 +47,7 @@ import org.citrusframework.yaks.camelk.model.KameletList;
 import org.citrusframework.yaks.camelk.model.v1alpha1.KameletV1Alpha1;
 import org.citrusframework.yaks.camelk.model.v1alpha1.KameletV1Alpha1List;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 import org.springframework.util.StringUtils;
 
 /**
@@ -178,15 +178,11 @@ public class CreateKameletAction extends AbstractKameletAction {
         if (getApiVersion(context).equals(CamelKSettings.V1ALPHA1)) {
             KameletV1Alpha1 kameletV1Alpha1 = KameletV1Alpha1.from(kamelet);
 
-            getKubernetesClient().resources(KameletV1Alpha1.class, KameletV1Alpha1List.class)
-                    .inNamespace(kameletNamespace(context))
-                    .resource(kameletV1Alpha1)
-                    .createOr(Updatable::update);
+            ResourceApplier.apply(getKubernetesClient().resources(KameletV1Alpha1.class, KameletV1Alpha1List.class)
+                    .inNamespace(kameletNamespace(context)), kameletV1Alpha1);
         } else {
-            getKubernetesClient().resources(Kamelet.class, KameletList.class)
-                    .inNamespace(kameletNamespace(context))
-                    .resource(kamelet)
-                    .createOr(Updatable::update);
+            ResourceApplier.apply(getKubernetesClient().resources(Kamelet.class, KameletList.class)
+                    .inNamespace(kameletNamespace(context)), kamelet);
         }
 
         LOG.info(String.format("Successfully created Kamelet '%s'", kamelet.getMetadata().getName()));
@@ -23,7 +23,6 @@ import java.nio.file.StandardOpenOption;
 import java.util.Map;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.apache.camel.v1alpha1.KameletBinding;
 import org.apache.camel.v1alpha1.KameletBindingBuilder;
 import org.apache.camel.v1alpha1.KameletBindingSpecBuilder;
@@ -44,6 +43,7 @@ import org.citrusframework.yaks.camelk.jbang.CamelJBangSettings;
 import org.citrusframework.yaks.camelk.jbang.ProcessAndOutput;
 import org.citrusframework.yaks.camelk.model.v1alpha1.KameletBindingList;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -152,10 +152,8 @@ public class CreateKameletBindingAction extends AbstractKameletAction {
             LOG.debug(KubernetesSupport.dumpYaml(binding));
         }
 
-        k8sClient.resources(KameletBinding.class, KameletBindingList.class)
-                .inNamespace(namespace)
-                .resource(binding)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(k8sClient.resources(KameletBinding.class, KameletBindingList.class)
+                .inNamespace(namespace), binding);
     }
 
     /**
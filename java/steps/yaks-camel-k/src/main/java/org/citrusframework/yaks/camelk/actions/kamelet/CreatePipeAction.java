@@ -23,7 +23,6 @@ import java.nio.file.StandardOpenOption;
 import java.util.Map;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.apache.camel.v1.Pipe;
 import org.apache.camel.v1.PipeBuilder;
 import org.apache.camel.v1.PipeSpecBuilder;
@@ -43,6 +42,7 @@ import org.citrusframework.yaks.camelk.jbang.CamelJBangSettings;
 import org.citrusframework.yaks.camelk.jbang.ProcessAndOutput;
 import org.citrusframework.yaks.camelk.model.PipeList;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -151,10 +151,8 @@ public class CreatePipeAction extends AbstractKameletAction {
             LOG.debug(KubernetesSupport.dumpYaml(pipe));
         }
 
-        k8sClient.resources(Pipe.class, PipeList.class)
-                .inNamespace(namespace)
-                .resource(pipe)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(k8sClient.resources(Pipe.class, PipeList.class)
+                .inNamespace(namespace), pipe);
     }
 
     /**
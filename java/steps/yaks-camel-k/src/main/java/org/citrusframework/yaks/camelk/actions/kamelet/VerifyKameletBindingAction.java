@@ -17,14 +17,21 @@
 package org.citrusframework.yaks.camelk.actions.kamelet;
 
 import java.util.Map;
+import java.util.Optional;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import org.apache.camel.v1alpha1.KameletBinding;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.camelk.CamelKSettings;
+import org.citrusframework.yaks.camelk.CamelKSupport;
 import org.citrusframework.yaks.camelk.model.v1alpha1.KameletBindingList;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategy;
 
 import static org.citrusframework.yaks.camelk.jbang.CamelJBang.camel;
 
@@ -40,6 +47,8 @@ public class VerifyKameletBindingAction extends AbstractKameletAction {
     private final int maxAttempts;
     private final long delayBetweenAttempts;
 
+    private final WaitStrategy waitStrategy;
+
     /**
      * Constructor using given builder.
      * @param builder
@@ -49,6 +58,8 @@ public class VerifyKameletBindingAction extends AbstractKameletAction {
         this.bindingName = builder.bindingName;
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
+        this.waitStrategy = Optional.ofNullable(builder.waitStrategy)
+                .orElseGet(() -> WaitStrategies.create(builder.waitStrategyName, maxAttempts, delayBetweenAttempts));
     }
 
     @Override
@@ -69,43 +80,20 @@ public class VerifyKameletBindingAction extends AbstractKameletAction {
     private void verifyLocalKameletBinding(String name, TestContext context) {
         Long pid = context.getVariable(name + ":pid", Long.class);
 
-        for (int i = 0; i < maxAttempts; i++) {
+        WaitResult<Boolean> result = getPollingStrategy().waitFor(String.format("binding '%s' to be in state 'Running'", name), () -> {
             Map<String, String> properties = camel().get(pid);
-            if ((!properties.isEmpty() && properties.get("STATUS").equals("Running"))) {
-                LOG.info(String.format("Verified binding '%s' state 'Running' - All values OK!", name));
-                return;
-            }
-
-            LOG.info(String.format("Waiting for binding '%s' to be in state 'Running'- retry in %s ms", name, delayBetweenAttempts));
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for binding", e);
-            }
+            return !properties.isEmpty() && properties.get("STATUS").equals("Running") ? Boolean.TRUE : null;
+        });
+
+        if (!result.isSatisfied()) {
+            throw new ValidationException(String.format("Failed to retrieve binding '%s' in state 'Running'", name));
         }
 
-        throw new ValidationException(String.format("Failed to retrieve binding '%s' in state 'Running'", name));
+        LOG.info(String.format("Verified binding '%s' state 'Running' - All values OK!", name));
     }
 
     private void verifyKameletBinding(String namespace, String name, TestContext context) {
-        KameletBinding binding = null;
-        for (int i = 0; i < maxAttempts; i++) {
-            binding = getKubernetesClient().resources(KameletBinding.class, KameletBindingList.class)
-                    .inNamespace(namespace)
-                    .withName(name)
-                    .get();
-
-            if (binding == null) {
-                LOG.info(String.format("Waiting for binding '%s' - retry in %s ms", name, delayBetweenAttempts));
-                try {
-                    Thread.sleep(delayBetweenAttempts);
-                } catch (InterruptedException e) {
-                    LOG.warn("Interrupted while waiting for binding", e);
-                }
-            } else {
-                break;
-            }
-        }
+        HasMetadata binding = waitStrategy.isWatch() ? watchKameletBinding(namespace, name) : pollKameletBinding(namespace, name);
 
         if (binding == null) {
             throw new ValidationException(String.format("Failed to retrieve binding '%s' in namespace '%s'", name, namespace));
@@ -116,6 +104,38 @@ public class VerifyKameletBindingAction extends AbstractKameletAction {
         }
     }
 
+    /**
+     * Waits for the binding using the shared informer cache. Falls back to polling in case the watch is not available.
+     * @param namespace
+     * @param name
+     * @return
+     */
+    private HasMetadata watchKameletBinding(String namespace, String name) {
+        try {
+            return watchResource("binding", namespace, name,
+                    CamelKSupport.camelkCRDContext("kameletbindings", CamelKSettings.V1ALPHA1), waitStrategy);
+        } catch (KubernetesClientException e) {
+            LOG.warn(String.format("Failed to watch binding '%s' - fallback to polling", name), e);
+            return pollKameletBinding(namespace, name);
+        }
+    }
+
+    private HasMetadata pollKameletBinding(String namespace, String name) {
+        return getPollingStrategy().waitFor(String.format("binding '%s'", name),
+                () -> getKubernetesClient().resources(KameletBinding.class, KameletBindingList.class)
+                        .inNamespace(namespace)
+                        .withName(name)
+                        .get()).getResult();
+    }
+
+    /**
+     * Gets strategy used to poll the binding. Replaces watch strategies with a fixed delay strategy.
+     * @return
+     */
+    private WaitStrategy getPollingStrategy() {
+        return WaitStrategies.polling(waitStrategy, maxAttempts, delayBetweenAttempts);
+    }
+
     /**
      * Action builder.
      */
@@ -126,6 +146,9 @@ public class VerifyKameletBindingAction extends AbstractKameletAction {
         private int maxAttempts = CamelKSettings.getMaxAttempts();
         private long delayBetweenAttempts = CamelKSettings.getDelayBetweenAttempts();
 
+        private String waitStrategyName = CamelKSettings.getWaitStrategy();
+        private WaitStrategy waitStrategy;
+
         public Builder isAvailable() {
             return this;
         }
@@ -145,6 +168,16 @@ public class VerifyKameletBindingAction extends AbstractKameletAction {
             return this;
         }
 
+        public Builder waitStrategy(String waitStrategyName) {
+            this.waitStrategyName = waitStrategyName;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
         @Override
         public VerifyKameletBindingAction build() {
             return new VerifyKameletBindingAction(this);
@@ -17,14 +17,21 @@
 package org.citrusframework.yaks.camelk.actions.kamelet;
 
 import java.util.Map;
+import java.util.Optional;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import org.apache.camel.v1.Pipe;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.camelk.CamelKSettings;
+import org.citrusframework.yaks.camelk.CamelKSupport;
 import org.citrusframework.yaks.camelk.model.PipeList;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategy;
 
 import static org.citrusframework.yaks.camelk.jbang.CamelJBang.camel;
 
@@ -40,6 +47,8 @@ public class VerifyPipeAction extends AbstractKameletAction {
     private final int maxAttempts;
     private final long delayBetweenAttempts;
 
+    private final WaitStrategy waitStrategy;
+
     /**
      * Constructor using given builder.
      * @param builder
@@ -49,6 +58,8 @@ public class VerifyPipeAction extends AbstractKameletAction {
         this.pipeName = builder.pipeName;
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
+        this.waitStrategy = Optional.ofNullable(builder.waitStrategy)
+                .orElseGet(() -> WaitStrategies.create(builder.waitStrategyName, maxAttempts, delayBetweenAttempts));
     }
 
     @Override
@@ -69,43 +80,20 @@ public class VerifyPipeAction extends AbstractKameletAction {
     private void verifyLocalPipe(String name, TestContext context) {
         Long pid = context.getVariable(name + ":pid", Long.class);
 
-        for (int i = 0; i < maxAttempts; i++) {
+        WaitResult<Boolean> result = getPollingStrategy().waitFor(String.format("pipe '%s' to be in state 'Running'", name), () -> {
             Map<String, String> properties = camel().get(pid);
-            if ((!properties.isEmpty() && properties.get("STATUS").equals("Running"))) {
-                LOG.info(String.format("Verified pipe '%s' state 'Running' - All values OK!", name));
-                return;
-            }
-
-            LOG.info(String.format("Waiting for pipe '%s' to be in state 'Running'- retry in %s ms", name, delayBetweenAttempts));
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for pipe", e);
-            }
+            return !properties.isEmpty() && properties.get("STATUS").equals("Running") ? Boolean.TRUE : null;
+        });
+
+        if (!result.isSatisfied()) {
+            throw new ValidationException(String.format("Failed to retrieve pipe '%s' in state 'Running'", name));
         }
 
-        throw new ValidationException(String.format("Failed to retrieve pipe '%s' in state 'Running'", name));
+        LOG.info(String.format("Verified pipe '%s' state 'Running' - All values OK!", name));
     }
 
     private void verifyPipe(String namespace, String name, TestContext context) {
-        Pipe pipe = null;
-        for (int i = 0; i < maxAttempts; i++) {
-            pipe = getKubernetesClient().resources(Pipe.class, PipeList.class)
-                    .inNamespace(namespace)
-                    .withName(name)
-                    .get();
-
-            if (pipe == null) {
-                LOG.info(String.format("Waiting for pipe '%s' - retry in %s ms", name, delayBetweenAttempts));
-                try {
-                    Thread.sleep(delayBetweenAttempts);
-                } catch (InterruptedException e) {
-                    LOG.warn("Interrupted while waiting for pipe", e);
-                }
-            } else {
-                break;
-            }
-        }
+        HasMetadata pipe = waitStrategy.isWatch() ? watchPipe(namespace, name) : pollPipe(namespace, name);
 
         if (pipe == null) {
             throw new ValidationException(String.format("Failed to retrieve pipe '%s' in namespace '%s'", name, namespace));
@@ -116,6 +104,37 @@ public class VerifyPipeAction extends AbstractKameletAction {
         }
     }
 
+    /**
+     * Waits for the pipe using the shared informer cache. Falls back to polling in case the watch is not available.
+     * @param namespace
+     * @param name
+     * @return
+     */
+    private HasMetadata watchPipe(String namespace, String name) {
+        try {
+            return watchResource("pipe", namespace, name, CamelKSupport.camelkCRDContext("pipes", CamelKSettings.V1), waitStrategy);
+        } catch (KubernetesClientException e) {
+            LOG.warn(String.format("Failed to watch pipe '%s' - fallback to polling", name), e);
+            return pollPipe(namespace, name);
+        }
+    }
+
+    private HasMetadata pollPipe(String namespace, String name) {
+        return getPollingStrategy().waitFor(String.format("pipe '%s'", name),
+                () -> getKubernetesClient().resources(Pipe.class, PipeList.class)
+                        .inNamespace(namespace)
+                        .withName(name)
+                        .get()).getResult();
+    }
+
+    /**
+     * Gets strategy used to poll the pipe. Replaces watch strategies with a fixed delay strategy.
+     * @return
+     */
+    private WaitStrategy getPollingStrategy() {
+        return WaitStrategies.polling(waitStrategy, maxAttempts, delayBetweenAttempts);
+    }
+
     /**
      * Action builder.
      */
@@ -126,6 +145,9 @@ public class VerifyPipeAction extends AbstractKameletAction {
         private int maxAttempts = CamelKSettings.getMaxAttempts();
         private long delayBetweenAttempts = CamelKSettings.getDelayBetweenAttempts();
 
+        private String waitStrategyName = CamelKSettings.getWaitStrategy();
+        private WaitStrategy waitStrategy;
+
         public Builder isAvailable() {
             return this;
         }
@@ -145,6 +167,16 @@ public class VerifyPipeAction extends AbstractKameletAction {
             return this;
         }
 
+        public Builder waitStrategy(String waitStrategyName) {
+            this.waitStrategyName = waitStrategyName;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
         @Override
         public VerifyPipeAction build() {
             return new VerifyPipeAction(this);
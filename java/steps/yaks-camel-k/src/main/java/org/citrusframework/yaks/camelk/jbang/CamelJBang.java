@@ -16,13 +16,10 @@
 
 package org.citrusframework.yaks.camelk.jbang;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -36,15 +33,27 @@ import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import org.citrusframework.Citrus;
+import org.citrusframework.CitrusInstanceManager;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.report.AbstractTestSuiteListener;
 import org.citrusframework.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,10 +68,23 @@ public class CamelJBang {
 
     private static final int OK_EXIT_CODE = 0;
 
+    /** Time to wait for the JBang processes of stopped integrations to exit */
+    private static final long EXIT_TIMEOUT = 2000L;
+
     private static Path installDir;
 
     private static CamelJBang INSTANCE;
 
+    private final IntegrationStatusProvider status = new IntegrationStatusProvider(this::ps,
+            CamelJBangSettings.getCamelHomeDir(), CamelJBangSettings.getStatusCacheTtl());
+
+    private final Map<String, ProcessAndOutput> processes = new ConcurrentHashMap<>();
+
+    private final CamelJBangLauncher launcher = new CamelJBangLauncher(
+            CamelJBangLauncher.Mode.from(CamelJBangSettings.getLauncherMode()), systemProperties(),
+            CamelJBang::toolsInfo,
+            CamelJBangSettings.getWorkDir().resolve("launcher"), CamelJBangSettings.isLauncherCds());
+
     /**
      * Prevent direct instantiation.
      */
@@ -74,6 +96,7 @@ public class CamelJBang {
             detectJBang();
             addTrust();
             INSTANCE = new CamelJBang();
+            CitrusInstanceManager.get().ifPresent(INSTANCE::registerShutdownListener);
         }
 
         return INSTANCE;
@@ -110,6 +133,11 @@ public class CamelJBang {
 
         runArgs.addAll(Arrays.asList(args));
 
+        if (CamelJBangSettings.isCamelDevMode() && Stream.of(args).noneMatch("--dev"::equals)) {
+            // reload routes when the integration source file changes
+            runArgs.add("--dev");
+        }
+
         runArgs.add(file);
 
         if (CamelJBangSettings.isCamelDumpIntegrationOutput()) {
@@ -121,21 +149,199 @@ public class CamelJBang {
                 runArgs.add("--logging-color=false");
             }
 
-            return executeAsync(camel(runArgs.toArray(String[]::new)), outputFile);
+            return started(name, launcher.launch(runArgs, outputFile)
+                    .orElseGet(() -> launched(executeAsync(camel(runArgs.toArray(String[]::new)), outputFile))));
         } else {
-            return executeAsync(camel(runArgs.toArray(String[]::new)));
+            return started(name, launcher.launch(runArgs, null)
+                    .orElseGet(() -> launched(executeAsync(camel(runArgs.toArray(String[]::new))))));
         }
     }
 
     /**
-     * Get details for integration previously run via JBang Camel app. Integration is identified by its process id.
+     * Stop integration previously run via JBang Camel app. Integration is identified by its process id.
      * @param pid
      */
     public void stop(Long pid) {
-        ProcessAndOutput p = execute(camel("stop", String.valueOf(pid))) ;
-        if (p.getProcess().exitValue() != OK_EXIT_CODE) {
-            throw new CitrusRuntimeException(String.format("Failed to stop Camel K integration - exit code %d", p.getProcess().exitValue()));
+        stop(List.of(pid));
+    }
+
+    /**
+     * Stop integrations previously run via JBang Camel app. Integrations are identified by their process id.
+     * All processes are signaled to terminate gracefully at once and get the same deadline to exit, so the time to stop the integrations
+     * does not depend on the number of integrations. Processes still alive after the deadline are terminated forcibly.
+     * Only processes started by this JVM (and their descendants) are signaled directly, so a reused process id never
+     * signals an unrelated process. All other processes are stopped with the Camel JBang stop command.
+     * Removes the output files of the stopped integrations.
+     * @param pids
+     */
+    public void stop(Collection<Long> pids) {
+        Set<Long> stopped = new HashSet<>(pids);
+        for (Long pid : pids) {
+            // JBang shell process exits once the integration process has stopped
+            ProcessHandle.of(pid).flatMap(ProcessHandle::parent).ifPresent(parent -> stopped.add(parent.pid()));
         }
+
+        // processes are evicted once they have exited, so keep them for the output file cleanup
+        Map<String, ProcessAndOutput> stoppedProcesses = new HashMap<>();
+        processes.forEach((name, process) -> {
+            if (stopped.contains(process.getProcess().pid())) {
+                stoppedProcesses.put(name, process);
+            }
+        });
+
+        for (Long pid : terminate(pids, trackedProcesses(), CamelJBangSettings.getStopTimeout())) {
+            ProcessAndOutput p = execute(camel("stop", String.valueOf(pid)));
+            if (p.getProcess().exitValue() != OK_EXIT_CODE) {
+                throw new CitrusRuntimeException(String.format("Failed to stop Camel K integration - exit code %d", p.getProcess().exitValue()));
+            }
+        }
+
+        status.invalidate();
+        removeStopped(stoppedProcesses);
+    }
+
+    /**
+     * Gets the handles of all running processes started by this JVM and their descendants by process id.
+     * The handles are bound to the process start time, so they never refer to another process that reuses the id.
+     * @return
+     */
+    private Map<Long, ProcessHandle> trackedProcesses() {
+        Map<Long, ProcessHandle> tracked = new HashMap<>();
+        processes.values().stream()
+                .map(ProcessAndOutput::getProcess)
+                .filter(Process::isAlive)
+                .forEach(process -> {
+                    tracked.put(process.pid(), process.toHandle());
+                    process.descendants().forEach(descendant -> tracked.put(descendant.pid(), descendant));
+                });
+        return tracked;
+    }
+
+    /**
+     * Signals all given processes to terminate gracefully and waits for them to exit until the shared deadline.
+     * Processes still alive after the deadline are terminated forcibly. Only tracked processes are signaled.
+     * @param pids
+     * @param tracked handles of the processes started by this JVM by process id.
+     * @param timeout
+     * @return ids of running processes that could not be signaled.
+     */
+    static List<Long> terminate(Collection<Long> pids, Map<Long, ProcessHandle> tracked, long timeout) {
+        List<ProcessHandle> stopping = new ArrayList<>();
+        List<Long> unmanaged = new ArrayList<>();
+        for (Long pid : pids) {
+            ProcessHandle handle = tracked.get(pid);
+            if (handle == null) {
+                if (ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false)) {
+                    unmanaged.add(pid);
+                } else {
+                    LOG.debug(String.format("Camel JBang integration %d is not running", pid));
+                }
+            } else if (!handle.isAlive()) {
+                LOG.debug(String.format("Camel JBang integration %d is not running", pid));
+            } else if (handle.destroy()) {
+                stopping.add(handle);
+            } else {
+                unmanaged.add(pid);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(stopping.stream().map(ProcessHandle::onExit).toArray(CompletableFuture[]::new))
+                    .get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            stopping.stream()
+                    .filter(ProcessHandle::isAlive)
+                    .forEach(handle -> {
+                        LOG.warn(String.format("Camel JBang integration %d did not stop within %d ms - terminating forcibly",
+                                handle.pid(), timeout));
+                        handle.destroyForcibly();
+                        deleteQuietly(CamelJBangSettings.getCamelHomeDir().resolve(handle.pid() + "-status.json"));
+                    });
+        } catch (ExecutionException e) {
+            LOG.debug("Failed to wait for Camel JBang integrations to stop", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while stopping Camel JBang integrations", e);
+        }
+
+        return unmanaged;
+    }
+
+    /**
+     * Waits for given processes to exit and removes their output files.
+     * @param stopped processes by integration name.
+     */
+    private void removeStopped(Map<String, ProcessAndOutput> stopped) {
+        try {
+            CompletableFuture.allOf(stopped.values().stream()
+                            .map(ProcessAndOutput::getProcess)
+                            .map(Process::onExit)
+                            .toArray(CompletableFuture[]::new))
+                    .get(EXIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            LOG.debug("Failed to wait for Camel JBang processes to exit", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        stopped.forEach((name, process) -> {
+            if (!process.getProcess().isAlive()) {
+                processes.remove(name, process);
+                deleteQuietly(CamelJBangSettings.getWorkDir().resolve(String.format("i-%s-output.txt", name)));
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.debug(String.format("Failed to delete file %s", file), e);
+        }
+    }
+
+    /**
+     * Tracks the started process by the integration name. The process is removed once it has exited, so its output
+     * window is released also when the integration stops on its own.
+     * @param name
+     * @param process
+     * @return
+     */
+    private ProcessAndOutput started(String name, ProcessAndOutput process) {
+        status.invalidate();
+        processes.put(name, process);
+        process.getProcess().onExit().thenRun(() -> processes.remove(name, process));
+        return process;
+    }
+
+    /**
+     * Get the process of the integration with given name previously run via JBang Camel app. Returns empty optional
+     * when the integration has not been run by this JVM or its process is not alive anymore.
+     * @param name
+     * @return
+     */
+    public Optional<ProcessAndOutput> getProcess(String name) {
+        return Optional.ofNullable(processes.get(name))
+                .filter(process -> process.getProcess().isAlive());
+    }
+
+    private static ProcessAndOutput launched(ProcessAndOutput process) {
+        LaunchStatistics.getInstance().launched(process.getProcess(), CamelJBangLauncher.Mode.JBANG.kind());
+        return process;
+    }
+
+    /**
+     * Adds test suite listener that stops the pre-started Camel JBang JVM and reports the launch statistics on test suite finish.
+     * @param citrus
+     */
+    private void registerShutdownListener(Citrus citrus) {
+        citrus.addTestSuiteListener(new AbstractTestSuiteListener() {
+            @Override
+            public void onFinish() {
+                launcher.close();
+                LaunchStatistics.getInstance().logSummary();
+            }
+        });
     }
 
     /**
@@ -159,72 +365,19 @@ public class CamelJBang {
      * @param pid
      */
     public Map<String, String> get(Long pid) {
-        Map<String, String> properties = new HashMap<>();
-
-        String output = ps();
-        if (output.isBlank()) {
-            return properties;
+        Map<String, String> properties = status.get(pid);
+        if ("Running".equals(properties.get("STATUS"))) {
+            LaunchStatistics.getInstance().running(pid);
         }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8))))) {
-            String line = reader.readLine();
-
-            List<String> names = new ArrayList<>(Arrays.asList(line.trim().split("\\s+")));
-
-            while ((line = reader.readLine()) != null) {
-                List<String> values = new ArrayList<>(Arrays.asList(line.trim().split("\\s+")));
-                if (!values.isEmpty() && values.get(0).equals(String.valueOf(pid))) {
-                    for (int i=0; i < names.size(); i++) {
-                        if (i < values.size()) {
-                            properties.put(names.get(i), values.get(i));
-                        } else {
-                            properties.put(names.get(i), "");
-                        }
-                    }
-                    break;
-                }
-            }
-
-            return properties;
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to get integration details from JBang", e);
-        }
+        return properties;
     }
 
     /**
      * Get list of integrations previously run via JBang Camel app.
      */
     public List<Map<String, String>> getAll() {
-        List<Map<String, String>> integrations = new ArrayList<>();
-
-        String output = ps();
-        if (output.isBlank()) {
-            return integrations;
-        }
-
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8))))) {
-            String line = reader.readLine();
-
-            List<String> names = new ArrayList<>(Arrays.asList(line.trim().split("\\s+")));
-
-            while ((line = reader.readLine()) != null) {
-                Map<String, String> properties = new HashMap<>();
-                List<String> values = new ArrayList<>(Arrays.asList(line.trim().split("\\s+")));
-                for (int i=0; i < names.size(); i++) {
-                    if (i < values.size()) {
-                        properties.put(names.get(i), values.get(i));
-                    } else {
-                        properties.put(names.get(i), "");
-                    }
-                }
-
-                integrations.add(properties);
-            }
-
-            return integrations;
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to list integrations from JBang", e);
-        }
+        return status.getAll();
     }
 
     private static void detectJBang() {
@@ -282,6 +435,22 @@ public class CamelJBang {
         installDir = installPath.resolve(homePath);
     }
 
+    /**
+     * Get JBang information on the Camel JBang app such as main class and resolved dependencies as Json.
+     */
+    private static String toolsInfo() {
+        List<String> args = new ArrayList<>(List.of("info", "tools"));
+        args.addAll(systemProperties());
+        args.add(CamelJBangSettings.getCamelApp());
+
+        ProcessAndOutput p = execute(jBang(args));
+        if (p.getProcess().exitValue() != OK_EXIT_CODE) {
+            throw new CitrusRuntimeException(String.format("Failed to get Camel JBang app info - exit code %d", p.getProcess().exitValue()));
+        }
+
+        return p.getOutput();
+    }
+
     private static ProcessAndOutput getVersion() {
         return execute(jBang("version"));
     }
@@ -307,13 +476,7 @@ public class CamelJBang {
      * @return JBang camel command with given arguments.
      */
     private static List<String> camel(String... args) {
-        List<String> jBangArgs = new ArrayList<>();
-        jBangArgs.add(String.format("-Dcamel.jbang.version=%s", CamelJBangSettings.getCamelVersion()));
-
-        if (!CamelJBangSettings.getKameletsVersion().isBlank()) {
-            jBangArgs.add(String.format("-Dcamel-kamelets.version=%s", CamelJBangSettings.getKameletsVersion()));
-        }
-
+        List<String> jBangArgs = new ArrayList<>(systemProperties());
         jBangArgs.add(CamelJBangSettings.getCamelApp());
         jBangArgs.addAll(List.of(args));
 
@@ -324,6 +487,20 @@ public class CamelJBang {
         return jBang(jBangArgs);
     }
 
+    /**
+     * @return system properties for the Camel JBang app.
+     */
+    private static List<String> systemProperties() {
+        List<String> properties = new ArrayList<>();
+        properties.add(String.format("-Dcamel.jbang.version=%s", CamelJBangSettings.getCamelVersion()));
+
+        if (!CamelJBangSettings.getKameletsVersion().isBlank()) {
+            properties.add(String.format("-Dcamel-kamelets.version=%s", CamelJBangSettings.getKameletsVersion()));
+        }
+
+        return properties;
+    }
+
     /**
      * @return JBang command with given arguments.
      */
@@ -0,0 +1,416 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Launches Camel JBang integrations without going through the JBang command. The launcher resolves the classpath
+ * of the Camel JBang app once via JBang and runs the app directly with the Java command. The resolved classpath is cached
+ * in the JBang work directory per Camel app, Camel version and Kamelets version, so following test runs skip the resolution.
+ * In warm mode the launcher keeps one pre-started JVM that has already loaded the Camel JBang main class and waits
+ * for the arguments of the next integration. The pre-started JVM is started with the first launch, so the first integration
+ * and integrations with multi-line arguments are launched in direct mode. Optionally the launcher creates and uses an AppCDS archive for the Camel JBang runtime.
+ */
+class CamelJBangLauncher implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(CamelJBangLauncher.class);
+
+    /**
+     * Available launch modes.
+     */
+    enum Mode {
+        /** Run each integration via the JBang command */
+        JBANG,
+        /** Run each integration with the Java command and the cached classpath */
+        DIRECT,
+        /** Same as direct mode but hand over the integration to a pre-started JVM */
+        WARM;
+
+        static Mode from(String value) {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        }
+
+        String kind() {
+            return name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    private final Mode mode;
+    private final List<String> systemProperties;
+    private final Supplier<String> toolsInfo;
+    private final Path cacheDir;
+    private final boolean cds;
+
+    private final AtomicBoolean archiving = new AtomicBoolean();
+
+    private LaunchSpec spec;
+    private boolean unavailable;
+    private Process spare;
+
+    /**
+     * Creates launcher for the Camel JBang app with given system properties.
+     * @param mode the launch mode.
+     * @param systemProperties system properties passed to JBang, also identify the cached classpath.
+     * @param toolsInfo provides the Json output of "jbang info tools" for the Camel JBang app.
+     * @param cacheDir directory holding cached classpath files and AppCDS archives.
+     * @param cds whether to use an AppCDS archive.
+     */
+    CamelJBangLauncher(Mode mode, List<String> systemProperties, Supplier<String> toolsInfo, Path cacheDir, boolean cds) {
+        this.mode = mode;
+        this.systemProperties = systemProperties;
+        this.toolsInfo = toolsInfo;
+        this.cacheDir = cacheDir;
+        this.cds = cds;
+    }
+
+    /**
+     * Launches the Camel JBang app with given arguments. Returns empty optional when the launcher is disabled or the
+     * classpath of the Camel JBang app could not be resolved, so the caller falls back to the JBang command.
+     * @param args the Camel JBang command arguments.
+     * @param outputFile optional file to redirect the process output to, may be null.
+     * @return
+     */
+    synchronized Optional<ProcessAndOutput> launch(List<String> args, File outputFile) {
+        if (mode == Mode.JBANG || !resolve()) {
+            return Optional.empty();
+        }
+
+        try {
+            Mode kind = Mode.DIRECT;
+            Process process = null;
+            if (mode == Mode.WARM) {
+                if (args.stream().anyMatch(arg -> arg.contains("\n"))) {
+                    LaunchStatistics.getInstance().warmStartSkipped("multi-line arguments");
+                } else {
+                    process = claimSpare(args, outputFile);
+                    if (process != null) {
+                        kind = Mode.WARM;
+                    } else {
+                        LaunchStatistics.getInstance().warmStartSkipped("no pre-started JVM ready");
+                    }
+                    spare = startSpare();
+                }
+            }
+
+            if (process == null) {
+                List<String> command = javaCommand();
+                command.add(spec.mainClass);
+                command.addAll(args);
+                process = start(command, outputFile);
+            }
+
+            LaunchStatistics.getInstance().launched(process, kind.kind());
+            ProcessAndOutput pao = outputFile != null ? new ProcessAndOutput(process, outputFile) : new ProcessAndOutput(process);
+            return Optional.of(pao.launchedDirectly());
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Error while launching Camel JBang", e);
+        }
+    }
+
+    /**
+     * Stops the pre-started JVM.
+     */
+    @Override
+    public synchronized void close() {
+        if (spare != null) {
+            spare.destroy();
+            spare = null;
+        }
+    }
+
+    /**
+     * Hands over given arguments and the optional output file to the pre-started JVM. Returns null when there is no
+     * pre-started JVM ready. The output file is created before the hand over, so the caller is able to read the process
+     * output from the file right away.
+     * @param args
+     * @param outputFile
+     * @return
+     */
+    private Process claimSpare(List<String> args, File outputFile) {
+        Process process = spare;
+        spare = null;
+
+        if (process == null || !process.isAlive()) {
+            return null;
+        }
+
+        try (OutputStream in = process.getOutputStream()) {
+            String output = "";
+            if (outputFile != null) {
+                Files.write(outputFile.toPath(), new byte[0]);
+                output = outputFile.getAbsolutePath();
+            }
+
+            in.write((output + "\n" + String.join("\n", args) + "\n").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.debug("Failed to hand over integration to pre-started JVM", e);
+            process.destroy();
+            return null;
+        }
+
+        return process;
+    }
+
+    /**
+     * Starts a new JVM that loads the Camel JBang main class and waits for the arguments of the next integration.
+     * @return
+     */
+    private Process startSpare() throws IOException {
+        List<String> command = javaCommand();
+        int classpath = command.indexOf("-cp") + 1;
+        command.set(classpath, command.get(classpath) + File.pathSeparator + getWarmStartLocation());
+        command.add(WarmStart.class.getName());
+        command.add(spec.mainClass);
+        return start(command, null);
+    }
+
+    private static Process start(List<String> command, File outputFile) throws IOException {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Launching Camel JBang: %s", String.join(" ", command)));
+        }
+
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        if (outputFile != null) {
+            builder.redirectOutput(outputFile);
+        }
+
+        return builder.start();
+    }
+
+    /**
+     * Java command with JVM options, system properties and classpath of the Camel JBang app.
+     * @return
+     */
+    private List<String> javaCommand() {
+        List<String> command = new ArrayList<>();
+        command.add(spec.java);
+        command.addAll(cdsOptions());
+        command.addAll(spec.runtimeOptions);
+        command.addAll(systemProperties);
+        command.add("-cp");
+        command.add(String.join(File.pathSeparator, spec.classpath));
+        return command;
+    }
+
+    /**
+     * JVM options to use the AppCDS archive. In case there is no archive yet one single process creates the archive
+     * when it exits.
+     * @return
+     */
+    private List<String> cdsOptions() {
+        if (!cds) {
+            return List.of();
+        }
+
+        Path archive = cacheDir.resolve(spec.key + ".jsa");
+        if (Files.exists(archive)) {
+            return List.of("-XX:SharedArchiveFile=" + archive);
+        }
+
+        if (archiving.compareAndSet(false, true)) {
+            LOG.info(String.format("Creating AppCDS archive for Camel JBang runtime: %s", archive));
+            return List.of("-XX:ArchiveClassesAtExit=" + archive);
+        }
+
+        return List.of();
+    }
+
+    /**
+     * Resolves the classpath of the Camel JBang app. Uses the cached classpath file when available and falls back to
+     * running JBang.
+     * @return true when the launcher is able to launch the Camel JBang app.
+     */
+    private boolean resolve() {
+        if (spec != null) {
+            return true;
+        }
+
+        if (unavailable) {
+            return false;
+        }
+
+        String key = cacheKey(CamelJBangSettings.getCamelApp(), systemProperties);
+        Path cacheFile = cacheDir.resolve(key + ".json");
+        try {
+            if (Files.exists(cacheFile)) {
+                spec = LaunchSpec.read(key, Files.readString(cacheFile));
+                if (spec.isValid()) {
+                    LOG.info(String.format("Using cached Camel JBang classpath %s", cacheFile));
+                    return true;
+                }
+            }
+
+            long start = System.currentTimeMillis();
+            spec = LaunchSpec.fromToolsInfo(key, toolsInfo.get());
+            LOG.info(String.format("Resolved Camel JBang classpath in %d ms", System.currentTimeMillis() - start));
+
+            Files.createDirectories(cacheDir);
+            Files.writeString(cacheFile, spec.write());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to resolve Camel JBang classpath - falling back to JBang command", e);
+            spec = null;
+            unavailable = true;
+            return false;
+        }
+    }
+
+    /**
+     * Cache key identifying the resolved classpath.
+     * @param camelApp
+     * @param systemProperties
+     * @return
+     */
+    static String cacheKey(String camelApp, List<String> systemProperties) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(camelApp.getBytes(StandardCharsets.UTF_8));
+            digest.update(String.join("\n", systemProperties).getBytes(StandardCharsets.UTF_8));
+            return "camel-" + HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to compute Camel JBang launcher cache key", e);
+        }
+    }
+
+    /**
+     * Location of the classes holding the warm start main class.
+     * @return
+     */
+    private static String getWarmStartLocation() {
+        try {
+            return Paths.get(WarmStart.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new CitrusRuntimeException("Failed to locate Camel JBang warm start class", e);
+        }
+    }
+
+    /**
+     * Java command, main class and classpath of the Camel JBang app.
+     */
+    static final class LaunchSpec {
+        private final String key;
+        private final String java;
+        private final String mainClass;
+        private final List<String> classpath;
+        private final List<String> runtimeOptions;
+
+        LaunchSpec(String key, String java, String mainClass, List<String> classpath, List<String> runtimeOptions) {
+            this.key = key;
+            this.java = java;
+            this.mainClass = mainClass;
+            this.classpath = classpath;
+            this.runtimeOptions = runtimeOptions;
+        }
+
+        /**
+         * Reads the launch spec from the Json output of "jbang info tools".
+         * @param key
+         * @param json
+         * @return
+         */
+        static LaunchSpec fromToolsInfo(String key, String json) throws IOException {
+            // JBang may print log messages before the Json output
+            int start = json.startsWith("{") ? 0 : json.indexOf("\n{") + 1;
+            JsonNode info = KubernetesSupport.json().readTree(json.substring(start));
+            if (info == null || !info.hasNonNull("mainClass") || !info.hasNonNull("applicationJar")) {
+                throw new CitrusRuntimeException("Missing main class or application jar in JBang info");
+            }
+
+            List<String> classpath = new ArrayList<>();
+            classpath.add(info.get("applicationJar").asText());
+            info.path("resolvedDependencies").forEach(dependency -> classpath.add(dependency.asText()));
+
+            List<String> runtimeOptions = new ArrayList<>();
+            info.path("runtimeOptions").forEach(option -> runtimeOptions.add(option.asText()));
+
+            String java;
+            if (info.hasNonNull("availableJdkPath")) {
+                java = Paths.get(info.get("availableJdkPath").asText(), "bin", "java").toString();
+            } else {
+                java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            }
+
+            return new LaunchSpec(key, java, info.get("mainClass").asText(), classpath, runtimeOptions);
+        }
+
+        static LaunchSpec read(String key, String json) throws IOException {
+            JsonNode cached = KubernetesSupport.json().readTree(json);
+
+            List<String> classpath = new ArrayList<>();
+            cached.path("classpath").forEach(entry -> classpath.add(entry.asText()));
+
+            List<String> runtimeOptions = new ArrayList<>();
+            cached.path("runtimeOptions").forEach(option -> runtimeOptions.add(option.asText()));
+
+            return new LaunchSpec(key, cached.path("java").asText(), cached.path("mainClass").asText(), classpath, runtimeOptions);
+        }
+
+        String write() throws IOException {
+            ObjectNode cached = KubernetesSupport.json().createObjectNode();
+            cached.put("java", java);
+            cached.put("mainClass", mainClass);
+            ArrayNode entries = cached.putArray("classpath");
+            classpath.forEach(entries::add);
+            ArrayNode options = cached.putArray("runtimeOptions");
+            runtimeOptions.forEach(options::add);
+            return KubernetesSupport.json().writerWithDefaultPrettyPrinter().writeValueAsString(cached);
+        }
+
+        /**
+         * Cached launch spec is valid as long as the Java command and all classpath entries still exist.
+         * @return
+         */
+        boolean isValid() {
+            return !mainClass.isBlank() && !classpath.isEmpty() && Files.exists(Paths.get(java))
+                    && classpath.stream().allMatch(entry -> Files.exists(Paths.get(entry)));
+        }
+
+        String getMainClass() {
+            return mainClass;
+        }
+
+        List<String> getClasspath() {
+            return classpath;
+        }
+    }
+}
@@ -40,6 +40,41 @@ public final class CamelJBangSettings {
     private static final String KAMELETS_VERSION_ENV = JBANG_ENV_PREFIX + "KAMELETS_VERSION";
     private static final String KAMELETS_VERSION_DEFAULT = "";
 
+    private static final String OUTPUT_WINDOW_SIZE_PROPERTY = JBANG_PROPERTY_PREFIX + "output.window.size";
+    private static final String OUTPUT_WINDOW_SIZE_ENV = JBANG_ENV_PREFIX + "OUTPUT_WINDOW_SIZE";
+    private static final String OUTPUT_WINDOW_SIZE_DEFAULT = "1048576";
+
+    private static final String CAMEL_HOME_DIR_PROPERTY = JBANG_PROPERTY_PREFIX + "camel.home.dir";
+    private static final String CAMEL_HOME_DIR_ENV = JBANG_ENV_PREFIX + "CAMEL_HOME_DIR";
+
+    private static final String STATUS_CACHE_TTL_PROPERTY = JBANG_PROPERTY_PREFIX + "status.cache.ttl";
+    private static final String STATUS_CACHE_TTL_ENV = JBANG_ENV_PREFIX + "STATUS_CACHE_TTL";
+    private static final String STATUS_CACHE_TTL_DEFAULT = "1000";
+
+    private static final String LAUNCHER_MODE_PROPERTY = JBANG_PROPERTY_PREFIX + "launcher.mode";
+    private static final String LAUNCHER_MODE_ENV = JBANG_ENV_PREFIX + "LAUNCHER_MODE";
+    private static final String LAUNCHER_MODE_DEFAULT = "jbang";
+
+    private static final String LAUNCHER_CDS_PROPERTY = JBANG_PROPERTY_PREFIX + "launcher.cds";
+    private static final String LAUNCHER_CDS_ENV = JBANG_ENV_PREFIX + "LAUNCHER_CDS";
+    private static final String LAUNCHER_CDS_DEFAULT = "false";
+
+    private static final String CAMEL_DEV_MODE_PROPERTY = JBANG_PROPERTY_PREFIX + "camel.dev.mode";
+    private static final String CAMEL_DEV_MODE_ENV = JBANG_ENV_PREFIX + "CAMEL_DEV_MODE";
+    private static final String CAMEL_DEV_MODE_DEFAULT = "false";
+
+    private static final String RELOAD_MESSAGE_PROPERTY = JBANG_PROPERTY_PREFIX + "reload.message";
+    private static final String RELOAD_MESSAGE_ENV = JBANG_ENV_PREFIX + "RELOAD_MESSAGE";
+    private static final String RELOAD_MESSAGE_DEFAULT = "Routes reloaded summary";
+
+    private static final String RELOAD_TIMEOUT_PROPERTY = JBANG_PROPERTY_PREFIX + "reload.timeout";
+    private static final String RELOAD_TIMEOUT_ENV = JBANG_ENV_PREFIX + "RELOAD_TIMEOUT";
+    private static final String RELOAD_TIMEOUT_DEFAULT = "60000";
+
+    private static final String STOP_TIMEOUT_PROPERTY = JBANG_PROPERTY_PREFIX + "stop.timeout";
+    private static final String STOP_TIMEOUT_ENV = JBANG_ENV_PREFIX + "STOP_TIMEOUT";
+    private static final String STOP_TIMEOUT_DEFAULT = "10000";
+
     private static final String KAMELETS_LOCAL_DIR_PROPERTY = JBANG_PROPERTY_PREFIX + "kamelets.local.dir";
     private static final String KAMELETS_LOCAL_DIR_ENV = JBANG_ENV_PREFIX + "KAMELETS_LOCAL_DIR";
 
@@ -160,4 +195,88 @@ public final class CamelJBangSettings {
                 System.getenv(KAMELETS_VERSION_ENV) != null ? System.getenv(KAMELETS_VERSION_ENV) : KAMELETS_VERSION_DEFAULT);
     }
 
+    /**
+     * Maximum number of characters of process output retained in memory for each running Camel JBang process.
+     * Older output is discarded so long-running integrations do not fill up the heap.
+     * @return
+     */
+    public static int getOutputWindowSize() {
+        return Integer.parseInt(System.getProperty(OUTPUT_WINDOW_SIZE_PROPERTY,
+                System.getenv(OUTPUT_WINDOW_SIZE_ENV) != null ? System.getenv(OUTPUT_WINDOW_SIZE_ENV) : OUTPUT_WINDOW_SIZE_DEFAULT));
+    }
+
+    /**
+     * Camel home directory where running Camel JBang processes write their status files.
+     * @return
+     */
+    public static Path getCamelHomeDir() {
+        return Paths.get(Optional.ofNullable(System.getProperty(CAMEL_HOME_DIR_PROPERTY, System.getenv(CAMEL_HOME_DIR_ENV)))
+                .orElse(Paths.get(System.getProperty("user.home"), ".camel").toString())).toAbsolutePath();
+    }
+
+    /**
+     * Time in milliseconds the output of the Camel JBang ps command is cached and shared across integration status checks.
+     * @return
+     */
+    public static long getStatusCacheTtl() {
+        return Long.parseLong(System.getProperty(STATUS_CACHE_TTL_PROPERTY,
+                System.getenv(STATUS_CACHE_TTL_ENV) != null ? System.getenv(STATUS_CACHE_TTL_ENV) : STATUS_CACHE_TTL_DEFAULT));
+    }
+
+    /**
+     * Launch mode for integrations run via Camel JBang: "jbang" runs the JBang command, "direct" runs the Java command
+     * with the cached classpath of the Camel JBang app and "warm" additionally keeps a pre-started JVM ready for the next integration.
+     * @return
+     */
+    public static String getLauncherMode() {
+        return System.getProperty(LAUNCHER_MODE_PROPERTY,
+                System.getenv(LAUNCHER_MODE_ENV) != null ? System.getenv(LAUNCHER_MODE_ENV) : LAUNCHER_MODE_DEFAULT);
+    }
+
+    /**
+     * When enabled the direct launcher creates and uses an AppCDS archive for the Camel JBang runtime.
+     * @return
+     */
+    public static boolean isLauncherCds() {
+        return Boolean.parseBoolean(System.getProperty(LAUNCHER_CDS_PROPERTY,
+                System.getenv(LAUNCHER_CDS_ENV) != null ? System.getenv(LAUNCHER_CDS_ENV) : LAUNCHER_CDS_DEFAULT));
+    }
+
+    /**
+     * When set to true integrations are run in Camel JBang dev mode, so updated integration sources are reloaded
+     * by the running process.
+     * @return
+     */
+    public static boolean isCamelDevMode() {
+        return Boolean.parseBoolean(System.getProperty(CAMEL_DEV_MODE_PROPERTY,
+                System.getenv(CAMEL_DEV_MODE_ENV) != null ? System.getenv(CAMEL_DEV_MODE_ENV) : CAMEL_DEV_MODE_DEFAULT));
+    }
+
+    /**
+     * Message printed by Camel JBang in dev mode once the routes of an updated integration have been reloaded.
+     * @return
+     */
+    public static String getReloadMessage() {
+        return System.getProperty(RELOAD_MESSAGE_PROPERTY,
+                System.getenv(RELOAD_MESSAGE_ENV) != null ? System.getenv(RELOAD_MESSAGE_ENV) : RELOAD_MESSAGE_DEFAULT);
+    }
+
+    /**
+     * Time in milliseconds to wait for Camel JBang to reload an updated integration.
+     * @return
+     */
+    public static long getReloadTimeout() {
+        return Long.parseLong(System.getProperty(RELOAD_TIMEOUT_PROPERTY,
+                System.getenv(RELOAD_TIMEOUT_ENV) != null ? System.getenv(RELOAD_TIMEOUT_ENV) : RELOAD_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds stopped integrations get to shut down gracefully before they are terminated forcibly.
+     * @return
+     */
+    public static long getStopTimeout() {
+        return Long.parseLong(System.getProperty(STOP_TIMEOUT_PROPERTY,
+                System.getenv(STOP_TIMEOUT_ENV) != null ? System.getenv(STOP_TIMEOUT_ENV) : STOP_TIMEOUT_DEFAULT));
+    }
+
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the status of integrations run via Camel JBang. Each running Camel JBang process writes a status file
+ * to the Camel home directory, so the provider reads the status of a single integration from that file without spawning
+ * a new process. When no status file is available the provider falls back to the output of the Camel JBang ps command.
+ * The ps output is cached for a short time to live so concurrent waiters polling for integration status share one
+ * ps process.
+ */
+class IntegrationStatusProvider {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(IntegrationStatusProvider.class);
+
+    private static final String STATUS_FILE_SUFFIX = "-status.json";
+
+    private final Supplier<String> ps;
+    private final Path camelHome;
+    private final long ttl;
+
+    private List<Map<String, String>> snapshot = Collections.emptyList();
+    private long snapshotTime;
+
+    IntegrationStatusProvider(Supplier<String> ps, Path camelHome, long ttl) {
+        this.ps = ps;
+        this.camelHome = camelHome;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Get status properties for the integration with given process id. Returns empty map when the integration
+     * is not running.
+     * @param pid
+     * @return
+     */
+    Map<String, String> get(Long pid) {
+        Optional<Map<String, String>> status = readStatusFile(pid);
+        if (status.isPresent()) {
+            return status.get();
+        }
+
+        return getAll().stream()
+                .filter(properties -> String.valueOf(pid).equals(properties.get("PID")))
+                .findFirst()
+                .map(HashMap::new)
+                .orElseGet(HashMap::new);
+    }
+
+    /**
+     * Get status properties for all integrations currently running.
+     * @return
+     */
+    synchronized List<Map<String, String>> getAll() {
+        long now = System.currentTimeMillis();
+        if (snapshotTime == 0L || now - snapshotTime >= ttl) {
+            snapshot = parseTable(ps.get());
+            snapshotTime = System.currentTimeMillis();
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Discards the cached ps output so the next call reads a fresh snapshot.
+     */
+    synchronized void invalidate() {
+        snapshotTime = 0L;
+    }
+
+    /**
+     * Reads the status file written by the Camel JBang process with given id. Returns empty optional when the
+     * process has no status file or the file could not be read, e.g. because the process is still writing it.
+     * The status of a process that is no longer alive is an empty map, same as the ps command that no longer lists the process.
+     * @param pid
+     * @return
+     */
+    Optional<Map<String, String>> readStatusFile(Long pid) {
+        if (camelHome == null || pid == null) {
+            return Optional.empty();
+        }
+
+        Path statusFile = camelHome.resolve(pid + STATUS_FILE_SUFFIX);
+        if (!Files.isRegularFile(statusFile)) {
+            return Optional.empty();
+        }
+
+        if (!ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false)) {
+            return Optional.of(new HashMap<>());
+        }
+
+        try {
+            return parseStatus(pid, Files.readString(statusFile));
+        } catch (IOException e) {
+            LOG.debug(String.format("Failed to read Camel JBang status file '%s'", statusFile), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses the status Json written by a Camel JBang process. Maps the context phase to the same status names
+     * that the ps command prints.
+     * @param pid
+     * @param json
+     * @return
+     */
+    static Optional<Map<String, String>> parseStatus(Long pid, String json) {
+        JsonNode root;
+        try {
+            root = KubernetesSupport.json().readTree(json);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+
+        JsonNode context = root != null ? root.get("context") : null;
+        if (context == null || !context.hasNonNull("phase")) {
+            return Optional.empty();
+        }
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("PID", String.valueOf(pid));
+        properties.put("NAME", context.path("name").asText(""));
+        properties.put("STATUS", extractState(context.get("phase").asInt()));
+        return Optional.of(properties);
+    }
+
+    /**
+     * Maps the Camel context status phase to the status name used by the Camel JBang ps command.
+     * Uses the same mapping as Camel JBang, based on the Camel service status constants (e.g. 6 = suspending,
+     * 7 = suspended, 8 = stopping, 9 and above = stopped, shutdown or failed).
+     * @param phase
+     * @return
+     */
+    static String extractState(int phase) {
+        if (phase <= 4) {
+            return "Starting";
+        } else if (phase == 5) {
+            return "Running";
+        } else if (phase == 6) {
+            return "Suspending";
+        } else if (phase == 7) {
+            return "Suspended";
+        } else if (phase == 8) {
+            return "Terminating";
+        } else {
+            return "Terminated";
+        }
+    }
+
+    /**
+     * Parses the table printed by the Camel JBang ps command. Columns are identified by their position in the table
+     * so empty cells and values containing whitespace do not shift the following columns. A character position
+     * separates two columns when it is blank in the header and in all rows.
+     * @param output
+     * @return
+     */
+    static List<Map<String, String>> parseTable(String output) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        if (output == null || output.isBlank()) {
+            return rows;
+        }
+
+        List<String> lines = output.lines()
+                .filter(line -> !line.isBlank())
+                .toList();
+
+        int width = lines.stream().mapToInt(String::length).max().orElse(0);
+        boolean[] separator = new boolean[width + 1];
+        for (int i = 0; i <= width; i++) {
+            separator[i] = true;
+            for (String line : lines) {
+                if (i < line.length() && !Character.isWhitespace(line.charAt(i))) {
+                    separator[i] = false;
+                    break;
+                }
+            }
+        }
+
+        List<int[]> columns = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= width; i++) {
+            if (!separator[i] && start < 0) {
+                start = i;
+            } else if (separator[i] && start >= 0) {
+                columns.add(new int[] { start, i });
+                start = -1;
+            }
+        }
+
+        String header = lines.get(0);
+        List<String> names = new ArrayList<>();
+        for (int[] column : columns) {
+            String name = cell(header, column);
+            if (name.isEmpty() && !names.isEmpty()) {
+                // value wider than its header - belongs to the previous column
+                name = names.get(names.size() - 1);
+            }
+            names.add(name);
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            Map<String, String> properties = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                String name = names.get(i);
+                String value = cell(line, columns.get(i));
+                if (name.isEmpty()) {
+                    continue;
+                }
+
+                properties.merge(name, value, (current, next) -> (current + " " + next).trim());
+            }
+
+            rows.add(properties);
+        }
+
+        return rows;
+    }
+
+    private static String cell(String line, int[] column) {
+        if (column[0] >= line.length()) {
+            return "";
+        }
+
+        return line.substring(column[0], Math.min(column[1], line.length())).trim();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the startup time of integrations run via Camel JBang. The startup time is the time between launching the
+ * integration process and the first status check that reports the integration as running. Startup times are grouped
+ * by the launch kind, so cold starts via JBang and starts with a cached classpath or a pre-started JVM can be compared.
+ * Also counts the launches in warm mode that could not use a pre-started JVM, grouped by reason.
+ */
+public final class LaunchStatistics {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(LaunchStatistics.class);
+
+    private static final LaunchStatistics INSTANCE = new LaunchStatistics();
+
+    private final Map<ProcessHandle, Launch> pending = new ConcurrentHashMap<>();
+    private final Queue<Launch> started = new ConcurrentLinkedQueue<>();
+    private final Map<String, AtomicInteger> warmStartsSkipped = new ConcurrentHashMap<>();
+
+    private LaunchStatistics() {
+        // use singleton instance
+    }
+
+    public static LaunchStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records the launch of given integration process.
+     * @param process
+     * @param kind
+     */
+    public void launched(Process process, String kind) {
+        pending.put(process.toHandle(), new Launch(kind, System.currentTimeMillis()));
+    }
+
+    /**
+     * Records a launch in warm mode that did not use a pre-started JVM. Logs the reason once.
+     * @param reason
+     */
+    public void warmStartSkipped(String reason) {
+        if (warmStartsSkipped.computeIfAbsent(reason, r -> new AtomicInteger()).getAndIncrement() == 0) {
+            LOG.info(String.format("Camel JBang warm start not used - %s, launching integration in direct mode", reason));
+        }
+    }
+
+    /**
+     * Gets the number of launches in warm mode that did not use a pre-started JVM for given reason.
+     * @param reason
+     * @return
+     */
+    public int getWarmStartsSkipped(String reason) {
+        AtomicInteger skipped = warmStartsSkipped.get(reason);
+        return skipped != null ? skipped.get() : 0;
+    }
+
+    /**
+     * Marks the integration with given process id as running. The process id may also refer to a descendant of the
+     * launched process. Only the first call for a launched process records the startup time.
+     * @param pid
+     */
+    public void running(Long pid) {
+        if (pending.isEmpty() || pid == null) {
+            return;
+        }
+
+        for (ProcessHandle handle : new ArrayList<>(pending.keySet())) {
+            if (handle.pid() == pid || handle.descendants().anyMatch(descendant -> descendant.pid() == pid)) {
+                Launch launch = pending.remove(handle);
+                if (launch != null) {
+                    launch.elapsed = System.currentTimeMillis() - launch.start;
+                    started.add(launch);
+                    LOG.info(String.format("Camel JBang integration %d started in %d ms (%s start)", pid, launch.elapsed, launch.kind));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the recorded startup times in milliseconds for given launch kind.
+     * @param kind
+     * @return
+     */
+    public List<Long> getStartupTimes(String kind) {
+        return started.stream()
+                .filter(launch -> launch.kind.equals(kind))
+                .map(launch -> launch.elapsed)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Logs average and maximum startup time for each launch kind.
+     */
+    public void logSummary() {
+        if (started.isEmpty()) {
+            return;
+        }
+
+        LOG.info(String.format("Camel JBang launch statistics - %s", this));
+    }
+
+    /**
+     * Removes all recorded launches.
+     */
+    public void clear() {
+        pending.clear();
+        started.clear();
+        warmStartsSkipped.clear();
+    }
+
+    @Override
+    public String toString() {
+        String startups = started.stream()
+                .collect(Collectors.groupingBy(launch -> launch.kind, Collectors.summarizingLong(launch -> launch.elapsed)))
+                .entrySet().stream()
+                .map(entry -> String.format("%s starts=%d, avg=%d ms, max=%d ms", entry.getKey(), entry.getValue().getCount(),
+                        Math.round(entry.getValue().getAverage()), entry.getValue().getMax()))
+                .collect(Collectors.joining(", "));
+
+        if (warmStartsSkipped.isEmpty()) {
+            return startups;
+        }
+
+        return startups + warmStartsSkipped.entrySet().stream()
+                .map(entry -> String.format("%s=%d", entry.getKey(), entry.getValue().get()))
+                .collect(Collectors.joining(", ", "; warm start not used: ", ""));
+    }
+
+    private static final class Launch {
+        private final String kind;
+        private final long start;
+        private long elapsed;
+
+        Launch(String kind, long start) {
+            this.kind = kind;
+            this.start = start;
+        }
+    }
+}
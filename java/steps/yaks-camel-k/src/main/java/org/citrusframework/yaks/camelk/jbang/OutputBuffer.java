@@ -0,0 +1,130 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded buffer of process output. The output is stored as a list of line segments together with the absolute output
+ * position of each line, so reading the output since a given position looks up the first line with a binary search
+ * and only copies the lines after that position. Oldest lines are discarded once the buffer exceeds the window size.
+ */
+class OutputBuffer {
+
+    private final int windowSize;
+
+    private final List<String> lines = new ArrayList<>();
+    private final List<Long> offsets = new ArrayList<>();
+
+    /** Index of the first retained line */
+    private int head;
+
+    /** Absolute output position after the last line */
+    private long end;
+
+    /** Number of retained characters */
+    private long retained;
+
+    OutputBuffer(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Adds next line of output. The line should include its line separator.
+     * @param line
+     */
+    synchronized void append(String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+
+        lines.add(line);
+        offsets.add(end);
+        end += line.length();
+        retained += line.length();
+
+        while (retained > windowSize && head < lines.size() - 1) {
+            retained -= lines.get(head).length();
+            lines.set(head, null);
+            head++;
+        }
+
+        // compact discarded lines with some headroom so the lists are not shifted on each line
+        if (head > 1024 && head > lines.size() / 2) {
+            lines.subList(0, head).clear();
+            offsets.subList(0, head).clear();
+            head = 0;
+        }
+    }
+
+    /**
+     * Gets the output since given absolute position. Output that has already been discarded is skipped.
+     * @param position
+     * @return
+     */
+    synchronized String since(long position) {
+        if (position >= end || head >= lines.size()) {
+            return "";
+        }
+
+        int index = lineAt(position);
+        StringBuilder output = new StringBuilder((int) Math.min(Integer.MAX_VALUE, end - Math.max(position, offsets.get(head))));
+
+        String first = lines.get(index);
+        long firstOffset = offsets.get(index);
+        output.append(first, (int) Math.max(0, position - firstOffset), first.length());
+        for (int i = index + 1; i < lines.size(); i++) {
+            output.append(lines.get(i));
+        }
+
+        return output.toString();
+    }
+
+    /**
+     * Absolute output position after the last line.
+     * @return
+     */
+    synchronized long end() {
+        return end;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return since(0L);
+    }
+
+    /**
+     * Binary search for the retained line that contains given position.
+     * @param position
+     * @return
+     */
+    private int lineAt(long position) {
+        int low = head;
+        int high = lines.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets.get(mid) <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+}
@@ -21,8 +21,11 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
@@ -31,115 +34,182 @@ import org.slf4j.LoggerFactory;
 import static org.awaitility.Awaitility.await;
 
 /**
- * Process wrapper also holds the output that has been produced by the completed process.
+ * Process wrapper also holds the output that has been produced by the completed process. The output of running processes
+ * is drained by a dedicated pump thread, so the process never stalls on a full output pipe while nobody reads the output.
+ * The output is retained in a bounded window, older output is discarded. Consumers that scan the output incrementally
+ * use an absolute output position to read only the output that has been produced since their last read.
  */
 public class ProcessAndOutput {
 
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(ProcessAndOutput.class);
 
+    /** Delay between reads when following an output file that has no new content */
+    private static final long FOLLOW_DELAY = 100L;
+
+    /** Time to wait for the pump thread to drain remaining output after the process has finished */
+    private static final long DRAIN_TIMEOUT = 5000L;
+
     private final Process process;
-    private String output;
+    private final OutputBuffer output;
+
+    private Thread pump;
+    private volatile boolean drained;
 
-    private BufferedReader reader;
+    /** Process has been launched with the Java command, not via JBang, and is the Camel JBang process itself */
+    private boolean direct;
 
     ProcessAndOutput(Process process) {
-        this(process, "");
+        this.process = process;
+        this.output = new OutputBuffer(CamelJBangSettings.getOutputWindowSize());
+        startPump(process.getInputStream(), false);
     }
 
     ProcessAndOutput(Process process, String output) {
         this.process = process;
-        this.output = output;
+        this.output = new OutputBuffer(Integer.MAX_VALUE);
+        this.output.append(output);
     }
 
     ProcessAndOutput(Process process, File outputFile) {
         this.process = process;
+        this.output = new OutputBuffer(CamelJBangSettings.getOutputWindowSize());
         try {
-            this.reader = new BufferedReader(new InputStreamReader(new FileInputStream(outputFile)));
+            startPump(new FileInputStream(outputFile), true);
         } catch (FileNotFoundException e) {
             throw new CitrusRuntimeException(String.format("Failed to access process output file %s", outputFile.getName()), e);
         }
     }
 
+    /**
+     * Marks the process as launched directly with the Java command.
+     * @return
+     */
+    ProcessAndOutput launchedDirectly() {
+        this.direct = true;
+        return this;
+    }
+
     public Process getProcess() {
         return process;
     }
 
+    /**
+     * Gets the process output retained in the output window.
+     * @return
+     */
     public String getOutput() {
-        if (process.isAlive()) {
-            readChunk();
-        } else if (reader != null) {
-            readAllAndClose();
-        }
+        awaitDrained();
+        return output.toString();
+    }
+
+    /**
+     * Gets the process output produced since given absolute output position and advances the position to the end of the output.
+     * In case the output at the position has already been discarded the output is returned starting with the oldest retained output.
+     * @param position
+     * @return
+     */
+    public String nextOutput(AtomicLong position) {
+        awaitDrained();
 
-        return output;
+        synchronized (output) {
+            String next = output.since(position.get());
+            position.set(output.end());
+            return next;
+        }
     }
 
     /**
-     * Reads process output until EOF and closes the stream reader.
+     * Starts the pump thread that drains given process output stream line by line into the output buffer.
+     * When following an output file the pump keeps reading until the process has finished.
+     * @param in
+     * @param follow
      */
-    private void readAllAndClose() {
-        String line;
-        StringBuilder builder = new StringBuilder();
-        try {
-            while ((line = reader.readLine()) != null) {
-                builder.append(line).append(System.lineSeparator());
+    private void startPump(InputStream in, boolean follow) {
+        pump = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                pump(reader, follow);
+            } catch (IOException e) {
+                LOG.debug("Failed to read JBang process output", e);
             }
+        }, "jbang-output-" + process.pid());
+        pump.setDaemon(true);
+        pump.start();
+    }
 
-            if (!builder.isEmpty()) {
-                output += builder;
-            }
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to get JBang process output", e);
-        } finally {
-            try {
-                reader.close();
-            } catch (IOException e) {
-                LOG.debug("Failed to close JBang process output reader", e);
-            } finally {
-                reader = null;
+    private void pump(BufferedReader reader, boolean follow) throws IOException {
+        StringBuilder line = new StringBuilder();
+        char[] buffer = new char[8192];
+
+        if (follow) {
+            // output file has no end of stream while the process is running
+            while (process.isAlive()) {
+                if (reader.ready()) {
+                    consume(buffer, reader.read(buffer), line);
+                } else {
+                    sleep();
+                }
             }
         }
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            consume(buffer, read, line);
+        }
+
+        output.append(line.toString());
     }
 
     /**
-     * Reads a chunk of process output. Either reads maximum amount of lines or returns when reader is not ready (e.g.
-     * no process output available). Chunk is added to the cached process output.
+     * Adds complete lines in given buffer to the output and keeps incomplete lines in given line builder.
+     * @param buffer
+     * @param length
+     * @param line
      */
-    private void readChunk() {
-        if (reader == null) {
-            reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+    private void consume(char[] buffer, int length, StringBuilder line) {
+        for (int i = 0; i < length; i++) {
+            line.append(buffer[i]);
+            if (buffer[i] == '\n') {
+                output.append(line.toString());
+                line.setLength(0);
+            }
         }
+    }
 
-        String line;
-        int read = 1;
-        int maxRead = 100;
-        StringBuilder builder = new StringBuilder();
-        try {
-            while (read <= maxRead && reader.ready() && (line = reader.readLine()) != null) {
-                builder.append(line).append(System.lineSeparator());
-                read++;
+    /**
+     * Waits for the pump thread to drain the remaining output once the process has finished. Waits only once because
+     * descendant processes may keep the output stream open after the process has finished.
+     */
+    private void awaitDrained() {
+        if (pump != null && !drained && !process.isAlive()) {
+            drained = true;
+            try {
+                pump.join(DRAIN_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to get JBang process output", e);
         }
+    }
 
-        if (!builder.isEmpty()) {
-            if (output == null) {
-                output = builder.toString();
-            } else {
-                output += builder.toString().stripTrailing();
-            }
+    private static void sleep() {
+        try {
+            Thread.sleep(FOLLOW_DELAY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
     /**
      * Get the process id of first descendant or the parent process itself in case there is no descendant process.
      * On Linux the shell command represents the parent process and the Camel JBang integration command a descendant process.
-     * Typically, we need the Camel JBang command process id.
+     * Typically, we need the Camel JBang command process id. Processes launched directly with the Java command are the Camel JBang process.
      * @return
      */
     public Long getCamelProcessId() {
+        if (direct) {
+            return process.pid();
+        }
+
         try {
             if (isUnix()) {
                 // wait for descendant process to be available
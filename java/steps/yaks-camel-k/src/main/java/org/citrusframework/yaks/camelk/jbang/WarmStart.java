@@ -0,0 +1,75 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Main class of a pre-started Camel JBang JVM. Loads the Camel JBang main class right away and then waits for the
+ * output file and the command arguments on stdin. The first line holds the output file, which is empty when the output
+ * should not be redirected, followed by one argument per line. Once stdin is closed the standard output and error streams
+ * are redirected to the output file and the Camel JBang main method is invoked with the received arguments.
+ * Exits without running Camel JBang when no arguments have been received.
+ *
+ * This class is put on the classpath of the Camel JBang runtime, so it must not use anything but the JDK.
+ */
+public final class WarmStart {
+
+    private WarmStart() {
+        // prevent instantiation of main class
+    }
+
+    public static void main(String[] args) throws Throwable {
+        Class<?> mainClass = Class.forName(args[0], true, WarmStart.class.getClassLoader());
+        Method main = mainClass.getMethod("main", String[].class);
+
+        String outputFile;
+        List<String> launchArgs = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            outputFile = reader.readLine();
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                launchArgs.add(line);
+            }
+        }
+
+        if (launchArgs.isEmpty()) {
+            return;
+        }
+
+        if (outputFile != null && !outputFile.isEmpty()) {
+            PrintStream output = new PrintStream(new FileOutputStream(outputFile, true), true, StandardCharsets.UTF_8);
+            System.setOut(output);
+            System.setErr(output);
+        }
+
+        try {
+            main.invoke(null, (Object) launchArgs.toArray(String[]::new));
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -284,6 +284,74 @@ public class CreateIntegrationActionTest {
         Assert.assertEquals("foo=bar", integration.getSpec().getTraits().getCamel().getProperties().get(0));
     }
 
+    @Test
+    public void shouldUpdateIntegration() {
+        new CreateIntegrationAction.Builder()
+                .client(kubernetesClient)
+                .integration("bar")
+                .source("from('timer:tick?period=1000').setBody().constant('Hello world from Camel K!').to('log:info')")
+                .build()
+                .execute(context);
+
+        new CreateIntegrationAction.Builder()
+                .client(kubernetesClient)
+                .integration("bar")
+                .reload(true)
+                .source("from('timer:tick?period=1000').setBody().constant('Updated Camel K!').to('log:info')")
+                .property("foo", "bar")
+                .build()
+                .execute(context);
+
+        Integration integration = kubernetesClient.resources(Integration.class).inNamespace(KubernetesSettings.getNamespace()).withName("bar").get();
+        Assert.assertTrue(integration.getSpec().getSources().get(0).getContent().contains("Updated Camel K!"));
+        Assert.assertEquals("foo=bar", integration.getSpec().getTraits().getCamel().getProperties().get(0));
+    }
+
+    @Test
+    public void shouldParseModelines() {
+        Map<String, List<String>> modelines = CreateIntegrationAction.parseModelines(
+                "// camel-k: trait=quarkus.enabled=true\r\n" +
+                "// camel-k:dependency=camel:jackson\n" +
+                "// camel-k: trait=route.enabled=true\n" +
+                "//  camel-k: trait=ignored=true\n" +
+                "// camel-k:  property=ignored\n" +
+                "// camel-k: property=\n" +
+                "from('timer:tick').to('log:info') // camel-k: trait=ignored=true");
+
+        Assert.assertEquals(List.of("quarkus.enabled=true", "route.enabled=true"), modelines.get("trait"));
+        Assert.assertEquals(List.of("camel:jackson"), modelines.get("dependency"));
+        Assert.assertFalse(modelines.containsKey("property"));
+        Assert.assertEquals(2, modelines.size());
+    }
+
+    @Test
+    public void shouldReuseCachedSpecForSameInputs() {
+        context.setVariable("greeting", "Hello");
+
+        CreateIntegrationAction action = new CreateIntegrationAction.Builder()
+                .client(kubernetesClient)
+                .integration("cached")
+                .source("// camel-k: trait=route.enabled=true\n" +
+                        "from('timer:tick?period=1000').setBody().constant('${greeting}').to('log:info')")
+                .property("greeting", "${greeting}")
+                .build();
+
+        action.execute(context);
+        Integration first = kubernetesClient.resources(Integration.class).inNamespace(KubernetesSettings.getNamespace()).withName("cached").get();
+        Assert.assertEquals("greeting=Hello", first.getSpec().getTraits().getCamel().getProperties().get(0));
+
+        action.execute(context);
+        Integration second = kubernetesClient.resources(Integration.class).inNamespace(KubernetesSettings.getNamespace()).withName("cached").get();
+        Assert.assertEquals(first.getSpec(), second.getSpec());
+
+        context.setVariable("greeting", "Hi");
+        action.execute(context);
+        Integration changed = kubernetesClient.resources(Integration.class).inNamespace(KubernetesSettings.getNamespace()).withName("cached").get();
+        Assert.assertEquals("greeting=Hi", changed.getSpec().getTraits().getCamel().getProperties().get(0));
+        Assert.assertTrue(changed.getSpec().getSources().get(0).getContent().contains("'Hi'"));
+        Assert.assertTrue(changed.getSpec().getTraits().getRoute().getEnabled());
+    }
+
     @Test
     public void shouldCreateLocalIntegration() {
         camel().version();
@@ -20,6 +20,11 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashMap;
 
+import java.util.Collections;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import org.apache.camel.v1.Integration;
+import org.apache.camel.v1.IntegrationStatus;
+import org.apache.camel.v1.integrationstatus.Conditions;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.context.TestContextFactory;
 import org.citrusframework.exceptions.ActionTimeoutException;
@@ -28,8 +33,10 @@ import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
 import io.fabric8.mockwebserver.Context;
 import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.yaks.YaksClusterType;
 import org.citrusframework.yaks.camelk.jbang.ProcessAndOutput;
+import org.citrusframework.yaks.camelk.model.IntegrationList;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -116,4 +123,34 @@ public class VerifyIntegrationActionTest {
             camel().stop(pid);
         }
     }
+
+    @Test
+    public void shouldFailOnIntegrationErrorWithWatch() {
+        Integration integration = new Integration();
+        integration.setMetadata(new ObjectMetaBuilder().withName("failing").withNamespace("test").build());
+        IntegrationStatus status = new IntegrationStatus();
+        status.setPhase("Error");
+        Conditions condition = new Conditions();
+        condition.setType("Ready");
+        condition.setStatus("False");
+        condition.setReason("BuildFailed");
+        condition.setMessage("failed to build integration kit");
+        status.setConditions(Collections.singletonList(condition));
+        integration.setStatus(status);
+        kubernetesClient.resources(Integration.class, IntegrationList.class).inNamespace("test").resource(integration).create();
+
+        VerifyIntegrationAction action = new VerifyIntegrationAction.Builder()
+                .client(kubernetesClient)
+                .namespace("test")
+                .integrationName("failing")
+                .waitStrategy("watch")
+                .maxAttempts(50)
+                .delayBetweenAttempts(1000L)
+                .build();
+
+        long start = System.currentTimeMillis();
+        CitrusRuntimeException error = Assert.assertThrows(CitrusRuntimeException.class, () -> action.execute(context));
+        Assert.assertTrue(error.getMessage(), error.getMessage().contains("BuildFailed: failed to build integration kit"));
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+    }
 }
@@ -18,8 +18,13 @@ package org.citrusframework.yaks.camelk.actions.kamelet;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
 
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import org.apache.camel.v1.Pipe;
+import org.apache.camel.v1.PipeStatus;
+import org.apache.camel.v1.pipestatus.Conditions;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.context.TestContextFactory;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -27,8 +32,12 @@ import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
 import io.fabric8.mockwebserver.Context;
 import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.yaks.YaksClusterType;
 import org.citrusframework.yaks.camelk.jbang.ProcessAndOutput;
+import org.citrusframework.yaks.camelk.model.PipeList;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -73,4 +82,61 @@ public class VerifyPipeActionTest {
             camel().stop(pid);
         }
     }
+
+    @Test
+    public void shouldVerifyPipeWithWatch() {
+        Pipe pipe = new Pipe();
+        pipe.setMetadata(new ObjectMetaBuilder().withName("my-pipe").withNamespace("test").build());
+        kubernetesClient.resources(Pipe.class, PipeList.class).inNamespace("test").resource(pipe).create();
+
+        new VerifyPipeAction.Builder()
+                .client(kubernetesClient)
+                .namespace("test")
+                .isAvailable("my-pipe")
+                .waitStrategy("watch")
+                .maxAttempts(10)
+                .delayBetweenAttempts(100L)
+                .build()
+                .execute(context);
+
+        VerifyPipeAction missing = new VerifyPipeAction.Builder()
+                .client(kubernetesClient)
+                .namespace("test")
+                .isAvailable("missing")
+                .waitStrategy("watch")
+                .maxAttempts(5)
+                .delayBetweenAttempts(100L)
+                .build();
+        Assert.assertThrows(ValidationException.class, () -> missing.execute(context));
+    }
+
+    @Test
+    public void shouldFailOnPipeErrorWithWatch() {
+        Pipe pipe = new Pipe();
+        pipe.setMetadata(new ObjectMetaBuilder().withName("failing-pipe").withNamespace("test").build());
+        PipeStatus status = new PipeStatus();
+        status.setPhase("Error");
+        Conditions condition = new Conditions();
+        condition.setType("Ready");
+        condition.setStatus("False");
+        condition.setReason("IntegrationError");
+        condition.setMessage("failed to create integration");
+        status.setConditions(Collections.singletonList(condition));
+        pipe.setStatus(status);
+        kubernetesClient.resources(Pipe.class, PipeList.class).inNamespace("test").resource(pipe).create();
+
+        VerifyPipeAction action = new VerifyPipeAction.Builder()
+                .client(kubernetesClient)
+                .namespace("test")
+                .isAvailable("failing-pipe")
+                .waitStrategy("watch")
+                .maxAttempts(50)
+                .delayBetweenAttempts(1000L)
+                .build();
+
+        long start = System.currentTimeMillis();
+        CitrusRuntimeException error = Assert.assertThrows(CitrusRuntimeException.class, () -> action.execute(context));
+        Assert.assertTrue(error.getMessage(), error.getMessage().contains("IntegrationError: failed to create integration"));
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CamelJBangLauncherTest {
+
+    private Path cacheDir;
+    private final AtomicInteger resolved = new AtomicInteger();
+
+    @Before
+    public void setup() throws IOException {
+        cacheDir = Files.createTempDirectory("camel-jbang-launcher");
+        LaunchStatistics.getInstance().clear();
+    }
+
+    @After
+    public void cleanup() {
+        LaunchStatistics.getInstance().clear();
+    }
+
+    @Test
+    public void shouldLaunchDirectly() throws Exception {
+        try (CamelJBangLauncher launcher = launcher(CamelJBangLauncher.Mode.DIRECT)) {
+            ProcessAndOutput pao = launcher.launch(List.of("run", "route.yaml"), null).orElseThrow();
+            Assert.assertTrue(pao.getProcess().waitFor(30, TimeUnit.SECONDS));
+
+            Assert.assertEquals(pao.getProcess().pid(), pao.getCamelProcessId().longValue());
+            Assert.assertTrue(pao.getOutput().contains("Echo: run route.yaml"));
+            Assert.assertTrue(pao.getOutput().contains("camel.jbang.version=4.1.0"));
+        }
+
+        Assert.assertEquals(1, resolved.get());
+    }
+
+    @Test
+    public void shouldReuseCachedClasspath() throws Exception {
+        try (CamelJBangLauncher launcher = launcher(CamelJBangLauncher.Mode.DIRECT)) {
+            launcher.launch(List.of("version"), null).orElseThrow().getProcess().waitFor(30, TimeUnit.SECONDS);
+        }
+
+        try (CamelJBangLauncher launcher = launcher(CamelJBangLauncher.Mode.DIRECT)) {
+            launcher.launch(List.of("version"), null).orElseThrow().getProcess().waitFor(30, TimeUnit.SECONDS);
+        }
+
+        Assert.assertEquals(1, resolved.get());
+    }
+
+    @Test
+    public void shouldLaunchWithWarmJvm() throws Exception {
+        try (CamelJBangLauncher launcher = launcher(CamelJBangLauncher.Mode.WARM)) {
+            ProcessAndOutput first = launcher.launch(List.of("run", "first.yaml"), null).orElseThrow();
+            ProcessAndOutput second = launcher.launch(List.of("run", "second.yaml"), null).orElseThrow();
+
+            Assert.assertTrue(first.getProcess().waitFor(30, TimeUnit.SECONDS));
+            Assert.assertTrue(second.getProcess().waitFor(30, TimeUnit.SECONDS));
+            Assert.assertTrue(first.getOutput().contains("Echo: run first.yaml"));
+            Assert.assertTrue(second.getOutput().contains("Echo: run second.yaml"));
+
+            LaunchStatistics.getInstance().running(first.getCamelProcessId());
+            LaunchStatistics.getInstance().running(second.getCamelProcessId());
+            Assert.assertEquals(1, LaunchStatistics.getInstance().getStartupTimes("direct").size());
+            Assert.assertEquals(1, LaunchStatistics.getInstance().getStartupTimes("warm").size());
+        }
+    }
+
+    @Test
+    public void shouldLaunchWithWarmJvmAndOutputFile() throws Exception {
+        Path firstOutput = cacheDir.resolve("first.log");
+        Path secondOutput = cacheDir.resolve("second.log");
+
+        try (CamelJBangLauncher launcher = launcher(CamelJBangLauncher.Mode.WARM)) {
+            ProcessAndOutput first = launcher.launch(List.of("run", "first.yaml"), firstOutput.toFile()).orElseThrow();
+            ProcessAndOutput second = launcher.launch(List.of("run", "second.yaml"), secondOutput.toFile()).orElseThrow();
+
+            Assert.assertTrue(first.getProcess().waitFor(30, TimeUnit.SECONDS));
+            Assert.assertTrue(second.getProcess().waitFor(30, TimeUnit.SECONDS));
+            Assert.assertTrue(Files.readString(firstOutput).contains("Echo: run first.yaml"));
+            Assert.assertTrue(Files.readString(secondOutput).contains("Echo: run second.yaml"));
+
+            LaunchStatistics.getInstance().running(first.getCamelProcessId());
+            LaunchStatistics.getInstance().running(second.getCamelProcessId());
+            Assert.assertEquals(1, LaunchStatistics.getInstance().getStartupTimes("direct").size());
+            Assert.assertEquals(1, LaunchStatistics.getInstance().getStartupTimes("warm").size());
+            Assert.assertEquals(1, LaunchStatistics.getInstance().getWarmStartsSkipped("no pre-started JVM ready"));
+            Assert.assertTrue(LaunchStatistics.getInstance().toString().contains("warm start not used: no pre-started JVM ready=1"));
+        }
+    }
+
+    @Test
+    public void shouldFallbackWhenClasspathIsNotResolved() {
+        CamelJBangLauncher launcher = new CamelJBangLauncher(CamelJBangLauncher.Mode.DIRECT, List.of(),
+                () -> "[jbang] [ERROR] Script or alias could not be found", cacheDir, false);
+
+        Assert.assertEquals(Optional.empty(), launcher.launch(List.of("version"), null));
+    }
+
+    @Test
+    public void shouldNotLaunchInJBangMode() {
+        CamelJBangLauncher launcher = launcher(CamelJBangLauncher.Mode.JBANG);
+
+        Assert.assertEquals(Optional.empty(), launcher.launch(List.of("version"), null));
+        Assert.assertEquals(0, resolved.get());
+    }
+
+    @Test
+    public void shouldReadToolsInfo() throws IOException {
+        CamelJBangLauncher.LaunchSpec spec = CamelJBangLauncher.LaunchSpec.fromToolsInfo("key",
+                "[jbang] Resolving dependencies...\n" +
+                "{ \"applicationJar\": \"/tmp/app.jar\", \"mainClass\": \"main.CamelJBang\", " +
+                "\"resolvedDependencies\": [ \"/tmp/a.jar\", \"/tmp/b.jar\" ] }");
+
+        Assert.assertEquals("main.CamelJBang", spec.getMainClass());
+        Assert.assertEquals(List.of("/tmp/app.jar", "/tmp/a.jar", "/tmp/b.jar"), spec.getClasspath());
+    }
+
+    private CamelJBangLauncher launcher(CamelJBangLauncher.Mode mode) {
+        return new CamelJBangLauncher(mode, List.of("-Dcamel.jbang.version=4.1.0"), () -> {
+            resolved.incrementAndGet();
+            return String.format("{ \"applicationJar\": \"%s\", \"mainClass\": \"%s\", \"resolvedDependencies\": [] }",
+                    testClasses(), EchoMain.class.getName());
+        }, cacheDir, false);
+    }
+
+    private static String testClasses() {
+        try {
+            return Paths.get(EchoMain.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static final class EchoMain {
+        public static void main(String[] args) {
+            System.out.println("Echo: " + String.join(" ", args));
+            System.out.println("camel.jbang.version=" + System.getProperty("camel.jbang.version"));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CamelJBangTerminateTest {
+
+    @Test
+    public void shouldTerminateProcessesInParallel() throws IOException, InterruptedException {
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processes.add(start("sleep 60"));
+        }
+
+        long start = System.currentTimeMillis();
+        List<Long> unmanaged = CamelJBang.terminate(processes.stream().map(Process::pid).toList(), tracked(processes), 10000L);
+
+        Assert.assertTrue(unmanaged.isEmpty());
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+        for (Process process : processes) {
+            Assert.assertTrue(process.waitFor(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void shouldTerminateForciblyAfterTimeout() throws IOException, InterruptedException {
+        Process ignoring = start("trap '' TERM; while true; do sleep 1; done");
+        Process process = start("sleep 60");
+        // give the shell time to install the signal trap
+        Thread.sleep(500L);
+
+        long start = System.currentTimeMillis();
+        CamelJBang.terminate(List.of(ignoring.pid(), process.pid()), tracked(List.of(ignoring, process)), 1000L);
+
+        Assert.assertTrue(System.currentTimeMillis() - start >= 1000L);
+        Assert.assertTrue(ignoring.waitFor(5, TimeUnit.SECONDS));
+        Assert.assertTrue(process.waitFor(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldIgnoreStoppedProcesses() throws IOException, InterruptedException {
+        Process process = start("true");
+        Assert.assertTrue(process.waitFor(5, TimeUnit.SECONDS));
+
+        Assert.assertTrue(CamelJBang.terminate(List.of(process.pid()), tracked(List.of(process)), 1000L).isEmpty());
+    }
+
+    @Test
+    public void shouldNotSignalUntrackedProcesses() throws IOException, InterruptedException {
+        Process process = start("sleep 60");
+
+        try {
+            Assert.assertEquals(List.of(process.pid()), CamelJBang.terminate(List.of(process.pid()), Map.of(), 1000L));
+            Assert.assertFalse(process.waitFor(500, TimeUnit.MILLISECONDS));
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private static Map<Long, ProcessHandle> tracked(List<Process> processes) {
+        return processes.stream().collect(Collectors.toMap(Process::pid, Process::toHandle));
+    }
+
+    private static Process start(String command) throws IOException {
+        return new ProcessBuilder("sh", "-c", command).start();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntegrationStatusProviderTest {
+
+    private static final String PS_OUTPUT =
+            "  PID   NAME                     READY  STATUS    AGE  TOTAL  FAIL  INFLIGHT\n" +
+            " 1234   route                     1/1   Running   10s      5     0         0\n" +
+            "98765   my route with long name   0/1   Starting   1s                       \n";
+
+    @Test
+    public void shouldParseTableByColumns() {
+        List<Map<String, String>> rows = IntegrationStatusProvider.parseTable(PS_OUTPUT);
+
+        Assert.assertEquals(2, rows.size());
+        Assert.assertEquals("1234", rows.get(0).get("PID"));
+        Assert.assertEquals("route", rows.get(0).get("NAME"));
+        Assert.assertEquals("Running", rows.get(0).get("STATUS"));
+        Assert.assertEquals("5", rows.get(0).get("TOTAL"));
+
+        Assert.assertEquals("98765", rows.get(1).get("PID"));
+        Assert.assertEquals("Starting", rows.get(1).get("STATUS"));
+        Assert.assertEquals("", rows.get(1).get("TOTAL"));
+        Assert.assertEquals("my route with long name", rows.get(1).get("NAME"));
+        Assert.assertEquals("0/1", rows.get(1).get("READY"));
+    }
+
+    @Test
+    public void shouldParseEmptyTable() {
+        Assert.assertTrue(IntegrationStatusProvider.parseTable("").isEmpty());
+        Assert.assertTrue(IntegrationStatusProvider.parseTable("  PID   NAME   STATUS\n").isEmpty());
+    }
+
+    @Test
+    public void shouldShareCachedSnapshot() {
+        AtomicInteger calls = new AtomicInteger();
+        IntegrationStatusProvider provider = new IntegrationStatusProvider(() -> {
+            calls.incrementAndGet();
+            return PS_OUTPUT;
+        }, null, 60000L);
+
+        Assert.assertEquals("Running", provider.get(1234L).get("STATUS"));
+        Assert.assertEquals("Starting", provider.get(98765L).get("STATUS"));
+        Assert.assertTrue(provider.get(1L).isEmpty());
+        Assert.assertEquals(1, calls.get());
+
+        provider.invalidate();
+        Assert.assertEquals(2, provider.getAll().size());
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldReadStatusFile() throws IOException {
+        Path camelHome = Files.createTempDirectory("camel-home");
+        long pid = ProcessHandle.current().pid();
+        Files.writeString(camelHome.resolve(pid + "-status.json"),
+                "{ \"pid\": " + pid + ", \"context\": { \"name\": \"route\", \"phase\": 5, \"state\": \"Started\" } }");
+
+        IntegrationStatusProvider provider = new IntegrationStatusProvider(() -> {
+            throw new AssertionError("Unexpected ps call");
+        }, camelHome, 60000L);
+
+        Map<String, String> status = provider.get(pid);
+        Assert.assertEquals(String.valueOf(pid), status.get("PID"));
+        Assert.assertEquals("route", status.get("NAME"));
+        Assert.assertEquals("Running", status.get("STATUS"));
+    }
+
+    @Test
+    public void shouldFallbackOnIncompleteStatusFile() throws IOException {
+        Path camelHome = Files.createTempDirectory("camel-home");
+        long pid = ProcessHandle.current().pid();
+        Files.writeString(camelHome.resolve(pid + "-status.json"), "{ \"context\": { \"name\": ");
+
+        IntegrationStatusProvider provider = new IntegrationStatusProvider(() -> PS_OUTPUT, camelHome, 60000L);
+        Assert.assertTrue(provider.get(pid).isEmpty());
+        Assert.assertEquals("Running", provider.get(1234L).get("STATUS"));
+    }
+
+    @Test
+    public void shouldMapContextPhase() {
+        Assert.assertEquals("Starting", IntegrationStatusProvider.extractState(3));
+        Assert.assertEquals("Running", IntegrationStatusProvider.extractState(5));
+        Assert.assertEquals("Suspending", IntegrationStatusProvider.extractState(6));
+        Assert.assertEquals("Suspended", IntegrationStatusProvider.extractState(7));
+        Assert.assertEquals("Terminating", IntegrationStatusProvider.extractState(8));
+        Assert.assertEquals("Terminated", IntegrationStatusProvider.extractState(9));
+        Assert.assertEquals("Terminated", IntegrationStatusProvider.extractState(12));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.camelk.jbang;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ProcessAndOutputTest {
+
+    @After
+    public void cleanup() {
+        System.clearProperty("yaks.jbang.output.window.size");
+    }
+
+    @Test
+    public void shouldReadOutputIncrementally() throws IOException, InterruptedException {
+        ProcessAndOutput pao = new ProcessAndOutput(completedProcess(), "first\n");
+
+        AtomicLong position = new AtomicLong();
+        Assert.assertEquals("first\n", pao.nextOutput(position));
+        Assert.assertEquals(6L, position.get());
+        Assert.assertEquals("", pao.nextOutput(position));
+    }
+
+    @Test
+    public void shouldRetainBoundedOutputWindow() throws IOException, InterruptedException {
+        System.setProperty("yaks.jbang.output.window.size", "100");
+
+        File outputFile = File.createTempFile("process-output", ".txt");
+        outputFile.deleteOnExit();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append(String.format("line %03d%n", i));
+        }
+        Files.writeString(outputFile.toPath(), content, StandardCharsets.UTF_8);
+
+        ProcessAndOutput pao = new ProcessAndOutput(completedProcess(), outputFile);
+
+        AtomicLong position = new AtomicLong();
+        String output = pao.nextOutput(position);
+        Assert.assertTrue(output.length() <= 100);
+        Assert.assertTrue(output.startsWith(String.format("line 089%n")));
+        Assert.assertTrue(output.endsWith(String.format("line 099%n")));
+        Assert.assertEquals(content.length(), position.get());
+        Assert.assertEquals(output, pao.getOutput());
+    }
+
+    @Test
+    public void shouldDrainRunningProcessOutput() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder("seq", "1", "200000").redirectErrorStream(true).start();
+        ProcessAndOutput pao = new ProcessAndOutput(process);
+
+        Assert.assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+
+        AtomicLong position = new AtomicLong();
+        Assert.assertTrue(pao.nextOutput(position).endsWith("199999\n200000\n"));
+        Assert.assertEquals("", pao.nextOutput(position));
+    }
+
+    private static Process completedProcess() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder("java", "-version").redirectErrorStream(true).start();
+        process.getInputStream().readAllBytes();
+        process.waitFor();
+        return process;
+    }
+}
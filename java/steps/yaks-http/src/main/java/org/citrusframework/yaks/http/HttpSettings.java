@@ -78,6 +78,10 @@ public class HttpSettings {
     private static final String SERVER_PORT_ENV = HTTP_ENV_PREFIX + "SERVER_PORT";
     private static final String SERVER_PORT_DEFAULT = "8080";
 
+    private static final String SERVICE_PORT_FORWARD_PROPERTY = HTTP_PROPERTY_PREFIX + "service.port.forward";
+    private static final String SERVICE_PORT_FORWARD_ENV = HTTP_ENV_PREFIX + "SERVICE_PORT_FORWARD";
+    private static final String SERVICE_PORT_FORWARD_DEFAULT = "false";
+
     private static final String SECURE_PORT_PROPERTY = HTTP_PROPERTY_PREFIX + "secure.port";
     private static final String SECURE_PORT_ENV = HTTP_ENV_PREFIX + "SECURE_PORT";
     private static final String SECURE_PORT_DEFAULT = "8443";
@@ -320,4 +324,14 @@ public class HttpSettings {
                 System.getenv(SERVER_AUTH_PASSWORD_ENV) != null ? System.getenv(SERVER_AUTH_PASSWORD_ENV) :
                         getAuthPassword());
     }
+
+    /**
+     * When set to true service URLs resolve to a local port-forward to the service, so tests running outside
+     * of the cluster are able to connect to cluster services.
+     * @return
+     */
+    public static boolean isServicePortForward() {
+        return Boolean.parseBoolean(System.getProperty(SERVICE_PORT_FORWARD_PROPERTY,
+                System.getenv(SERVICE_PORT_FORWARD_ENV) != null ? System.getenv(SERVICE_PORT_FORWARD_ENV) : SERVICE_PORT_FORWARD_DEFAULT));
+    }
 }
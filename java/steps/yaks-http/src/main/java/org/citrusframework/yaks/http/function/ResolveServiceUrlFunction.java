@@ -24,6 +24,7 @@ import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.functions.Function;
 import org.citrusframework.http.server.HttpServer;
 import org.citrusframework.yaks.YaksSettings;
+import org.citrusframework.yaks.http.HttpSettings;
 
 public class ResolveServiceUrlFunction implements Function {
 
@@ -61,8 +62,39 @@ public class ResolveServiceUrlFunction implements Function {
             }
 
             return String.format("%slocalhost%s", scheme, servicePort > 0 ? ":" + servicePort : "");
-        } else {
-            return String.format("%s%s.%s", scheme, serviceName, context.getVariable("YAKS_NAMESPACE"));
         }
+
+        String namespace = context.getVariable("YAKS_NAMESPACE");
+        if (HttpSettings.isServicePortForward()) {
+            String forwarded = resolveForwarded(serviceName, namespace, servicePort, secure, context);
+            if (forwarded != null) {
+                return forwarded;
+            }
+        }
+
+        return String.format("%s%s.%s", scheme, serviceName, namespace);
+    }
+
+    /**
+     * Resolves the service URL with the registered service URL resolvers. Returns null when no resolver
+     * is able to resolve the service.
+     * @param serviceName
+     * @param namespace
+     * @param servicePort
+     * @param secure
+     * @param context
+     * @return
+     */
+    private String resolveForwarded(String serviceName, String namespace, int servicePort, boolean secure, TestContext context) {
+        synchronized (ServiceUrlResolver.SERVICE_LOADER) {
+            for (ServiceUrlResolver resolver : ServiceUrlResolver.SERVICE_LOADER) {
+                String url = resolver.resolve(serviceName, namespace, servicePort, secure, context);
+                if (url != null) {
+                    return url;
+                }
+            }
+        }
+
+        return null;
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.function;
+
+import java.util.ServiceLoader;
+
+import org.citrusframework.context.TestContext;
+
+/**
+ * Resolves the URL of a cluster service when tests run outside of the cluster. Implementations provide a local
+ * address that bridges to the service (e.g. a port-forward to one of the service pods). Implementations are loaded
+ * via service loader and used by the resolve service URL function when service port forwarding is enabled.
+ */
+public interface ServiceUrlResolver {
+
+    /** Service loader for all registered resolvers */
+    ServiceLoader<ServiceUrlResolver> SERVICE_LOADER = ServiceLoader.load(ServiceUrlResolver.class);
+
+    /**
+     * Resolves the URL of given service. Returns null when this resolver is not able to resolve the service.
+     * @param serviceName
+     * @param namespace
+     * @param servicePort the service port or 0 to use the first port of the service.
+     * @param secure
+     * @param context
+     * @return
+     */
+    String resolve(String serviceName, String namespace, int servicePort, boolean secure, TestContext context);
+}
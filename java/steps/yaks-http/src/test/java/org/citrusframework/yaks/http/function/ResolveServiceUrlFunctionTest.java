@@ -71,6 +71,22 @@ public class ResolveServiceUrlFunctionTest {
         }
     }
 
+    @Test
+    public void shouldResolveForwardedService() {
+        try {
+            System.setProperty("yaks.http.service.port.forward", "true");
+            TestContext context = TestContextFactory.newInstance().getObject();
+
+            context.setVariable("YAKS_NAMESPACE", "default");
+
+            Assert.assertEquals("http://localhost:10080", function.execute(Collections.singletonList("forwarded-service"), context));
+            Assert.assertEquals("https://localhost:18443", function.execute(Arrays.asList("forwarded-service", "8443", "TRUE"), context));
+            Assert.assertEquals("http://test-service.default", function.execute(Collections.singletonList("test-service"), context));
+        } finally {
+            System.clearProperty("yaks.http.service.port.forward");
+        }
+    }
+
     @Test
     public void shouldResolve() {
         Assert.assertNotNull(new DefaultFunctionLibrary().getFunction("resolveURL"));
@@ -0,0 +1,34 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.http.function;
+
+import org.citrusframework.context.TestContext;
+
+/**
+ * Resolver used in tests. Resolves services named "forwarded-service" only.
+ */
+public class StubServiceUrlResolver implements ServiceUrlResolver {
+
+    @Override
+    public String resolve(String serviceName, String namespace, int servicePort, boolean secure, TestContext context) {
+        if (!"forwarded-service".equals(serviceName)) {
+            return null;
+        }
+
+        return String.format("%s://localhost:%d", secure ? "https" : "http", servicePort > 0 ? 10000 + servicePort : 10080);
+    }
+}
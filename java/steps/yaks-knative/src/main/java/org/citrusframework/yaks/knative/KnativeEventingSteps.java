@@ -20,17 +20,18 @@ import org.citrusframework.Citrus;
 import org.citrusframework.TestCaseRunner;
 import org.citrusframework.annotations.CitrusFramework;
 import org.citrusframework.annotations.CitrusResource;
+import org.citrusframework.context.TestContext;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.fabric8.knative.client.KnativeClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 
 import static org.citrusframework.actions.CreateVariablesAction.Builder.createVariable;
-import static org.citrusframework.container.FinallySequence.Builder.doFinally;
-import static org.citrusframework.container.RepeatOnErrorUntilTrue.Builder.repeatOnError;
 import static org.citrusframework.yaks.knative.actions.KnativeActionBuilder.knative;
 
 /**
@@ -41,6 +42,9 @@ public class KnativeEventingSteps {
     @CitrusResource
     private TestCaseRunner runner;
 
+    @CitrusResource
+    private TestContext context;
+
     @CitrusFramework
     private Citrus citrus;
 
@@ -78,10 +82,11 @@ public class KnativeEventingSteps {
                 .create(brokerName));
 
         if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    knative().client(k8sClient).client(knativeClient)
                             .brokers()
-                            .delete(brokerName)));
+                            .delete(brokerName),
+                    brokerKinds());
         }
     }
 
@@ -94,12 +99,11 @@ public class KnativeEventingSteps {
 
     @Given("^Knative broker ([^\\s]+) is running$")
     public void verifyBrokerIsRunning(String brokerName) {
-        runner.then(repeatOnError()
-            .autoSleep(500)
-            .until((i, context) -> i == 10)
-            .actions(knative().client(k8sClient).client(knativeClient)
-                    .brokers()
-                    .verify(brokerName)));
+        runner.then(knative().client(k8sClient).client(knativeClient)
+                .brokers()
+                .verify(brokerName)
+                .maxAttempts(10)
+                .delayBetweenAttempts(500));
     }
 
     @Given("^create Knative trigger ([^\\s]+) on service ([^\\s]+)$")
@@ -110,10 +114,11 @@ public class KnativeEventingSteps {
                 .onService(serviceName));
 
         if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    knative().client(k8sClient).client(knativeClient)
                             .trigger()
-                            .delete(triggerName)));
+                            .delete(triggerName),
+                    KnativeSupport.knativeCRDContext("eventing", "triggers", KnativeSupport.knativeApiVersion()));
         }
     }
 
@@ -126,10 +131,11 @@ public class KnativeEventingSteps {
                 .filter(filterAttributes.asMap(String.class, String.class)));
 
         if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    knative().client(k8sClient).client(knativeClient)
                             .trigger()
-                            .delete(triggerName)));
+                            .delete(triggerName),
+                    KnativeSupport.knativeCRDContext("eventing", "triggers", KnativeSupport.knativeApiVersion()));
         }
     }
 
@@ -141,10 +147,11 @@ public class KnativeEventingSteps {
                 .onChannel(channelName));
 
         if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    knative().client(k8sClient).client(knativeClient)
                             .trigger()
-                            .delete(triggerName)));
+                            .delete(triggerName),
+                    KnativeSupport.knativeCRDContext("eventing", "triggers", KnativeSupport.knativeApiVersion()));
         }
     }
 
@@ -157,10 +164,11 @@ public class KnativeEventingSteps {
                 .filter(filterAttributes.asMap(String.class, String.class)));
 
         if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    knative().client(k8sClient).client(knativeClient)
                             .trigger()
-                            .delete(triggerName)));
+                            .delete(triggerName),
+                    KnativeSupport.knativeCRDContext("eventing", "triggers", KnativeSupport.knativeApiVersion()));
         }
     }
 
@@ -178,4 +186,16 @@ public class KnativeEventingSteps {
         runner.run(createVariable(KnativeVariableNames.BROKER_NAME.value(), brokerName));
     }
 
+    /**
+     * Local brokers are Http servers running in the test so these must be removed with the delete broker action.
+     * @return
+     */
+    private ResourceDefinitionContext[] brokerKinds() {
+        if (YaksSettings.isLocal(KnativeSupport.clusterType(context))) {
+            return new ResourceDefinitionContext[0];
+        }
+
+        return new ResourceDefinitionContext[] {
+                KnativeSupport.knativeCRDContext("eventing", "brokers", KnativeSupport.knativeApiVersion()) };
+    }
 }
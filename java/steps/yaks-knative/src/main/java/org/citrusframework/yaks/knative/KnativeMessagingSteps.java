@@ -20,6 +20,7 @@ import org.citrusframework.Citrus;
 import org.citrusframework.TestCaseRunner;
 import org.citrusframework.annotations.CitrusFramework;
 import org.citrusframework.annotations.CitrusResource;
+import org.citrusframework.context.TestContext;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
@@ -27,7 +28,6 @@ import io.fabric8.knative.client.KnativeClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 
-import static org.citrusframework.container.FinallySequence.Builder.doFinally;
 import static org.citrusframework.yaks.knative.actions.KnativeActionBuilder.knative;
 
 /**
@@ -38,6 +38,9 @@ public class KnativeMessagingSteps {
     @CitrusResource
     private TestCaseRunner runner;
 
+    @CitrusResource
+    private TestContext context;
+
     @CitrusFramework
     private Citrus citrus;
 
@@ -62,10 +65,11 @@ public class KnativeMessagingSteps {
                 .create(channelName));
 
         if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    knative().client(k8sClient).client(knativeClient)
                             .channels()
-                            .delete(channelName)));
+                            .delete(channelName),
+                    KnativeSupport.knativeCRDContext("messaging", "channels", KnativeSupport.knativeApiVersion()));
         }
     }
 
@@ -85,10 +89,11 @@ public class KnativeMessagingSteps {
                 .service(serviceName));
 
         if (KnativeSteps.autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(knative().client(k8sClient).client(knativeClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    knative().client(k8sClient).client(knativeClient)
                             .subscriptions()
-                            .delete(serviceName + "-subscription")));
+                            .delete(serviceName + "-subscription"),
+                    KnativeSupport.knativeCRDContext("messaging", "subscriptions", KnativeSupport.knativeApiVersion()));
         }
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.knative;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.citrusframework.yaks.kubernetes.client.MockResourceDefinitions;
+
+/**
+ * Registers Knative eventing and messaging custom resources on the embedded Kubernetes mock cluster.
+ */
+public class KnativeMockResourceDefinitions implements MockResourceDefinitions {
+
+    @Override
+    public List<CustomResourceDefinitionContext> getCustomResources() {
+        String version = KnativeSupport.knativeApiVersion();
+        return Arrays.asList(
+                KnativeSupport.knativeCRDContext("eventing", "brokers", version),
+                KnativeSupport.knativeCRDContext("eventing", "triggers", version),
+                KnativeSupport.knativeCRDContext("messaging", "channels", version),
+                KnativeSupport.knativeCRDContext("messaging", "inmemorychannels", version),
+                KnativeSupport.knativeCRDContext("messaging", "subscriptions", version));
+    }
+}
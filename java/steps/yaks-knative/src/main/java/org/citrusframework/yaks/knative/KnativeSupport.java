@@ -17,9 +17,12 @@
 package org.citrusframework.yaks.knative;
 
 import org.citrusframework.Citrus;
-import io.fabric8.knative.client.DefaultKnativeClient;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.yaks.YaksClusterType;
+import org.citrusframework.yaks.YaksSettings;
 import io.fabric8.knative.client.KnativeClient;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
 
 /**
  * @author Christoph Deppisch
@@ -34,7 +37,7 @@ public final class KnativeSupport {
         if (citrus.getCitrusContext().getReferenceResolver().resolveAll(KnativeClient.class).size() == 1L) {
             return citrus.getCitrusContext().getReferenceResolver().resolve(KnativeClient.class);
         } else {
-            return new DefaultKnativeClient();
+            return KubernetesSupport.getManagedClient().adapt(KnativeClient.class);
         }
     }
 
@@ -48,6 +51,25 @@ public final class KnativeSupport {
                 .build();
     }
 
+    /**
+     * Gets the cluster type from the test variables. Falls back to the cluster type setting.
+     * @param context
+     * @return
+     */
+    public static YaksClusterType clusterType(TestContext context) {
+        if (context.getVariables().containsKey(KnativeVariableNames.CLUSTER_TYPE.value())) {
+            Object clusterType = context.getVariableObject(KnativeVariableNames.CLUSTER_TYPE.value());
+
+            if (clusterType instanceof YaksClusterType) {
+                return (YaksClusterType) clusterType;
+            } else {
+                return YaksClusterType.valueOf(clusterType.toString());
+            }
+        }
+
+        return YaksSettings.getClusterType();
+    }
+
     public static String knativeApiVersion() {
         return KnativeSettings.getApiVersion();
     }
@@ -21,8 +21,8 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import org.citrusframework.TestAction;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.yaks.YaksClusterType;
-import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.knative.KnativeSettings;
+import org.citrusframework.yaks.knative.KnativeSupport;
 import org.citrusframework.yaks.knative.KnativeVariableNames;
 
 /**
@@ -84,17 +84,7 @@ public interface KnativeAction extends TestAction {
      * @return
      */
     default YaksClusterType clusterType(TestContext context) {
-        if (context.getVariables().containsKey(KnativeVariableNames.CLUSTER_TYPE.value())) {
-            Object clusterType = context.getVariableObject(KnativeVariableNames.CLUSTER_TYPE.value());
-
-            if (clusterType instanceof YaksClusterType) {
-                return (YaksClusterType) clusterType;
-            } else {
-                return YaksClusterType.valueOf(clusterType.toString());
-            }
-        }
-
-        return YaksSettings.getClusterType();
+        return KnativeSupport.clusterType(context);
     }
 }
 
@@ -18,7 +18,6 @@ package org.citrusframework.yaks.knative.actions.eventing;
 
 import io.fabric8.knative.eventing.v1.Broker;
 import io.fabric8.knative.eventing.v1.BrokerBuilder;
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.http.server.HttpServer;
 import org.citrusframework.http.server.HttpServerBuilder;
@@ -27,6 +26,8 @@ import org.citrusframework.yaks.knative.KnativeSettings;
 import org.citrusframework.yaks.knative.KnativeSupport;
 import org.citrusframework.yaks.knative.KnativeVariableNames;
 import org.citrusframework.yaks.knative.actions.AbstractKnativeAction;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 
 /**
  * @author Christoph Deppisch
@@ -83,13 +84,12 @@ public class CreateBrokerAction extends AbstractKnativeAction {
                 .withNamespace(namespace(context))
                 .withName(context.replaceDynamicContentInString(brokerName))
                 .withLabels(KnativeSettings.getDefaultLabels())
+                .addToLabels(KubernetesSupport.getTeardownLabels(context))
                 .endMetadata()
                 .build();
 
-        getKnativeClient().brokers()
-                .inNamespace(namespace(context))
-                .resource(broker)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(getKnativeClient().brokers()
+                .inNamespace(namespace(context)), broker);
     }
 
     /**
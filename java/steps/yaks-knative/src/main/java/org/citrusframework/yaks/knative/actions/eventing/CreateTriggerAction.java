@@ -19,7 +19,6 @@ package org.citrusframework.yaks.knative.actions.eventing;
 import java.util.HashMap;
 import java.util.Map;
 
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.citrusframework.context.TestContext;
 import io.fabric8.knative.eventing.v1.Trigger;
 import io.fabric8.knative.eventing.v1.TriggerBuilder;
@@ -28,6 +27,8 @@ import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.knative.KnativeSettings;
 import org.citrusframework.yaks.knative.KnativeSupport;
 import org.citrusframework.yaks.knative.actions.AbstractKnativeAction;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 
 /**
  * @author Christoph Deppisch
@@ -64,14 +65,13 @@ public class CreateTriggerAction extends AbstractKnativeAction {
                     .withNamespace(namespace(context))
                     .withName(context.replaceDynamicContentInString(triggerName))
                     .withLabels(KnativeSettings.getDefaultLabels())
+                    .addToLabels(KubernetesSupport.getTeardownLabels(context))
                 .endMetadata()
                 .withSpec(triggerSpec.build())
                 .build();
 
-        getKnativeClient().triggers()
-                .inNamespace(namespace(context))
-                .resource(trigger)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(getKnativeClient().triggers()
+                .inNamespace(namespace(context)), trigger);
     }
 
     private void addFilterOnAttributes(TriggerSpecBuilder triggerSpec, TestContext context) {
@@ -16,6 +16,8 @@
 
 package org.citrusframework.yaks.knative.actions.eventing;
 
+import java.util.Optional;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ValidationException;
 import io.fabric8.knative.eventing.v1.Broker;
@@ -23,6 +25,10 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import org.citrusframework.http.server.HttpServer;
 import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.knative.actions.AbstractKnativeAction;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategy;
 
 /**
  * @author Christoph Deppisch
@@ -31,10 +37,15 @@ public class VerifyBrokerAction extends AbstractKnativeAction {
 
     private final String brokerName;
 
+    private final WaitStrategy waitStrategy;
+
     public VerifyBrokerAction(Builder builder) {
         super("verify-broker", builder);
 
         this.brokerName = builder.brokerName;
+        this.waitStrategy = WaitStrategies.polling(Optional.ofNullable(builder.waitStrategy)
+                .orElseGet(() -> WaitStrategies.create(builder.waitStrategyName, builder.maxAttempts, builder.delayBetweenAttempts)),
+                builder.maxAttempts, builder.delayBetweenAttempts);
     }
 
     @Override
@@ -46,15 +57,28 @@ public class VerifyBrokerAction extends AbstractKnativeAction {
         }
     }
 
+    /**
+     * Waits for the local broker server to be resolvable and running. Both conditions are checked in one wait,
+     * so the verification never exceeds the timeout of the wait strategy.
+     * @param context
+     */
     private void verifyLocalBroker(TestContext context) {
         String resolvedBrokerName = context.replaceDynamicContentInString(brokerName);
 
-        if (!context.getReferenceResolver().isResolvable(resolvedBrokerName, HttpServer.class)) {
-            throw new ValidationException(String.format("Knative broker '%s' not found", brokerName));
-        }
+        WaitResult<HttpServer> result = waitStrategy.waitFor(String.format("Knative broker '%s' to be ready", brokerName), () -> {
+            if (!context.getReferenceResolver().isResolvable(resolvedBrokerName, HttpServer.class)) {
+                return null;
+            }
+
+            HttpServer brokerServer = context.getReferenceResolver().resolve(resolvedBrokerName, HttpServer.class);
+            return brokerServer.isRunning() ? brokerServer : null;
+        });
+
+        if (!result.isSatisfied()) {
+            if (!context.getReferenceResolver().isResolvable(resolvedBrokerName, HttpServer.class)) {
+                throw new ValidationException(String.format("Knative broker '%s' not found", brokerName));
+            }
 
-        HttpServer brokerServer = context.getReferenceResolver().resolve(resolvedBrokerName, HttpServer.class);
-        if (!brokerServer.isRunning()) {
             throw new ValidationException(String.format("Knative broker '%s' is not ready", brokerName));
         }
 
@@ -63,16 +87,24 @@ public class VerifyBrokerAction extends AbstractKnativeAction {
 
     private void verifyBroker(TestContext context) {
         try {
-            Broker broker = getKnativeClient().brokers()
-                    .inNamespace(namespace(context))
-                    .withName(brokerName)
-                    .get();
-
-            if (broker.getStatus() != null &&
-                    broker.getStatus().getConditions() != null &&
-                    broker.getStatus().getConditions().stream()
-                            .anyMatch(condition -> condition.getType().equals("Ready") &&
-                                    condition.getStatus().equalsIgnoreCase("True"))) {
+            WaitResult<Broker> result = waitStrategy.waitFor(String.format("Knative broker '%s' to be ready", brokerName), () -> {
+                Broker broker = getKnativeClient().brokers()
+                        .inNamespace(namespace(context))
+                        .withName(brokerName)
+                        .get();
+
+                if (broker != null && broker.getStatus() != null &&
+                        broker.getStatus().getConditions() != null &&
+                        broker.getStatus().getConditions().stream()
+                                .anyMatch(condition -> condition.getType().equals("Ready") &&
+                                        condition.getStatus().equalsIgnoreCase("True"))) {
+                    return broker;
+                }
+
+                return null;
+            });
+
+            if (result.isSatisfied()) {
                 LOG.info(String.format("Knative broker %s is ready", brokerName));
             } else {
                 throw new ValidationException(String.format("Knative broker '%s' is not ready", brokerName));
@@ -90,11 +122,37 @@ public class VerifyBrokerAction extends AbstractKnativeAction {
 
         private String brokerName;
 
+        private int maxAttempts = KubernetesSettings.getMaxAttempts();
+        private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
+
+        private String waitStrategyName = KubernetesSettings.getWaitStrategy();
+        private WaitStrategy waitStrategy;
+
         public Builder name(String brokerName) {
             this.brokerName = brokerName;
             return this;
         }
 
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder delayBetweenAttempts(long delayBetweenAttempts) {
+            this.delayBetweenAttempts = delayBetweenAttempts;
+            return this;
+        }
+
+        public Builder waitStrategy(String waitStrategyName) {
+            this.waitStrategyName = waitStrategyName;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
         @Override
         public VerifyBrokerAction build() {
             return new VerifyBrokerAction(this);
@@ -16,13 +16,14 @@
 
 package org.citrusframework.yaks.knative.actions.messaging;
 
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.citrusframework.context.TestContext;
 import io.fabric8.knative.messaging.v1.Channel;
 import io.fabric8.knative.messaging.v1.ChannelBuilder;
 import org.citrusframework.yaks.knative.KnativeSettings;
 import org.citrusframework.yaks.knative.KnativeSupport;
 import org.citrusframework.yaks.knative.actions.AbstractKnativeAction;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 
 /**
  * @author Christoph Deppisch
@@ -45,13 +46,12 @@ public class CreateChannelAction extends AbstractKnativeAction {
                 .withNamespace(namespace(context))
                 .withName(context.replaceDynamicContentInString(channelName))
                 .withLabels(KnativeSettings.getDefaultLabels())
+                .addToLabels(KubernetesSupport.getTeardownLabels(context))
             .endMetadata()
             .build();
 
-        getKnativeClient().channels()
-                .inNamespace(namespace(context))
-                .resource(channel)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(getKnativeClient().channels()
+                .inNamespace(namespace(context)), channel);
     }
 
     /**
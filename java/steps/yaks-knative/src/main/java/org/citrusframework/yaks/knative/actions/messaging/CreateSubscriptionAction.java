@@ -16,7 +16,6 @@
 
 package org.citrusframework.yaks.knative.actions.messaging;
 
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.citrusframework.context.TestContext;
 import io.fabric8.knative.internal.pkg.apis.duck.v1.KReferenceBuilder;
 import io.fabric8.knative.messaging.v1.Subscription;
@@ -24,6 +23,8 @@ import io.fabric8.knative.messaging.v1.SubscriptionBuilder;
 import org.citrusframework.yaks.knative.KnativeSettings;
 import org.citrusframework.yaks.knative.KnativeSupport;
 import org.citrusframework.yaks.knative.actions.AbstractKnativeAction;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 
 /**
  * @author Christoph Deppisch
@@ -50,6 +51,7 @@ public class CreateSubscriptionAction extends AbstractKnativeAction {
                     .withNamespace(namespace(context))
                     .withName(context.replaceDynamicContentInString(subscriptionName))
                     .withLabels(KnativeSettings.getDefaultLabels())
+                    .addToLabels(KubernetesSupport.getTeardownLabels(context))
                 .endMetadata()
                 .withNewSpec()
                     .withChannel(new KReferenceBuilder()
@@ -67,10 +69,8 @@ public class CreateSubscriptionAction extends AbstractKnativeAction {
                 .endSpec()
                 .build();
 
-        getKnativeClient().subscriptions()
-                .inNamespace(namespace(context))
-                .resource(subscription)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(getKnativeClient().subscriptions()
+                .inNamespace(namespace(context)), subscription);
     }
 
     /**
@@ -0,0 +1,98 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.mock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.client.MockCluster;
+import org.citrusframework.yaks.kubernetes.client.MockResourceDefinitions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Embedded in-process Kubernetes API server stand-in used with the mock cluster type. Starts a CRUD mode mock server on
+ * first access that stores all resources in memory and supports create, get, list, patch, delete and watch operations.
+ * Custom resources provided by registered {@link MockResourceDefinitions} are served as well.
+ *
+ * No controllers or operators run on the mock cluster, so resources never change their status on their own.
+ * The cluster is registered via service loader and used by the Kubernetes client registry when the mock cluster type is set.
+ */
+public final class MockKubernetesCluster implements MockCluster {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(MockKubernetesCluster.class);
+
+    private KubernetesMockServer server;
+
+    @Override
+    public synchronized Config getConfig() {
+        if (server == null) {
+            start();
+        }
+
+        return new ConfigBuilder(Config.empty())
+                .withMasterUrl(server.url("/"))
+                .withTrustCerts(true)
+                .withHttp2Disable(true)
+                .withNamespace(KubernetesSettings.getNamespace())
+                .build();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+
+        try {
+            server.destroy();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to stop Kubernetes mock cluster", e);
+        } finally {
+            server = null;
+        }
+    }
+
+    private void start() {
+        List<CustomResourceDefinitionContext> customResources = new ArrayList<>();
+        synchronized (MockResourceDefinitions.SERVICE_LOADER) {
+            MockResourceDefinitions.SERVICE_LOADER.forEach(definitions -> customResources.addAll(definitions.getCustomResources()));
+        }
+
+        server = new KubernetesMockServer(new Context(), new MockWebServer(), new HashMap<>(),
+                new KubernetesCrudDispatcher(customResources), false);
+        server.init();
+
+        LOG.info(String.format("Started Kubernetes mock cluster on %s with %d custom resource definitions",
+                server.url("/"), customResources.size()));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.mock;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import org.citrusframework.yaks.kubernetes.client.KubernetesClientRegistry;
+import org.citrusframework.yaks.kubernetes.client.MockCluster;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MockKubernetesClusterTest {
+
+    private static final String CLUSTER_TYPE_PROPERTY = "yaks.cluster.type";
+
+    private final MockCluster cluster = MockCluster.lookup().orElseThrow();
+
+    @Before
+    public void setup() {
+        System.setProperty(CLUSTER_TYPE_PROPERTY, "mock");
+    }
+
+    @After
+    public void cleanup() {
+        KubernetesClientRegistry.getInstance().close();
+        cluster.close();
+        System.clearProperty(CLUSTER_TYPE_PROPERTY);
+    }
+
+    @Test
+    public void shouldRegisterMockCluster() {
+        Assert.assertTrue(cluster instanceof MockKubernetesCluster);
+    }
+
+    @Test
+    public void shouldConnectToMockCluster() {
+        KubernetesClient client = KubernetesClientRegistry.getInstance().getClient();
+        Assert.assertTrue(cluster.isRunning());
+
+        client.pods().inNamespace("test").resource(new PodBuilder()
+                .withNewMetadata()
+                    .withName("foo")
+                .endMetadata()
+                .build())
+                .create();
+
+        Assert.assertNotNull(client.pods().inNamespace("test").withName("foo").get());
+        Assert.assertEquals(1, client.pods().inNamespace("test").list().getItems().size());
+
+        cluster.close();
+        Assert.assertFalse(cluster.isRunning());
+    }
+}
@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.citrusframework.yaks.kubernetes.mock","c":"MockKubernetesCluster","l":"close()"},{"p":"org.citrusframework.yaks.kubernetes.mock","c":"MockKubernetesCluster","l":"getConfig()"},{"p":"org.citrusframework.yaks.kubernetes.mock","c":"MockKubernetesCluster","l":"isRunning()"},{"p":"org.citrusframework.yaks.kubernetes.mock","c":"MockKubernetesCluster","l":"MockKubernetesCluster()","u":"%3Cinit%3E()"}];updateSearchResults();
\ No newline at end of file
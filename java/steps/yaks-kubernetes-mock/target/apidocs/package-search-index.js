@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"org.citrusframework.yaks.kubernetes.mock"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.citrusframework.yaks.kubernetes.mock","l":"MockKubernetesCluster"}];updateSearchResults();
\ No newline at end of file
@@ -16,11 +16,16 @@
 
 package org.citrusframework.yaks.kubernetes;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.citrusframework.yaks.YaksSettings;
+import org.citrusframework.yaks.kubernetes.apply.ApplyMode;
 import org.springframework.util.StringUtils;
 
 /**
@@ -66,6 +71,36 @@ public class KubernetesSettings {
     private static final String DELAY_BETWEEN_ATTEMPTS_ENV = KUBERNETES_ENV_PREFIX + "DELAY_BETWEEN_ATTEMPTS";
     private static final String DELAY_BETWEEN_ATTEMPTS_DEFAULT = "2000";
 
+    private static final String WATCH_RESOURCES_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "watch.resources";
+    private static final String WATCH_RESOURCES_ENV = KUBERNETES_ENV_PREFIX + "WATCH_RESOURCES";
+    private static final String WATCH_RESOURCES_DEFAULT = "true";
+
+    private static final String WAIT_STRATEGY_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "wait.strategy";
+    private static final String WAIT_STRATEGY_ENV = KUBERNETES_ENV_PREFIX + "WAIT_STRATEGY";
+
+    private static final String WAIT_INITIAL_DELAY_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "wait.initial.delay";
+    private static final String WAIT_INITIAL_DELAY_ENV = KUBERNETES_ENV_PREFIX + "WAIT_INITIAL_DELAY";
+    private static final String WAIT_INITIAL_DELAY_DEFAULT = "100";
+
+    private static final String WAIT_MAX_DELAY_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "wait.max.delay";
+    private static final String WAIT_MAX_DELAY_ENV = KUBERNETES_ENV_PREFIX + "WAIT_MAX_DELAY";
+    private static final String WAIT_MAX_DELAY_DEFAULT = "0";
+
+    private static final String WAIT_MULTIPLIER_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "wait.multiplier";
+    private static final String WAIT_MULTIPLIER_ENV = KUBERNETES_ENV_PREFIX + "WAIT_MULTIPLIER";
+    private static final String WAIT_MULTIPLIER_DEFAULT = "2.0";
+
+    private static final String WAIT_JITTER_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "wait.jitter";
+    private static final String WAIT_JITTER_ENV = KUBERNETES_ENV_PREFIX + "WAIT_JITTER";
+    private static final String WAIT_JITTER_DEFAULT = "0.2";
+
+    private static final String FATAL_EVENT_REASONS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "fatal.event.reasons";
+    private static final String FATAL_EVENT_REASONS_ENV = KUBERNETES_ENV_PREFIX + "FATAL_EVENT_REASONS";
+    private static final String FATAL_EVENT_REASONS_DEFAULT = "CrashLoopBackOff,ImagePullBackOff,InvalidImageName";
+
+    private static final String KUBE_CONTEXT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "context";
+    private static final String KUBE_CONTEXT_ENV = KUBERNETES_ENV_PREFIX + "CONTEXT";
+
     private static final String PRINT_POD_LOGS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "print.pod.logs";
     private static final String PRINT_POD_LOGS_ENV = KUBERNETES_ENV_PREFIX + "PRINT_POD_LOGS";
     private static final String PRINT_POD_LOGS_DEFAULT = "true";
@@ -74,6 +109,65 @@ public class KubernetesSettings {
     private static final String WATCH_LOGS_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "WATCH_LOGS_TIMEOUT";
     private static final String WATCH_LOGS_TIMEOUT_DEFAULT = "60000";
 
+    private static final String CAPTURE_POD_LOGS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "capture.pod.logs";
+    private static final String CAPTURE_POD_LOGS_ENV = KUBERNETES_ENV_PREFIX + "CAPTURE_POD_LOGS";
+    private static final String CAPTURE_POD_LOGS_DEFAULT = "false";
+
+    private static final String CAPTURE_POD_LOGS_BUFFER_SIZE_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "capture.pod.logs.buffer.size";
+    private static final String CAPTURE_POD_LOGS_BUFFER_SIZE_ENV = KUBERNETES_ENV_PREFIX + "CAPTURE_POD_LOGS_BUFFER_SIZE";
+    private static final String CAPTURE_POD_LOGS_BUFFER_SIZE_DEFAULT = "262144";
+
+    private static final String CAPTURE_POD_LOGS_SPILL_DIR_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "capture.pod.logs.spill.dir";
+    private static final String CAPTURE_POD_LOGS_SPILL_DIR_ENV = KUBERNETES_ENV_PREFIX + "CAPTURE_POD_LOGS_SPILL_DIR";
+
+    private static final String CAPTURE_POD_LOGS_DIR_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "capture.pod.logs.dir";
+    private static final String CAPTURE_POD_LOGS_DIR_ENV = KUBERNETES_ENV_PREFIX + "CAPTURE_POD_LOGS_DIR";
+    private static final String CAPTURE_POD_LOGS_DIR_DEFAULT = "target/yaks-pod-logs";
+
+    private static final String NAMESPACE_POOL_SIZE_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.size";
+    private static final String NAMESPACE_POOL_SIZE_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_SIZE";
+    private static final String NAMESPACE_POOL_SIZE_DEFAULT = "3";
+
+    private static final String NAMESPACE_POOL_PREFIX_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.prefix";
+    private static final String NAMESPACE_POOL_PREFIX_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_PREFIX";
+    private static final String NAMESPACE_POOL_PREFIX_DEFAULT = "yaks-pool";
+
+    private static final String NAMESPACE_POOL_WIPE_POLICY_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.wipe.policy";
+    private static final String NAMESPACE_POOL_WIPE_POLICY_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_WIPE_POLICY";
+    private static final String NAMESPACE_POOL_WIPE_POLICY_DEFAULT = "labeled";
+
+    private static final String NAMESPACE_POOL_LEASE_TIMEOUT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "namespace.pool.lease.timeout";
+    private static final String NAMESPACE_POOL_LEASE_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "NAMESPACE_POOL_LEASE_TIMEOUT";
+    private static final String NAMESPACE_POOL_LEASE_TIMEOUT_DEFAULT = "120000";
+
+    private static final String TEARDOWN_LABELED_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "teardown.labeled";
+    private static final String TEARDOWN_LABELED_ENV = KUBERNETES_ENV_PREFIX + "TEARDOWN_LABELED";
+    private static final String TEARDOWN_LABELED_DEFAULT = "false";
+
+    private static final String TEARDOWN_WAIT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "teardown.wait";
+    private static final String TEARDOWN_WAIT_ENV = KUBERNETES_ENV_PREFIX + "TEARDOWN_WAIT";
+    private static final String TEARDOWN_WAIT_DEFAULT = "true";
+
+    private static final String TEARDOWN_TIMEOUT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "teardown.timeout";
+    private static final String TEARDOWN_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "TEARDOWN_TIMEOUT";
+    private static final String TEARDOWN_TIMEOUT_DEFAULT = "60000";
+
+    private static final String TEMPLATE_CONCURRENCY_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "template.concurrency";
+    private static final String TEMPLATE_CONCURRENCY_ENV = KUBERNETES_ENV_PREFIX + "TEMPLATE_CONCURRENCY";
+    private static final String TEMPLATE_CONCURRENCY_DEFAULT = "10";
+
+    private static final String APPLY_MODE_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "apply.mode";
+    private static final String APPLY_MODE_ENV = KUBERNETES_ENV_PREFIX + "APPLY_MODE";
+    private static final String APPLY_MODE_DEFAULT = ApplyMode.UPDATE.name();
+
+    private static final String APPLY_SKIP_UNCHANGED_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "apply.skip.unchanged";
+    private static final String APPLY_SKIP_UNCHANGED_ENV = KUBERNETES_ENV_PREFIX + "APPLY_SKIP_UNCHANGED";
+    private static final String APPLY_SKIP_UNCHANGED_DEFAULT = "true";
+
+    private static final String DATA_MAX_OBJECT_SIZE_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "data.max.object.size";
+    private static final String DATA_MAX_OBJECT_SIZE_ENV = KUBERNETES_ENV_PREFIX + "DATA_MAX_OBJECT_SIZE";
+    private static final String DATA_MAX_OBJECT_SIZE_DEFAULT = "1000000";
+
     private KubernetesSettings() {
         // prevent instantiation of utility class
     }
@@ -148,6 +242,87 @@ public class KubernetesSettings {
                 System.getenv(AUTO_REMOVE_RESOURCES_ENV) != null ? System.getenv(AUTO_REMOVE_RESOURCES_ENV) : AUTO_REMOVE_RESOURCES_DEFAULT));
     }
 
+    /**
+     * When set to true verification steps use a Kubernetes watch to wait for resource state changes
+     * instead of polling the resource state with a fixed delay between attempts.
+     * @return
+     */
+    public static boolean isWatchResources() {
+        return Boolean.parseBoolean(System.getProperty(WATCH_RESOURCES_PROPERTY,
+                System.getenv(WATCH_RESOURCES_ENV) != null ? System.getenv(WATCH_RESOURCES_ENV) : WATCH_RESOURCES_DEFAULT));
+    }
+
+    /**
+     * Wait strategy used by verification steps (fixed, exponential or watch). By default, uses the watch strategy
+     * when watching resources is enabled and the fixed delay strategy otherwise.
+     * @return
+     */
+    public static String getWaitStrategy() {
+        return System.getProperty(WAIT_STRATEGY_PROPERTY,
+                System.getenv(WAIT_STRATEGY_ENV) != null ? System.getenv(WAIT_STRATEGY_ENV) : (isWatchResources() ? "watch" : "fixed"));
+    }
+
+    /**
+     * Delay in milliseconds after the first attempt when using the exponential wait strategy.
+     * @return
+     */
+    public static long getWaitInitialDelay() {
+        return Long.parseLong(System.getProperty(WAIT_INITIAL_DELAY_PROPERTY,
+                System.getenv(WAIT_INITIAL_DELAY_ENV) != null ? System.getenv(WAIT_INITIAL_DELAY_ENV) : WAIT_INITIAL_DELAY_DEFAULT));
+    }
+
+    /**
+     * Maximum delay in milliseconds between attempts when using the exponential wait strategy.
+     * Value of zero uses the delay between attempts as maximum delay.
+     * @return
+     */
+    public static long getWaitMaxDelay() {
+        return Long.parseLong(System.getProperty(WAIT_MAX_DELAY_PROPERTY,
+                System.getenv(WAIT_MAX_DELAY_ENV) != null ? System.getenv(WAIT_MAX_DELAY_ENV) : WAIT_MAX_DELAY_DEFAULT));
+    }
+
+    /**
+     * Factor applied to the delay after each attempt when using the exponential wait strategy.
+     * @return
+     */
+    public static double getWaitMultiplier() {
+        return Double.parseDouble(System.getProperty(WAIT_MULTIPLIER_PROPERTY,
+                System.getenv(WAIT_MULTIPLIER_ENV) != null ? System.getenv(WAIT_MULTIPLIER_ENV) : WAIT_MULTIPLIER_DEFAULT));
+    }
+
+    /**
+     * Random deviation of the delay as fraction (e.g. 0.2 = +/-20%) when using the exponential wait strategy.
+     * @return
+     */
+    public static double getWaitJitter() {
+        return Double.parseDouble(System.getProperty(WAIT_JITTER_PROPERTY,
+                System.getenv(WAIT_JITTER_ENV) != null ? System.getenv(WAIT_JITTER_ENV) : WAIT_JITTER_DEFAULT));
+    }
+
+    /**
+     * Reasons of Kubernetes warning events and container waiting states that abort a running wait operation
+     * on a resource because the resource will not become ready. Empty list disables the fail-fast behavior.
+     * @return
+     */
+    public static Set<String> getFatalEventReasons() {
+        String reasons = System.getProperty(FATAL_EVENT_REASONS_PROPERTY,
+                System.getenv(FATAL_EVENT_REASONS_ENV) != null ? System.getenv(FATAL_EVENT_REASONS_ENV) : FATAL_EVENT_REASONS_DEFAULT);
+
+        return Arrays.stream(reasons.split(","))
+                .map(String::trim)
+                .filter(reason -> !reason.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Kubernetes config context used by the shared Kubernetes client.
+     * When not set the client uses the current context of the Kubernetes config.
+     * @return
+     */
+    public static String getKubeContext() {
+        return System.getProperty(KUBE_CONTEXT_PROPERTY, System.getenv(KUBE_CONTEXT_ENV));
+    }
+
     /**
      * When set to true test will print pod logs e.g. while waiting for a pod log message.
      * @return
@@ -183,4 +358,144 @@ public class KubernetesSettings {
         return Long.parseLong(System.getProperty(WATCH_LOGS_TIMEOUT_PROPERTY,
                 System.getenv(WATCH_LOGS_TIMEOUT_ENV) != null ? System.getenv(WATCH_LOGS_TIMEOUT_ENV) : WATCH_LOGS_TIMEOUT_DEFAULT));
     }
+
+    /**
+     * When set to true the logs of all pods labeled with the current test id are captured in the background
+     * and written only when a scenario fails.
+     * @return
+     */
+    public static boolean isCapturePodLogs() {
+        return Boolean.parseBoolean(System.getProperty(CAPTURE_POD_LOGS_PROPERTY,
+                System.getenv(CAPTURE_POD_LOGS_ENV) != null ? System.getenv(CAPTURE_POD_LOGS_ENV) : CAPTURE_POD_LOGS_DEFAULT));
+    }
+
+    /**
+     * Size in bytes of the log buffer kept for each captured pod container.
+     * @return
+     */
+    public static int getCapturePodLogsBufferSize() {
+        return Integer.parseInt(System.getProperty(CAPTURE_POD_LOGS_BUFFER_SIZE_PROPERTY,
+                System.getenv(CAPTURE_POD_LOGS_BUFFER_SIZE_ENV) != null ? System.getenv(CAPTURE_POD_LOGS_BUFFER_SIZE_ENV) : CAPTURE_POD_LOGS_BUFFER_SIZE_DEFAULT));
+    }
+
+    /**
+     * Optional directory for memory mapped spill files that back the captured log buffers. When not set the log buffers
+     * are kept on the heap.
+     * @return
+     */
+    public static String getCapturePodLogsSpillDir() {
+        return System.getProperty(CAPTURE_POD_LOGS_SPILL_DIR_PROPERTY, System.getenv(CAPTURE_POD_LOGS_SPILL_DIR_ENV));
+    }
+
+    /**
+     * Directory the captured pod logs are written to when a scenario fails.
+     * @return
+     */
+    public static String getCapturePodLogsDir() {
+        return System.getProperty(CAPTURE_POD_LOGS_DIR_PROPERTY,
+                System.getenv(CAPTURE_POD_LOGS_DIR_ENV) != null ? System.getenv(CAPTURE_POD_LOGS_DIR_ENV) : CAPTURE_POD_LOGS_DIR_DEFAULT);
+    }
+
+    /**
+     * Number of namespaces kept in the namespace pool.
+     * @return
+     */
+    public static int getNamespacePoolSize() {
+        return Integer.parseInt(System.getProperty(NAMESPACE_POOL_SIZE_PROPERTY,
+                System.getenv(NAMESPACE_POOL_SIZE_ENV) != null ? System.getenv(NAMESPACE_POOL_SIZE_ENV) : NAMESPACE_POOL_SIZE_DEFAULT));
+    }
+
+    /**
+     * Name prefix of the pooled namespaces.
+     * @return
+     */
+    public static String getNamespacePoolPrefix() {
+        return System.getProperty(NAMESPACE_POOL_PREFIX_PROPERTY,
+                System.getenv(NAMESPACE_POOL_PREFIX_ENV) != null ? System.getenv(NAMESPACE_POOL_PREFIX_ENV) : NAMESPACE_POOL_PREFIX_DEFAULT);
+    }
+
+    /**
+     * Policy used to clean up a pooled namespace when it is returned to the pool (labeled, recreate or none).
+     * @return
+     */
+    public static String getNamespacePoolWipePolicy() {
+        return System.getProperty(NAMESPACE_POOL_WIPE_POLICY_PROPERTY,
+                System.getenv(NAMESPACE_POOL_WIPE_POLICY_ENV) != null ? System.getenv(NAMESPACE_POOL_WIPE_POLICY_ENV) : NAMESPACE_POOL_WIPE_POLICY_DEFAULT);
+    }
+
+    /**
+     * Time in milliseconds to wait for a free namespace in the pool.
+     * @return
+     */
+    public static long getNamespacePoolLeaseTimeout() {
+        return Long.parseLong(System.getProperty(NAMESPACE_POOL_LEASE_TIMEOUT_PROPERTY,
+                System.getenv(NAMESPACE_POOL_LEASE_TIMEOUT_ENV) != null ? System.getenv(NAMESPACE_POOL_LEASE_TIMEOUT_ENV) : NAMESPACE_POOL_LEASE_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * When set to true auto removal deletes all resources created by a scenario with one label selector delete
+     * per resource kind instead of deleting each resource separately.
+     * @return
+     */
+    public static boolean isLabeledTeardown() {
+        return Boolean.parseBoolean(System.getProperty(TEARDOWN_LABELED_PROPERTY,
+                System.getenv(TEARDOWN_LABELED_ENV) != null ? System.getenv(TEARDOWN_LABELED_ENV) : TEARDOWN_LABELED_DEFAULT));
+    }
+
+    /**
+     * When set to true the labeled teardown waits for deleted resources to be gone (e.g. finalizers to complete).
+     * @return
+     */
+    public static boolean isTeardownWait() {
+        return Boolean.parseBoolean(System.getProperty(TEARDOWN_WAIT_PROPERTY,
+                System.getenv(TEARDOWN_WAIT_ENV) != null ? System.getenv(TEARDOWN_WAIT_ENV) : TEARDOWN_WAIT_DEFAULT));
+    }
+
+    /**
+     * Time in milliseconds the labeled teardown waits for deleted resources to be gone.
+     * @return
+     */
+    public static long getTeardownTimeout() {
+        return Long.parseLong(System.getProperty(TEARDOWN_TIMEOUT_PROPERTY,
+                System.getenv(TEARDOWN_TIMEOUT_ENV) != null ? System.getenv(TEARDOWN_TIMEOUT_ENV) : TEARDOWN_TIMEOUT_DEFAULT));
+    }
+
+    /**
+     * Maximum number of resources created in parallel when creating resources from a template.
+     * @return
+     */
+    public static int getTemplateConcurrency() {
+        return Integer.parseInt(System.getProperty(TEMPLATE_CONCURRENCY_PROPERTY,
+                System.getenv(TEMPLATE_CONCURRENCY_ENV) != null ? System.getenv(TEMPLATE_CONCURRENCY_ENV) : TEMPLATE_CONCURRENCY_DEFAULT));
+    }
+
+    /**
+     * Mode used to write resources to the cluster. One of "update" (full update of the live object) or
+     * "server_side" (server side apply with the YAKS field manager).
+     * @return
+     */
+    public static ApplyMode getApplyMode() {
+        return ApplyMode.valueOf(System.getProperty(APPLY_MODE_PROPERTY,
+                System.getenv(APPLY_MODE_ENV) != null ? System.getenv(APPLY_MODE_ENV) : APPLY_MODE_DEFAULT)
+                .replace("-", "_").toUpperCase(Locale.US));
+    }
+
+    /**
+     * When set to true resources are not written when the live object carries the same spec hash.
+     * @return
+     */
+    public static boolean isApplySkipUnchanged() {
+        return Boolean.parseBoolean(System.getProperty(APPLY_SKIP_UNCHANGED_PROPERTY,
+                System.getenv(APPLY_SKIP_UNCHANGED_ENV) != null ? System.getenv(APPLY_SKIP_UNCHANGED_ENV) : APPLY_SKIP_UNCHANGED_DEFAULT));
+    }
+
+    /**
+     * Maximum number of base64 encoded characters stored in a single secret or config map when creating data sets.
+     * Keeps the objects below the 1 MiB object size limit of the cluster.
+     * @return
+     */
+    public static int getDataMaxObjectSize() {
+        return Integer.parseInt(System.getProperty(DATA_MAX_OBJECT_SIZE_PROPERTY,
+                System.getenv(DATA_MAX_OBJECT_SIZE_ENV) != null ? System.getenv(DATA_MAX_OBJECT_SIZE_ENV) : DATA_MAX_OBJECT_SIZE_DEFAULT));
+    }
 }
@@ -16,43 +16,65 @@
 
 package org.citrusframework.yaks.kubernetes;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import io.cucumber.datatable.DataTable;
+import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import org.citrusframework.Citrus;
 import org.citrusframework.TestCaseRunner;
 import org.citrusframework.annotations.CitrusAnnotations;
 import org.citrusframework.annotations.CitrusFramework;
 import org.citrusframework.annotations.CitrusResource;
 import org.citrusframework.context.TestContext;
-import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.http.message.HttpMessage;
 import org.citrusframework.util.FileUtils;
 import org.citrusframework.yaks.http.HttpServerSteps;
+import org.citrusframework.yaks.kubernetes.client.ApiCall;
+import org.citrusframework.yaks.kubernetes.client.ApiCallStatistics;
+import org.citrusframework.yaks.kubernetes.client.ApiCallStats;
+import org.citrusframework.yaks.kubernetes.actions.CreateResourcesFromTemplateAction;
 import org.citrusframework.yaks.kubernetes.actions.CreateServiceAction;
 import org.citrusframework.yaks.kubernetes.actions.VerifyPodAction;
+import org.citrusframework.yaks.kubernetes.data.DataSet;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.citrusframework.yaks.kubernetes.template.ResourceTemplate;
 import org.citrusframework.yaks.util.ResourceUtils;
 import org.springframework.http.HttpStatus;
 
 import static org.citrusframework.actions.CreateVariablesAction.Builder.createVariable;
-import static org.citrusframework.container.Assert.Builder.assertException;
 import static org.citrusframework.container.FinallySequence.Builder.doFinally;
 import static org.citrusframework.yaks.kubernetes.actions.KubernetesActionBuilder.kubernetes;
 
 public class KubernetesSteps {
 
+    private static final ResourceDefinitionContext SECRET_KIND = ResourceDefinitionContext.fromResourceType(Secret.class);
+    private static final ResourceDefinitionContext CONFIG_MAP_KIND = ResourceDefinitionContext.fromResourceType(ConfigMap.class);
+    private static final ResourceDefinitionContext SERVICE_KIND = ResourceDefinitionContext.fromResourceType(Service.class);
+
     @CitrusFramework
     private Citrus citrus;
 
@@ -72,6 +94,10 @@ public class KubernetesSteps {
     private boolean autoRemoveResources = KubernetesSettings.isAutoRemoveResources();
     private int maxAttempts = KubernetesSettings.getMaxAttempts();
     private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
+    private String waitStrategy = KubernetesSettings.getWaitStrategy();
+    private int templateConcurrency = KubernetesSettings.getTemplateConcurrency();
+
+    private Map<ApiCall, ApiCallStats> apiCallSnapshot = Collections.emptyMap();
 
     private Duration watchLogsTimeout = Duration.ofMillis(KubernetesSettings.getWatchLogsTimeout());
 
@@ -89,17 +115,49 @@ public class KubernetesSteps {
         if (k8sClient == null) {
             k8sClient = KubernetesSupport.getKubernetesClient(citrus);
         }
+
+        if (k8sClient != null && KubernetesSettings.isCapturePodLogs()) {
+            KubernetesSupport.capturePodLogs(k8sClient, KubernetesSupport.getNamespace(context));
+        }
+
+        apiCallSnapshot = ApiCallStatistics.getInstance().snapshot();
+    }
+
+    @After
+    public void after(Scenario scenario) {
+        Map<ApiCall, ApiCallStats> apiCalls = ApiCallStatistics.getInstance().since(apiCallSnapshot);
+        ApiCallStatistics.getInstance().scenarioFinished(scenario.getName(), apiCalls);
+
+        if (!apiCalls.isEmpty()) {
+            scenario.log(ApiCallStatistics.format(apiCalls));
+        }
     }
 
     @Given("^Disable auto removal of Kubernetes resources$")
     public void disableAutoRemove() {
         autoRemoveResources = false;
+
+        // update the test variable
+        runner.run(createVariable(KubernetesVariableNames.AUTO_REMOVE_RESOURCES.value(), "false"));
     }
 
     @Given("^Kubernetes resource polling configuration$")
     public void configureResourcePolling(Map<String, Object> configuration) {
         maxAttempts = Integer.parseInt(configuration.getOrDefault("maxAttempts", maxAttempts).toString());
         delayBetweenAttempts = Long.parseLong(configuration.getOrDefault("delayBetweenAttempts", delayBetweenAttempts).toString());
+        waitStrategy = configuration.getOrDefault("waitStrategy", waitStrategy).toString();
+    }
+
+    @Given("^Kubernetes namespace from pool$")
+    public void leaseNamespace() {
+        runner.run(kubernetes().client(k8sClient)
+                .namespaces()
+                .lease());
+
+        runner.then(doFinally()
+                .actions(kubernetes().client(k8sClient)
+                        .namespaces()
+                        .release()));
     }
 
     @Given("^Kubernetes namespace ([^\\s]+)$")
@@ -138,13 +196,15 @@ public class KubernetesSteps {
                 .content(yaml));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .customResources()
                             .delete(resource.getMetadata().getName())
                             .type(resourceType)
                             .kind(resource.getKind())
-                            .apiVersion(resource.getApiVersion())));
+                            .apiVersion(resource.getApiVersion()),
+                    KubernetesSupport.crdContext(resourceType, ApiVersionUtil.trimGroupOrNull(resource.getApiVersion()),
+                            resource.getKind(), ApiVersionUtil.trimVersion(resource.getApiVersion())));
         }
     }
 
@@ -186,10 +246,11 @@ public class KubernetesSteps {
                 .content(content));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .resources()
-                            .delete(content)));
+                            .delete(content),
+                    resourceKinds(content));
         }
     }
 
@@ -202,6 +263,23 @@ public class KubernetesSteps {
         }
     }
 
+    @Given("^Kubernetes resource template concurrency is (\\d+)$")
+    public void setTemplateConcurrency(int concurrency) {
+        this.templateConcurrency = concurrency;
+    }
+
+    @Given("^load Kubernetes resources from template ([^\\s]+)$")
+    public void createResourcesFromTemplate(String fileName, DataTable rows) {
+        createResourcesFromTemplate(fileName, rows.asMaps(), builder -> builder.rows(rows.asMaps()));
+    }
+
+    @Given("^load Kubernetes resources from template ([^\\s]+) with index (-?\\d+) to (-?\\d+)$")
+    public void createResourcesFromTemplate(String fileName, int from, int to) {
+        createResourcesFromTemplate(fileName,
+                Collections.singletonList(Collections.singletonMap(CreateResourcesFromTemplateAction.INDEX_VARIABLE, String.valueOf(from))),
+                builder -> builder.range(from, to));
+    }
+
     @Given("^delete Kubernetes resource$")
     public void deleteResource(String yaml) {
         runner.run(kubernetes().client(k8sClient)
@@ -226,10 +304,11 @@ public class KubernetesSteps {
                 .properties(properties));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .secrets()
-                            .delete(name)));
+                            .delete(name),
+                    SECRET_KIND);
         }
     }
 
@@ -243,10 +322,11 @@ public class KubernetesSteps {
                 .fromFile("classpath:keystore/server.key"));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .secrets()
-                            .delete(name)));
+                            .delete(name),
+                    SECRET_KIND);
         }
     }
 
@@ -260,10 +340,11 @@ public class KubernetesSteps {
                 .fromFile("classpath:keystore/client.key"));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .secrets()
-                            .delete(name)));
+                            .delete(name),
+                    SECRET_KIND);
         }
     }
 
@@ -276,10 +357,11 @@ public class KubernetesSteps {
                 .fromFile("classpath:keystore/ca.key"));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .secrets()
-                            .delete(name)));
+                            .delete(name),
+                    SECRET_KIND);
         }
     }
 
@@ -296,10 +378,35 @@ public class KubernetesSteps {
                 .fromFile(filePath));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .secrets()
-                            .delete(secretName)));
+                            .delete(secretName),
+                    SECRET_KIND);
+        }
+    }
+
+    @Given("^create Kubernetes secret ([^\\s]+) from (?:binary file|directory) ([^\\s]+)$")
+    public void createSecretFromData(String secretName, String filePath) {
+        runner.run(kubernetes().client(k8sClient)
+                .secrets()
+                .createFromData(secretName)
+                .fromFile(filePath));
+
+        if (autoRemoveResources) {
+            autoRemoveDataSet(secretName, SECRET_KIND);
+        }
+    }
+
+    @Given("^create Kubernetes config map ([^\\s]+) from (?:file|binary file|directory) ([^\\s]+)$")
+    public void createConfigMapFromData(String configMapName, String filePath) {
+        runner.run(kubernetes().client(k8sClient)
+                .configMaps()
+                .createFromData(configMapName)
+                .fromFile(filePath));
+
+        if (autoRemoveResources) {
+            autoRemoveDataSet(configMapName, CONFIG_MAP_KIND);
         }
     }
 
@@ -329,10 +436,11 @@ public class KubernetesSteps {
                 .targetPort(targetPort));
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .services()
-                            .delete(serviceName)));
+                            .delete(serviceName),
+                    SERVICE_KIND);
         }
     }
 
@@ -351,10 +459,11 @@ public class KubernetesSteps {
         runner.run(createServiceAction);
 
         if (autoRemoveResources) {
-            runner.then(doFinally()
-                    .actions(kubernetes().client(k8sClient)
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
                             .services()
-                            .delete(serviceName)));
+                            .delete(serviceName),
+                    SERVICE_KIND);
         }
     }
 
@@ -381,6 +490,7 @@ public class KubernetesSteps {
                 .type(resourceType)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy)
                 .condition(condition));
     }
 
@@ -448,6 +558,7 @@ public class KubernetesSteps {
                 .type(resourceType)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy)
                 .condition(condition));
     }
 
@@ -470,7 +581,8 @@ public class KubernetesSteps {
                 .verify(name)
                 .printLogs(KubernetesSettings.isPrintPodLogs())
                 .maxAttempts(maxAttempts)
-                .delayBetweenAttempts(delayBetweenAttempts);
+                .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy);
 
         if (status.equals("running")) {
             action.isRunning();
@@ -494,7 +606,8 @@ public class KubernetesSteps {
                 .verify(label, value)
                 .printLogs(KubernetesSettings.isPrintPodLogs())
                 .maxAttempts(maxAttempts)
-                .delayBetweenAttempts(delayBetweenAttempts);
+                .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy);
 
         if (status.equals("running")) {
             action.isRunning();
@@ -507,46 +620,56 @@ public class KubernetesSteps {
 
     @Then("^Kubernetes pod ([a-z\\.0-9-]+) should print (.*)$")
     public void podShouldPrint(String name, String message) {
+        podShouldPrintMessages(name, Collections.singletonList(message));
+    }
+
+    @Then("^Kubernetes pod ([a-z\\.0-9-]+) should print messages$")
+    public void podShouldPrintMessages(String name, List<String> messages) {
         runner.run(kubernetes().client(k8sClient)
                 .pods()
                 .verify(name)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
-                .waitForLogMessage(message));
+                .waitStrategy(waitStrategy)
+                .waitForLogMessages(messages));
     }
 
     @Then("^Kubernetes pod ([a-z\\.0-9-]+) should not print (.*)$")
     public void podShouldNotPrint(String name, String message) {
-        runner.run(assertException()
-                .exception(ActionTimeoutException.class)
-                .when(kubernetes().client(k8sClient)
-                        .pods()
-                        .verify(name)
-                        .maxAttempts(maxAttempts)
-                        .delayBetweenAttempts(delayBetweenAttempts)
-                        .waitForLogMessage(message)));
+        runner.run(kubernetes().client(k8sClient)
+                .pods()
+                .verify(name)
+                .maxAttempts(maxAttempts)
+                .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy)
+                .rejectLogMessage(message));
     }
 
     @Then("^Kubernetes pod labeled with ([^\\s]+)=([^\\s]+) should print (.*)$")
     public void podByLabelShouldPrint(String label, String value, String message) {
+        podByLabelShouldPrintMessages(label, value, Collections.singletonList(message));
+    }
+
+    @Then("^Kubernetes pod labeled with ([^\\s]+)=([^\\s]+) should print messages$")
+    public void podByLabelShouldPrintMessages(String label, String value, List<String> messages) {
         runner.run(kubernetes().client(k8sClient)
                 .pods()
                 .verify(label, value)
                 .maxAttempts(maxAttempts)
                 .delayBetweenAttempts(delayBetweenAttempts)
-                .waitForLogMessage(message));
+                .waitStrategy(waitStrategy)
+                .waitForLogMessages(messages));
     }
 
     @Then("^Kubernetes pod labeled with ([^\\s]+)=([^\\s]+) should not print (.*)$")
     public void podByLabelShouldNotPrint(String label, String value, String message) {
-        runner.run(assertException()
-                .exception(ActionTimeoutException.class)
-                .when(kubernetes().client(k8sClient)
-                        .pods()
-                        .verify(label, value)
-                        .maxAttempts(maxAttempts)
-                        .delayBetweenAttempts(delayBetweenAttempts)
-                        .waitForLogMessage(message)));
+        runner.run(kubernetes().client(k8sClient)
+                .pods()
+                .verify(label, value)
+                .maxAttempts(maxAttempts)
+                .delayBetweenAttempts(delayBetweenAttempts)
+                .waitStrategy(waitStrategy)
+                .rejectLogMessage(message));
     }
 
     @Given("^watch logs timeout is ([\\d]+)(ms|s|min)$")
@@ -580,6 +703,15 @@ public class KubernetesSteps {
                 .timeout(watchLogsTimeout));
     }
 
+    @Given("^watch logs for all Kubernetes pods labeled with ([^\\s]+)=([^\\s]+)$")
+    public void watchAllPodLogs(String label, String value) {
+        runner.run(kubernetes().client(k8sClient)
+                .pods()
+                .watchLogs(label, value)
+                .followAll()
+                .timeout(watchLogsTimeout));
+    }
+
     @Then("^create annotation ([^\\s]+)=([^\\s]+) on Kubernetes (pod|secret|service|deployment) ([a-z\\.0-9-]+)$")
     public void createAnnotationOnResource(String annotation, String value, String resourceType, String resourceName) {
         runner.run(kubernetes().client(k8sClient)
@@ -617,6 +749,42 @@ public class KubernetesSteps {
                 .labels(labels));
     }
 
+    @Then("^create annotations on Kubernetes (pod|secret|service|deployment)s ([a-z\\.0-9-]+(?:,\\s*[a-z\\.0-9-]+)*)$")
+    public void createAnnotationsOnResources(String resourceType, String resourceNames, DataTable table) {
+        runner.run(kubernetes().client(k8sClient)
+                .resources()
+                .addAnnotations(resourceType.toUpperCase(Locale.US))
+                .names(resourceNames.split(",\\s*"))
+                .annotations(table.asMap(String.class, String.class)));
+    }
+
+    @Then("^create annotations on Kubernetes (pod|secret|service|deployment)s labeled with ([^\\s]+)=([^\\s]+)$")
+    public void createAnnotationsOnLabeledResources(String resourceType, String label, String value, DataTable table) {
+        runner.run(kubernetes().client(k8sClient)
+                .resources()
+                .addAnnotations(resourceType.toUpperCase(Locale.US))
+                .selector(label, value)
+                .annotations(table.asMap(String.class, String.class)));
+    }
+
+    @Then("^create labels on Kubernetes (pod|secret|service|deployment)s ([a-z\\.0-9-]+(?:,\\s*[a-z\\.0-9-]+)*)$")
+    public void createLabelsOnResources(String resourceType, String resourceNames, DataTable table) {
+        runner.run(kubernetes().client(k8sClient)
+                .resources()
+                .addLabels(resourceType.toUpperCase(Locale.US))
+                .names(resourceNames.split(",\\s*"))
+                .labels(table.asMap(String.class, String.class)));
+    }
+
+    @Then("^create labels on Kubernetes (pod|secret|service|deployment)s labeled with ([^\\s]+)=([^\\s]+)$")
+    public void createLabelsOnLabeledResources(String resourceType, String label, String value, DataTable table) {
+        runner.run(kubernetes().client(k8sClient)
+                .resources()
+                .addLabels(resourceType.toUpperCase(Locale.US))
+                .selector(label, value)
+                .labels(table.asMap(String.class, String.class)));
+    }
+
     /**
      * Receive and verify given request.
      * @param request
@@ -639,4 +807,91 @@ public class KubernetesSteps {
         setServicePort(targetPort);
         httpServerSteps.startServer();
     }
+
+    /**
+     * Creates resources from template file with given template rows. All resources carry the scenario labels,
+     * so auto removal deletes the resources with a label selector delete per resource kind.
+     * @param fileName
+     * @param sample first template row used to determine the resource kinds in the template.
+     * @param rows
+     */
+    private void createResourcesFromTemplate(String fileName, List<Map<String, String>> sample,
+                                             Consumer<CreateResourcesFromTemplateAction.Builder> rows) {
+        String template;
+        try {
+            template = FileUtils.readToString(ResourceUtils.resolve(fileName, context));
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read resource template from file", e);
+        }
+
+        CreateResourcesFromTemplateAction.Builder builder = kubernetes().client(k8sClient)
+                .resources()
+                .createFromTemplate(template)
+                .concurrency(templateConcurrency);
+        rows.accept(builder);
+        runner.run(builder);
+
+        if (autoRemoveResources && !sample.isEmpty()) {
+            Map<String, String> row = new HashMap<>(sample.get(0));
+            row.putIfAbsent(CreateResourcesFromTemplateAction.INDEX_VARIABLE, "0");
+
+            String rendered = ResourceTemplate.compile(template, row.keySet()).render(row);
+            ResourceDefinitionContext[] kinds = k8sClient.load(new ByteArrayInputStream(context.replaceDynamicContentInString(rendered)
+                            .getBytes(StandardCharsets.UTF_8)))
+                    .items()
+                    .stream()
+                    .map(KubernetesSupport::resourceKind)
+                    .distinct()
+                    .toArray(ResourceDefinitionContext[]::new);
+
+            LabeledTeardown teardown = new LabeledTeardown(KubernetesSupport.getScenarioLabels(context));
+            for (ResourceDefinitionContext kind : kinds) {
+                teardown.add(KubernetesSupport.getNamespace(context), kind);
+            }
+
+            KubernetesSupport.autoRemove(runner, context, k8sClient,
+                    kubernetes().client(k8sClient)
+                            .resources()
+                            .deleteLabeled(teardown),
+                    kinds);
+        }
+    }
+
+    /**
+     * Removes all objects of a data set after the test. A data set may be split across several objects, so the
+     * objects get deleted by the data set label.
+     * @param name
+     * @param kind
+     */
+    private void autoRemoveDataSet(String name, ResourceDefinitionContext kind) {
+        LabeledTeardown teardown = new LabeledTeardown(Collections.singletonMap(DataSet.DATA_SET_LABEL,
+                context.replaceDynamicContentInString(name)));
+        teardown.add(KubernetesSupport.getNamespace(context), kind);
+
+        KubernetesSupport.autoRemove(runner, context, k8sClient,
+                kubernetes().client(k8sClient)
+                        .resources()
+                        .deleteLabeled(teardown),
+                kind);
+    }
+
+    /**
+     * Gets the resource kinds of all resources in given content. Returns empty array when the content holds a resource
+     * of unknown kind so auto removal falls back to deleting the resources one by one.
+     * @param content
+     * @return
+     */
+    private ResourceDefinitionContext[] resourceKinds(String content) {
+        List<HasMetadata> resources = k8sClient.load(new ByteArrayInputStream(context.replaceDynamicContentInString(content)
+                        .getBytes(StandardCharsets.UTF_8)))
+                .items();
+
+        if (resources.stream().anyMatch(GenericKubernetesResource.class::isInstance)) {
+            return new ResourceDefinitionContext[0];
+        }
+
+        return resources.stream()
+                .map(resource -> ResourceDefinitionContext.fromResourceType(resource.getClass()))
+                .toArray(ResourceDefinitionContext[]::new);
+    }
 }
@@ -19,8 +19,15 @@ package org.citrusframework.yaks.kubernetes;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParser;
@@ -29,19 +36,39 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.fabric8.kubernetes.api.Pluralize;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
-import io.fabric8.kubernetes.client.dsl.Updatable;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import org.citrusframework.Citrus;
+import org.citrusframework.CitrusInstanceManager;
+import org.citrusframework.TestActionBuilder;
+import org.citrusframework.TestCaseRunner;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.report.AbstractTestSuiteListener;
 import org.citrusframework.yaks.YaksSettings;
+import org.citrusframework.yaks.kubernetes.actions.DeleteLabeledResourcesAction;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
+import org.citrusframework.yaks.kubernetes.client.ApiCallStatistics;
+import org.citrusframework.yaks.kubernetes.client.KubernetesClientRegistry;
+import org.citrusframework.yaks.kubernetes.client.MockCluster;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.citrusframework.yaks.kubernetes.logs.PodLogCapture;
+import org.citrusframework.yaks.kubernetes.namespace.NamespacePool;
+import org.citrusframework.yaks.kubernetes.namespace.NamespaceWipePolicy;
+import org.citrusframework.yaks.kubernetes.portforward.ServicePortForwardPool;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.citrusframework.yaks.kubernetes.wait.WaitStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.introspector.Property;
@@ -49,13 +76,30 @@ import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.representer.Representer;
 
+import static org.citrusframework.container.FinallySequence.Builder.doFinally;
+
 /**
  * @author Christoph Deppisch
  */
 public final class KubernetesSupport {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesSupport.class);
+
     private static final ObjectMapper OBJECT_MAPPER;
 
+    /** Shared informer caches per Kubernetes client instance */
+    private static final Map<KubernetesClient, KubernetesInformerCache> INFORMER_CACHES = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /** Shared namespace pools per Kubernetes client instance */
+    private static final Map<KubernetesClient, NamespacePool> NAMESPACE_POOLS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /** Shared port-forward pools per Kubernetes client */
+    private static final Map<KubernetesClient, ServicePortForwardPool> PORT_FORWARD_POOLS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /** Citrus instances that have a shutdown listener registered */
+    private static final Set<Citrus> SHUTDOWN_LISTENERS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
     static {
         OBJECT_MAPPER = JsonMapper.builder()
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
@@ -83,7 +127,7 @@ public final class KubernetesSupport {
 
     /**
      * Retrieve current Kubernetes client if set in Citrus context as bean reference.
-     * Otherwise, create new default instance.
+     * Otherwise, use the shared client instance managed by the Kubernetes client registry.
      * @param citrus holding the potential bean reference to the client instance.
      * @return
      */
@@ -95,13 +139,13 @@ public final class KubernetesSupport {
         if (citrus.getCitrusContext().getReferenceResolver().resolveAll(KubernetesClient.class).size() == 1L) {
             return citrus.getCitrusContext().getReferenceResolver().resolve(KubernetesClient.class);
         } else {
-            return new KubernetesClientBuilder().build();
+            return getManagedClient();
         }
     }
 
     /**
      * Retrieve current Kubernetes client if set in test context as bean reference.
-     * Otherwise, create new default instance.
+     * Otherwise, use the shared client instance managed by the Kubernetes client registry.
      * @param context holding the potential client bean reference.
      * @return
      */
@@ -109,7 +153,126 @@ public final class KubernetesSupport {
         if (context.getReferenceResolver().resolveAll(KubernetesClient.class).size() == 1L) {
             return context.getReferenceResolver().resolve(KubernetesClient.class);
         } else {
-            return new KubernetesClientBuilder().build();
+            return getManagedClient();
+        }
+    }
+
+    /**
+     * Gets the shared client instance from the Kubernetes client registry. The client gets closed automatically
+     * when the current Citrus instance finishes the test suite.
+     * @return
+     */
+    public static KubernetesClient getManagedClient() {
+        CitrusInstanceManager.get().ifPresent(KubernetesSupport::registerShutdownListener);
+        return KubernetesClientRegistry.getInstance().getClient();
+    }
+
+    /**
+     * Gets the shared informer cache for given Kubernetes client. Creates new cache on first access.
+     * The cache gets closed automatically when the current Citrus instance finishes the test suite.
+     * @param k8sClient
+     * @return
+     */
+    public static KubernetesInformerCache getInformerCache(KubernetesClient k8sClient) {
+        return INFORMER_CACHES.computeIfAbsent(k8sClient, client -> {
+            CitrusInstanceManager.get().ifPresent(KubernetesSupport::registerShutdownListener);
+            return new KubernetesInformerCache(client);
+        });
+    }
+
+    /**
+     * Closes all shared informer caches.
+     */
+    public static void closeInformerCaches() {
+        synchronized (INFORMER_CACHES) {
+            INFORMER_CACHES.values().forEach(KubernetesInformerCache::close);
+            INFORMER_CACHES.clear();
+        }
+    }
+
+    /**
+     * Gets the shared namespace pool for given Kubernetes client. Creates new pool with the namespace pool settings on first access.
+     * The pool gets closed automatically when the current Citrus instance finishes the test suite.
+     * @param k8sClient
+     * @return
+     */
+    public static NamespacePool getNamespacePool(KubernetesClient k8sClient) {
+        return NAMESPACE_POOLS.computeIfAbsent(k8sClient, client -> {
+            CitrusInstanceManager.get().ifPresent(KubernetesSupport::registerShutdownListener);
+            return new NamespacePool(client, KubernetesSettings.getNamespacePoolPrefix(), KubernetesSettings.getNamespacePoolSize(),
+                    NamespaceWipePolicy.fromString(KubernetesSettings.getNamespacePoolWipePolicy()), KubernetesSettings.getDefaultLabels());
+        });
+    }
+
+    /**
+     * Closes all shared namespace pools.
+     */
+    public static void closeNamespacePools() {
+        synchronized (NAMESPACE_POOLS) {
+            NAMESPACE_POOLS.values().forEach(NamespacePool::close);
+            NAMESPACE_POOLS.clear();
+        }
+    }
+
+    /**
+     * Gets the shared service port-forward pool for given Kubernetes client.
+     * The pool gets closed automatically when the current Citrus instance finishes the test suite.
+     * @param k8sClient
+     * @return
+     */
+    public static ServicePortForwardPool getPortForwardPool(KubernetesClient k8sClient) {
+        return PORT_FORWARD_POOLS.computeIfAbsent(k8sClient, client -> {
+            CitrusInstanceManager.get().ifPresent(KubernetesSupport::registerShutdownListener);
+            return new ServicePortForwardPool(client);
+        });
+    }
+
+    /**
+     * Closes all shared service port-forward pools.
+     */
+    public static void closePortForwardPools() {
+        synchronized (PORT_FORWARD_POOLS) {
+            PORT_FORWARD_POOLS.values().forEach(ServicePortForwardPool::close);
+            PORT_FORWARD_POOLS.clear();
+        }
+    }
+
+    /**
+     * Adds test suite listener to given Citrus instance that releases shared Kubernetes resources on test suite finish.
+     * @param citrus
+     */
+    private static void registerShutdownListener(Citrus citrus) {
+        if (SHUTDOWN_LISTENERS.add(citrus)) {
+            citrus.addTestSuiteListener(new AbstractTestSuiteListener() {
+                @Override
+                public void onFinish() {
+                    PodLogCapture.getInstance().close();
+                    closePortForwardPools();
+                    closeNamespacePools();
+                    closeInformerCaches();
+                    KubernetesClientRegistry.getInstance().close();
+                    MockCluster.lookup().ifPresent(MockCluster::close);
+                    WaitStatistics.getInstance().logSummary();
+                    ApiCallStatistics.getInstance().logSummary();
+                }
+            });
+        }
+    }
+
+    /**
+     * Starts capturing logs of pods labeled with the current test id in given namespace. Captured logs are written
+     * only when a scenario fails. Logs captured for previous scenarios are discarded.
+     * Failures to start the capture are logged and do not affect the test.
+     * @param k8sClient
+     * @param namespace
+     */
+    public static void capturePodLogs(KubernetesClient k8sClient, String namespace) {
+        PodLogCapture.getInstance().reset();
+
+        try {
+            PodLogCapture.getInstance().start(k8sClient, namespace);
+        } catch (KubernetesClientException e) {
+            LOG.warn(String.format("Failed to capture pod logs in namespace '%s'", namespace), e);
         }
     }
 
@@ -127,6 +290,119 @@ public final class KubernetesSupport {
         return KubernetesSettings.getNamespace();
     }
 
+    /**
+     * Gets the labels identifying all resources created by the current test scenario. Generates a new scenario id
+     * on first access and stores it as test variable.
+     * @param context
+     * @return
+     */
+    public static Map<String, String> getScenarioLabels(TestContext context) {
+        if (!context.getVariables().containsKey(KubernetesVariableNames.SCENARIO_ID.value())) {
+            context.setVariable(KubernetesVariableNames.SCENARIO_ID.value(),
+                    UUID.randomUUID().toString().replace("-", "").substring(0, 16));
+        }
+
+        return Collections.singletonMap(LabeledTeardown.SCENARIO_LABEL,
+                context.getVariable(KubernetesVariableNames.SCENARIO_ID.value()));
+    }
+
+    /**
+     * Checks if resources of the current test scenario are removed with the labeled teardown. This is the case when
+     * labeled teardown and auto removal of resources are enabled or when the scenario uses a namespace leased from
+     * the namespace pool. The pool wipes the namespace based on the scenario labels.
+     * @param context
+     * @return
+     */
+    public static boolean isLabeledTeardown(TestContext context) {
+        if (context.getVariables().containsKey(KubernetesVariableNames.NAMESPACE_LEASE.value())) {
+            return true;
+        }
+
+        if (!KubernetesSettings.isLabeledTeardown()) {
+            return false;
+        }
+
+        if (context.getVariables().containsKey(KubernetesVariableNames.AUTO_REMOVE_RESOURCES.value())) {
+            return context.getVariable(KubernetesVariableNames.AUTO_REMOVE_RESOURCES.value(), Boolean.class);
+        }
+
+        return KubernetesSettings.isAutoRemoveResources();
+    }
+
+    /**
+     * Gets the labels to add to resources created by the current test scenario. Returns the scenario labels when the
+     * labeled teardown is active, otherwise an empty map.
+     * @param context
+     * @return
+     */
+    public static Map<String, String> getTeardownLabels(TestContext context) {
+        if (!isLabeledTeardown(context)) {
+            return Collections.emptyMap();
+        }
+
+        return getScenarioLabels(context);
+    }
+
+    /**
+     * Adds the scenario labels of the current test scenario to given resource when the labeled teardown is active.
+     * @param resource
+     * @param context
+     */
+    public static void addScenarioLabels(HasMetadata resource, TestContext context) {
+        addLabels(resource, getTeardownLabels(context));
+    }
+
+    /**
+     * Adds given labels to the resource.
+     * @param resource
+     * @param labels
+     */
+    public static void addLabels(HasMetadata resource, Map<String, String> labels) {
+        if (labels.isEmpty()) {
+            return;
+        }
+
+        if (resource.getMetadata().getLabels() == null) {
+            resource.getMetadata().setLabels(new HashMap<>());
+        }
+
+        resource.getMetadata().getLabels().putAll(labels);
+    }
+
+    /**
+     * Registers automatic removal of a resource created by the current test scenario. When labeled teardown is enabled
+     * the resource kind is added to the scenario teardown that deletes all resources with the scenario labels at the end
+     * of the scenario. Otherwise, adds given delete action as finally action to the test.
+     * Falls back to the delete action when no resource kind is given (e.g. kind of resource is unknown).
+     * @param runner
+     * @param context
+     * @param k8sClient
+     * @param deleteAction
+     * @param kinds
+     */
+    public static void autoRemove(TestCaseRunner runner, TestContext context, KubernetesClient k8sClient,
+                                  TestActionBuilder<?> deleteAction, ResourceDefinitionContext... kinds) {
+        if (!isLabeledTeardown(context) || kinds.length == 0) {
+            runner.then(doFinally().actions(deleteAction));
+            return;
+        }
+
+        LabeledTeardown teardown = (LabeledTeardown) context.getVariables().get(KubernetesVariableNames.TEARDOWN.value());
+        if (teardown == null) {
+            teardown = new LabeledTeardown(getScenarioLabels(context));
+            context.getVariables().put(KubernetesVariableNames.TEARDOWN.value(), teardown);
+
+            runner.then(doFinally()
+                    .actions(new DeleteLabeledResourcesAction.Builder()
+                            .client(k8sClient)
+                            .teardown(teardown)));
+        }
+
+        for (ResourceDefinitionContext kind : kinds) {
+            teardown.add(getNamespace(context), kind);
+        }
+    }
+
     public static Yaml yaml() {
         Representer representer = new Representer(new DumperOptions()) {
             @Override
@@ -177,8 +453,9 @@ public final class KubernetesSupport {
 
     public static void createResource(KubernetesClient k8sClient, String namespace,
                                       ResourceDefinitionContext context, String yaml) {
-        k8sClient.genericKubernetesResources(context).inNamespace(namespace)
-                .load(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8))).createOr(Updatable::update);
+        NonNamespaceOperation<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>> resources =
+                k8sClient.genericKubernetesResources(context).inNamespace(namespace);
+        ResourceApplier.apply(resources, resources.load(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8))).item());
     }
 
     public static void deleteResource(KubernetesClient k8sClient, String namespace,
@@ -196,6 +473,27 @@ public final class KubernetesSupport {
                 .build();
     }
 
+    /**
+     * Gets the resource kind of given resource. Derives group, version and plural name from the resource api version
+     * and kind when the resource is a generic resource (e.g. custom resource of unknown type).
+     * @param resource
+     * @return
+     */
+    public static ResourceDefinitionContext resourceKind(HasMetadata resource) {
+        if (!(resource instanceof GenericKubernetesResource)) {
+            return ResourceDefinitionContext.fromResourceType(resource.getClass());
+        }
+
+        String apiVersion = resource.getApiVersion();
+        return new ResourceDefinitionContext.Builder()
+                .withGroup(apiVersion.contains("/") ? apiVersion.substring(0, apiVersion.indexOf("/")) : "")
+                .withVersion(apiVersion.substring(apiVersion.indexOf("/") + 1))
+                .withKind(resource.getKind())
+                .withPlural(Pluralize.toPlural(resource.getKind().toLowerCase(Locale.ROOT)))
+                .withNamespaced(true)
+                .build();
+    }
+
     /**
      * Checks pod status with expected phase. If expected status is "Running" all
      * containers in the pod must be in ready state, too.
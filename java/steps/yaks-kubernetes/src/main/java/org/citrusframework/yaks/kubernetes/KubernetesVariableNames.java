@@ -21,7 +21,11 @@ package org.citrusframework.yaks.kubernetes;
  */
 public enum KubernetesVariableNames {
 
-    NAMESPACE("KUBERNETES_NAMESPACE");
+    NAMESPACE("KUBERNETES_NAMESPACE"),
+    NAMESPACE_LEASE("KUBERNETES_NAMESPACE_LEASE"),
+    AUTO_REMOVE_RESOURCES("KUBERNETES_AUTO_REMOVE_RESOURCES"),
+    SCENARIO_ID("KUBERNETES_SCENARIO_ID"),
+    TEARDOWN("KUBERNETES_TEARDOWN");
 
     private final String variableName;
 
@@ -16,29 +16,37 @@
 
 package org.citrusframework.yaks.kubernetes.actions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
-import io.fabric8.kubernetes.api.model.PodBuilder;
-import io.fabric8.kubernetes.api.model.SecretBuilder;
-import io.fabric8.kubernetes.api.model.ServiceBuilder;
-import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.citrusframework.yaks.kubernetes.patch.MetadataPatch;
 
 /**
+ * Adds annotations to one or more resources with a JSON merge patch. Resources are selected by name or by label selector.
  * @author Christoph Deppisch
  */
 public class CreateAnnotationsAction extends AbstractKubernetesAction implements KubernetesAction {
 
-    private final String resourceName;
+    private final List<String> resourceNames;
+    private final Map<String, String> selector;
     private final ResourceType resourceType;
     private final Map<String, String> annotations;
 
     public CreateAnnotationsAction(Builder builder) {
         super("create-annotation", builder);
 
-        this.resourceName = builder.resourceName;
+        this.resourceNames = builder.resourceNames;
+        this.selector = builder.selector;
         this.resourceType = builder.resourceType;
         this.annotations = builder.annotations;
     }
@@ -57,47 +65,21 @@ public class CreateAnnotationsAction extends AbstractKubernetesAction implements
     public void doExecute(TestContext context) {
         Map<String, String> resolvedAnnotations = context.resolveDynamicValuesInMap(annotations);
 
+        MetadataPatch.annotations(resolvedAnnotations)
+                .apply(getKubernetesClient(), namespace(context), resourceKind(),
+                        context.resolveDynamicValuesInList(resourceNames), context.resolveDynamicValuesInMap(selector));
+    }
+
+    private ResourceDefinitionContext resourceKind() {
         switch (resourceType) {
             case DEPLOYMENT:
-                getKubernetesClient().apps().deployments()
-                        .inNamespace(namespace(context))
-                        .withName(resourceName)
-                        .edit(d -> new DeploymentBuilder(d)
-                                    .editMetadata()
-                                        .addToAnnotations(resolvedAnnotations)
-                                    .endMetadata()
-                                .build());
-                break;
+                return ResourceDefinitionContext.fromResourceType(Deployment.class);
             case POD:
-                getKubernetesClient().pods()
-                        .inNamespace(namespace(context))
-                        .withName(resourceName)
-                        .edit(p -> new PodBuilder(p)
-                                    .editMetadata()
-                                        .addToAnnotations(resolvedAnnotations)
-                                    .endMetadata()
-                                .build());
-                break;
+                return ResourceDefinitionContext.fromResourceType(Pod.class);
             case SERVICE:
-                getKubernetesClient().services()
-                        .inNamespace(namespace(context))
-                        .withName(resourceName)
-                        .edit(s -> new ServiceBuilder(s)
-                                    .editMetadata()
-                                        .addToAnnotations(resolvedAnnotations)
-                                    .endMetadata()
-                                .build());
-                break;
+                return ResourceDefinitionContext.fromResourceType(Service.class);
             case SECRET:
-                getKubernetesClient().secrets()
-                        .inNamespace(namespace(context))
-                        .withName(resourceName)
-                        .edit(s -> new SecretBuilder(s)
-                                    .editMetadata()
-                                        .addToAnnotations(resolvedAnnotations)
-                                    .endMetadata()
-                                .build());
-                break;
+                return ResourceDefinitionContext.fromResourceType(Secret.class);
             default:
                 throw new CitrusRuntimeException(String.format("Unable to add annotation to resource type '%s'", resourceType.name()));
         }
@@ -108,33 +90,49 @@ public class CreateAnnotationsAction extends AbstractKubernetesAction implements
      */
     public static class Builder extends AbstractKubernetesAction.Builder<CreateAnnotationsAction, Builder> {
 
-        private String resourceName;
+        private final List<String> resourceNames = new ArrayList<>();
+        private final Map<String, String> selector = new HashMap<>();
         private ResourceType resourceType = ResourceType.POD;
         private final Map<String, String> annotations = new HashMap<>();
 
         public Builder name(String resourceName) {
-            this.resourceName = resourceName;
+            this.resourceNames.add(resourceName);
+            return this;
+        }
+
+        public Builder names(String... resourceNames) {
+            return names(Arrays.asList(resourceNames));
+        }
+
+        public Builder names(List<String> resourceNames) {
+            this.resourceNames.addAll(resourceNames);
+            return this;
+        }
+
+        public Builder selector(Map<String, String> selector) {
+            this.selector.putAll(selector);
+            return this;
+        }
+
+        public Builder selector(String label, String value) {
+            this.selector.put(label, value);
             return this;
         }
 
         public Builder deployment(String name) {
-            this.resourceName = name;
-            return type(ResourceType.DEPLOYMENT);
+            return name(name).type(ResourceType.DEPLOYMENT);
         }
 
         public Builder pod(String name) {
-            this.resourceName = name;
-            return type(ResourceType.POD);
+            return name(name).type(ResourceType.POD);
         }
 
         public Builder secret(String name) {
-            this.resourceName = name;
-            return type(ResourceType.SECRET);
+            return name(name).type(ResourceType.SECRET);
         }
 
         public Builder service(String name) {
-            this.resourceName = name;
-            return type(ResourceType.SERVICE);
+            return name(name).type(ResourceType.SERVICE);
         }
 
         private Builder type(ResourceType resourceType) {
@@ -146,7 +144,7 @@ public class CreateAnnotationsAction extends AbstractKubernetesAction implements
             return type(ResourceType.valueOf(resourceType));
         }
 
-        public Builder annotations(Map<String, String>annotations) {
+        public Builder annotations(Map<String, String> annotations) {
             this.annotations.putAll(annotations);
             return this;
         }
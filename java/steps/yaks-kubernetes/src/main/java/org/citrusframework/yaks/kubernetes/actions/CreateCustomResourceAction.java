@@ -22,7 +22,11 @@ import java.nio.charset.StandardCharsets;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 
 /**
  * @author Christoph Deppisch
@@ -47,14 +51,19 @@ public class CreateCustomResourceAction extends AbstractKubernetesAction impleme
 
     @Override
     public void doExecute(TestContext context) {
-        GenericKubernetesResource resource = getKubernetesClient()
-                .genericKubernetesResources(KubernetesSupport.crdContext(context.replaceDynamicContentInString(type),
+        NonNamespaceOperation<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>> resources =
+                getKubernetesClient().genericKubernetesResources(KubernetesSupport.crdContext(context.replaceDynamicContentInString(type),
                          context.replaceDynamicContentInString(group),
                          context.replaceDynamicContentInString(kind),
                          context.replaceDynamicContentInString(version)))
-                .inNamespace(namespace(context))
+                .inNamespace(namespace(context));
+
+        GenericKubernetesResource loaded = resources
                 .load(new ByteArrayInputStream(context.replaceDynamicContentInString(content).getBytes(StandardCharsets.UTF_8)))
-                .createOrReplace();
+                .item();
+        KubernetesSupport.addScenarioLabels(loaded, context);
+
+        GenericKubernetesResource resource = ResourceApplier.apply(resources, loaded);
 
         if (resource.get("messages") != null) {
             throw new CitrusRuntimeException(String.format("Failed to create custom resource - %s", resource.get("messages")));
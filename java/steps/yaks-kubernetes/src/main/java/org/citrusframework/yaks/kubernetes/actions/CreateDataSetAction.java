@@ -0,0 +1,240 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.spi.Resource;
+import org.citrusframework.spi.Resources;
+import org.citrusframework.util.FileUtils;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
+import org.citrusframework.yaks.kubernetes.data.DataSet;
+import org.citrusframework.yaks.util.ResourceUtils;
+
+/**
+ * Creates a secret or config map from binary files and directories. File content is streamed and base64 encoded in chunks
+ * without dynamic content replacement. Data sets exceeding the maximum object size are split across several objects named
+ * {@code <name>}, {@code <name>-1}, {@code <name>-2} and so on. All objects of a data set carry the data set label.
+ * Objects whose content digest matches the existing object in the cluster are not written again.
+ */
+public class CreateDataSetAction extends AbstractKubernetesAction implements KubernetesAction {
+
+    /** Kind of objects holding the data set */
+    public enum Kind {
+        SECRET,
+        CONFIG_MAP
+    }
+
+    private final String name;
+    private final Kind kind;
+    private final List<String> filePaths;
+    private final int maxObjectSize;
+
+    public CreateDataSetAction(Builder builder) {
+        super("create-data-set", builder);
+
+        this.name = builder.name;
+        this.kind = builder.kind;
+        this.filePaths = builder.filePaths;
+        this.maxObjectSize = builder.maxObjectSize;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String resolvedName = context.replaceDynamicContentInString(name);
+        String namespace = namespace(context);
+
+        DataSet dataSet = new DataSet();
+        for (String filePath : filePaths) {
+            addEntries(dataSet, ResourceUtils.resolve(context.replaceDynamicContentInString(filePath), context));
+        }
+
+        List<Map<String, String>> objects = dataSet.split(maxObjectSize);
+        Set<String> names = new HashSet<>();
+        int skipped = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            String objectName = i == 0 ? resolvedName : resolvedName + "-" + i;
+            names.add(objectName);
+
+            Map<String, String> data = objects.get(i);
+            String digest = DataSet.digest(data);
+            if (digest.equals(getLiveDigest(namespace, objectName))) {
+                skipped++;
+                continue;
+            }
+
+            Map<String, String> labels = new HashMap<>(KubernetesSupport.getTeardownLabels(context));
+            labels.put(DataSet.DATA_SET_LABEL, resolvedName);
+            ObjectMeta metadata = new ObjectMetaBuilder()
+                    .withNamespace(namespace)
+                    .withName(objectName)
+                    .withLabels(labels)
+                    .addToAnnotations(DataSet.CONTENT_DIGEST_ANNOTATION, digest)
+                    .build();
+
+            if (kind == Kind.SECRET) {
+                Secret secret = new SecretBuilder()
+                        .withMetadata(metadata)
+                        .withType("generic")
+                        .withData(data)
+                        .build();
+                ResourceApplier.apply(item -> getKubernetesClient().secrets().inNamespace(namespace).resource(item), secret,
+                        KubernetesSettings.getApplyMode(), false);
+            } else {
+                ConfigMap configMap = new ConfigMapBuilder()
+                        .withMetadata(metadata)
+                        .withBinaryData(data)
+                        .build();
+                ResourceApplier.apply(item -> getKubernetesClient().configMaps().inNamespace(namespace).resource(item), configMap,
+                        KubernetesSettings.getApplyMode(), false);
+            }
+        }
+
+        deleteStaleObjects(namespace, resolvedName, names);
+
+        LOG.info(String.format("Created data set '%s' with %d entries in %d %s(s), %d unchanged", resolvedName,
+                dataSet.getEntries().size(), objects.size(), kind == Kind.SECRET ? "secret" : "config map", skipped));
+    }
+
+    /**
+     * Adds given file or all regular files in given directory to the data set.
+     * @param dataSet
+     * @param resource
+     */
+    private void addEntries(DataSet dataSet, Resource resource) {
+        File file = null;
+        try {
+            file = resource.getFile();
+        } catch (CitrusRuntimeException | UnsupportedOperationException e) {
+            // resource is not available on the file system, read as stream
+        }
+
+        if (file != null && file.isDirectory()) {
+            File[] files = file.listFiles(File::isFile);
+            if (files == null) {
+                throw new CitrusRuntimeException(String.format("Failed to list files in directory '%s'", resource.getLocation()));
+            }
+
+            Arrays.sort(files, Comparator.comparing(File::getName));
+            for (File child : files) {
+                addEntry(dataSet, child.getName(), Resources.create(child));
+            }
+        } else {
+            addEntry(dataSet, FileUtils.getFileName(resource.getLocation()), resource);
+        }
+    }
+
+    private void addEntry(DataSet dataSet, String key, Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            dataSet.add(key, in);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to read data set file '%s'", resource.getLocation()), e);
+        }
+    }
+
+    private String getLiveDigest(String namespace, String objectName) {
+        HasMetadata live = kind == Kind.SECRET ?
+                getKubernetesClient().secrets().inNamespace(namespace).withName(objectName).get() :
+                getKubernetesClient().configMaps().inNamespace(namespace).withName(objectName).get();
+
+        if (live == null || live.getMetadata().getAnnotations() == null) {
+            return null;
+        }
+
+        return live.getMetadata().getAnnotations().get(DataSet.CONTENT_DIGEST_ANNOTATION);
+    }
+
+    /**
+     * Deletes objects of a previous version of the data set that has been split into more objects.
+     * @param namespace
+     * @param dataSetName
+     * @param names
+     */
+    private void deleteStaleObjects(String namespace, String dataSetName, Set<String> names) {
+        List<HasMetadata> existing = new ArrayList<>(kind == Kind.SECRET ?
+                getKubernetesClient().secrets().inNamespace(namespace).withLabel(DataSet.DATA_SET_LABEL, dataSetName).list().getItems() :
+                getKubernetesClient().configMaps().inNamespace(namespace).withLabel(DataSet.DATA_SET_LABEL, dataSetName).list().getItems());
+
+        existing.stream()
+                .filter(item -> !names.contains(item.getMetadata().getName()))
+                .forEach(item -> getKubernetesClient().resource(item).inNamespace(namespace).delete());
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractKubernetesAction.Builder<CreateDataSetAction, Builder> {
+
+        private String name;
+        private Kind kind = Kind.SECRET;
+        private final List<String> filePaths = new ArrayList<>();
+        private int maxObjectSize = KubernetesSettings.getDataMaxObjectSize();
+
+        public Builder secret(String secretName) {
+            this.name = secretName;
+            this.kind = Kind.SECRET;
+            return this;
+        }
+
+        public Builder configMap(String configMapName) {
+            this.name = configMapName;
+            this.kind = Kind.CONFIG_MAP;
+            return this;
+        }
+
+        public Builder fromFile(String filePath) {
+            this.filePaths.add(filePath);
+            return this;
+        }
+
+        public Builder fromDirectory(String directoryPath) {
+            this.filePaths.add(directoryPath);
+            return this;
+        }
+
+        public Builder maxObjectSize(int maxObjectSize) {
+            this.maxObjectSize = maxObjectSize;
+            return this;
+        }
+
+        @Override
+        public CreateDataSetAction build() {
+            return new CreateDataSetAction(this);
+        }
+    }
+}
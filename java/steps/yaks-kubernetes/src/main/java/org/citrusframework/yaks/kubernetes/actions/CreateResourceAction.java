@@ -18,8 +18,12 @@ package org.citrusframework.yaks.kubernetes.actions;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 
 /**
  * @author Christoph Deppisch
@@ -35,11 +39,14 @@ public class CreateResourceAction extends AbstractKubernetesAction implements Ku
 
     @Override
     public void doExecute(TestContext context) {
-        getKubernetesClient()
+        List<HasMetadata> resources = getKubernetesClient()
                  .load(new ByteArrayInputStream(context.replaceDynamicContentInString(content)
                          .getBytes(StandardCharsets.UTF_8)))
-                 .inNamespace(namespace(context))
-                 .createOrReplace();
+                 .items();
+        for (HasMetadata resource : resources) {
+            KubernetesSupport.addScenarioLabels(resource, context);
+            ResourceApplier.apply(getKubernetesClient(), namespace(context), resource);
+        }
     }
 
     /**
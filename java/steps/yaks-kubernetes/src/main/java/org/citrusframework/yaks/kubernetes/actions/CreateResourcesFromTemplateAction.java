@@ -0,0 +1,263 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
+import org.citrusframework.yaks.kubernetes.template.ResourceTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates many similar Kubernetes resources from one template. The template is compiled once and rendered for each
+ * row of template variables. Test variables and functions are resolved on each rendered document so functions may use
+ * row values as arguments. Rendered resources are submitted in parallel with a bounded number of concurrent requests.
+ * Reports the result for each row and the overall throughput. Fails when one of the resources could not be created.
+ */
+public class CreateResourcesFromTemplateAction extends AbstractKubernetesAction implements KubernetesAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(CreateResourcesFromTemplateAction.class);
+
+    /** Template variable holding the row index */
+    public static final String INDEX_VARIABLE = "index";
+
+    private final String template;
+    private final List<Map<String, String>> rows;
+    private final int concurrency;
+
+    public CreateResourcesFromTemplateAction(Builder builder) {
+        super("create-resources-from-template", builder);
+
+        this.template = builder.template;
+        this.rows = Collections.unmodifiableList(builder.rows);
+        this.concurrency = builder.concurrency;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Set<String> variables = new LinkedHashSet<>();
+        rows.forEach(row -> variables.addAll(row.keySet()));
+
+        ResourceTemplate compiled = ResourceTemplate.compile(template, variables);
+        String namespace = namespace(context);
+
+        long start = System.currentTimeMillis();
+
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(rows.size(), concurrency)), runnable -> {
+            Thread thread = new Thread(runnable, "k8s-template-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Result> results;
+        try {
+            List<CompletableFuture<Result>> creations = new ArrayList<>(rows.size());
+            for (Map<String, String> row : rows) {
+                long rendering = System.currentTimeMillis();
+                try {
+                    List<HasMetadata> resources = load(compiled, row, context);
+                    creations.add(CompletableFuture.supplyAsync(() -> create(resources, row, namespace), executor));
+                } catch (KubernetesClientException | CitrusRuntimeException e) {
+                    creations.add(CompletableFuture.completedFuture(new Result(row.get(INDEX_VARIABLE), Collections.emptyList(),
+                            System.currentTimeMillis() - rendering, e.getMessage())));
+                }
+            }
+
+            results = creations.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = Math.max(1L, System.currentTimeMillis() - start);
+        List<Result> failed = results.stream().filter(Result::isFailed).collect(Collectors.toList());
+        long resources = results.stream().mapToLong(Result::getResources).sum();
+
+        if (LOG.isDebugEnabled()) {
+            results.forEach(result -> LOG.debug(result.toString()));
+        }
+
+        LOG.info(String.format("Created %d resource(s) from %d template row(s) in %d ms (%.1f resources/s, concurrency %d), %d row(s) failed",
+                resources, rows.size(), elapsed, resources * 1000.0 / elapsed, Math.min(rows.size(), concurrency), failed.size()));
+
+        if (!failed.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to create resources from template for %d of %d row(s):%n  %s",
+                    failed.size(), rows.size(), failed.stream().map(Result::toString).collect(Collectors.joining(String.format("%n  ")))));
+        }
+    }
+
+    /**
+     * Renders the template for given row and loads the resulting resources. Resolves test variables and functions
+     * on the rendered document and adds the scenario labels to all resources. The scenario labels are added regardless of
+     * the labeled teardown setting because the resources created from a template are always removed by these labels.
+     * Runs on the test thread as it accesses the test context.
+     * @param template
+     * @param row
+     * @param context
+     * @return
+     */
+    private List<HasMetadata> load(ResourceTemplate template, Map<String, String> row, TestContext context) {
+        String document = context.replaceDynamicContentInString(template.render(row));
+        List<HasMetadata> resources = getKubernetesClient()
+                .load(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)))
+                .items();
+
+        Map<String, String> labels = KubernetesSupport.getScenarioLabels(context);
+        resources.forEach(resource -> KubernetesSupport.addLabels(resource, labels));
+        return resources;
+    }
+
+    /**
+     * Creates given resources rendered from the template for given row.
+     * @param resources
+     * @param row
+     * @param namespace
+     * @return
+     */
+    private Result create(List<HasMetadata> resources, Map<String, String> row, String namespace) {
+        long start = System.currentTimeMillis();
+        List<String> created = new ArrayList<>();
+
+        try {
+            for (HasMetadata resource : resources) {
+                ResourceApplier.apply(getKubernetesClient(), namespace, resource);
+                created.add(resource.getKind() + "/" + resource.getMetadata().getName());
+            }
+
+            return new Result(row.get(INDEX_VARIABLE), created, System.currentTimeMillis() - start, null);
+        } catch (KubernetesClientException | CitrusRuntimeException e) {
+            return new Result(row.get(INDEX_VARIABLE), created, System.currentTimeMillis() - start, e.getMessage());
+        }
+    }
+
+    /**
+     * Result of creating the resources of one template row.
+     */
+    private static final class Result {
+        private final String index;
+        private final List<String> created;
+        private final long elapsed;
+        private final String error;
+
+        private Result(String index, List<String> created, long elapsed, String error) {
+            this.index = index;
+            this.created = created;
+            this.elapsed = elapsed;
+            this.error = error;
+        }
+
+        boolean isFailed() {
+            return error != null;
+        }
+
+        long getResources() {
+            return created.size();
+        }
+
+        @Override
+        public String toString() {
+            if (isFailed()) {
+                return String.format("Row %s failed after %d ms %s - %s", index, elapsed, created, error);
+            }
+
+            return String.format("Row %s created %s in %d ms", index, created, elapsed);
+        }
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractKubernetesAction.Builder<CreateResourcesFromTemplateAction, Builder> {
+
+        private String template;
+        private final List<Map<String, String>> rows = new ArrayList<>();
+        private int concurrency = KubernetesSettings.getTemplateConcurrency();
+
+        public Builder template(String template) {
+            this.template = template;
+            return this;
+        }
+
+        /**
+         * Adds template variable rows. Each row creates the resources in the template once. Rows without
+         * an index variable get their position as index.
+         * @param rows
+         * @return
+         */
+        public Builder rows(List<Map<String, String>> rows) {
+            rows.forEach(this::row);
+            return this;
+        }
+
+        public Builder row(Map<String, String> row) {
+            Map<String, String> values = new HashMap<>(row);
+            values.putIfAbsent(INDEX_VARIABLE, String.valueOf(rows.size()));
+            this.rows.add(values);
+            return this;
+        }
+
+        /**
+         * Adds one row for each number in given range (inclusive). The number is set as index variable.
+         * @param from
+         * @param to
+         * @return
+         */
+        public Builder range(int from, int to) {
+            for (int i = from; i <= to; i++) {
+                this.rows.add(Collections.singletonMap(INDEX_VARIABLE, String.valueOf(i)));
+            }
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        @Override
+        public CreateResourcesFromTemplateAction build() {
+            return new CreateResourcesFromTemplateAction(this);
+        }
+    }
+}
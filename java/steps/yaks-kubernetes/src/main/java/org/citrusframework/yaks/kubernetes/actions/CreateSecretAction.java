@@ -27,11 +27,12 @@ import java.util.Map;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.spi.Resource;
 import org.citrusframework.util.FileUtils;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 import org.citrusframework.yaks.util.ResourceUtils;
 
 /**
@@ -74,15 +75,13 @@ public class CreateSecretAction extends AbstractKubernetesAction implements Kube
                 .withNewMetadata()
                     .withNamespace(namespace(context))
                     .withName(context.replaceDynamicContentInString(secretName))
+                    .withLabels(KubernetesSupport.getTeardownLabels(context))
                 .endMetadata()
                 .withType("generic")
                 .withData(data)
                 .build();
 
-        getKubernetesClient().secrets()
-                .inNamespace(namespace(context))
-                .resource(secret)
-                .createOr(Updatable::update);
+        ResourceApplier.apply(getKubernetesClient().secrets().inNamespace(namespace(context)), secret);
     }
 
     /**
@@ -21,7 +21,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-import io.fabric8.kubernetes.client.dsl.Updatable;
 import org.citrusframework.context.TestContext;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.Service;
@@ -30,6 +29,8 @@ import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import org.citrusframework.yaks.YaksSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.apply.ResourceApplier;
 
 /**
  * @author Christoph Deppisch
@@ -75,6 +76,7 @@ public class CreateServiceAction extends AbstractKubernetesAction {
                     .withNamespace(namespace(context))
                     .withName(context.replaceDynamicContentInString(serviceName))
                     .withLabels(KubernetesSettings.getDefaultLabels())
+                    .addToLabels(KubernetesSupport.getTeardownLabels(context))
                 .endMetadata()
                 .withNewSpec()
                     // add selector to the very specific Pod that is running the test right now. This way the service will route all traffic to the test
@@ -83,9 +85,7 @@ public class CreateServiceAction extends AbstractKubernetesAction {
                 .endSpec()
                 .build();
 
-        Service created = getKubernetesClient().services().inNamespace(namespace(context))
-                .resource(service)
-                .createOr(Updatable::update);
+        Service created = ResourceApplier.apply(getKubernetesClient().services().inNamespace(namespace(context)), service);
 
         if (created.getSpec().getClusterIP() != null) {
             context.setVariable("YAKS_KUBERNETES_SERVICE_CLUSTER_IP", created.getSpec().getClusterIP());
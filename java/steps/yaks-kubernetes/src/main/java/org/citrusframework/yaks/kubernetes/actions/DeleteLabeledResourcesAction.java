@@ -0,0 +1,188 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes all resources created by a test scenario with one label selector delete per resource kind and namespace.
+ * Resource kinds are deleted in parallel. Optionally waits for the deleted resources to be gone and reports
+ * all resources left behind (e.g. resources blocked by finalizers).
+ */
+public class DeleteLabeledResourcesAction extends AbstractKubernetesAction {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(DeleteLabeledResourcesAction.class);
+
+    /** Maximum number of resource kinds deleted in parallel */
+    private static final int MAX_PARALLEL_DELETES = 8;
+
+    /** Delay between checks when waiting for deleted resources to be gone */
+    private static final long WAIT_DELAY = 500L;
+
+    private final LabeledTeardown teardown;
+    private final boolean waitForDeletion;
+    private final long timeout;
+
+    public DeleteLabeledResourcesAction(Builder builder) {
+        super("delete-labeled-resources", builder);
+
+        this.teardown = builder.teardown;
+        this.waitForDeletion = builder.waitForDeletion;
+        this.timeout = builder.timeout;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        List<LabeledTeardown.Target> targets = teardown.getTargets();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(targets.size(), MAX_PARALLEL_DELETES), runnable -> {
+            Thread thread = new Thread(runnable, "k8s-teardown-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<String> leftovers = new ArrayList<>();
+        try {
+            List<CompletableFuture<List<String>>> deletions = targets.stream()
+                    .map(target -> CompletableFuture.supplyAsync(() -> delete(target), executor))
+                    .collect(Collectors.toList());
+
+            deletions.forEach(deletion -> leftovers.addAll(deletion.join()));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        if (leftovers.isEmpty()) {
+            LOG.info(String.format("Deleted resources labeled with %s of %d resource kind(s) in %d ms",
+                    teardown.getLabels(), targets.size(), elapsed));
+        } else if (waitForDeletion) {
+            LOG.warn(String.format("Resources labeled with %s left behind after %d ms:%n  %s",
+                    teardown.getLabels(), elapsed, String.join(String.format("%n  "), leftovers)));
+        } else {
+            LOG.info(String.format("Resources labeled with %s still terminating after %d ms:%n  %s",
+                    teardown.getLabels(), elapsed, String.join(String.format("%n  "), leftovers)));
+        }
+    }
+
+    /**
+     * Deletes all labeled resources of given kind and returns the resources that are still present.
+     * @param target
+     * @return
+     */
+    private List<String> delete(LabeledTeardown.Target target) {
+        FilterWatchListDeletable<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>> selected =
+                getKubernetesClient().genericKubernetesResources(target.getKind())
+                        .inNamespace(target.getNamespace())
+                        .withLabels(teardown.getLabels());
+
+        try {
+            selected.delete();
+
+            List<GenericKubernetesResource> remaining = selected.list().getItems();
+            if (waitForDeletion && !remaining.isEmpty()) {
+                WaitResult<List<GenericKubernetesResource>> result = WaitStrategies.fixed((int) Math.max(1, timeout / WAIT_DELAY), WAIT_DELAY)
+                        .waitFor(String.format("deletion of %s", target), () -> {
+                            List<GenericKubernetesResource> items = selected.list().getItems();
+                            return items.isEmpty() ? items : null;
+                        });
+
+                remaining = result.isSatisfied() ? result.getResult() : selected.list().getItems();
+            }
+
+            return remaining.stream()
+                    .map(resource -> describe(target, resource))
+                    .collect(Collectors.toList());
+        } catch (KubernetesClientException e) {
+            LOG.warn(String.format("Failed to delete %s", target), e);
+            return Collections.singletonList(String.format("%s - delete failed: %s", target, e.getMessage()));
+        }
+    }
+
+    private static String describe(LabeledTeardown.Target target, GenericKubernetesResource resource) {
+        StringBuilder description = new StringBuilder()
+                .append(resource.getKind()).append("/").append(resource.getMetadata().getName())
+                .append(" in namespace '").append(target.getNamespace()).append("'");
+
+        if (resource.getMetadata().getFinalizers() != null && !resource.getMetadata().getFinalizers().isEmpty()) {
+            description.append(" finalizers=").append(resource.getMetadata().getFinalizers());
+        }
+
+        if (resource.getMetadata().getDeletionTimestamp() != null) {
+            description.append(" terminating since ").append(resource.getMetadata().getDeletionTimestamp());
+        }
+
+        return description.toString();
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractKubernetesAction.Builder<DeleteLabeledResourcesAction, Builder> {
+
+        private LabeledTeardown teardown;
+        private boolean waitForDeletion = KubernetesSettings.isTeardownWait();
+        private long timeout = KubernetesSettings.getTeardownTimeout();
+
+        public Builder teardown(LabeledTeardown teardown) {
+            this.teardown = teardown;
+            return this;
+        }
+
+        public Builder waitForDeletion(boolean waitForDeletion) {
+            this.waitForDeletion = waitForDeletion;
+            return this;
+        }
+
+        public Builder timeout(long timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        @Override
+        public DeleteLabeledResourcesAction build() {
+            return new DeleteLabeledResourcesAction(this);
+        }
+    }
+}
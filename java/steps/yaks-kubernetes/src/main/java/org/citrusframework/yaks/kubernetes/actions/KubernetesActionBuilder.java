@@ -18,6 +18,7 @@ package org.citrusframework.yaks.kubernetes.actions;
 
 import org.citrusframework.TestActionBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
 import org.springframework.util.Assert;
 
 /**
@@ -103,6 +104,22 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
         return new SecretActionBuilder();
     }
 
+    /**
+     * Performs actions on Kubernetes config maps.
+     * @return
+     */
+    public KubernetesActionBuilder.ConfigMapActionBuilder configMaps() {
+        return new ConfigMapActionBuilder();
+    }
+
+    /**
+     * Performs actions on pooled Kubernetes namespaces.
+     * @return
+     */
+    public KubernetesActionBuilder.NamespaceActionBuilder namespaces() {
+        return new NamespaceActionBuilder();
+    }
+
     @Override
     public KubernetesAction build() {
         Assert.notNull(delegate, "Missing delegate action to build");
@@ -117,6 +134,28 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
         return delegate;
     }
 
+    public class NamespaceActionBuilder {
+        /**
+         * Lease namespace from namespace pool.
+         */
+        public LeaseNamespaceAction.Builder lease() {
+            LeaseNamespaceAction.Builder builder = new LeaseNamespaceAction.Builder()
+                    .client(kubernetesClient);
+            delegate = builder;
+            return builder;
+        }
+
+        /**
+         * Return leased namespace to the namespace pool.
+         */
+        public ReleaseNamespaceAction.Builder release() {
+            ReleaseNamespaceAction.Builder builder = new ReleaseNamespaceAction.Builder()
+                    .client(kubernetesClient);
+            delegate = builder;
+            return builder;
+        }
+    }
+
     public class SecretActionBuilder {
         /**
          * Create secret instance.
@@ -130,6 +169,18 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
             return builder;
         }
 
+        /**
+         * Create secret instances from binary files and directories.
+         * @param secretName the name of the Kubernetes secret.
+         */
+        public CreateDataSetAction.Builder createFromData(String secretName) {
+            CreateDataSetAction.Builder builder = new CreateDataSetAction.Builder()
+                    .client(kubernetesClient)
+                    .secret(secretName);
+            delegate = builder;
+            return builder;
+        }
+
         /**
          * Add annotation on secret instance.
          * @param secretName the name of the Kubernetes secret.
@@ -167,6 +218,20 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
         }
     }
 
+    public class ConfigMapActionBuilder {
+        /**
+         * Create config map instances from binary files and directories.
+         * @param configMapName the name of the Kubernetes config map.
+         */
+        public CreateDataSetAction.Builder createFromData(String configMapName) {
+            CreateDataSetAction.Builder builder = new CreateDataSetAction.Builder()
+                    .client(kubernetesClient)
+                    .configMap(configMapName);
+            delegate = builder;
+            return builder;
+        }
+    }
+
     public class CustomResourceActionBuilder {
         /**
          * Create custom resource instance.
@@ -330,6 +395,18 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
             return builder;
         }
 
+        /**
+         * Create many Kubernetes resource instances from one yaml template.
+         * @param template the Kubernetes resource template as YAML content.
+         */
+        public CreateResourcesFromTemplateAction.Builder createFromTemplate(String template) {
+            CreateResourcesFromTemplateAction.Builder builder = new CreateResourcesFromTemplateAction.Builder()
+                    .client(kubernetesClient)
+                    .template(template);
+            delegate = builder;
+            return builder;
+        }
+
         /**
          * Add annotation on resource instance.
          * @param resourceName the name of the Kubernetes resource.
@@ -358,6 +435,42 @@ public class KubernetesActionBuilder implements TestActionBuilder.DelegatingTest
             return builder;
         }
 
+        /**
+         * Add annotations on many resource instances selected by name list or label selector.
+         * @param resourceType the type of the Kubernetes resources.
+         */
+        public CreateAnnotationsAction.Builder addAnnotations(String resourceType) {
+            CreateAnnotationsAction.Builder builder = new CreateAnnotationsAction.Builder()
+                    .client(kubernetesClient)
+                    .type(resourceType);
+            delegate = builder;
+            return builder;
+        }
+
+        /**
+         * Add labels on many resource instances selected by name list or label selector.
+         * @param resourceType the type of the Kubernetes resources.
+         */
+        public CreateLabelsAction.Builder addLabels(String resourceType) {
+            CreateLabelsAction.Builder builder = new CreateLabelsAction.Builder()
+                    .client(kubernetesClient)
+                    .type(resourceType);
+            delegate = builder;
+            return builder;
+        }
+
+        /**
+         * Delete all resources created by a test scenario using the scenario labels.
+         * @param teardown the resource kinds and labels to delete.
+         */
+        public DeleteLabeledResourcesAction.Builder deleteLabeled(LabeledTeardown teardown) {
+            DeleteLabeledResourcesAction.Builder builder = new DeleteLabeledResourcesAction.Builder()
+                    .client(kubernetesClient)
+                    .teardown(teardown);
+            delegate = builder;
+            return builder;
+        }
+
         /**
          * Delete any Kubernetes resource instance.
          * @param content the Kubernetes resource as YAML content.
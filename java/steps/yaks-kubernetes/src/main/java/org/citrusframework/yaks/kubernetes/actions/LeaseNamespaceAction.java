@@ -0,0 +1,62 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+
+/**
+ * Leases a namespace from the shared namespace pool and sets the namespace as current namespace for the test.
+ */
+public class LeaseNamespaceAction extends AbstractKubernetesAction {
+
+    private final long timeout;
+
+    public LeaseNamespaceAction(Builder builder) {
+        super("lease-namespace", builder);
+
+        this.timeout = builder.timeout;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String namespace = KubernetesSupport.getNamespacePool(getKubernetesClient()).lease(timeout);
+
+        context.setVariable(KubernetesVariableNames.NAMESPACE_LEASE.value(), namespace);
+        context.setVariable(KubernetesVariableNames.NAMESPACE.value(), namespace);
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractKubernetesAction.Builder<LeaseNamespaceAction, Builder> {
+
+        private long timeout = KubernetesSettings.getNamespacePoolLeaseTimeout();
+
+        public Builder timeout(long timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        @Override
+        public LeaseNamespaceAction build() {
+            return new LeaseNamespaceAction(this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+
+/**
+ * Returns the namespace leased by the current test to the shared namespace pool.
+ */
+public class ReleaseNamespaceAction extends AbstractKubernetesAction {
+
+    public ReleaseNamespaceAction(Builder builder) {
+        super("release-namespace", builder);
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        if (!context.getVariables().containsKey(KubernetesVariableNames.NAMESPACE_LEASE.value())) {
+            return;
+        }
+
+        String namespace = context.getVariable(KubernetesVariableNames.NAMESPACE_LEASE.value());
+        KubernetesSupport.getNamespacePool(getKubernetesClient()).release(namespace, getCreatedKinds(namespace, context));
+        context.getVariables().remove(KubernetesVariableNames.NAMESPACE_LEASE.value());
+    }
+
+    /**
+     * Gets the resource kinds the scenario has created in given namespace according to the scenario teardown.
+     * @param namespace
+     * @param context
+     * @return
+     */
+    private static List<ResourceDefinitionContext> getCreatedKinds(String namespace, TestContext context) {
+        LabeledTeardown teardown = (LabeledTeardown) context.getVariables().get(KubernetesVariableNames.TEARDOWN.value());
+        if (teardown == null) {
+            return Collections.emptyList();
+        }
+
+        return teardown.getTargets().stream()
+                .filter(target -> namespace.equals(target.getNamespace()))
+                .map(LabeledTeardown.Target::getKind)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Action builder.
+     */
+    public static class Builder extends AbstractKubernetesAction.Builder<ReleaseNamespaceAction, Builder> {
+
+        @Override
+        public ReleaseNamespaceAction build() {
+            return new ReleaseNamespaceAction(this);
+        }
+    }
+}
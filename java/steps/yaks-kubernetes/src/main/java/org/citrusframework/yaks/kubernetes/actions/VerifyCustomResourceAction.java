@@ -22,15 +22,24 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
-import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.events.FatalEventException;
+import org.citrusframework.yaks.kubernetes.events.FatalEventMonitor;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.citrusframework.yaks.kubernetes.wait.FixedDelayWaitStrategy;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitSignal;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategy;
+import org.citrusframework.yaks.kubernetes.wait.WatchWaitStrategy;
 import org.springframework.util.StringUtils;
 
 /**
@@ -50,6 +59,7 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
     private final String labelExpression;
     private final int maxAttempts;
     private final long delayBetweenAttempts;
+    private final WaitStrategy waitStrategy;
 
     private final String condition;
 
@@ -68,6 +78,8 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
         this.condition = builder.condition;
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
+        this.waitStrategy = Optional.ofNullable(builder.waitStrategy)
+                .orElseGet(() -> WaitStrategies.create(builder.waitStrategyName, maxAttempts, delayBetweenAttempts));
     }
 
     @Override
@@ -80,7 +92,9 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
     }
 
     /**
-     * Wait for given pod to be in given state.
+     * Wait for given resource to match given condition. Uses the shared informer cache to watch resource changes when the
+     * wait strategy is backed by a watch and falls back to polling the resource in case the watch is not available. Aborts
+     * the wait as soon as a fatal Kubernetes event is reported for the resource.
      * @param name
      * @param labelExpression
      * @param condition
@@ -88,31 +102,182 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
      * @return
      */
     private void verifyResource(String name, String labelExpression, String condition, TestContext context) {
-        for (int i = 0; i < maxAttempts; i++) {
-            GenericKubernetesResource resource;
-            if (name != null && !name.isEmpty()) {
-                resource = getResource(name, condition, context);
-            } else {
-                resource = getResourceFromLabel(labelExpression, condition, context);
+        try (FatalEventMonitor monitor = monitorFatalEvents(name, labelExpression, context)) {
+            WaitSignal signal = new WaitSignal();
+            monitor.fatalError().thenRun(signal::signal);
+
+            if (waitStrategy.isWatch()) {
+                try {
+                    watchResource(name, labelExpression, condition, context, monitor, signal);
+                    return;
+                } catch (KubernetesClientException e) {
+                    LOG.warn(String.format("Failed to watch resource '%s' - fallback to polling resource state",
+                            getNameOrLabel(name, labelExpression)), e);
+                }
             }
 
-            if (resource != null) {
-                LOG.info(String.format("Verified resource '%s' state '%s'!", getNameOrLabel(name, labelExpression), condition));
-                return;
-            }
+            pollResource(name, labelExpression, condition, context, monitor, signal);
+        } catch (FatalEventException e) {
+            throw new ActionTimeoutException(waitStrategy.getTimeout(),
+                    new CitrusRuntimeException(String.format("Failed to verify resource '%s' - %s",
+                            getNameOrLabel(name, labelExpression), e.getMessage()), e));
+        }
+    }
 
-            LOG.warn(String.format("Waiting for resource '%s' in state '%s' - retry in %s ms",
-                    getNameOrLabel(name, labelExpression), condition, delayBetweenAttempts));
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for resource condition", e);
-            }
+    /**
+     * Starts fatal event monitor for the resource identified by given name or label expression.
+     * The monitor is active for both watch and polling wait strategies.
+     * @param name
+     * @param labelExpression
+     * @param context
+     * @return
+     */
+    private FatalEventMonitor monitorFatalEvents(String name, String labelExpression, TestContext context) {
+        String resolvedKind = context.replaceDynamicContentInString(kind);
+        if (resolvedKind == null) {
+            return new FatalEventMonitor(getKubernetesClient(), namespace(context), Collections.emptySet());
+        }
+
+        return new FatalEventMonitor(getKubernetesClient(), namespace(context))
+                .involvedObjects(reference -> resolvedKind.equals(reference.getKind()) &&
+                        isResource(reference.getName(), name, labelExpression, context))
+                .start();
+    }
+
+    /**
+     * Checks if resource with given name is identified by given resource name or label expression.
+     * Reads resource labels from the shared informer cache.
+     * @param resourceName
+     * @param name
+     * @param labelExpression
+     * @param context
+     * @return
+     */
+    private boolean isResource(String resourceName, String name, String labelExpression, TestContext context) {
+        if (name != null && !name.isEmpty()) {
+            return name.equals(resourceName);
+        }
+
+        GenericKubernetesResource resource = KubernetesSupport.getInformerCache(getKubernetesClient())
+                .getResource(namespace(context), getCrdContext(context), resourceName);
+        return resource != null && matches(resource, name, labelExpression);
+    }
+
+    /**
+     * Checks if given resource is identified by given name or label expression.
+     * @param resource
+     * @param name
+     * @param labelExpression
+     * @return
+     */
+    private static boolean matches(GenericKubernetesResource resource, String name, String labelExpression) {
+        if (name != null && !name.isEmpty()) {
+            return name.equals(resource.getMetadata().getName());
+        }
+
+        if (labelExpression == null || labelExpression.isEmpty()) {
+            return false;
+        }
+
+        String[] tokens = labelExpression.split("=");
+        String labelKey = tokens[0];
+        String labelValue = tokens.length > 1 ? tokens[1] : "";
+
+        return resource.getMetadata().getLabels() != null &&
+                labelValue.equals(resource.getMetadata().getLabels().get(labelKey));
+    }
+
+    /**
+     * Reads the resource from the shared informer cache and waits for the resource to match given condition. Checks the
+     * condition each time a resource change is reported. Fails when the resource has not reached the condition within the
+     * timeout of the wait strategy.
+     * @param name
+     * @param labelExpression
+     * @param condition
+     * @param context
+     * @param monitor
+     * @param signal
+     */
+    private void watchResource(String name, String labelExpression, String condition, TestContext context,
+                               FatalEventMonitor monitor, WaitSignal signal) {
+        if ((name == null || name.isEmpty()) && (labelExpression == null || labelExpression.isEmpty())) {
+            throw new CitrusRuntimeException("Missing resource name or label expression to identify the resource");
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        LOG.info(String.format("Waiting for resource '%s' in state '%s'", getNameOrLabel(name, labelExpression), condition));
+
+        String namespace = namespace(context);
+        ResourceDefinitionContext crdContext = getCrdContext(context);
+        KubernetesInformerCache cache = KubernetesSupport.getInformerCache(getKubernetesClient());
+        try (KubernetesInformerCache.Subscription ignored = cache.subscribeResources(namespace, crdContext, signal.handler())) {
+            WaitResult<GenericKubernetesResource> result = waitStrategy.waitFor(getWaitDescription(name, labelExpression, condition), () -> {
+                monitor.verify();
+
+                List<GenericKubernetesResource> resources;
+                if (name != null && !name.isEmpty()) {
+                    resources = Optional.ofNullable(cache.getResource(namespace, crdContext, name))
+                            .map(Collections::singletonList)
+                            .orElse(Collections.emptyList());
+                } else {
+                    String[] tokens = labelExpression.split("=");
+                    resources = cache.getResources(namespace, crdContext, tokens[0], tokens.length > 1 ? tokens[1] : "");
+                }
+
+                return resources.stream()
+                        .filter(resource -> verifyResourceStatus(resource, condition))
+                        .findFirst()
+                        .orElse(null);
+            }, signal);
+
+            verified(result, name, labelExpression, condition);
+        }
+    }
+
+    /**
+     * Poll given resource using the wait strategy until it matches given condition.
+     * @param name
+     * @param labelExpression
+     * @param condition
+     * @param context
+     * @param monitor
+     * @param signal
+     */
+    private void pollResource(String name, String labelExpression, String condition, TestContext context,
+                              FatalEventMonitor monitor, WaitSignal signal) {
+        WaitResult<GenericKubernetesResource> result = WaitStrategies.polling(waitStrategy, maxAttempts, delayBetweenAttempts)
+                .waitFor(getWaitDescription(name, labelExpression, condition), () -> {
+                    monitor.verify();
+
+                    if (name != null && !name.isEmpty()) {
+                        return getResource(name, condition, context);
+                    } else {
+                        return getResourceFromLabel(labelExpression, condition, context);
+                    }
+                }, signal);
+
+        verified(result, name, labelExpression, condition);
+    }
+
+    /**
+     * Evaluates given wait result. Raises timeout error when resource has not reached the condition.
+     * @param result
+     * @param name
+     * @param labelExpression
+     * @param condition
+     */
+    private void verified(WaitResult<GenericKubernetesResource> result, String name, String labelExpression, String condition) {
+        if (result.isSatisfied()) {
+            LOG.info(String.format("Verified resource '%s' state '%s'!", getNameOrLabel(name, labelExpression), condition));
+            return;
+        }
+
+        throw new ActionTimeoutException(waitStrategy.getTimeout(),
                 new CitrusRuntimeException(String.format("Failed to verify resource '%s' - " +
-                        "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), condition, maxAttempts)));
+                        "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), condition, result.getAttempts())));
+    }
+
+    private String getWaitDescription(String name, String labelExpression, String condition) {
+        return String.format("resource '%s' in state '%s'", getNameOrLabel(name, labelExpression), condition);
     }
 
     /**
@@ -237,6 +402,8 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
 
         private int maxAttempts = KubernetesSettings.getMaxAttempts();
         private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
+        private String waitStrategyName = KubernetesSettings.getWaitStrategy();
+        private WaitStrategy waitStrategy;
 
         private String condition = "Ready";
 
@@ -332,6 +499,20 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
             return this;
         }
 
+        public Builder watch(boolean watch) {
+            return waitStrategy(watch ? WatchWaitStrategy.NAME : FixedDelayWaitStrategy.NAME);
+        }
+
+        public Builder waitStrategy(String waitStrategyName) {
+            this.waitStrategyName = waitStrategyName;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
         @Override
         public VerifyCustomResourceAction build() {
             return new VerifyCustomResourceAction(this);
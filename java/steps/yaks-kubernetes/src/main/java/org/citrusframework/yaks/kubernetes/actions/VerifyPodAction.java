@@ -16,14 +16,36 @@
 
 package org.citrusframework.yaks.kubernetes.actions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ContainerResource;
+import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.TimeTailPrettyLoggable;
 import org.citrusframework.yaks.kubernetes.KubernetesSettings;
 import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.events.FatalEventException;
+import org.citrusframework.yaks.kubernetes.events.FatalEventMonitor;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.citrusframework.yaks.kubernetes.logs.LogMessageMatcher;
+import org.citrusframework.yaks.kubernetes.logs.PodLogCursor;
+import org.citrusframework.yaks.kubernetes.logs.PodLogFollower;
+import org.citrusframework.yaks.kubernetes.wait.FixedDelayWaitStrategy;
+import org.citrusframework.yaks.kubernetes.wait.WaitResult;
+import org.citrusframework.yaks.kubernetes.wait.WaitSignal;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategies;
+import org.citrusframework.yaks.kubernetes.wait.WaitStrategy;
+import org.citrusframework.yaks.kubernetes.wait.WatchWaitStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,12 +63,14 @@ public class VerifyPodAction extends AbstractKubernetesAction {
 
     private final String podName;
     private final String labelExpression;
-    private final String logMessage;
+    private final List<String> logMessages;
+    private final List<String> rejectedLogMessages;
     private final int maxAttempts;
     private final long delayBetweenAttempts;
 
     private final String phase;
     private final boolean printLogs;
+    private final WaitStrategy waitStrategy;
 
     /**
      * Constructor using given builder.
@@ -57,10 +81,13 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         this.podName = builder.podName;
         this.labelExpression = builder.labelExpression;
         this.phase = builder.phase;
-        this.logMessage = builder.logMessage;
+        this.logMessages = builder.logMessages;
+        this.rejectedLogMessages = builder.rejectedLogMessages;
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
         this.printLogs = builder.printLogs;
+        this.waitStrategy = Optional.ofNullable(builder.waitStrategy)
+                .orElseGet(() -> WaitStrategies.create(builder.waitStrategyName, maxAttempts, delayBetweenAttempts));
     }
 
     @Override
@@ -70,84 +97,195 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         Pod pod = verifyPod(resolvedPodName, resolvedLabelExpression,
                 context.replaceDynamicContentInString(phase), namespace(context));
 
-        if (logMessage != null) {
-            verifyPodLogs(pod, getNameOrLabel(resolvedPodName, resolvedLabelExpression), namespace(context), context.replaceDynamicContentInString(logMessage));
+        if (!logMessages.isEmpty()) {
+            verifyPodLogs(pod, getNameOrLabel(resolvedPodName, resolvedLabelExpression), namespace(context),
+                    logMessages.stream().map(context::replaceDynamicContentInString).collect(Collectors.toList()));
+        }
+
+        if (!rejectedLogMessages.isEmpty()) {
+            verifyNoPodLogs(pod, getNameOrLabel(resolvedPodName, resolvedLabelExpression), namespace(context),
+                    rejectedLogMessages.stream().map(context::replaceDynamicContentInString).collect(Collectors.toList()));
         }
     }
 
     /**
-     * Wait for pod to log given message.
+     * Wait for pod to log given messages.
      * @param pod
      * @param nameOrLabel
      * @param namespace
-     * @param message
+     * @param messages
      */
-    private void verifyPodLogs(Pod pod, String nameOrLabel, String namespace, String message) {
+    private void verifyPodLogs(Pod pod, String nameOrLabel, String namespace, List<String> messages) {
         if (printLogs) {
             POD_LOG.info(String.format("Waiting for pod '%s' to log message", nameOrLabel));
         }
 
-        String log;
-        int offset = 0;
+        LogMessageMatcher matcher = new LogMessageMatcher(messages);
+        int attempts = scanPodLogs(pod, nameOrLabel, namespace, matcher);
 
-        for (int i = 0; i < maxAttempts; i++) {
-            log = getPodLogs(pod, namespace);
+        if (matcher.isMatched()) {
+            LOG.info("Verified pod logs - All values OK!");
+            return;
+        }
 
-            if (printLogs && (offset < log.length())) {
-                POD_LOG.info(log.substring(offset));
-                offset = log.length();
-            }
+        if (!printLogs) {
+            LOG.info(String.format("Last log output of pod '%s':%n%s", nameOrLabel, matcher.getTail()));
+        }
 
-            if (log.contains(message)) {
-                LOG.info("Verified pod logs - All values OK!");
-                return;
-            }
+        throw new ActionTimeoutException(waitStrategy.getTimeout(),
+                new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
+                        "has not printed message '%s' after %d attempts", nameOrLabel,
+                        String.join("', '", matcher.getUnmatched()), attempts)));
+    }
 
+    /**
+     * Verify that the pod does not log any of the given messages within the timeout of the wait strategy.
+     * Fails as soon as one of the messages appears in the pod logs.
+     * @param pod
+     * @param nameOrLabel
+     * @param namespace
+     * @param messages
+     */
+    private void verifyNoPodLogs(Pod pod, String nameOrLabel, String namespace, List<String> messages) {
+        if (printLogs) {
+            POD_LOG.info(String.format("Verifying that pod '%s' does not log message", nameOrLabel));
+        }
+
+        LogMessageMatcher matcher = LogMessageMatcher.anyOf(messages);
+        scanPodLogs(pod, nameOrLabel, namespace, matcher);
+
+        if (matcher.isMatched()) {
             if (!printLogs) {
-                LOG.info(String.format("Waiting for pod '%s' to log message - retry in %s ms", nameOrLabel, delayBetweenAttempts));
+                LOG.info(String.format("Last log output of pod '%s':%n%s", nameOrLabel, matcher.getTail()));
             }
 
+            throw new CitrusRuntimeException(String.format("Failed to verify pod '%s' - has printed message '%s'",
+                    nameOrLabel, String.join("', '", matcher.getMatched())));
+        }
+
+        LOG.info("Verified pod logs - All values OK!");
+    }
+
+    /**
+     * Scans the pod logs with given matcher until the matcher is satisfied or the timeout of the wait strategy is exceeded.
+     * Follows the pod log stream when the wait strategy is backed by a watch so only new log output is scanned.
+     * Falls back to polling the pod logs in case the log stream is not available.
+     * @param pod
+     * @param nameOrLabel
+     * @param namespace
+     * @param matcher
+     * @return number of attempts.
+     */
+    private int scanPodLogs(Pod pod, String nameOrLabel, String namespace, LogMessageMatcher matcher) {
+        int attempts;
+        if (waitStrategy.isWatch()) {
             try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for pod logs", e);
+                attempts = new PodLogFollower(sinceTime -> getPodLogs(pod, namespace, sinceTime).watchLog(),
+                        () -> isPodRunning(pod, namespace), delayBetweenAttempts, printLogs ? POD_LOG::info : null)
+                        .follow(nameOrLabel, matcher, waitStrategy.getTimeout());
+            } catch (KubernetesClientException e) {
+                LOG.warn(String.format("Failed to follow logs of pod '%s' - fallback to polling pod logs", nameOrLabel), e);
+                matcher.reset();
+                attempts = pollPodLogs(pod, nameOrLabel, namespace, matcher);
             }
+        } else {
+            attempts = pollPodLogs(pod, nameOrLabel, namespace, matcher);
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
-                new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
-                        "has not printed message '%s' after %d attempts", nameOrLabel, logMessage, maxAttempts)));
+        return attempts;
     }
 
     /**
-     * Retrieve log messages from given pod.
+     * Poll pod logs using the wait strategy. Only the log output that has been added since the previous
+     * attempt is requested and passed to the matcher.
      * @param pod
+     * @param nameOrLabel
      * @param namespace
+     * @param matcher
+     * @return number of attempts.
+     */
+    private int pollPodLogs(Pod pod, String nameOrLabel, String namespace, LogMessageMatcher matcher) {
+        PodLogCursor cursor = new PodLogCursor();
+
+        WaitResult<Boolean> result = getPollingStrategy().waitFor(String.format("pod '%s' to log message", nameOrLabel), () -> {
+            String newLogs = cursor.acceptAll(getPodLogs(pod, namespace, cursor.getSinceTime()).getLog());
+
+            if (!newLogs.isEmpty()) {
+                if (printLogs) {
+                    POD_LOG.info(newLogs);
+                }
+
+                if (matcher.scan(newLogs)) {
+                    return true;
+                }
+            }
+
+            return null;
+        });
+
+        return result.getAttempts();
+    }
+
+    /**
+     * Retrieve log messages with timestamps from given pod. Only log messages since given time are retrieved
+     * unless since time is null.
+     * @param pod
+     * @param namespace
+     * @param sinceTime
      * @return
      */
-    private String getPodLogs(Pod pod, String namespace) {
+    private Loggable getPodLogs(Pod pod, String namespace, String sinceTime) {
+        TimeTailPrettyLoggable logs = getPodLogResource(pod, namespace).usingTimestamps();
+        if (sinceTime != null) {
+            return logs.sinceTime(sinceTime);
+        }
+
+        return logs;
+    }
+
+    /**
+     * Checks whether given pod is still running and may print more log messages.
+     * @param pod
+     * @param namespace
+     * @return
+     */
+    private boolean isPodRunning(Pod pod, String namespace) {
+        Pod current = getKubernetesClient().pods()
+                .inNamespace(namespace)
+                .withName(pod.getMetadata().getName())
+                .get();
+
+        if (current == null || current.getStatus() == null) {
+            return false;
+        }
+
+        return !"Succeeded".equals(current.getStatus().getPhase()) && !"Failed".equals(current.getStatus().getPhase());
+    }
+
+    /**
+     * Get the log resource for given pod. Selects the first container in case the pod has multiple containers.
+     * @param pod
+     * @param namespace
+     * @return
+     */
+    private ContainerResource getPodLogResource(Pod pod, String namespace) {
         PodResource podRes = getKubernetesClient().pods()
                 .inNamespace(namespace)
                 .withName(pod.getMetadata().getName());
 
-        String containerName = null;
         if (pod.getSpec() != null && pod.getSpec().getContainers() != null && pod.getSpec().getContainers().size() > 1) {
-            containerName = pod.getSpec().getContainers().get(0).getName();
+            return podRes.inContainer(pod.getSpec().getContainers().get(0).getName());
         }
 
-        String logs;
-        if (containerName != null) {
-            logs = podRes.inContainer(containerName).getLog();
-        } else {
-            logs = podRes.getLog();
-        }
-        return logs;
+        return podRes;
     }
 
     /**
-     * Wait for given pod to be in given state.
+     * Wait for given pod to be in given state. Uses a Kubernetes watch on the pod when the wait strategy is backed by a watch
+     * and falls back to polling the pod state in case the watch is not available. Aborts the wait as soon as a fatal Kubernetes event
+     * (e.g. image pull failure) is reported for the pod.
      * @param name
-     * @param labelExpression         1
+     * @param labelExpression
      * @param phase
      * @param namespace
      * @return
@@ -155,31 +293,164 @@ public class VerifyPodAction extends AbstractKubernetesAction {
     private Pod verifyPod(String name, String labelExpression, String phase, String namespace) {
         POD_STATUS_LOG.info(String.format("Waiting for pod '%s' to be in state '%s'", name, phase));
 
-        for (int i = 0; i < maxAttempts; i++) {
-            Pod pod;
+        try (FatalEventMonitor monitor = monitorFatalEvents(name, labelExpression, phase, namespace)) {
+            WaitSignal signal = new WaitSignal();
+            monitor.fatalError().thenRun(signal::signal);
+
+            if (waitStrategy.isWatch()) {
+                try {
+                    return watchPod(name, labelExpression, phase, namespace, monitor, signal);
+                } catch (KubernetesClientException e) {
+                    LOG.warn(String.format("Failed to watch pod '%s' - fallback to polling pod state",
+                            getNameOrLabel(name, labelExpression)), e);
+                }
+            }
+
+            return pollPod(name, labelExpression, phase, namespace, monitor, signal);
+        } catch (FatalEventException e) {
+            throw new ActionTimeoutException(waitStrategy.getTimeout(),
+                    new CitrusRuntimeException(String.format("Failed to verify pod '%s' - %s",
+                            getNameOrLabel(name, labelExpression), e.getMessage()), e));
+        }
+    }
+
+    /**
+     * Starts fatal event monitor for the pod identified by given name or label expression. Monitor is only active when
+     * the pod is expected to be running. The monitor is active for both watch and polling wait strategies.
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @param namespace
+     * @return
+     */
+    private FatalEventMonitor monitorFatalEvents(String name, String labelExpression, String phase, String namespace) {
+        if (!"Running".equals(phase)) {
+            return new FatalEventMonitor(getKubernetesClient(), namespace, Collections.emptySet());
+        }
+
+        return new FatalEventMonitor(getKubernetesClient(), namespace)
+                .involvedPods(pod -> matches(pod, name, labelExpression))
+                .start();
+    }
+
+    /**
+     * Watch given pod until it is in given state. Pod is identified by its name or by given label expression.
+     * Reads the pod state from the shared informer cache and checks the pod state each time a pod change is reported.
+     * Fails when the pod has not reached the state within the timeout of the wait strategy.
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @param namespace
+     * @param monitor
+     * @param signal
+     * @return
+     */
+    private Pod watchPod(String name, String labelExpression, String phase, String namespace,
+                         FatalEventMonitor monitor, WaitSignal signal) {
+        if ((name == null || name.isEmpty()) && (labelExpression == null || labelExpression.isEmpty())) {
+            throw new CitrusRuntimeException("Missing pod name or label expression to identify the pod");
+        }
+
+        KubernetesInformerCache cache = KubernetesSupport.getInformerCache(getKubernetesClient());
+        try (KubernetesInformerCache.Subscription ignored = cache.subscribePods(namespace, signal.handler())) {
+            WaitResult<Pod> result = waitStrategy.waitFor(getWaitDescription(name, labelExpression, phase), () -> {
+                monitor.verify();
+                return getCachedPod(cache, name, labelExpression, phase, namespace);
+            }, signal);
+
+            return verified(result, name, labelExpression, phase);
+        }
+    }
+
+    /**
+     * Poll given pod state using the wait strategy until it is in given state.
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @param namespace
+     * @param monitor
+     * @param signal
+     * @return
+     */
+    private Pod pollPod(String name, String labelExpression, String phase, String namespace,
+                        FatalEventMonitor monitor, WaitSignal signal) {
+        WaitResult<Pod> result = getPollingStrategy().waitFor(getWaitDescription(name, labelExpression, phase), () -> {
+            monitor.verify();
+
             if (name != null && !name.isEmpty()) {
-                pod = getPod(name, phase, namespace);
+                return getPod(name, phase, namespace);
             } else {
-                pod = getPodFromLabel(labelExpression, phase, namespace);
+                return getPodFromLabel(labelExpression, phase, namespace);
             }
+        }, signal);
 
-            if (pod != null) {
-                LOG.info(String.format("Verified pod '%s' state '%s'!", getNameOrLabel(name, labelExpression), phase));
-                return pod;
-            }
+        return verified(result, name, labelExpression, phase);
+    }
 
-            LOG.info(String.format("Waiting for pod '%s' in state '%s' - retry in %s ms",
-                    getNameOrLabel(name, labelExpression), phase, delayBetweenAttempts));
-            try {
-                Thread.sleep(delayBetweenAttempts);
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted while waiting for pod state", e);
-            }
+    /**
+     * Evaluates given wait result and returns the verified pod. Raises timeout error when pod has not reached the state.
+     * @param result
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @return
+     */
+    private Pod verified(WaitResult<Pod> result, String name, String labelExpression, String phase) {
+        if (result.isSatisfied()) {
+            LOG.info(String.format("Verified pod '%s' state '%s'!", getNameOrLabel(name, labelExpression), phase));
+            return result.getResult();
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException(waitStrategy.getTimeout(),
                 new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
-                        "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), phase, maxAttempts)));
+                        "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), phase, result.getAttempts())));
+    }
+
+    /**
+     * Retrieve pod in given state from the shared informer cache.
+     * @param cache
+     * @param name
+     * @param labelExpression
+     * @param phase
+     * @param namespace
+     * @return
+     */
+    private Pod getCachedPod(KubernetesInformerCache cache, String name, String labelExpression, String phase, String namespace) {
+        List<Pod> pods;
+        if (name != null && !name.isEmpty()) {
+            pods = Optional.ofNullable(cache.getPod(namespace, name))
+                    .map(Collections::singletonList)
+                    .orElse(Collections.emptyList());
+        } else {
+            String[] tokens = labelExpression.split("=");
+            pods = cache.getPods(namespace, tokens[0], tokens.length > 1 ? tokens[1] : "");
+        }
+
+        return pods.stream()
+                .filter(pod -> {
+                    boolean verified = KubernetesSupport.verifyPodStatus(pod, phase);
+
+                    if (!verified) {
+                        POD_STATUS_LOG.info(String.format("Pod '%s' not yet in state '%s'. Will keep watching ...",
+                                pod.getMetadata().getName(), phase));
+                    }
+
+                    return verified;
+                })
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Gets strategy used to poll the pod state. Replaces watch strategies with a fixed delay strategy.
+     * @return
+     */
+    private WaitStrategy getPollingStrategy() {
+        return WaitStrategies.polling(waitStrategy, maxAttempts, delayBetweenAttempts);
+    }
+
+    private String getWaitDescription(String name, String labelExpression, String phase) {
+        return String.format("pod '%s' in state '%s'", getNameOrLabel(name, labelExpression), phase);
     }
 
     /**
@@ -243,6 +514,30 @@ public class VerifyPodAction extends AbstractKubernetesAction {
                 .orElse(null);
     }
 
+    /**
+     * Checks if given pod is identified by given name or label expression.
+     * @param pod
+     * @param name
+     * @param labelExpression
+     * @return
+     */
+    private static boolean matches(Pod pod, String name, String labelExpression) {
+        if (name != null && !name.isEmpty()) {
+            return name.equals(pod.getMetadata().getName());
+        }
+
+        if (labelExpression == null || labelExpression.isEmpty()) {
+            return false;
+        }
+
+        String[] tokens = labelExpression.split("=");
+        String labelKey = tokens[0];
+        String labelValue = tokens.length > 1 ? tokens[1] : "";
+
+        return pod.getMetadata().getLabels() != null &&
+                labelValue.equals(pod.getMetadata().getLabels().get(labelKey));
+    }
+
     /**
      * If name is set return as pod name. Else return given label expression.
      * @param name
@@ -264,13 +559,16 @@ public class VerifyPodAction extends AbstractKubernetesAction {
 
         private String podName;
         private String labelExpression;
-        private String logMessage;
+        private final List<String> logMessages = new ArrayList<>();
+        private final List<String> rejectedLogMessages = new ArrayList<>();
 
         private int maxAttempts = KubernetesSettings.getMaxAttempts();
         private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
 
         private String phase = "Running";
         private boolean printLogs = true;
+        private String waitStrategyName = KubernetesSettings.getWaitStrategy();
+        private WaitStrategy waitStrategy;
 
         public Builder isRunning() {
             this.phase = "Running";
@@ -287,6 +585,20 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             return this;
         }
 
+        public Builder watch(boolean watch) {
+            return waitStrategy(watch ? WatchWaitStrategy.NAME : FixedDelayWaitStrategy.NAME);
+        }
+
+        public Builder waitStrategy(String waitStrategyName) {
+            this.waitStrategyName = waitStrategyName;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
         public Builder podName(String podName) {
             this.podName = podName;
             return this;
@@ -298,7 +610,27 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         }
 
         public Builder waitForLogMessage(String logMessage) {
-            this.logMessage = logMessage;
+            this.logMessages.add(logMessage);
+            return this;
+        }
+
+        public Builder waitForLogMessages(List<String> logMessages) {
+            this.logMessages.addAll(logMessages);
+            return this;
+        }
+
+        /**
+         * Verifies that the pod does not log given message within the timeout. Fails as soon as the message appears.
+         * @param logMessage
+         * @return
+         */
+        public Builder rejectLogMessage(String logMessage) {
+            this.rejectedLogMessages.add(logMessage);
+            return this;
+        }
+
+        public Builder rejectLogMessages(List<String> logMessages) {
+            this.rejectedLogMessages.addAll(logMessages);
             return this;
         }
 
@@ -16,18 +16,22 @@
 
 package org.citrusframework.yaks.kubernetes.actions;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
-import io.fabric8.kubernetes.client.dsl.LogWatch;
-import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.citrusframework.yaks.kubernetes.logs.PodLogFanIn;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +51,8 @@ public class WatchPodLogsAction extends AbstractKubernetesAction {
 
     private final TimeUnit timeUnit;
 
+    private final boolean followAll;
+
     /**
      * Constructor using given builder.
      * @param builder
@@ -57,18 +63,57 @@ public class WatchPodLogsAction extends AbstractKubernetesAction {
         this.labelExpression = builder.labelExpression;
         this.timeout = builder.timeout;
         this.timeUnit = builder.timeUnit;
+        this.followAll = builder.followAll;
     }
 
     @Override
     public void doExecute(TestContext context) {
         String resolvedPodName = context.replaceDynamicContentInString(podName);
         String resolvedLabelExpression = context.replaceDynamicContentInString(labelExpression);
+        String namespace = namespace(context);
 
-        Pod pod;
-        if (resolvedPodName != null && !resolvedPodName.isEmpty()) {
-            pod = getPod(resolvedPodName, namespace(context));
+        PodLogFanIn.LogLineHandler handler;
+        if (followAll) {
+            handler = (pod, container, line) -> POD_LOG.info(String.format("[%s%s] %s", pod, container != null ? "/" + container : "", line));
         } else {
-            pod = getPodFromLabel(resolvedLabelExpression, namespace(context));
+            handler = (pod, container, line) -> POD_LOG.info(line);
+        }
+
+        long duration = getDurationMillis();
+        try (PodLogFanIn fanIn = new PodLogFanIn(getKubernetesClient(), namespace, handler)) {
+            if (resolvedPodName != null && !resolvedPodName.isEmpty()) {
+                Pod pod = getPod(resolvedPodName, namespace);
+                if (pod == null) {
+                    throw new CitrusRuntimeException(String.format("Failed to watch logs - pod '%s' not found in namespace '%s'",
+                            resolvedPodName, namespace));
+                }
+
+                follow(fanIn, pod);
+                fanIn.awaitStreams(duration);
+            } else if (followAll) {
+                followAll(fanIn, resolvedLabelExpression, namespace, duration);
+            } else {
+                Pod pod = getPodFromLabel(resolvedLabelExpression, namespace);
+                if (pod == null) {
+                    throw new CitrusRuntimeException(String.format("Failed to watch logs - no pod labeled with '%s' in namespace '%s'",
+                            resolvedLabelExpression, namespace));
+                }
+
+                follow(fanIn, pod);
+                fanIn.awaitStreams(duration);
+            }
+        }
+    }
+
+    /**
+     * Follows logs of given pod. Follows all containers in follow all mode and the first container otherwise.
+     * @param fanIn
+     * @param pod
+     */
+    private void follow(PodLogFanIn fanIn, Pod pod) {
+        if (followAll) {
+            fanIn.follow(pod);
+            return;
         }
 
         String containerName = null;
@@ -76,26 +121,65 @@ public class WatchPodLogsAction extends AbstractKubernetesAction {
             containerName = pod.getSpec().getContainers().get(0).getName();
         }
 
-        PodResource podRes = getKubernetesClient().pods()
-                .inNamespace(namespace(context))
-                .withName(pod.getMetadata().getName());
+        fanIn.follow(pod, Collections.singletonList(containerName));
+    }
+
+    /**
+     * Follows logs of all pods matching given label expression for the given amount of time. Pods that are
+     * created or started while watching are followed, too. Falls back to following the pods present
+     * at the start when the shared informer cache is not available.
+     * @param fanIn
+     * @param labelExpression
+     * @param namespace
+     * @param duration
+     */
+    private void followAll(PodLogFanIn fanIn, String labelExpression, String namespace, long duration) {
+        String[] tokens = labelExpression.split("=");
+        String labelKey = tokens[0];
+        String labelValue = tokens.length > 1 ? tokens[1] : "";
+
+        Predicate<Pod> matches = pod -> pod.getMetadata() != null && pod.getMetadata().getLabels() != null &&
+                labelValue.equals(pod.getMetadata().getLabels().get(labelKey));
 
-        LogWatch logs;
-        if (containerName != null) {
-            logs = podRes.inContainer(containerName).watchLog();
+        KubernetesInformerCache.Subscription subscription = () -> {};
+        if (KubernetesSettings.isWatchResources()) {
+            try {
+                subscription = KubernetesSupport.getInformerCache(getKubernetesClient())
+                        .subscribePods(namespace, new ResourceEventHandler<>() {
+                            @Override
+                            public void onAdd(Pod pod) {
+                                if (matches.test(pod)) {
+                                    fanIn.follow(pod);
+                                }
+                            }
+
+                            @Override
+                            public void onUpdate(Pod oldPod, Pod newPod) {
+                                onAdd(newPod);
+                            }
+
+                            @Override
+                            public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+                            }
+                        });
+            } catch (KubernetesClientException e) {
+                LOG.warn("Failed to watch pods - only following logs of pods present right now", e);
+                getPodsFromLabel(labelKey, labelValue, namespace).forEach(fanIn::follow);
+            }
         } else {
-            logs = podRes.watchLog();
+            getPodsFromLabel(labelKey, labelValue, namespace).forEach(fanIn::follow);
         }
 
-        long stoppingAt = System.currentTimeMillis() + getDurationMillis();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(logs.getOutput()))) {
-            String line;
-            while (stoppingAt - System.currentTimeMillis() > 0 && (line = reader.readLine()) != null) {
-                POD_LOG.info(line);
-            }
-        } catch (IOException e) {
-            LOG.error("Failed to read pod logs", e);
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while watching pod logs", e);
+        } finally {
+            subscription.close();
         }
+
+        LOG.info(String.format("Watched logs of %d pod container(s): %s", fanIn.getStreams().size(), fanIn.getStreams()));
     }
 
     private long getDurationMillis() {
@@ -154,14 +238,25 @@ public class WatchPodLogsAction extends AbstractKubernetesAction {
         String labelKey = tokens[0];
         String labelValue = tokens.length > 1 ? tokens[1] : "";
 
+        return getPodsFromLabel(labelKey, labelValue, namespace).stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Retrieve all pods selected by given label key and value.
+     * @param labelKey
+     * @param labelValue
+     * @param namespace
+     * @return
+     */
+    private List<Pod> getPodsFromLabel(String labelKey, String labelValue, String namespace) {
         PodList pods = getKubernetesClient().pods()
                 .inNamespace(namespace)
                 .withLabel(labelKey, labelValue)
                 .list();
 
-        return pods.getItems().stream()
-                .findFirst()
-                .orElse(null);
+        return pods.getItems();
     }
 
     /**
@@ -175,6 +270,8 @@ public class WatchPodLogsAction extends AbstractKubernetesAction {
 
         private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
 
+        private boolean followAll;
+
         public Builder podName(String podName) {
             this.podName = podName;
             return this;
@@ -185,6 +282,20 @@ public class WatchPodLogsAction extends AbstractKubernetesAction {
             return this;
         }
 
+        /**
+         * Follow all pods matching the label and all containers of these pods. Log lines are prefixed with the pod
+         * and container name.
+         * @return
+         */
+        public Builder followAll() {
+            return followAll(true);
+        }
+
+        public Builder followAll(boolean followAll) {
+            this.followAll = followAll;
+            return this;
+        }
+
         public Builder milliseconds(String time) {
             this.timeout = time;
             this.timeUnit = TimeUnit.MILLISECONDS;
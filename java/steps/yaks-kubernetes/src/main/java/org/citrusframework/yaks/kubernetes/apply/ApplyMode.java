@@ -0,0 +1,29 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.apply;
+
+/**
+ * Mode used when writing resources to the cluster.
+ */
+public enum ApplyMode {
+
+    /** Create the resource or replace the complete live object with a full update */
+    UPDATE,
+
+    /** Server side apply with the YAKS field manager, only the fields given in the resource are owned and changed */
+    SERVER_SIDE
+}
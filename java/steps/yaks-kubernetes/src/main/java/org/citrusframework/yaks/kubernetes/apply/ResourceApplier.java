@@ -0,0 +1,172 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.apply;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.Updatable;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes resources to the cluster in an idempotent way. Stores the spec hash of the resource as annotation and skips
+ * the write when the live object carries the same hash. This avoids needless updates that bump the resource version
+ * and cause controllers to reconcile the resource again.
+ *
+ * Writes the resource with a full update or with server side apply according to the apply mode setting.
+ *
+ * The scenario labels are not part of the spec hash. When the write is skipped and the live object carries other scenario
+ * labels than the given resource the labels are updated with a merge patch, so the labeled teardown of the current
+ * scenario still covers the resource.
+ */
+public final class ResourceApplier {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceApplier.class);
+
+    /** Field manager used with server side apply */
+    public static final String FIELD_MANAGER = "yaks";
+
+    private static final PatchContext MERGE_PATCH = PatchContext.of(PatchType.JSON_MERGE);
+
+    private ResourceApplier() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Applies given resource with the resource operation.
+     * @param operation the resource operation in the target namespace.
+     * @param resource
+     * @return the live resource after the apply.
+     */
+    public static <T extends HasMetadata> T apply(NonNamespaceOperation<T, ?, ? extends Resource<T>> operation, T resource) {
+        return apply(operation::resource, resource);
+    }
+
+    /**
+     * Applies given resource in the namespace with the Kubernetes client.
+     * @param k8sClient
+     * @param namespace
+     * @param resource
+     * @return the live resource after the apply.
+     */
+    public static <T extends HasMetadata> T apply(KubernetesClient k8sClient, String namespace, T resource) {
+        return apply(item -> k8sClient.resource(item).inNamespace(namespace), resource);
+    }
+
+    /**
+     * Applies given resource using the apply mode and skip unchanged settings.
+     * @param operation
+     * @param resource
+     * @return
+     */
+    public static <T extends HasMetadata> T apply(Function<T, ? extends Resource<T>> operation, T resource) {
+        return apply(operation, resource, KubernetesSettings.getApplyMode(), KubernetesSettings.isApplySkipUnchanged());
+    }
+
+    /**
+     * Applies given resource. Adds the spec hash annotation to the resource and skips the write when the live object
+     * carries the same spec hash.
+     * @param operation creates the resource operation for the given resource.
+     * @param resource
+     * @param mode
+     * @param skipUnchanged
+     * @return the live resource after the apply.
+     */
+    public static <T extends HasMetadata> T apply(Function<T, ? extends Resource<T>> operation, T resource,
+                                                  ApplyMode mode, boolean skipUnchanged) {
+        String hash = SpecHash.of(resource);
+        if (resource.getMetadata().getAnnotations() == null) {
+            resource.getMetadata().setAnnotations(new HashMap<>());
+        }
+        resource.getMetadata().getAnnotations().put(SpecHash.ANNOTATION, hash);
+
+        Resource<T> applicable = operation.apply(resource);
+
+        if (skipUnchanged) {
+            T live = applicable.get();
+            if (live != null && hash.equals(SpecHash.get(live))) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("Skip apply of unchanged %s '%s'", resource.getKind(), resource.getMetadata().getName()));
+                }
+
+                Map<String, String> scenarioLabels = getChangedScenarioLabels(resource, live);
+                if (!scenarioLabels.isEmpty()) {
+                    return applicable.patch(MERGE_PATCH, toLabelPatch(scenarioLabels));
+                }
+
+                return live;
+            }
+        }
+
+        if (mode == ApplyMode.SERVER_SIDE) {
+            return applicable.fieldManager(FIELD_MANAGER)
+                    .forceConflicts()
+                    .serverSideApply();
+        }
+
+        return applicable.createOr(Updatable::update);
+    }
+
+    /**
+     * Gets the scenario labels of given resource that are missing or have another value on the live object.
+     * @param resource
+     * @param live
+     * @return
+     */
+    private static Map<String, String> getChangedScenarioLabels(HasMetadata resource, HasMetadata live) {
+        Map<String, String> desired = resource.getMetadata().getLabels();
+        if (desired == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> current = live.getMetadata().getLabels() != null ?
+                live.getMetadata().getLabels() : Collections.emptyMap();
+
+        Map<String, String> changed = new HashMap<>();
+        for (String label : SpecHash.SCENARIO_LABELS) {
+            String value = desired.get(label);
+            if (value != null && !value.equals(current.get(label))) {
+                changed.put(label, value);
+            }
+        }
+
+        return changed;
+    }
+
+    private static String toLabelPatch(Map<String, String> labels) {
+        try {
+            return KubernetesSupport.json().writeValueAsString(
+                    Collections.singletonMap("metadata", Collections.singletonMap("labels", labels)));
+        } catch (JsonProcessingException e) {
+            throw new CitrusRuntimeException("Failed to create scenario label patch", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.apply;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+
+/**
+ * Computes a canonical hash of the desired state of a resource. The hash covers all fields given in the resource
+ * except status, server managed metadata (e.g. resource version, uid, managed fields) and the labels that identify the
+ * test scenario. Object properties and map entries are sorted, so the hash does not depend on the order of fields in
+ * the resource specification.
+ */
+public final class SpecHash {
+
+    /** Annotation holding the spec hash of the last applied resource */
+    public static final String ANNOTATION = "yaks.citrusframework.org/spec-hash";
+
+    /** Metadata fields set by the server that are not part of the desired state */
+    private static final String[] SERVER_METADATA = { "resourceVersion", "uid", "creationTimestamp", "generation",
+            "managedFields", "selfLink", "deletionTimestamp", "deletionGracePeriodSeconds" };
+
+    /** Labels that change with each test scenario and are not part of the desired state */
+    public static final String[] SCENARIO_LABELS = { LabeledTeardown.SCENARIO_LABEL };
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .serializationInclusion(JsonInclude.Include.NON_EMPTY)
+            .build();
+
+    private SpecHash() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Computes the hash of given resource.
+     * @param resource
+     * @return
+     */
+    public static String of(HasMetadata resource) {
+        ObjectNode canonical = CANONICAL_MAPPER.valueToTree(resource);
+        canonical.remove("status");
+
+        if (canonical.get("metadata") instanceof ObjectNode) {
+            ObjectNode metadata = (ObjectNode) canonical.get("metadata");
+            metadata.remove(Arrays.asList(SERVER_METADATA));
+
+            if (metadata.get("annotations") instanceof ObjectNode) {
+                ObjectNode annotations = (ObjectNode) metadata.get("annotations");
+                annotations.remove(ANNOTATION);
+                if (annotations.isEmpty()) {
+                    metadata.remove("annotations");
+                }
+            }
+
+            if (metadata.get("labels") instanceof ObjectNode) {
+                ObjectNode labels = (ObjectNode) metadata.get("labels");
+                labels.remove(Arrays.asList(SCENARIO_LABELS));
+                if (labels.isEmpty()) {
+                    metadata.remove("labels");
+                }
+            }
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(CANONICAL_MAPPER.writeValueAsString(canonical).getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to compute spec hash of resource", e);
+        }
+    }
+
+    /**
+     * Gets the spec hash annotation of given resource or null if not set.
+     * @param resource
+     * @return
+     */
+    public static String get(HasMetadata resource) {
+        if (resource == null || resource.getMetadata() == null || resource.getMetadata().getAnnotations() == null) {
+            return null;
+        }
+
+        return resource.getMetadata().getAnnotations().get(ANNOTATION);
+    }
+}
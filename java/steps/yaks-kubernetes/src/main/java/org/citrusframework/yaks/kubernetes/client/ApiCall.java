@@ -0,0 +1,132 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.util.List;
+import java.util.Objects;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Kubernetes API call identified by its verb, resource and namespace. The verb follows the Kubernetes API verbs
+ * (get, list, watch, create, update, patch, delete, deletecollection). Subresources are appended to the resource
+ * (e.g. pods/log).
+ */
+public final class ApiCall {
+
+    private final String verb;
+    private final String resource;
+    private final String namespace;
+
+    public ApiCall(String verb, String resource, String namespace) {
+        this.verb = verb;
+        this.resource = resource;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Creates API call from given Http method and request URL.
+     * @param method
+     * @param url
+     * @return
+     */
+    public static ApiCall of(String method, HttpUrl url) {
+        List<String> segments = url.pathSegments();
+
+        // skip the API prefix "/api/{version}" or "/apis/{group}/{version}"
+        int index;
+        if (!segments.isEmpty() && "api".equals(segments.get(0))) {
+            index = 2;
+        } else if (!segments.isEmpty() && "apis".equals(segments.get(0))) {
+            index = 3;
+        } else {
+            return new ApiCall(method.toLowerCase(), url.encodedPath(), "");
+        }
+
+        String namespace = "";
+        if (segments.size() > index + 2 && "namespaces".equals(segments.get(index))) {
+            namespace = segments.get(index + 1);
+            index += 2;
+        }
+
+        if (segments.size() <= index) {
+            return new ApiCall(method.toLowerCase(), "", namespace);
+        }
+
+        String resource = segments.get(index);
+        boolean named = segments.size() > index + 1;
+        if (segments.size() > index + 2) {
+            resource = resource + "/" + segments.get(index + 2);
+        }
+
+        return new ApiCall(verb(method, named, "true".equals(url.queryParameter("watch"))), resource, namespace);
+    }
+
+    private static String verb(String method, boolean named, boolean watch) {
+        switch (method) {
+            case "GET":
+                if (watch) {
+                    return "watch";
+                }
+                return named ? "get" : "list";
+            case "POST":
+                return "create";
+            case "PUT":
+                return "update";
+            case "PATCH":
+                return "patch";
+            case "DELETE":
+                return named ? "delete" : "deletecollection";
+            default:
+                return method.toLowerCase();
+        }
+    }
+
+    public String getVerb() {
+        return verb;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ApiCall apiCall = (ApiCall) o;
+        return verb.equals(apiCall.verb) && resource.equals(apiCall.resource) && namespace.equals(apiCall.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(verb, resource, namespace);
+    }
+
+    @Override
+    public String toString() {
+        return namespace.isEmpty() ? String.format("%s %s", verb, resource) : String.format("%s %s in %s", verb, resource, namespace);
+    }
+}
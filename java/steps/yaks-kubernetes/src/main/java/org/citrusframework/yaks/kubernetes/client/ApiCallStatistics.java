@@ -0,0 +1,254 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statistics of all Kubernetes API calls made by the managed clients per verb, resource and namespace. Test steps take
+ * a snapshot at the start of a scenario and compute the calls made by the scenario at its end. The termination log
+ * only receives the totals as it is limited in size. The detailed report is written to the test report file.
+ */
+public final class ApiCallStatistics {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ApiCallStatistics.class);
+
+    private static final ApiCallStatistics INSTANCE = new ApiCallStatistics();
+
+    private final Map<ApiCall, ApiCallStats> stats = new ConcurrentHashMap<>();
+
+    private final List<ScenarioReport> scenarios = new CopyOnWriteArrayList<>();
+
+    private ApiCallStatistics() {
+        // use singleton instance
+    }
+
+    public static ApiCallStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records an API call.
+     * @param call
+     * @param status the Http status code or -1 when the call failed without response.
+     * @param latency in milliseconds.
+     * @param sent request bytes.
+     * @param received response bytes.
+     */
+    public void record(ApiCall call, int status, long latency, long sent, long received) {
+        stats.computeIfAbsent(call, key -> new ApiCallStats()).record(status, latency, sent, received);
+    }
+
+    /**
+     * Gets a copy of the current statistics.
+     * @return
+     */
+    public Map<ApiCall, ApiCallStats> snapshot() {
+        Map<ApiCall, ApiCallStats> snapshot = new HashMap<>();
+        stats.forEach((call, callStats) -> snapshot.put(call, callStats.copy()));
+        return snapshot;
+    }
+
+    /**
+     * Gets the statistics of all calls made since given snapshot has been taken.
+     * @param snapshot
+     * @return
+     */
+    public Map<ApiCall, ApiCallStats> since(Map<ApiCall, ApiCallStats> snapshot) {
+        Map<ApiCall, ApiCallStats> calls = new HashMap<>();
+        stats.forEach((call, callStats) -> {
+            ApiCallStats diff = callStats.minus(snapshot.get(call));
+            if (diff.getCount() > 0) {
+                calls.put(call, diff);
+            }
+        });
+        return calls;
+    }
+
+    /**
+     * Adds the calls made by a scenario to the report.
+     * @param name
+     * @param calls
+     */
+    public void scenarioFinished(String name, Map<ApiCall, ApiCallStats> calls) {
+        if (!calls.isEmpty()) {
+            scenarios.add(new ScenarioReport(name, total(calls)));
+        }
+    }
+
+    /**
+     * Gets the aggregated statistics of all calls.
+     * @return
+     */
+    public ApiCallStats getTotal() {
+        return total(stats);
+    }
+
+    /**
+     * Gets the aggregated statistics of all calls or null when no call has been recorded.
+     * @return
+     */
+    public ApiCallStats getSummary() {
+        if (stats.isEmpty()) {
+            return null;
+        }
+
+        return getTotal();
+    }
+
+    /**
+     * Gets the report of all calls or null when no call has been recorded.
+     * @return
+     */
+    public Report getReport() {
+        if (stats.isEmpty()) {
+            return null;
+        }
+
+        List<CallReport> calls = stats.entrySet().stream()
+                .map(entry -> new CallReport(entry.getKey(), entry.getValue().copy()))
+                .sorted(Comparator.comparingLong((CallReport call) -> call.getStats().getTotalTime()).reversed())
+                .collect(Collectors.toList());
+
+        return new Report(getTotal(), calls, scenarios);
+    }
+
+    /**
+     * Logs the statistics of all calls.
+     */
+    public void logSummary() {
+        if (stats.isEmpty()) {
+            return;
+        }
+
+        LOG.info(format(snapshot()));
+    }
+
+    /**
+     * Clears all statistics.
+     */
+    public void reset() {
+        stats.clear();
+        scenarios.clear();
+    }
+
+    /**
+     * Formats given call statistics as text. Calls are sorted by total time.
+     * @param calls
+     * @return
+     */
+    public static String format(Map<ApiCall, ApiCallStats> calls) {
+        StringBuilder text = new StringBuilder(String.format("Kubernetes API calls - %s", total(calls)));
+        calls.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<ApiCall, ApiCallStats> entry) -> entry.getValue().getTotalTime()).reversed())
+                .forEach(entry -> text.append(String.format("%n  %s: %s", entry.getKey(), entry.getValue())));
+        return text.toString();
+    }
+
+    private static ApiCallStats total(Map<ApiCall, ApiCallStats> calls) {
+        ApiCallStats total = new ApiCallStats();
+        calls.values().forEach(total::add);
+        return total;
+    }
+
+    /**
+     * Report written to the test results.
+     */
+    public static final class Report {
+        private final ApiCallStats total;
+        private final List<CallReport> calls;
+        private final List<ScenarioReport> scenarios;
+
+        private Report(ApiCallStats total, List<CallReport> calls, List<ScenarioReport> scenarios) {
+            this.total = total;
+            this.calls = calls;
+            this.scenarios = scenarios;
+        }
+
+        public ApiCallStats getTotal() {
+            return total;
+        }
+
+        public List<CallReport> getCalls() {
+            return calls;
+        }
+
+        public List<ScenarioReport> getScenarios() {
+            return scenarios;
+        }
+    }
+
+    /**
+     * Statistics of calls with the same verb, resource and namespace.
+     */
+    public static final class CallReport {
+        private final ApiCall call;
+        private final ApiCallStats stats;
+
+        private CallReport(ApiCall call, ApiCallStats stats) {
+            this.call = call;
+            this.stats = stats;
+        }
+
+        public String getVerb() {
+            return call.getVerb();
+        }
+
+        public String getResource() {
+            return call.getResource();
+        }
+
+        public String getNamespace() {
+            return call.getNamespace();
+        }
+
+        public ApiCallStats getStats() {
+            return stats;
+        }
+    }
+
+    /**
+     * Statistics of all calls made by a scenario.
+     */
+    public static final class ScenarioReport {
+        private final String name;
+        private final ApiCallStats stats;
+
+        private ScenarioReport(String name, ApiCallStats stats) {
+            this.name = name;
+            this.stats = stats;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ApiCallStats getStats() {
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statistics of Kubernetes API calls. Records call count, latency, bytes transferred and the number of
+ * throttled (429) and failed (5xx or connection failure) calls. The latency is the time until the response headers
+ * have been received so long-running watch and log requests do not distort the statistics.
+ */
+public class ApiCallStats {
+
+    /** Upper bounds in milliseconds of the latency histogram buckets */
+    static final long[] LATENCY_BUCKETS = { 10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L };
+
+    private long count;
+    private long throttled;
+    private long serverErrors;
+    private long failures;
+    private long totalTime;
+    private long maxTime;
+    private long bytesSent;
+    private long bytesReceived;
+    private final long[] histogram = new long[LATENCY_BUCKETS.length + 1];
+
+    synchronized void record(int status, long latency, long sent, long received) {
+        count++;
+        totalTime += latency;
+        maxTime = Math.max(maxTime, latency);
+        bytesSent += sent;
+        bytesReceived += received;
+
+        if (status == 429) {
+            throttled++;
+        } else if (status >= 500) {
+            serverErrors++;
+        } else if (status < 0) {
+            failures++;
+        }
+
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKETS.length && latency > LATENCY_BUCKETS[bucket]) {
+            bucket++;
+        }
+        histogram[bucket]++;
+    }
+
+    /**
+     * Adds given statistics to this statistics.
+     * @param other
+     * @return
+     */
+    synchronized ApiCallStats add(ApiCallStats other) {
+        ApiCallStats copy = other.copy();
+        count += copy.count;
+        throttled += copy.throttled;
+        serverErrors += copy.serverErrors;
+        failures += copy.failures;
+        totalTime += copy.totalTime;
+        maxTime = Math.max(maxTime, copy.maxTime);
+        bytesSent += copy.bytesSent;
+        bytesReceived += copy.bytesReceived;
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += copy.histogram[i];
+        }
+        return this;
+    }
+
+    /**
+     * Creates new statistics holding the difference between this statistics and given earlier copy of this statistics.
+     * The max time is not subtracted and refers to the whole lifetime of this statistics.
+     * @param earlier
+     * @return
+     */
+    ApiCallStats minus(ApiCallStats earlier) {
+        ApiCallStats diff = copy();
+        if (earlier == null) {
+            return diff;
+        }
+
+        diff.count -= earlier.count;
+        diff.throttled -= earlier.throttled;
+        diff.serverErrors -= earlier.serverErrors;
+        diff.failures -= earlier.failures;
+        diff.totalTime -= earlier.totalTime;
+        diff.bytesSent -= earlier.bytesSent;
+        diff.bytesReceived -= earlier.bytesReceived;
+        for (int i = 0; i < histogram.length; i++) {
+            diff.histogram[i] -= earlier.histogram[i];
+        }
+        return diff;
+    }
+
+    synchronized ApiCallStats copy() {
+        ApiCallStats copy = new ApiCallStats();
+        copy.count = count;
+        copy.throttled = throttled;
+        copy.serverErrors = serverErrors;
+        copy.failures = failures;
+        copy.totalTime = totalTime;
+        copy.maxTime = maxTime;
+        copy.bytesSent = bytesSent;
+        copy.bytesReceived = bytesReceived;
+        System.arraycopy(histogram, 0, copy.histogram, 0, histogram.length);
+        return copy;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Number of calls rejected by the API server with 429 Too Many Requests.
+     * @return
+     */
+    public synchronized long getThrottled() {
+        return throttled;
+    }
+
+    public synchronized long getServerErrors() {
+        return serverErrors;
+    }
+
+    /**
+     * Number of calls that failed without response (e.g. connection failure).
+     * @return
+     */
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    public synchronized long getTotalTime() {
+        return totalTime;
+    }
+
+    public synchronized long getMaxTime() {
+        return maxTime;
+    }
+
+    public synchronized long getAverageTime() {
+        return count > 0 ? totalTime / count : 0L;
+    }
+
+    public synchronized long getBytesSent() {
+        return bytesSent;
+    }
+
+    public synchronized long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Latency histogram with the number of calls per bucket. Bucket keys are the upper bound in milliseconds.
+     * @return
+     */
+    public synchronized Map<String, Long> getLatencyHistogram() {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+            buckets.put(String.valueOf(LATENCY_BUCKETS[i]), histogram[i]);
+        }
+        buckets.put("+Inf", histogram[LATENCY_BUCKETS.length]);
+        return buckets;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("calls=%d, time=%d ms (avg=%d ms, max=%d ms), sent=%d bytes, received=%d bytes, throttled=%d, server errors=%d, failures=%d",
+                count, totalTime, getAverageTime(), maxTime, bytesSent, bytesReceived, throttled, serverErrors, failures);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.ConnectionPool;
+
+/**
+ * Connection metrics of the Kubernetes clients managed by the {@link KubernetesClientRegistry}. Counts the created
+ * and closed clients as well as the physical connections opened by the clients. The number of currently open connections
+ * is read from the connection pools of the managed clients.
+ */
+public class KubernetesClientMetrics {
+
+    private final AtomicLong clientsCreated = new AtomicLong();
+    private final AtomicLong clientsClosed = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong connectionsFailed = new AtomicLong();
+    private final AtomicLong connectionsAcquired = new AtomicLong();
+    private final AtomicLong connectionsReleased = new AtomicLong();
+
+    private final List<ConnectionPool> connectionPools = new CopyOnWriteArrayList<>();
+
+    void clientCreated(ConnectionPool connectionPool) {
+        clientsCreated.incrementAndGet();
+        connectionPools.add(connectionPool);
+    }
+
+    void clientClosed(ConnectionPool connectionPool) {
+        clientsClosed.incrementAndGet();
+        connectionPools.remove(connectionPool);
+    }
+
+    void connectionOpened() {
+        connectionsOpened.incrementAndGet();
+    }
+
+    void connectionFailed() {
+        connectionsFailed.incrementAndGet();
+    }
+
+    void connectionAcquired() {
+        connectionsAcquired.incrementAndGet();
+    }
+
+    void connectionReleased() {
+        connectionsReleased.incrementAndGet();
+    }
+
+    /**
+     * Number of clients created by the registry.
+     * @return
+     */
+    public long getClientsCreated() {
+        return clientsCreated.get();
+    }
+
+    /**
+     * Number of managed clients that have been closed.
+     * @return
+     */
+    public long getClientsClosed() {
+        return clientsClosed.get();
+    }
+
+    /**
+     * Number of managed clients that are still open.
+     * @return
+     */
+    public long getOpenClients() {
+        return clientsCreated.get() - clientsClosed.get();
+    }
+
+    /**
+     * Number of physical connections (including TLS handshakes) that have been established by all managed clients.
+     * @return
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    /**
+     * Number of connection attempts that failed.
+     * @return
+     */
+    public long getConnectionsFailed() {
+        return connectionsFailed.get();
+    }
+
+    /**
+     * Number of connections that are currently used by a request.
+     * @return
+     */
+    public long getActiveConnections() {
+        return connectionsAcquired.get() - connectionsReleased.get();
+    }
+
+    /**
+     * Number of connections currently open in the connection pools of all managed clients.
+     * @return
+     */
+    public int getOpenConnections() {
+        return connectionPools.stream().mapToInt(ConnectionPool::connectionCount).sum();
+    }
+
+    /**
+     * Number of idle connections in the connection pools of all managed clients.
+     * @return
+     */
+    public int getIdleConnections() {
+        return connectionPools.stream().mapToInt(ConnectionPool::idleConnectionCount).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("clients created=%d, closed=%d, open=%d; connections opened=%d, failed=%d, open=%d, idle=%d, active=%d",
+                getClientsCreated(), getClientsClosed(), getOpenClients(),
+                getConnectionsOpened(), getConnectionsFailed(), getOpenConnections(), getIdleConnections(), getActiveConnections());
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.okhttp.OkHttpClientFactory;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.YaksSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of Kubernetes clients shared by all test steps. Creates one client per Kubernetes config context and reuses
+ * the client and its connection pool for all operations on that context. Managed clients are closed when the registry
+ * is closed, usually at the end of the test suite.
+ *
+ * The registry records connection metrics and API call statistics for all managed clients. The connection metrics are
+ * added to the test results via {@link KubernetesClientReportExtension}. When running with the mock
+ * cluster type all clients connect to the embedded mock cluster instead of the configured Kubernetes context.
+ */
+public final class KubernetesClientRegistry {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesClientRegistry.class);
+
+    /** Key used for the current context of the Kubernetes config */
+    private static final String CURRENT_CONTEXT = "current-context";
+
+    private static final KubernetesClientRegistry INSTANCE = new KubernetesClientRegistry();
+
+    private final Map<String, ManagedClient> clients = new ConcurrentHashMap<>();
+
+    private final KubernetesClientMetrics metrics = new KubernetesClientMetrics();
+
+    KubernetesClientRegistry() {
+        // use singleton instance, package private for testing only
+    }
+
+    public static KubernetesClientRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the managed client for the configured Kubernetes context.
+     * @return
+     */
+    public KubernetesClient getClient() {
+        return getClient(KubernetesSettings.getKubeContext());
+    }
+
+    /**
+     * Gets the managed client for given Kubernetes config context. Creates a new client on first access.
+     * Uses the current context of the Kubernetes config when given context is null or empty.
+     * @param kubeContext
+     * @return
+     */
+    public KubernetesClient getClient(String kubeContext) {
+        String key = kubeContext == null || kubeContext.isEmpty() ? CURRENT_CONTEXT : kubeContext;
+        return clients.computeIfAbsent(key, this::createClient).client;
+    }
+
+    /**
+     * Gets the connection metrics of all managed clients.
+     * @return
+     */
+    public KubernetesClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Closes all managed clients and releases their connections.
+     */
+    public void close() {
+        clients.values().forEach(managed -> {
+            try {
+                managed.client.close();
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to close Kubernetes client", e);
+            } finally {
+                metrics.clientClosed(managed.connectionPool);
+            }
+        });
+        clients.clear();
+
+        LOG.debug(String.format("Closed Kubernetes clients - %s", metrics));
+    }
+
+    private ManagedClient createClient(String key) {
+        LOG.debug(String.format("Creating Kubernetes client for context '%s'", key));
+
+        Config config;
+        if (YaksSettings.isMock()) {
+            config = MockCluster.lookup()
+                    .orElseThrow(() -> new CitrusRuntimeException("Failed to connect to Kubernetes mock cluster - " +
+                            "please add the org.citrusframework.yaks:yaks-kubernetes-mock dependency to the test classpath"))
+                    .getConfig();
+        } else {
+            config = Config.autoConfigure(CURRENT_CONTEXT.equals(key) ? null : key);
+        }
+        ConnectionPool connectionPool = new ConnectionPool();
+
+        KubernetesClient client = new KubernetesClientBuilder()
+                .withConfig(config)
+                .withHttpClientFactory(new OkHttpClientFactory() {
+                    @Override
+                    protected void additionalConfig(OkHttpClient.Builder builder) {
+                        builder.connectionPool(connectionPool)
+                                .eventListenerFactory(call -> new MetricsEventListener(metrics, ApiCallStatistics.getInstance()));
+                    }
+                })
+                .build();
+
+        metrics.clientCreated(connectionPool);
+        return new ManagedClient(client, connectionPool);
+    }
+
+    /**
+     * Managed client with its connection pool.
+     */
+    private static final class ManagedClient {
+        private final KubernetesClient client;
+        private final ConnectionPool connectionPool;
+
+        private ManagedClient(KubernetesClient client, ConnectionPool connectionPool) {
+            this.client = client;
+            this.connectionPool = connectionPool;
+        }
+    }
+
+    /**
+     * Event listener records connection events on the client metrics and the API call statistics. A new listener
+     * is created for each call.
+     */
+    private static final class MetricsEventListener extends EventListener {
+        private final KubernetesClientMetrics metrics;
+        private final ApiCallStatistics statistics;
+
+        private long start;
+        private long latency = -1L;
+        private int status = -1;
+        private long bytesSent;
+        private long bytesReceived;
+
+        private MetricsEventListener(KubernetesClientMetrics metrics, ApiCallStatistics statistics) {
+            this.metrics = metrics;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void callStart(Call call) {
+            start = System.nanoTime();
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            metrics.connectionOpened();
+        }
+
+        @Override
+        public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+            metrics.connectionFailed();
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            metrics.connectionAcquired();
+        }
+
+        @Override
+        public void connectionReleased(Call call, Connection connection) {
+            metrics.connectionReleased();
+        }
+
+        @Override
+        public void requestBodyEnd(Call call, long byteCount) {
+            bytesSent += byteCount;
+        }
+
+        @Override
+        public void responseHeadersEnd(Call call, Response response) {
+            status = response.code();
+            latency = elapsed();
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            bytesReceived += byteCount;
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            record(call);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            record(call);
+        }
+
+        private void record(Call call) {
+            statistics.record(ApiCall.of(call.request().method(), call.request().url()), status,
+                    latency < 0 ? elapsed() : latency, bytesSent, bytesReceived);
+        }
+
+        private long elapsed() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import org.citrusframework.yaks.report.TestReportExtension;
+
+/**
+ * Adds the connection metrics of the managed Kubernetes clients to the test results.
+ */
+public class KubernetesClientReportExtension implements TestReportExtension {
+
+    @Override
+    public String getName() {
+        return "kubernetesClients";
+    }
+
+    @Override
+    public Object getReport() {
+        KubernetesClientMetrics metrics = KubernetesClientRegistry.getInstance().getMetrics();
+        return metrics.getClientsCreated() == 0 ? null : metrics;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import io.fabric8.kubernetes.client.Config;
+
+/**
+ * Embedded Kubernetes cluster used with the mock cluster type. The implementation is provided via service loader by the
+ * yaks-kubernetes-mock module, so the mock server dependencies are only on the classpath of tests that use the mock cluster.
+ */
+public interface MockCluster {
+
+    /** Service loader for the mock cluster implementation */
+    ServiceLoader<MockCluster> SERVICE_LOADER = ServiceLoader.load(MockCluster.class);
+
+    /**
+     * Gets the client config pointing to the mock cluster. Starts the mock cluster if not already running.
+     * @return
+     */
+    Config getConfig();
+
+    /**
+     * True when the mock cluster is running.
+     * @return
+     */
+    boolean isRunning();
+
+    /**
+     * Stops the mock cluster and discards all stored resources.
+     */
+    void close();
+
+    /**
+     * Gets the mock cluster implementation registered via service loader.
+     * @return empty optional when the yaks-kubernetes-mock module is not on the classpath.
+     */
+    static Optional<MockCluster> lookup() {
+        synchronized (SERVICE_LOADER) {
+            return SERVICE_LOADER.findFirst();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+
+/**
+ * Provides custom resource definitions that the embedded mock cluster should serve. Modules register implementations
+ * via service loader so that their custom resources (e.g. Camel K integrations, Knative brokers) can be created,
+ * listed and watched when running tests against the mock cluster.
+ */
+public interface MockResourceDefinitions {
+
+    /** Service loader for all registered resource definition providers */
+    ServiceLoader<MockResourceDefinitions> SERVICE_LOADER = ServiceLoader.load(MockResourceDefinitions.class);
+
+    /**
+     * Gets the custom resource definitions to register on the mock cluster.
+     * @return
+     */
+    List<CustomResourceDefinitionContext> getCustomResources();
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Binary data set that gets stored in one or more Kubernetes secrets or config maps. Entry content is read in chunks
+ * and base64 encoded chunk by chunk, so the raw file content is never held in memory as a whole. Data sets that exceed
+ * the maximum object size are split across several objects. Entries larger than the maximum object size are split into
+ * parts with the keys {@code <key>.part-<n>}, each part being valid base64 of a consecutive byte range of the entry.
+ */
+public class DataSet {
+
+    /** Annotation holding the content digest of the object data */
+    public static final String CONTENT_DIGEST_ANNOTATION = "yaks.citrusframework.org/content-digest";
+
+    /** Label that identifies all objects of a data set */
+    public static final String DATA_SET_LABEL = "yaks.citrusframework.org/data-set";
+
+    /** Read chunk size - multiple of three so each chunk encodes without padding */
+    private static final int CHUNK_SIZE = 3 * 16384;
+
+    private final Map<String, String> entries = new LinkedHashMap<>();
+
+    /**
+     * Reads and encodes the stream content as new entry with given key.
+     * @param key
+     * @param in
+     * @throws IOException
+     */
+    public void add(String key, InputStream in) throws IOException {
+        if (entries.containsKey(key)) {
+            throw new CitrusRuntimeException(String.format("Duplicate data set entry '%s'", key));
+        }
+
+        entries.put(key, encode(in));
+    }
+
+    /**
+     * Gets the base64 encoded entries.
+     * @return
+     */
+    public Map<String, String> getEntries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Splits the encoded entries into object data maps where each map holds at most the given number of encoded characters.
+     * @param maxObjectSize
+     * @return
+     */
+    public List<Map<String, String>> split(int maxObjectSize) {
+        // parts must hold full base64 quads to be decodable on their own
+        int partSize = (maxObjectSize / 4) * 4;
+        if (partSize <= 0) {
+            throw new CitrusRuntimeException(String.format("Invalid data set object size %d", maxObjectSize));
+        }
+
+        List<Map<String, String>> objects = new ArrayList<>();
+        Map<String, String> current = new LinkedHashMap<>();
+        int currentSize = 0;
+
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            String value = entry.getValue();
+            if (value.length() > partSize) {
+                for (int offset = 0, part = 0; offset < value.length(); offset += partSize, part++) {
+                    objects.add(Collections.singletonMap(String.format("%s.part-%d", entry.getKey(), part),
+                            value.substring(offset, Math.min(value.length(), offset + partSize))));
+                }
+                continue;
+            }
+
+            if (currentSize + value.length() > maxObjectSize && !current.isEmpty()) {
+                objects.add(current);
+                current = new LinkedHashMap<>();
+                currentSize = 0;
+            }
+
+            current.put(entry.getKey(), value);
+            currentSize += value.length();
+        }
+
+        if (!current.isEmpty() || objects.isEmpty()) {
+            objects.add(current);
+        }
+
+        return objects;
+    }
+
+    /**
+     * Computes the content digest of given object data.
+     * @param data
+     * @return
+     */
+    public static String digest(Map<String, String> data) {
+        MessageDigest digest = sha256();
+        new TreeMap<>(data).forEach((key, value) -> {
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(value.getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) 0);
+        });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String encode(InputStream in) throws IOException {
+        Base64.Encoder encoder = Base64.getEncoder();
+        StringBuilder encoded = new StringBuilder();
+        byte[] buffer = new byte[CHUNK_SIZE];
+
+        int read;
+        while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+            byte[] chunk = read == buffer.length ? buffer : Arrays.copyOf(buffer, read);
+            encoded.append(new String(encoder.encode(chunk), StandardCharsets.US_ASCII));
+        }
+
+        return encoded.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Missing SHA-256 message digest", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.events;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Raised when a Kubernetes warning event or container state indicates that the resource a test is waiting for
+ * will never become ready (e.g. image pull failure, crash loop or failed scheduling).
+ */
+public class FatalEventException extends CitrusRuntimeException {
+
+    private final String reason;
+    private final String eventMessage;
+    private final String involvedObject;
+
+    public FatalEventException(String reason, String eventMessage, String involvedObject) {
+        super(String.format("%s reported fatal event '%s': %s", involvedObject, reason, eventMessage));
+        this.reason = reason;
+        this.eventMessage = eventMessage;
+        this.involvedObject = involvedObject;
+    }
+
+    /**
+     * Gets the event reason.
+     * @return
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Gets the event message.
+     * @return
+     */
+    public String getEventMessage() {
+        return eventMessage;
+    }
+
+    /**
+     * Gets the involved object in the form kind/name.
+     * @return
+     */
+    public String getInvolvedObject() {
+        return involvedObject;
+    }
+}
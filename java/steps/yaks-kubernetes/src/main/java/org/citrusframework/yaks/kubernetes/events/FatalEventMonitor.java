@@ -0,0 +1,276 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import io.fabric8.kubernetes.api.model.ContainerState;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Monitors core/v1 warning events and container states of the pods and objects involved in a wait operation. Reports a fatal
+ * error as soon as an event or container state with one of the configured fatal reasons (e.g. ImagePullBackOff, CrashLoopBackOff)
+ * is seen, so the wait can be aborted early instead of waiting for the maximum number of attempts.
+ *
+ * Pod events are matched via the pod uid so events of previous pods with the same name are ignored. Events of other
+ * involved objects only count when received after the monitor has been started.
+ */
+public class FatalEventMonitor implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(FatalEventMonitor.class);
+
+    private static final String WARNING_EVENT_TYPE = "Warning";
+    private static final String POD_KIND = "Pod";
+    private static final String FAILED_SCHEDULING_REASON = "FailedScheduling";
+
+    private final KubernetesClient k8sClient;
+    private final String namespace;
+    private final Set<String> fatalReasons;
+
+    private Predicate<Pod> podFilter = pod -> false;
+    private Predicate<ObjectReference> objectFilter = reference -> false;
+
+    private final CompletableFuture<FatalEventException> fatalError = new CompletableFuture<>();
+    private final List<KubernetesInformerCache.Subscription> subscriptions = new ArrayList<>();
+
+    private KubernetesInformerCache cache;
+    private volatile boolean started;
+
+    /**
+     * Constructor using the fatal reasons from Kubernetes settings.
+     * @param k8sClient
+     * @param namespace
+     */
+    public FatalEventMonitor(KubernetesClient k8sClient, String namespace) {
+        this(k8sClient, namespace, KubernetesSettings.getFatalEventReasons());
+    }
+
+    /**
+     * Constructor using given fatal reasons. Monitor is disabled when given reasons are empty.
+     * @param k8sClient
+     * @param namespace
+     * @param fatalReasons
+     */
+    public FatalEventMonitor(KubernetesClient k8sClient, String namespace, Set<String> fatalReasons) {
+        this.k8sClient = k8sClient;
+        this.namespace = namespace;
+        this.fatalReasons = fatalReasons;
+    }
+
+    /**
+     * Monitor events and container states of pods matching given filter.
+     * @param podFilter
+     * @return
+     */
+    public FatalEventMonitor involvedPods(Predicate<Pod> podFilter) {
+        this.podFilter = podFilter;
+        return this;
+    }
+
+    /**
+     * Monitor events of objects matching given filter.
+     * @param objectFilter
+     * @return
+     */
+    public FatalEventMonitor involvedObjects(Predicate<ObjectReference> objectFilter) {
+        this.objectFilter = objectFilter;
+        return this;
+    }
+
+    /**
+     * Monitor events of the object with given kind and name.
+     * @param kind
+     * @param name
+     * @return
+     */
+    public FatalEventMonitor involvedObject(String kind, String name) {
+        return involvedObjects(reference -> kind.equals(reference.getKind()) && name.equals(reference.getName()));
+    }
+
+    /**
+     * Subscribe to pod changes and Kubernetes events on the shared informer cache. Monitor stays inactive in case
+     * no fatal reasons are configured or the watch is not available.
+     * @return
+     */
+    public FatalEventMonitor start() {
+        if (fatalReasons.isEmpty()) {
+            return this;
+        }
+
+        try {
+            cache = KubernetesSupport.getInformerCache(k8sClient);
+            subscriptions.add(cache.subscribePods(namespace, handler(this::verifyPod)));
+            subscriptions.add(cache.subscribeEvents(namespace, handler(this::verifyEvent)));
+            started = true;
+        } catch (KubernetesClientException e) {
+            LOG.warn(String.format("Failed to watch Kubernetes events in namespace '%s' - " +
+                    "fatal events will not abort the wait", namespace), e);
+            close();
+        }
+
+        return this;
+    }
+
+    /**
+     * Future completes with the fatal error once a fatal event has been seen.
+     * @return
+     */
+    public CompletableFuture<FatalEventException> fatalError() {
+        return fatalError;
+    }
+
+    /**
+     * Raises the fatal error when a fatal event has been seen.
+     */
+    public void verify() {
+        FatalEventException error = fatalError.getNow(null);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public void close() {
+        subscriptions.forEach(KubernetesInformerCache.Subscription::close);
+        subscriptions.clear();
+    }
+
+    /**
+     * Checks container states of given pod for fatal waiting reasons.
+     * @param pod
+     */
+    private void verifyPod(Pod pod) {
+        if (pod.getStatus() == null || !podFilter.test(pod)) {
+            return;
+        }
+
+        Stream.concat(Optional.ofNullable(pod.getStatus().getInitContainerStatuses()).stream().flatMap(List::stream),
+                        Optional.ofNullable(pod.getStatus().getContainerStatuses()).stream().flatMap(List::stream))
+                .map(ContainerStatus::getState)
+                .filter(state -> state != null && state.getWaiting() != null)
+                .map(ContainerState::getWaiting)
+                .filter(waiting -> fatalReasons.contains(waiting.getReason()))
+                .findFirst()
+                .ifPresent(waiting -> fail(new FatalEventException(waiting.getReason(), waiting.getMessage(),
+                        POD_KIND + "/" + pod.getMetadata().getName())));
+    }
+
+    /**
+     * Checks given Kubernetes event for fatal reasons on one of the involved objects.
+     * @param event
+     */
+    private void verifyEvent(Event event) {
+        if (!WARNING_EVENT_TYPE.equals(event.getType()) || event.getInvolvedObject() == null) {
+            return;
+        }
+
+        String reason = getFatalReason(event);
+        if (reason == null || !isInvolved(event.getInvolvedObject(), reason)) {
+            return;
+        }
+
+        fail(new FatalEventException(reason, event.getMessage(),
+                event.getInvolvedObject().getKind() + "/" + event.getInvolvedObject().getName()));
+    }
+
+    /**
+     * Gets the fatal reason of given event. The reason is either the event reason itself or a fatal reason
+     * mentioned in the event message (e.g. "Error: ImagePullBackOff").
+     * @param event
+     * @return the fatal reason or null if event is not fatal.
+     */
+    private String getFatalReason(Event event) {
+        if (fatalReasons.contains(event.getReason())) {
+            return event.getReason();
+        }
+
+        if (event.getMessage() == null) {
+            return null;
+        }
+
+        return fatalReasons.stream()
+                .filter(reason -> event.getMessage().contains(reason))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Checks if given object reference points to an involved object. Pods must be present in the cache with the same uid.
+     * @param reference
+     * @param reason
+     * @return
+     */
+    private boolean isInvolved(ObjectReference reference, String reason) {
+        if (POD_KIND.equals(reference.getKind())) {
+            Pod pod = cache.getPod(namespace, reference.getName());
+            if (pod == null || !podFilter.test(pod) ||
+                    (reference.getUid() != null && !reference.getUid().equals(pod.getMetadata().getUid()))) {
+                return false;
+            }
+
+            // pod has been scheduled in the meantime
+            return !FAILED_SCHEDULING_REASON.equals(reason) ||
+                    pod.getSpec() == null || pod.getSpec().getNodeName() == null;
+        }
+
+        return started && objectFilter.test(reference);
+    }
+
+    private void fail(FatalEventException error) {
+        if (fatalError.complete(error)) {
+            LOG.warn(error.getMessage());
+        }
+    }
+
+    private static <T> ResourceEventHandler<T> handler(Consumer<T> consumer) {
+        return new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(T obj) {
+                consumer.accept(obj);
+            }
+
+            @Override
+            public void onUpdate(T oldObj, T newObj) {
+                consumer.accept(newObj);
+            }
+
+            @Override
+            public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+                // ignore deleted objects
+            }
+        };
+    }
+}
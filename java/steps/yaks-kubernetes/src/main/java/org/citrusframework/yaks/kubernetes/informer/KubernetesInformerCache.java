@@ -0,0 +1,342 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.informer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of shared index informers per namespace and resource type. Informers are started lazily on first access and
+ * keep a local copy of the resources in the namespace that is updated via Kubernetes watch. Verification steps read resources
+ * from the local cache and subscribe to resource change events instead of polling the API server with GET and LIST requests.
+ *
+ * All informers provide a label index so resources can be selected with a label key and value.
+ *
+ * The informer is created under the map lock, but it is started and synced outside the lock, so a slow initial sync
+ * does not block access to other informers. Concurrent callers for the same informer wait for the running sync.
+ */
+public class KubernetesInformerCache implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesInformerCache.class);
+
+    /** Index name for resource labels, index values use "key=value" format */
+    public static final String LABEL_INDEX = "labels";
+
+    private static final String POD_RESOURCE_TYPE = "pods";
+    private static final String EVENT_RESOURCE_TYPE = "events";
+
+    private final KubernetesClient k8sClient;
+
+    private final Map<String, CachedInformer<?>> informers = new ConcurrentHashMap<>();
+
+    public KubernetesInformerCache(KubernetesClient k8sClient) {
+        this.k8sClient = k8sClient;
+    }
+
+    /**
+     * Gets the shared pod informer for given namespace. Starts the informer when not already running.
+     * @param namespace
+     * @return
+     */
+    public SharedIndexInformer<Pod> pods(String namespace) {
+        return podInformer(namespace).informer;
+    }
+
+    /**
+     * Gets the shared core/v1 event informer for given namespace. Starts the informer when not already running.
+     * @param namespace
+     * @return
+     */
+    public SharedIndexInformer<Event> events(String namespace) {
+        return eventInformer(namespace).informer;
+    }
+
+    /**
+     * Gets the shared informer for given custom resource type in given namespace. Starts the informer when not already running.
+     * @param namespace
+     * @param context
+     * @return
+     */
+    public SharedIndexInformer<GenericKubernetesResource> resources(String namespace, ResourceDefinitionContext context) {
+        return resourceInformer(namespace, context).informer;
+    }
+
+    /**
+     * Gets pod by its name from the local cache.
+     * @param namespace
+     * @param name
+     * @return the pod or null if not present.
+     */
+    public Pod getPod(String namespace, String name) {
+        return pods(namespace).getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+    }
+
+    /**
+     * Gets pods matching given label from the local cache.
+     * @param namespace
+     * @param labelKey
+     * @param labelValue
+     * @return
+     */
+    public List<Pod> getPods(String namespace, String labelKey, String labelValue) {
+        return pods(namespace).getIndexer().byIndex(LABEL_INDEX, labelIndexValue(labelKey, labelValue));
+    }
+
+    /**
+     * Gets custom resource by its name from the local cache.
+     * @param namespace
+     * @param context
+     * @param name
+     * @return the resource or null if not present.
+     */
+    public GenericKubernetesResource getResource(String namespace, ResourceDefinitionContext context, String name) {
+        return resources(namespace, context).getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+    }
+
+    /**
+     * Gets custom resources matching given label from the local cache.
+     * @param namespace
+     * @param context
+     * @param labelKey
+     * @param labelValue
+     * @return
+     */
+    public List<GenericKubernetesResource> getResources(String namespace, ResourceDefinitionContext context,
+                                                       String labelKey, String labelValue) {
+        return resources(namespace, context).getIndexer().byIndex(LABEL_INDEX, labelIndexValue(labelKey, labelValue));
+    }
+
+    /**
+     * Subscribe to pod change events in given namespace. The handler receives add events for all pods
+     * currently present in the cache right after subscription.
+     * @param namespace
+     * @param handler
+     * @return subscription that removes the handler when closed.
+     */
+    public Subscription subscribePods(String namespace, ResourceEventHandler<Pod> handler) {
+        return podInformer(namespace).subscribe(handler);
+    }
+
+    /**
+     * Subscribe to Kubernetes events in given namespace. The handler receives add events for all Kubernetes events
+     * currently present in the cache right after subscription.
+     * @param namespace
+     * @param handler
+     * @return subscription that removes the handler when closed.
+     */
+    public Subscription subscribeEvents(String namespace, ResourceEventHandler<Event> handler) {
+        return eventInformer(namespace).subscribe(handler);
+    }
+
+    /**
+     * Subscribe to custom resource change events in given namespace. The handler receives add events for all resources
+     * currently present in the cache right after subscription.
+     * @param namespace
+     * @param context
+     * @param handler
+     * @return subscription that removes the handler when closed.
+     */
+    public Subscription subscribeResources(String namespace, ResourceDefinitionContext context,
+                                           ResourceEventHandler<GenericKubernetesResource> handler) {
+        return resourceInformer(namespace, context).subscribe(handler);
+    }
+
+    /**
+     * Stops all informers and clears the cache.
+     */
+    @Override
+    public void close() {
+        informers.values().forEach(cached -> {
+            try {
+                cached.informer.close();
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to stop informer", e);
+            }
+        });
+        informers.clear();
+    }
+
+    private CachedInformer<Pod> podInformer(String namespace) {
+        return informer(key(namespace, POD_RESOURCE_TYPE),
+                () -> k8sClient.pods().inNamespace(namespace).runnableInformer(0));
+    }
+
+    private CachedInformer<Event> eventInformer(String namespace) {
+        return informer(key(namespace, EVENT_RESOURCE_TYPE),
+                () -> k8sClient.v1().events().inNamespace(namespace).runnableInformer(0));
+    }
+
+    private CachedInformer<GenericKubernetesResource> resourceInformer(String namespace, ResourceDefinitionContext context) {
+        String resourceType = Objects.toString(context.getPlural(), "") + "." + Objects.toString(context.getGroup(), "") +
+                "/" + Objects.toString(context.getVersion(), "");
+        return informer(key(namespace, resourceType),
+                () -> k8sClient.genericKubernetesResources(context).inNamespace(namespace).runnableInformer(0));
+    }
+
+    /**
+     * Gets the cached informer for given key. Creates the informer when not present and waits for the informer to be started
+     * and synced. The informer is started outside the map lock. Removes the informer from the cache when the start fails
+     * so the next access starts a new informer.
+     * @param key
+     * @param factory
+     * @return
+     * @param <T>
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends HasMetadata> CachedInformer<T> informer(String key, Supplier<SharedIndexInformer<T>> factory) {
+        CachedInformer<T> cached = (CachedInformer<T>) informers.computeIfAbsent(key, k -> create(factory.get()));
+
+        try {
+            cached.start(key);
+        } catch (RuntimeException e) {
+            informers.remove(key, cached);
+            throw e;
+        }
+
+        return cached;
+    }
+
+    /**
+     * Adds label indexer and event handler to given informer. Does not start the informer.
+     * @param informer
+     * @return
+     * @param <T>
+     */
+    private static <T extends HasMetadata> CachedInformer<T> create(SharedIndexInformer<T> informer) {
+        informer.addIndexers(Collections.singletonMap(LABEL_INDEX, labelIndexFunction()));
+        CachedInformer<T> cached = new CachedInformer<>(informer);
+        informer.addEventHandler(cached);
+        return cached;
+    }
+
+    private static <T extends HasMetadata> Function<T, List<String>> labelIndexFunction() {
+        return resource -> {
+            if (resource.getMetadata() == null || resource.getMetadata().getLabels() == null) {
+                return Collections.emptyList();
+            }
+
+            return resource.getMetadata().getLabels().entrySet().stream()
+                    .map(label -> labelIndexValue(label.getKey(), label.getValue()))
+                    .collect(Collectors.toList());
+        };
+    }
+
+    private static String labelIndexValue(String labelKey, String labelValue) {
+        return labelKey + "=" + Objects.toString(labelValue, "");
+    }
+
+    private static String key(String namespace, String resourceType) {
+        return namespace + "/" + resourceType;
+    }
+
+    /**
+     * Subscription to resource change events.
+     */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Running informer that dispatches resource change events to the subscribed handlers.
+     * @param <T>
+     */
+    private static final class CachedInformer<T> implements ResourceEventHandler<T> {
+        private final SharedIndexInformer<T> informer;
+        private final List<ResourceEventHandler<T>> handlers = new CopyOnWriteArrayList<>();
+
+        private final AtomicBoolean starting = new AtomicBoolean();
+        private final CompletableFuture<Void> synced = new CompletableFuture<>();
+
+        private CachedInformer(SharedIndexInformer<T> informer) {
+            this.informer = informer;
+        }
+
+        /**
+         * Starts the informer and blocks until the informer has synced its initial state. Only the first caller starts
+         * the informer, all other callers wait for the start to complete.
+         * @param key
+         */
+        private void start(String key) {
+            if (starting.compareAndSet(false, true)) {
+                LOG.debug(String.format("Starting informer for %s", key));
+
+                try {
+                    informer.run();
+                    synced.complete(null);
+                } catch (RuntimeException e) {
+                    informer.close();
+                    synced.completeExceptionally(e);
+                }
+            }
+
+            try {
+                synced.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+
+                throw e;
+            }
+        }
+
+        private Subscription subscribe(ResourceEventHandler<T> handler) {
+            handlers.add(handler);
+            informer.getStore().list().forEach(handler::onAdd);
+            return () -> handlers.remove(handler);
+        }
+
+        @Override
+        public void onAdd(T obj) {
+            handlers.forEach(handler -> handler.onAdd(obj));
+        }
+
+        @Override
+        public void onUpdate(T oldObj, T newObj) {
+            handlers.forEach(handler -> handler.onUpdate(oldObj, newObj));
+        }
+
+        @Override
+        public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+            handlers.forEach(handler -> handler.onDelete(obj, deletedFinalStateUnknown));
+        }
+    }
+}
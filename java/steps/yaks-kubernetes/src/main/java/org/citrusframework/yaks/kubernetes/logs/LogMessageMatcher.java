@@ -0,0 +1,258 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Streaming matcher searches log output for a set of expected messages in a single pass. The log output is given
+ * as a sequence of chunks (e.g. read from a log stream). The matcher keeps its state between chunks so messages
+ * split across chunk boundaries are matched, too. Uses an Aho-Corasick automaton so the log output is scanned only once
+ * regardless of the number of expected messages.
+ *
+ * The matcher does not keep the log output in memory. Only a bounded tail window of the most recent log output
+ * is retained, e.g. for error reporting.
+ *
+ * By default, the matcher is satisfied when all messages have been matched. A matcher created with {@link #anyOf(List)}
+ * is satisfied as soon as one of the messages has been matched, e.g. to detect unwanted log messages.
+ */
+public class LogMessageMatcher {
+
+    /** Default size of the retained log tail window in characters */
+    public static final int DEFAULT_TAIL_SIZE = 4096;
+
+    private final List<String> messages;
+    private final Node root = new Node();
+    private Node state = root;
+
+    private final boolean[] matched;
+    private int matchedCount;
+    private boolean matchAny;
+
+    private final int tailSize;
+    private final StringBuilder tail = new StringBuilder();
+
+    public LogMessageMatcher(String... messages) {
+        this(List.of(messages));
+    }
+
+    public LogMessageMatcher(List<String> messages) {
+        this(messages, DEFAULT_TAIL_SIZE);
+    }
+
+    public LogMessageMatcher(List<String> messages, int tailSize) {
+        this.messages = new ArrayList<>(messages);
+        this.matched = new boolean[messages.size()];
+        this.tailSize = tailSize;
+
+        for (int i = 0; i < this.messages.size(); i++) {
+            String message = this.messages.get(i);
+            if (message.isEmpty()) {
+                markMatched(i);
+                continue;
+            }
+
+            Node node = root;
+            for (int k = 0; k < message.length(); k++) {
+                node = node.children.computeIfAbsent(message.charAt(k), c -> new Node());
+            }
+            node.outputs.add(i);
+        }
+
+        buildFailureLinks();
+    }
+
+    /**
+     * Creates a matcher that is satisfied as soon as one of the given messages has been matched.
+     * @param messages
+     * @return
+     */
+    public static LogMessageMatcher anyOf(List<String> messages) {
+        LogMessageMatcher matcher = new LogMessageMatcher(messages);
+        matcher.matchAny = true;
+        return matcher;
+    }
+
+    /**
+     * Scans next chunk of log output. Returns true when all expected messages have been matched.
+     * @param chunk
+     * @return
+     */
+    public boolean scan(CharSequence chunk) {
+        appendTail(chunk);
+
+        for (int i = 0; i < chunk.length() && !isMatched(); i++) {
+            char c = chunk.charAt(i);
+
+            while (state != root && !state.children.containsKey(c)) {
+                state = state.fail;
+            }
+
+            state = state.children.getOrDefault(c, root);
+
+            for (int index : state.outputs) {
+                markMatched(index);
+            }
+        }
+
+        return isMatched();
+    }
+
+    /**
+     * Resets the scanner state, e.g. when the log stream has been reconnected.
+     * Messages that have been matched before stay matched.
+     */
+    public void reset() {
+        state = root;
+    }
+
+    /**
+     * True when all expected messages have been matched or, for a matcher created with {@link #anyOf(List)},
+     * when at least one of the messages has been matched.
+     * @return
+     */
+    public boolean isMatched() {
+        if (matchAny) {
+            return matchedCount > 0;
+        }
+
+        return matchedCount == messages.size();
+    }
+
+    /**
+     * True when given message has been matched.
+     * @param message
+     * @return
+     */
+    public boolean isMatched(String message) {
+        int index = messages.indexOf(message);
+        return index >= 0 && matched[index];
+    }
+
+    /**
+     * Gets the list of expected messages that have not been matched yet.
+     * @return
+     */
+    public List<String> getUnmatched() {
+        List<String> unmatched = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (!matched[i]) {
+                unmatched.add(messages.get(i));
+            }
+        }
+
+        return Collections.unmodifiableList(unmatched);
+    }
+
+    /**
+     * Gets the list of expected messages that have been matched.
+     * @return
+     */
+    public List<String> getMatched() {
+        List<String> matchedMessages = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (matched[i]) {
+                matchedMessages.add(messages.get(i));
+            }
+        }
+
+        return Collections.unmodifiableList(matchedMessages);
+    }
+
+    /**
+     * Gets the expected messages.
+     * @return
+     */
+    public List<String> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * Gets the most recent log output retained in the bounded tail window.
+     * @return
+     */
+    public String getTail() {
+        if (tail.length() > tailSize) {
+            return tail.substring(tail.length() - tailSize);
+        }
+
+        return tail.toString();
+    }
+
+    private void appendTail(CharSequence chunk) {
+        if (tailSize <= 0) {
+            return;
+        }
+
+        if (chunk.length() >= tailSize) {
+            tail.setLength(0);
+            tail.append(chunk, chunk.length() - tailSize, chunk.length());
+            return;
+        }
+
+        tail.append(chunk);
+        if (tail.length() > 2 * tailSize) {
+            tail.delete(0, tail.length() - tailSize);
+        }
+    }
+
+    private void markMatched(int index) {
+        if (!matched[index]) {
+            matched[index] = true;
+            matchedCount++;
+        }
+    }
+
+    private void buildFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(entry.getKey())) {
+                    fail = fail.fail;
+                }
+
+                Node target = fail.children.get(entry.getKey());
+                child.fail = target != null && target != child ? target : root;
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Automaton state node.
+     */
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Integer> outputs = new ArrayList<>();
+        private Node fail;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fixed size buffer keeps the most recent log output. Once the buffer is full the oldest log output is overwritten.
+ * The buffer is either kept on the heap or backed by a memory mapped spill file so large buffers do not add
+ * to the heap size. Closing the buffer releases the file mapping and deletes the spill file. Log output added after
+ * the buffer has been closed is ignored.
+ */
+public class LogRingBuffer implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(LogRingBuffer.class);
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final Path spillFile;
+
+    private long written;
+    private boolean closed;
+
+    private LogRingBuffer(ByteBuffer buffer, Path spillFile) {
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * Creates buffer with given capacity on the heap.
+     * @param capacity in bytes.
+     * @return
+     */
+    public static LogRingBuffer heap(int capacity) {
+        return new LogRingBuffer(ByteBuffer.allocate(capacity), null);
+    }
+
+    /**
+     * Creates buffer with given capacity backed by the given memory mapped file. The file is deleted when the buffer is closed.
+     * @param spillFile
+     * @param capacity in bytes.
+     * @return
+     * @throws IOException
+     */
+    public static LogRingBuffer mapped(Path spillFile, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return new LogRingBuffer(channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), spillFile);
+        }
+    }
+
+    /**
+     * Adds log line to the buffer.
+     * @param line
+     */
+    public synchronized void append(String line) {
+        if (closed) {
+            return;
+        }
+
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+
+        int offset = Math.max(0, bytes.length - capacity);
+        int remaining = bytes.length - offset;
+        written += offset;
+        while (remaining > 0) {
+            int position = (int) (written % capacity);
+            int length = Math.min(remaining, capacity - position);
+            buffer.put(position, bytes, offset, length);
+
+            offset += length;
+            remaining -= length;
+            written += length;
+        }
+    }
+
+    /**
+     * Gets the buffered log output. In case older log output has been overwritten the partial first line is removed
+     * unless the buffer holds just a single line.
+     * @return
+     */
+    public synchronized byte[] toByteArray() {
+        if (closed) {
+            return new byte[0];
+        }
+
+        if (written <= capacity) {
+            byte[] content = new byte[(int) written];
+            buffer.get(0, content);
+            return content;
+        }
+
+        byte[] content = new byte[capacity];
+        int position = (int) (written % capacity);
+        buffer.get(position, content, 0, capacity - position);
+        buffer.get(0, content, capacity - position, position);
+
+        int start = 0;
+        while (start < content.length && content[start] != '\n') {
+            start++;
+        }
+
+        if (start >= content.length - 1) {
+            return content;
+        }
+
+        byte[] lines = new byte[content.length - start - 1];
+        System.arraycopy(content, start + 1, lines, 0, lines.length);
+        return lines;
+    }
+
+    @Override
+    public String toString() {
+        return new String(toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Total number of bytes written to this buffer.
+     * @return
+     */
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    /**
+     * True when older log output has been overwritten.
+     * @return
+     */
+    public synchronized boolean isTruncated() {
+        return written > capacity;
+    }
+
+    /**
+     * True when the buffer has been closed.
+     * @return
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        if (spillFile != null) {
+            unmap(buffer);
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    /**
+     * Releases the file mapping of given memory mapped buffer right away instead of waiting for the buffer to be garbage collected.
+     * The buffer must not be accessed afterwards.
+     * @param buffer
+     */
+    private static void unmap(ByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Failed to release memory mapped log buffer - mapping is released on garbage collection", e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.YaksSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.informer.KubernetesInformerCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Captures the logs of all pods labeled with the current test id in the background. Keeps a bounded ring buffer
+ * per pod container so the log output does not need to be printed for passing scenarios. The captured logs are written
+ * only when a scenario fails. The log buffers are reset at the start of each scenario so a failed scenario only reports
+ * the log output captured while the scenario was running.
+ *
+ * Pods that are started while capturing are picked up via the shared pod informer.
+ */
+public final class PodLogCapture implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PodLogCapture.class);
+
+    /** Label that identifies pods belonging to the current test */
+    public static final String TEST_ID_LABEL = "yaks.citrusframework.org/test-id";
+
+    private static final PodLogCapture INSTANCE = new PodLogCapture();
+
+    private final Map<String, Capture> captures = new ConcurrentHashMap<>();
+    private final Map<String, LogRingBuffer> buffers = new ConcurrentHashMap<>();
+
+    private PodLogCapture() {
+        // use singleton instance
+    }
+
+    public static PodLogCapture getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts capturing logs of pods labeled with the current test id in given namespace.
+     * Does nothing when the namespace is already captured.
+     * @param k8sClient
+     * @param namespace
+     */
+    public void start(KubernetesClient k8sClient, String namespace) {
+        captures.computeIfAbsent(namespace, ns -> {
+            String testId = YaksSettings.getTestId();
+            LOG.info(String.format("Capturing logs of pods labeled with %s=%s in namespace '%s'", TEST_ID_LABEL, testId, ns));
+
+            PodLogFanIn fanIn = new PodLogFanIn(k8sClient, ns, (pod, container, line) -> buffer(ns, pod, container).append(line));
+            KubernetesInformerCache.Subscription subscription = KubernetesSupport.getInformerCache(k8sClient)
+                    .subscribePods(ns, new ResourceEventHandler<>() {
+                        @Override
+                        public void onAdd(Pod pod) {
+                            if (pod.getMetadata().getLabels() != null &&
+                                    testId.equals(pod.getMetadata().getLabels().get(TEST_ID_LABEL))) {
+                                fanIn.follow(pod);
+                            }
+                        }
+
+                        @Override
+                        public void onUpdate(Pod oldPod, Pod newPod) {
+                            onAdd(newPod);
+                        }
+
+                        @Override
+                        public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+                        }
+                    });
+
+            return new Capture(fanIn, subscription);
+        });
+    }
+
+    /**
+     * True when logs are captured in at least one namespace.
+     * @return
+     */
+    public boolean isCapturing() {
+        return !captures.isEmpty();
+    }
+
+    /**
+     * Gets a snapshot of all captured logs. Keys use the format "namespace/pod/container".
+     * @return
+     */
+    public Map<String, byte[]> snapshot() {
+        Map<String, byte[]> logs = new TreeMap<>();
+        buffers.forEach((key, buffer) -> logs.put(key, buffer.toByteArray()));
+        return logs;
+    }
+
+    /**
+     * Writes all captured logs to given directory. Creates one file per pod container.
+     * @param directory
+     * @return the written files.
+     */
+    public List<Path> writeTo(Path directory) {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, byte[]> logs : snapshot().entrySet()) {
+                Path file = directory.resolve(logs.getKey().replaceAll("[^a-zA-Z0-9.-]", "_") + ".log");
+                files.add(Files.write(file, logs.getValue()));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to write captured pod logs to '%s'", directory), e);
+        }
+
+        return files;
+    }
+
+    /**
+     * Discards the log output captured so far and releases all log buffers. Pods are still followed and new log output
+     * is captured in new log buffers.
+     */
+    public void reset() {
+        for (String key : new ArrayList<>(buffers.keySet())) {
+            LogRingBuffer buffer = buffers.remove(key);
+            if (buffer != null) {
+                release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Stops capturing logs and releases all log buffers.
+     */
+    @Override
+    public void close() {
+        captures.values().forEach(Capture::close);
+        captures.clear();
+
+        reset();
+    }
+
+    private void release(LogRingBuffer buffer) {
+        try {
+            buffer.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to release pod log buffer", e);
+        }
+    }
+
+    private LogRingBuffer buffer(String namespace, String pod, String container) {
+        String key = namespace + "/" + pod + "/" + (container != null ? container : "default");
+        return buffers.computeIfAbsent(key, k -> {
+            int capacity = KubernetesSettings.getCapturePodLogsBufferSize();
+            String spillDir = KubernetesSettings.getCapturePodLogsSpillDir();
+            if (spillDir == null || spillDir.isEmpty()) {
+                return LogRingBuffer.heap(capacity);
+            }
+
+            try {
+                Path directory = Files.createDirectories(Paths.get(spillDir));
+                return LogRingBuffer.mapped(directory.resolve(k.replaceAll("[^a-zA-Z0-9.-]", "_") + ".spill"), capacity);
+            } catch (IOException e) {
+                LOG.warn(String.format("Failed to create spill file for pod logs '%s' - using heap buffer", k), e);
+                return LogRingBuffer.heap(capacity);
+            }
+        });
+    }
+
+    /**
+     * Running capture of a namespace.
+     */
+    private static final class Capture {
+        private final PodLogFanIn fanIn;
+        private final KubernetesInformerCache.Subscription subscription;
+
+        private Capture(PodLogFanIn fanIn, KubernetesInformerCache.Subscription subscription) {
+            this.fanIn = fanIn;
+            this.subscription = subscription;
+        }
+
+        private void close() {
+            subscription.close();
+            fanIn.close();
+        }
+    }
+}
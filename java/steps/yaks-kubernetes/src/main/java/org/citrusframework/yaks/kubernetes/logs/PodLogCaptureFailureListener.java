@@ -0,0 +1,55 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import io.cucumber.java.Scenario;
+import org.citrusframework.yaks.hooks.TestFailureListener;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the pod logs captured in the background when a scenario fails. The logs are written to the capture directory
+ * and attached to the scenario report.
+ */
+public class PodLogCaptureFailureListener implements TestFailureListener {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PodLogCaptureFailureListener.class);
+
+    @Override
+    public void onTestFailure(Scenario scenario) {
+        PodLogCapture capture = PodLogCapture.getInstance();
+        if (!capture.isCapturing()) {
+            return;
+        }
+
+        Map<String, byte[]> logs = capture.snapshot();
+        logs.forEach((key, content) -> scenario.attach(content, "text/plain", key));
+
+        Path directory = Paths.get(KubernetesSettings.getCapturePodLogsDir(),
+                scenario.getName().replaceAll("[^a-zA-Z0-9.-]", "_"));
+        List<Path> files = capture.writeTo(directory);
+        LOG.info(String.format("Scenario '%s' failed - wrote captured logs of %d pod container(s) to %s",
+                scenario.getName(), files.size(), directory));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keeps track of the position in a pod log that has been requested with timestamps. Each log line is prefixed with the
+ * RFC3339 timestamp of the log entry. The cursor strips the timestamp from the log line and remembers the timestamp of
+ * the last processed line so subsequent log requests can resume from that point in time via sinceTime.
+ *
+ * The Kubernetes API also returns log lines that have been logged at exactly the given sinceTime. These lines
+ * have been processed before and are skipped when the log is resumed. Multiple lines may share the same timestamp
+ * (e.g. stack traces), so the cursor counts the lines processed at the last timestamp and only skips that many
+ * lines at the beginning of a resumed log.
+ */
+public class PodLogCursor {
+
+    private String sinceTime;
+    private Instant lastTimestamp;
+    private int linesAtLastTimestamp;
+    private int skip;
+
+    /**
+     * Marks the start of a new log request that resumes from the current sinceTime. The lines logged at the sinceTime
+     * that have already been processed are skipped.
+     */
+    public void resume() {
+        skip = linesAtLastTimestamp;
+    }
+
+    /**
+     * Process given log line with leading timestamp. Returns the log line without the timestamp
+     * or null when the log line has already been processed.
+     * Log lines without a leading timestamp are returned as is.
+     * @param line
+     * @return
+     */
+    public String accept(String line) {
+        int separator = line.indexOf(' ');
+        if (separator <= 0) {
+            return line;
+        }
+
+        Instant timestamp;
+        try {
+            timestamp = Instant.parse(line.substring(0, separator));
+        } catch (DateTimeParseException e) {
+            return line;
+        }
+
+        if (lastTimestamp != null && timestamp.isBefore(lastTimestamp)) {
+            return null;
+        }
+
+        if (timestamp.equals(lastTimestamp)) {
+            if (skip > 0) {
+                skip--;
+                return null;
+            }
+
+            linesAtLastTimestamp++;
+        } else {
+            lastTimestamp = timestamp;
+            sinceTime = line.substring(0, separator);
+            linesAtLastTimestamp = 1;
+            skip = 0;
+        }
+
+        return line.substring(separator + 1);
+    }
+
+    /**
+     * Process given log output of a resumed log request with multiple log lines. Returns the log output that has not
+     * been processed before with all timestamps removed.
+     * @param log
+     * @return
+     */
+    public String acceptAll(String log) {
+        resume();
+
+        StringBuilder newLogs = new StringBuilder();
+        for (String line : log.split("\\r?\\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String content = accept(line);
+            if (content != null) {
+                newLogs.append(content).append(System.lineSeparator());
+            }
+        }
+
+        return newLogs.toString();
+    }
+
+    /**
+     * Gets the timestamp of the last processed log line or null when no log line has been processed yet.
+     * @return
+     */
+    public String getSinceTime() {
+        return sinceTime;
+    }
+}
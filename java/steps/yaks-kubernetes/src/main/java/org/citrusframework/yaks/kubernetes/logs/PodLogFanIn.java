@@ -0,0 +1,302 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.Loggable;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows the log streams of multiple pods and containers at the same time and merges the log lines into a single
+ * line handler. Each log stream is pumped on its own thread. The handler is never called concurrently so it does not need
+ * to be thread safe.
+ *
+ * Streams are closed when the fan-in is closed. Closing the streams also unblocks pending reads so callers enforce
+ * timeouts by closing the fan-in instead of checking the time between log lines.
+ */
+public class PodLogFanIn implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PodLogFanIn.class);
+
+    /** Time to wait for the pump threads to finish when closing */
+    private static final long CLOSE_TIMEOUT = 1000L;
+
+    private final KubernetesClient k8sClient;
+    private final String namespace;
+    private final LogLineHandler handler;
+
+    private final Map<String, LogStream> streams = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+
+    private volatile boolean closed;
+
+    public PodLogFanIn(KubernetesClient k8sClient, String namespace, LogLineHandler handler) {
+        this.k8sClient = k8sClient;
+        this.namespace = namespace;
+        this.handler = handler;
+    }
+
+    /**
+     * Follows the logs of all started containers in given pod. Containers that are already followed are skipped
+     * so the method can be called repeatedly, e.g. on each pod update. Containers that have been restarted since their
+     * log stream finished are followed again.
+     * @param pod
+     */
+    public void follow(Pod pod) {
+        follow(pod, getStartedContainers(pod), false);
+    }
+
+    /**
+     * Follows the logs of given containers in given pod. A null container name follows the default container of the pod.
+     * Waits for the pod to become ready before following its logs. Containers that are already followed are skipped
+     * unless their log stream has finished and the container has been restarted since.
+     * @param pod
+     * @param containers
+     */
+    public void follow(Pod pod, List<String> containers) {
+        follow(pod, containers, true);
+    }
+
+    private void follow(Pod pod, List<String> containers, boolean waitForReady) {
+        String podName = pod.getMetadata().getName();
+        for (String container : containers) {
+            String key = podName + "/" + (container != null ? container : "");
+            int restartCount = getRestartCount(pod, container);
+            LogStream existing = streams.get(key);
+            if (closed || (existing != null && !(existing.finished && existing.restartCount < restartCount))) {
+                continue;
+            }
+
+            try {
+                PodResource podResource = k8sClient.pods().inNamespace(namespace).withName(podName);
+                Loggable loggable = container != null ? podResource.inContainer(container) : podResource;
+                if (!waitForReady) {
+                    loggable = loggable.withReadyWaitTimeout(0);
+                }
+
+                LogWatch logWatch = loggable.watchLog();
+
+                LogStream stream = new LogStream(key, podName, container, restartCount, logWatch);
+                boolean added = existing == null ? streams.putIfAbsent(key, stream) == null : streams.replace(key, existing, stream);
+                if (!added) {
+                    logWatch.close();
+                    continue;
+                }
+
+                LOG.debug(String.format("Following logs of pod '%s'%s", key,
+                        existing != null ? String.format(" after restart %d", restartCount) : ""));
+                stream.thread.start();
+
+                if (closed) {
+                    logWatch.close();
+                }
+            } catch (KubernetesClientException e) {
+                LOG.warn(String.format("Failed to follow logs of pod '%s'", key), e);
+            }
+        }
+    }
+
+    /**
+     * Waits until all followed log streams have finished or the given time has elapsed.
+     * @param timeout in milliseconds.
+     * @return true when all streams have finished.
+     */
+    public boolean awaitStreams(long timeout) {
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        synchronized (lock) {
+            try {
+                long remaining;
+                while (getActiveStreams() > 0 && (remaining = stoppingAt - System.currentTimeMillis()) > 0) {
+                    lock.wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while following pod logs", e);
+            }
+
+            return getActiveStreams() == 0;
+        }
+    }
+
+    /**
+     * Gets the keys of all followed log streams in the format "pod/container".
+     * @return
+     */
+    public List<String> getStreams() {
+        return new ArrayList<>(streams.keySet());
+    }
+
+    /**
+     * Gets the number of log streams that are still open.
+     * @return
+     */
+    public long getActiveStreams() {
+        return streams.values().stream().filter(stream -> !stream.finished).count();
+    }
+
+    /**
+     * Closes all log streams and waits for the pump threads to finish.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        streams.values().forEach(stream -> {
+            try {
+                stream.logWatch.close();
+            } catch (RuntimeException e) {
+                LOG.warn(String.format("Failed to close log stream of pod '%s'", stream.key), e);
+            }
+        });
+
+        for (LogStream stream : streams.values()) {
+            try {
+                stream.thread.join(CLOSE_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the names of all containers in given pod that have been started. Uses the container statuses when available
+     * and all containers of a running pod otherwise.
+     * @param pod
+     * @return
+     */
+    public static List<String> getStartedContainers(Pod pod) {
+        if (pod.getStatus() != null && pod.getStatus().getContainerStatuses() != null &&
+                !pod.getStatus().getContainerStatuses().isEmpty()) {
+            return pod.getStatus().getContainerStatuses().stream()
+                    .filter(status -> status.getState() != null &&
+                            (status.getState().getRunning() != null || status.getState().getTerminated() != null))
+                    .map(ContainerStatus::getName)
+                    .collect(Collectors.toList());
+        }
+
+        if (pod.getStatus() == null || !"Running".equals(pod.getStatus().getPhase())) {
+            return Collections.emptyList();
+        }
+
+        if (pod.getSpec() == null || pod.getSpec().getContainers() == null || pod.getSpec().getContainers().isEmpty()) {
+            return Collections.singletonList(null);
+        }
+
+        return pod.getSpec().getContainers().stream()
+                .map(Container::getName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the restart count of given container from the pod status. Returns zero when the container status is not available.
+     * @param pod
+     * @param container
+     * @return
+     */
+    private static int getRestartCount(Pod pod, String container) {
+        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+            return 0;
+        }
+
+        return pod.getStatus().getContainerStatuses().stream()
+                .filter(status -> container == null || container.equals(status.getName()))
+                .map(ContainerStatus::getRestartCount)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(0);
+    }
+
+    private void pump(LogStream stream) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream.logWatch.getOutput(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                synchronized (lock) {
+                    handler.onLine(stream.pod, stream.container, line);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!closed) {
+                LOG.warn(String.format("Failed to read logs of pod '%s'", stream.key), e);
+            }
+        } finally {
+            stream.logWatch.close();
+            synchronized (lock) {
+                stream.finished = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Handler receives the merged log lines of all followed pods and containers.
+     */
+    @FunctionalInterface
+    public interface LogLineHandler {
+        /**
+         * Called for each log line.
+         * @param pod name of the pod.
+         * @param container name of the container or null for the default container.
+         * @param line
+         */
+        void onLine(String pod, String container, String line);
+    }
+
+    /**
+     * Log stream of a single pod container with its pump thread.
+     */
+    private final class LogStream {
+        private final String key;
+        private final String pod;
+        private final String container;
+        private final int restartCount;
+        private final LogWatch logWatch;
+        private final Thread thread;
+
+        private volatile boolean finished;
+
+        private LogStream(String key, String pod, String container, int restartCount, LogWatch logWatch) {
+            this.key = key;
+            this.pod = pod;
+            this.container = container;
+            this.restartCount = restartCount;
+            this.logWatch = logWatch;
+            this.thread = new Thread(() -> pump(this), "pod-logs-" + key);
+            this.thread.setDaemon(true);
+        }
+    }
+}
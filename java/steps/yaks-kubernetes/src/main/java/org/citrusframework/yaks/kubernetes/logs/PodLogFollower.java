@@ -0,0 +1,181 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import org.citrusframework.yaks.kubernetes.wait.WaitTrigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows a pod log stream and passes the log output line by line to a streaming log message matcher. The log output
+ * is never held in memory as a whole. Reconnects to the log stream when the stream has been closed by the server before
+ * the timeout is exceeded. The log stream is requested with timestamps so a reconnect resumes the log at the last
+ * processed log line. Stops following once the stream has been closed and the container is not running anymore.
+ */
+public class PodLogFollower {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PodLogFollower.class);
+
+    private final Function<String, LogWatch> logStream;
+    private final BooleanSupplier running;
+    private final long reconnectDelay;
+    private final Consumer<String> linePrinter;
+
+    /**
+     * Constructor using the log stream function that opens a new log stream with timestamps on each call. The function
+     * receives the sinceTime to resume the log from, which is null on the first call.
+     * @param logStream
+     * @param running checks whether the container is still running and may produce more log output.
+     * @param reconnectDelay
+     * @param linePrinter receives complete log lines, may be null when log lines should not be printed.
+     */
+    public PodLogFollower(Function<String, LogWatch> logStream, BooleanSupplier running,
+                          long reconnectDelay, Consumer<String> linePrinter) {
+        this.logStream = logStream;
+        this.running = running;
+        this.reconnectDelay = reconnectDelay;
+        this.linePrinter = linePrinter;
+    }
+
+    /**
+     * Follow the log stream and scan new log output as it arrives. The stream is closed once all messages
+     * have been matched or the timeout is exceeded.
+     * @param name
+     * @param matcher
+     * @param timeout
+     * @return number of log stream connections.
+     */
+    public int follow(String name, LogMessageMatcher matcher, long timeout) {
+        long stoppingAt = System.currentTimeMillis() + timeout;
+        PodLogCursor cursor = new PodLogCursor();
+        StringBuilder line = new StringBuilder();
+        int attempts = 0;
+
+        while (System.currentTimeMillis() < stoppingAt) {
+            AtomicBoolean timedOut = new AtomicBoolean(false);
+            attempts++;
+
+            line.setLength(0);
+            cursor.resume();
+
+            try (LogWatch logWatch = logStream.apply(cursor.getSinceTime())) {
+                CompletableFuture<Void> deadline = CompletableFuture.runAsync(() -> {
+                    timedOut.set(true);
+                    logWatch.close();
+                }, CompletableFuture.delayedExecutor(stoppingAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS));
+
+                try {
+                    if (scan(logWatch, matcher, cursor, line)) {
+                        return attempts;
+                    }
+                } finally {
+                    deadline.cancel(false);
+                }
+            }
+
+            if (timedOut.get()) {
+                return attempts;
+            }
+
+            if (!running.getAsBoolean()) {
+                // container has terminated - process the last incomplete log line and stop following
+                if (line.length() > 0) {
+                    process(line.toString(), matcher, cursor);
+                }
+
+                return attempts;
+            }
+
+            if (linePrinter == null) {
+                LOG.info(String.format("Log stream of '%s' has been closed - reconnect in %s ms", name, reconnectDelay));
+            }
+
+            WaitTrigger.SLEEP.await(reconnectDelay);
+        }
+
+        return attempts;
+    }
+
+    /**
+     * Reads chunks from given log stream and passes complete log lines to the matcher. Prints complete log lines when enabled.
+     * Incomplete log lines are kept in given line builder.
+     * Returns true once all messages have been matched or false when the log stream has been closed.
+     * @param logWatch
+     * @param matcher
+     * @param cursor
+     * @param line
+     * @return
+     */
+    private boolean scan(LogWatch logWatch, LogMessageMatcher matcher, PodLogCursor cursor, StringBuilder line) {
+        char[] buffer = new char[8192];
+
+        try (Reader reader = new InputStreamReader(logWatch.getOutput(), StandardCharsets.UTF_8)) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        String completed = line.toString();
+                        line.setLength(0);
+
+                        if (process(completed, matcher, cursor)) {
+                            return true;
+                        }
+                    } else if (buffer[i] != '\r') {
+                        line.append(buffer[i]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Pod log stream has been closed", e);
+        }
+
+        return false;
+    }
+
+    /**
+     * Passes given log line to the matcher unless the line has already been processed before.
+     * @param line
+     * @param matcher
+     * @param cursor
+     * @return true once all messages have been matched.
+     */
+    private boolean process(String line, LogMessageMatcher matcher, PodLogCursor cursor) {
+        String content = cursor.accept(line);
+        if (content == null) {
+            return false;
+        }
+
+        if (linePrinter != null) {
+            linePrinter.accept(content);
+        }
+
+        return matcher.scan(content + "\n");
+    }
+}
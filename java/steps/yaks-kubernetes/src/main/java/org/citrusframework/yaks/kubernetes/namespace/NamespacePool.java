@@ -0,0 +1,423 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.namespace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.api.model.APIGroup;
+import io.fabric8.kubernetes.api.model.APIGroupList;
+import io.fabric8.kubernetes.api.model.APIResource;
+import io.fabric8.kubernetes.api.model.APIResourceList;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of pre-provisioned test namespaces. Creating a fresh namespace per scenario is slow because the namespace,
+ * its default service account and quotas need to be set up and deleting the namespace waits for all finalizers.
+ * The pool keeps a fixed number of warm namespaces and leases one namespace per scenario. When the namespace is returned
+ * the pool wipes the objects created by the test according to the wipe policy and keeps the namespace for the next lease.
+ *
+ * Namespaces are wiped in the background so returning a namespace does not block the test.
+ *
+ * The labeled wipe deletes objects of all namespaced resource kinds served by the cluster (including custom resources).
+ * When the cluster does not support API discovery the wipe covers the core kinds and all kinds the test suite has created
+ * in pooled namespaces. A namespace that still holds labeled objects after the wipe is removed from the pool.
+ */
+public class NamespacePool implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(NamespacePool.class);
+
+    /** Label added to all pooled namespaces */
+    public static final String POOL_LABEL = "yaks.citrusframework.org/namespace-pool";
+
+    /** Time to wait for a namespace to be provisioned or deleted */
+    private static final long PROVISION_TIMEOUT = 120000L;
+
+    /** Metrics of all pools created in this JVM by pool prefix */
+    private static final Map<String, NamespacePoolMetrics> POOL_METRICS = new ConcurrentHashMap<>();
+
+    /** Core resource kinds wiped when the cluster does not support API discovery */
+    private static final List<ResourceDefinitionContext> CORE_KINDS = Arrays.asList(
+            kind("apps", "v1", "Deployment", "deployments"),
+            kind("batch", "v1", "Job", "jobs"),
+            kind("", "v1", "Pod", "pods"),
+            kind("", "v1", "Service", "services"),
+            kind("", "v1", "ConfigMap", "configmaps"),
+            kind("", "v1", "Secret", "secrets"),
+            kind("", "v1", "PersistentVolumeClaim", "persistentvolumeclaims"));
+
+    private final KubernetesClient k8sClient;
+    private final String prefix;
+    private final int size;
+    private final NamespaceWipePolicy wipePolicy;
+    private final Map<String, String> wipeLabels;
+
+    private final BlockingQueue<String> available = new LinkedBlockingQueue<>();
+    private final Set<String> leased = ConcurrentHashMap.newKeySet();
+    private final NamespacePoolMetrics metrics = new NamespacePoolMetrics();
+
+    /** Resource kinds created by the test suite in pooled namespaces */
+    private final Map<String, ResourceDefinitionContext> createdKinds = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor;
+
+    private volatile boolean initialized;
+
+    public NamespacePool(KubernetesClient k8sClient, String prefix, int size,
+                         NamespaceWipePolicy wipePolicy, Map<String, String> wipeLabels) {
+        this.k8sClient = k8sClient;
+        this.prefix = prefix;
+        this.size = size;
+        this.wipePolicy = wipePolicy;
+        this.wipeLabels = wipeLabels;
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, size), runnable -> {
+            Thread thread = new Thread(runnable, "namespace-pool-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        POOL_METRICS.put(prefix, metrics);
+    }
+
+    /**
+     * Provisions all pooled namespaces in parallel. Existing namespaces are reused. Does nothing when the pool
+     * has already been initialized.
+     */
+    public synchronized void warmUp() {
+        if (initialized) {
+            return;
+        }
+
+        LOG.info(String.format("Provisioning namespace pool '%s' with %d namespace(s)", prefix, size));
+
+        List<CompletableFuture<String>> namespaces = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = String.format("%s-%d", prefix, i);
+            namespaces.add(CompletableFuture.supplyAsync(() -> {
+                provision(name);
+                return name;
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(namespaces.toArray(CompletableFuture[]::new)).join();
+        } catch (RuntimeException e) {
+            throw new CitrusRuntimeException(String.format("Failed to provision namespace pool '%s'", prefix), e);
+        }
+
+        namespaces.forEach(namespace -> available.add(namespace.join()));
+        initialized = true;
+    }
+
+    /**
+     * Leases a namespace from the pool. Waits for a namespace to be returned when all namespaces are leased.
+     * @param timeout in milliseconds.
+     * @return the name of the leased namespace.
+     */
+    public String lease(long timeout) {
+        warmUp();
+
+        long start = System.currentTimeMillis();
+        String namespace;
+        try {
+            namespace = available.poll(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for a pooled namespace", e);
+        }
+
+        long waitTime = System.currentTimeMillis() - start;
+        if (namespace == null) {
+            metrics.leaseTimeout(waitTime);
+            throw new CitrusRuntimeException(String.format("Failed to lease namespace from pool '%s' - " +
+                    "no namespace available after %d ms", prefix, waitTime));
+        }
+
+        metrics.leased(waitTime);
+        leased.add(namespace);
+        LOG.info(String.format("Leased namespace '%s' from pool after %d ms", namespace, waitTime));
+        return namespace;
+    }
+
+    /**
+     * Returns given namespace to the pool. The namespace is wiped in the background and is available for
+     * the next lease once the wipe has finished.
+     * @param namespace
+     */
+    public void release(String namespace) {
+        release(namespace, Collections.emptyList());
+    }
+
+    /**
+     * Returns given namespace to the pool. The given resource kinds have been created by the test in the namespace.
+     * The labeled wipe covers these kinds, also in following wipes of other pooled namespaces.
+     * @param namespace
+     * @param kinds
+     */
+    public void release(String namespace, Collection<ResourceDefinitionContext> kinds) {
+        kinds.forEach(kind -> createdKinds.putIfAbsent(key(kind), kind));
+
+        if (!leased.remove(namespace)) {
+            LOG.warn(String.format("Ignore release of namespace '%s' - not leased from pool '%s'", namespace, prefix));
+            return;
+        }
+
+        CompletableFuture.runAsync(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                wipe(namespace);
+                metrics.wiped(System.currentTimeMillis() - start);
+                available.add(namespace);
+            } catch (RuntimeException e) {
+                metrics.wipeFailed();
+                LOG.warn(String.format("Failed to wipe pooled namespace '%s' - removed namespace from pool", namespace), e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Gets the number of namespaces that are ready to be leased.
+     * @return
+     */
+    public int getAvailable() {
+        return available.size();
+    }
+
+    /**
+     * Gets the names of the currently leased namespaces.
+     * @return
+     */
+    public Set<String> getLeased() {
+        return Collections.unmodifiableSet(leased);
+    }
+
+    public NamespacePoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the metrics of all namespace pools created in this JVM by pool prefix. Metrics of closed pools are kept,
+     * so they can be reported at the end of the test suite.
+     * @return
+     */
+    public static Map<String, NamespacePoolMetrics> getAllMetrics() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(POOL_METRICS));
+    }
+
+    /**
+     * Stops the background wipe operations. Pooled namespaces are kept in the cluster so following test runs
+     * can reuse them.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(PROVISION_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+
+        LOG.info(String.format("Namespace pool '%s' - %s", prefix, metrics));
+    }
+
+    /**
+     * Makes sure given namespace exists and is ready to use. Waits for a namespace that is still terminating
+     * to be deleted before creating the namespace again.
+     * @param name
+     */
+    private void provision(String name) {
+        Namespace namespace = k8sClient.namespaces().withName(name).get();
+        if (namespace != null && namespace.getStatus() != null && "Terminating".equals(namespace.getStatus().getPhase())) {
+            k8sClient.namespaces().withName(name).waitUntilCondition(Objects::isNull, PROVISION_TIMEOUT, TimeUnit.MILLISECONDS);
+            namespace = null;
+        }
+
+        if (namespace == null) {
+            LOG.debug(String.format("Creating pooled namespace '%s'", name));
+            k8sClient.namespaces().resource(new NamespaceBuilder()
+                    .withNewMetadata()
+                        .withName(name)
+                        .addToLabels(POOL_LABEL, prefix)
+                    .endMetadata()
+                    .build())
+                    .create();
+        } else if (wipePolicy != NamespaceWipePolicy.NONE) {
+            wipeLabeled(name);
+        }
+
+        k8sClient.serviceAccounts().inNamespace(name).withName("default")
+                .waitUntilCondition(Objects::nonNull, PROVISION_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cleans up given namespace according to the wipe policy.
+     * @param namespace
+     */
+    private void wipe(String namespace) {
+        switch (wipePolicy) {
+            case LABELED:
+                wipeLabeled(namespace);
+                break;
+            case RECREATE:
+                k8sClient.namespaces().withName(namespace).delete();
+                k8sClient.namespaces().withName(namespace).waitUntilCondition(Objects::isNull, PROVISION_TIMEOUT, TimeUnit.MILLISECONDS);
+                provision(namespace);
+                break;
+            case NONE:
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Deletes all objects with the wipe labels or the scenario label in given namespace. Covers all namespaced resource
+     * kinds served by the cluster. Falls back to the core kinds and the kinds created by the test suite when
+     * the cluster does not support API discovery. Fails when labeled objects are left in the namespace, so the namespace
+     * is not recycled.
+     * @param namespace
+     */
+    private void wipeLabeled(String namespace) {
+        List<ResourceDefinitionContext> kinds = discoverKinds();
+        if (kinds.isEmpty()) {
+            Map<String, ResourceDefinitionContext> known = new LinkedHashMap<>();
+            CORE_KINDS.forEach(kind -> known.put(key(kind), kind));
+            known.putAll(createdKinds);
+            kinds = new ArrayList<>(known.values());
+        }
+
+        LOG.debug(String.format("Wiping objects labeled with %s or '%s' of %d resource kind(s) in pooled namespace '%s'",
+                wipeLabels, LabeledTeardown.SCENARIO_LABEL, kinds.size(), namespace));
+
+        List<String> leftovers = new ArrayList<>();
+        for (ResourceDefinitionContext kind : kinds) {
+            FilterWatchListDeletable<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>> scenarioObjects =
+                    k8sClient.genericKubernetesResources(kind).inNamespace(namespace).withLabel(LabeledTeardown.SCENARIO_LABEL);
+            FilterWatchListDeletable<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>> testObjects =
+                    k8sClient.genericKubernetesResources(kind).inNamespace(namespace).withLabels(wipeLabels);
+
+            try {
+                scenarioObjects.delete();
+                testObjects.delete();
+            } catch (KubernetesClientException e) {
+                LOG.debug(String.format("Failed to delete %s in pooled namespace '%s' - %s", kind.getPlural(), namespace, e.getMessage()));
+
+                try {
+                    if (!scenarioObjects.list().getItems().isEmpty() || !testObjects.list().getItems().isEmpty()) {
+                        leftovers.add(kind.getPlural());
+                    }
+                } catch (KubernetesClientException listError) {
+                    leftovers.add(kind.getPlural());
+                }
+            }
+        }
+
+        metrics.wipedKinds(kinds.size());
+
+        if (!leftovers.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to wipe pooled namespace '%s' - labeled objects of kind %s left",
+                    namespace, leftovers));
+        }
+    }
+
+    /**
+     * Gets all namespaced resource kinds served by the cluster that support list and delete collection operations.
+     * Returns an empty list when the cluster does not support API discovery.
+     * @return
+     */
+    private List<ResourceDefinitionContext> discoverKinds() {
+        List<ResourceDefinitionContext> kinds = new ArrayList<>();
+
+        try {
+            addKinds(kinds, "", "v1", k8sClient.getApiResources("v1"));
+
+            APIGroupList groups = k8sClient.getApiGroups();
+            if (groups != null) {
+                for (APIGroup group : groups.getGroups()) {
+                    if (group.getPreferredVersion() != null) {
+                        addKinds(kinds, group.getName(), group.getPreferredVersion().getVersion(),
+                                k8sClient.getApiResources(group.getPreferredVersion().getGroupVersion()));
+                    }
+                }
+            }
+        } catch (KubernetesClientException e) {
+            LOG.debug(String.format("Failed to discover resource kinds for namespace pool '%s' - %s", prefix, e.getMessage()));
+            return Collections.emptyList();
+        }
+
+        return kinds;
+    }
+
+    private static void addKinds(List<ResourceDefinitionContext> kinds, String group, String version, APIResourceList resources) {
+        if (resources == null || resources.getResources() == null) {
+            return;
+        }
+
+        for (APIResource resource : resources.getResources()) {
+            if (Boolean.TRUE.equals(resource.getNamespaced()) && !resource.getName().contains("/") && resource.getVerbs() != null
+                    && resource.getVerbs().contains("list") && resource.getVerbs().contains("deletecollection")) {
+                kinds.add(kind(group, version, resource.getKind(), resource.getName()));
+            }
+        }
+    }
+
+    private static ResourceDefinitionContext kind(String group, String version, String kind, String plural) {
+        return new ResourceDefinitionContext.Builder()
+                .withGroup(group)
+                .withVersion(version)
+                .withKind(kind)
+                .withPlural(plural)
+                .withNamespaced(true)
+                .build();
+    }
+
+    private static String key(ResourceDefinitionContext kind) {
+        return String.format("%s/%s/%s", kind.getGroup() == null ? "" : kind.getGroup(), kind.getVersion(), kind.getPlural());
+    }
+}
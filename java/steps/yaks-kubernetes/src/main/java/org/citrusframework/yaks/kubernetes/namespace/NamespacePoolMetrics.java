@@ -0,0 +1,140 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.namespace;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a {@link NamespacePool}. Records the number of leases and the time tests waited for a free namespace
+ * as well as the number and duration of namespace wipes.
+ */
+public class NamespacePoolMetrics {
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong leaseTimeouts = new AtomicLong();
+    private final AtomicLong totalLeaseWaitTime = new AtomicLong();
+    private final AtomicLong maxLeaseWaitTime = new AtomicLong();
+    private final AtomicLong wipes = new AtomicLong();
+    private final AtomicLong wipeFailures = new AtomicLong();
+    private final AtomicLong totalWipeTime = new AtomicLong();
+    private final AtomicLong wipedKinds = new AtomicLong();
+
+    void leased(long waitTime) {
+        leases.incrementAndGet();
+        totalLeaseWaitTime.addAndGet(waitTime);
+        maxLeaseWaitTime.accumulateAndGet(waitTime, Math::max);
+    }
+
+    void leaseTimeout(long waitTime) {
+        leaseTimeouts.incrementAndGet();
+        totalLeaseWaitTime.addAndGet(waitTime);
+        maxLeaseWaitTime.accumulateAndGet(waitTime, Math::max);
+    }
+
+    void wiped(long time) {
+        wipes.incrementAndGet();
+        totalWipeTime.addAndGet(time);
+    }
+
+    void wipedKinds(int kinds) {
+        wipedKinds.addAndGet(kinds);
+    }
+
+    void wipeFailed() {
+        wipeFailures.incrementAndGet();
+    }
+
+    /**
+     * Number of successful leases.
+     * @return
+     */
+    public long getLeases() {
+        return leases.get();
+    }
+
+    /**
+     * Number of lease attempts that timed out because no namespace was available.
+     * @return
+     */
+    public long getLeaseTimeouts() {
+        return leaseTimeouts.get();
+    }
+
+    /**
+     * Accumulated time in milliseconds tests waited for a free namespace.
+     * @return
+     */
+    public long getTotalLeaseWaitTime() {
+        return totalLeaseWaitTime.get();
+    }
+
+    /**
+     * Longest time in milliseconds a test waited for a free namespace.
+     * @return
+     */
+    public long getMaxLeaseWaitTime() {
+        return maxLeaseWaitTime.get();
+    }
+
+    /**
+     * Average time in milliseconds a test waited for a free namespace.
+     * @return
+     */
+    public long getAverageLeaseWaitTime() {
+        long attempts = leases.get() + leaseTimeouts.get();
+        return attempts > 0 ? totalLeaseWaitTime.get() / attempts : 0L;
+    }
+
+    /**
+     * Number of namespaces wiped on return to the pool.
+     * @return
+     */
+    public long getWipes() {
+        return wipes.get();
+    }
+
+    /**
+     * Number of failed namespace wipes.
+     * @return
+     */
+    public long getWipeFailures() {
+        return wipeFailures.get();
+    }
+
+    /**
+     * Accumulated time in milliseconds spent on wiping namespaces.
+     * @return
+     */
+    public long getTotalWipeTime() {
+        return totalWipeTime.get();
+    }
+
+    /**
+     * Accumulated number of resource kinds covered by the namespace wipes.
+     * @return
+     */
+    public long getWipedKinds() {
+        return wipedKinds.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("leases=%d, timeouts=%d, lease wait time avg=%d ms, max=%d ms; wipes=%d, failed=%d, wipe time=%d ms",
+                getLeases(), getLeaseTimeouts(), getAverageLeaseWaitTime(), getMaxLeaseWaitTime(),
+                getWipes(), getWipeFailures(), getTotalWipeTime());
+    }
+}
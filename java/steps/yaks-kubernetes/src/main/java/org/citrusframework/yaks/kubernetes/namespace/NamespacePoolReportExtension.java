@@ -0,0 +1,38 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.namespace;
+
+import java.util.Map;
+
+import org.citrusframework.yaks.report.TestReportExtension;
+
+/**
+ * Adds the lease and wipe metrics of all namespace pools to the test results.
+ */
+public class NamespacePoolReportExtension implements TestReportExtension {
+
+    @Override
+    public String getName() {
+        return "kubernetesNamespacePools";
+    }
+
+    @Override
+    public Object getReport() {
+        Map<String, NamespacePoolMetrics> metrics = NamespacePool.getAllMetrics();
+        return metrics.isEmpty() ? null : metrics;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.namespace;
+
+import java.util.Locale;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Policy used to clean up a pooled namespace when the namespace is returned to the pool.
+ */
+public enum NamespaceWipePolicy {
+
+    /** Delete all objects labeled with the test labels or the scenario label and keep the namespace */
+    LABELED,
+
+    /** Delete the namespace and create a fresh one with the same name */
+    RECREATE,
+
+    /** Keep all objects in the namespace */
+    NONE;
+
+    /**
+     * Gets policy from given name ignoring case.
+     * @param name
+     * @return
+     */
+    public static NamespaceWipePolicy fromString(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.US));
+        } catch (IllegalArgumentException e) {
+            throw new CitrusRuntimeException(String.format("Unsupported namespace wipe policy '%s' - " +
+                    "please use one of labeled, recreate, none", name), e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.patch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds labels or annotations to resources with a JSON merge patch. The patch only holds the given metadata entries,
+ * so there is no need to read the resource first and the patch does not conflict with concurrent changes of other fields.
+ * Target resources are selected by name or by label selector. Patches for multiple resources are sent in parallel.
+ */
+public final class MetadataPatch {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(MetadataPatch.class);
+
+    /** Maximum number of patches sent in parallel */
+    private static final int MAX_PARALLEL_PATCHES = 8;
+
+    private static final PatchContext MERGE_PATCH = PatchContext.of(PatchType.JSON_MERGE);
+
+    private final String field;
+    private final Map<String, String> values;
+
+    private MetadataPatch(String field, Map<String, String> values) {
+        this.field = field;
+        this.values = values;
+    }
+
+    /**
+     * Patch adding given labels.
+     * @param labels
+     * @return
+     */
+    public static MetadataPatch labels(Map<String, String> labels) {
+        return new MetadataPatch("labels", labels);
+    }
+
+    /**
+     * Patch adding given annotations.
+     * @param annotations
+     * @return
+     */
+    public static MetadataPatch annotations(Map<String, String> annotations) {
+        return new MetadataPatch("annotations", annotations);
+    }
+
+    /**
+     * Applies the patch to all resources of given kind selected by name list or label selector.
+     * Uses the label selector when the name list is empty.
+     * @param k8sClient
+     * @param namespace
+     * @param kind
+     * @param names
+     * @param selector
+     */
+    public void apply(KubernetesClient k8sClient, String namespace, ResourceDefinitionContext kind,
+                      List<String> names, Map<String, String> selector) {
+        NonNamespaceOperation<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>> resources =
+                k8sClient.genericKubernetesResources(kind).inNamespace(namespace);
+
+        List<String> targets = names;
+        if (targets.isEmpty()) {
+            targets = resources.withLabels(selector).list().getItems().stream()
+                    .map(resource -> resource.getMetadata().getName())
+                    .collect(Collectors.toList());
+
+            if (targets.isEmpty()) {
+                throw new CitrusRuntimeException(String.format("Unable to add %s - no %s found matching selector %s in namespace '%s'",
+                        field, kind.getPlural(), selector, namespace));
+            }
+        }
+
+        String patch = toJson();
+        String apiVersion = kind.getGroup() == null || kind.getGroup().isEmpty() ? kind.getVersion() : kind.getGroup() + "/" + kind.getVersion();
+        if (targets.size() == 1) {
+            patch(resources, apiVersion, kind.getKind(), targets.get(0), patch).ifPresent(error -> {
+                throw new CitrusRuntimeException(error);
+            });
+            return;
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(targets.size(), MAX_PARALLEL_PATCHES), runnable -> {
+            Thread thread = new Thread(runnable, "k8s-patch-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<String> errors = new ArrayList<>();
+        try {
+            List<CompletableFuture<Optional<String>>> patches = targets.stream()
+                    .map(name -> CompletableFuture.supplyAsync(() -> patch(resources, apiVersion, kind.getKind(), name, patch), executor))
+                    .collect(Collectors.toList());
+
+            patches.forEach(result -> result.join().ifPresent(errors::add));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!errors.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to add %s to %d of %d %s:%n  %s", field,
+                    errors.size(), targets.size(), kind.getPlural(), String.join(String.format("%n  "), errors)));
+        }
+
+        LOG.info(String.format("Added %s %s to %d %s in namespace '%s'", field, values, targets.size(), kind.getPlural(), namespace));
+    }
+
+    /**
+     * Sends the merge patch for given resource name. Uses a stub resource holding just the name, so the client does not
+     * read the resource from the server before sending the patch. Returns the error message if the patch failed.
+     * @param resources
+     * @param apiVersion
+     * @param kind
+     * @param name
+     * @param patch
+     * @return
+     */
+    private Optional<String> patch(NonNamespaceOperation<GenericKubernetesResource, GenericKubernetesResourceList,
+                                           Resource<GenericKubernetesResource>> resources,
+                                   String apiVersion, String kind, String name, String patch) {
+        GenericKubernetesResource stub = new GenericKubernetesResourceBuilder()
+                .withApiVersion(apiVersion)
+                .withKind(kind)
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .build();
+
+        try {
+            resources.resource(stub).patch(MERGE_PATCH, patch);
+            return Optional.empty();
+        } catch (KubernetesClientException e) {
+            return Optional.of(String.format("Failed to add %s to '%s' - %s", field, name, e.getMessage()));
+        }
+    }
+
+    private String toJson() {
+        try {
+            return KubernetesSupport.json().writeValueAsString(
+                    Collections.singletonMap("metadata", Collections.singletonMap(field, values)));
+        } catch (JsonProcessingException e) {
+            throw new CitrusRuntimeException(String.format("Failed to create %s patch", field), e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.portforward;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.yaks.http.function.ServiceUrlResolver;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+
+/**
+ * Resolves service URLs to a pooled local port-forward to the service.
+ */
+public class PortForwardServiceUrlResolver implements ServiceUrlResolver {
+
+    @Override
+    public String resolve(String serviceName, String namespace, int servicePort, boolean secure, TestContext context) {
+        int localPort = KubernetesSupport.getPortForwardPool(KubernetesSupport.getKubernetesClient(context))
+                .getLocalPort(namespace, serviceName, servicePort);
+        return String.format("%s://localhost:%d", secure ? "https" : "http", localPort);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.portforward;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.LocalPortForward;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of port-forwards to cluster services. Opening a port-forward resolves the service, selects a backing pod
+ * and binds a local port, so the pool keeps one warm port-forward per service port and hands out the same local port
+ * to all steps that connect to the service. Dead port-forwards are reopened transparently on next access.
+ *
+ * Port-forwards are opened outside the map lock. Concurrent callers for the same service port wait for the pending
+ * port-forward instead of opening another one.
+ */
+public class ServicePortForwardPool implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ServicePortForwardPool.class);
+
+    private final KubernetesClient k8sClient;
+
+    private final Map<Key, CompletableFuture<LocalPortForward>> forwards = new ConcurrentHashMap<>();
+
+    public ServicePortForwardPool(KubernetesClient k8sClient) {
+        this.k8sClient = k8sClient;
+    }
+
+    /**
+     * Gets the local port that forwards to given service port. Opens a new port-forward when there is no
+     * port-forward for the service port yet or when the existing port-forward is not alive anymore.
+     * @param namespace
+     * @param serviceName
+     * @param servicePort the service port or 0 to use the first port of the service.
+     * @return
+     */
+    public int getLocalPort(String namespace, String serviceName, int servicePort) {
+        Key key = new Key(namespace, serviceName, servicePort);
+
+        while (true) {
+            CompletableFuture<LocalPortForward> pending = new CompletableFuture<>();
+            CompletableFuture<LocalPortForward> existing = forwards.putIfAbsent(key, pending);
+            if (existing == null) {
+                return open(key, pending).getLocalPort();
+            }
+
+            LocalPortForward forward = await(existing);
+            if (forward.isAlive() && !forward.errorOccurred()) {
+                return forward.getLocalPort();
+            }
+
+            if (forwards.replace(key, existing, pending)) {
+                LOG.info(String.format("Reopening port-forward to service '%s' in namespace '%s'", serviceName, namespace));
+                closeQuietly(forward);
+                return open(key, pending).getLocalPort();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of open port-forwards.
+     * @return
+     */
+    public int size() {
+        return forwards.size();
+    }
+
+    /**
+     * Opens the port-forward for given key and completes the pending future with the result. Removes the pending future
+     * from the pool when the port-forward could not be opened.
+     * @param key
+     * @param pending
+     * @return
+     */
+    private LocalPortForward open(Key key, CompletableFuture<LocalPortForward> pending) {
+        try {
+            LocalPortForward forward = open(key);
+            pending.complete(forward);
+            return forward;
+        } catch (RuntimeException e) {
+            forwards.remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static LocalPortForward await(CompletableFuture<LocalPortForward> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    private LocalPortForward open(Key key) {
+        Service service = k8sClient.services().inNamespace(key.namespace).withName(key.serviceName).get();
+        if (service == null) {
+            throw new CitrusRuntimeException(String.format("Unable to port-forward to service '%s' - service not found in namespace '%s'",
+                    key.serviceName, key.namespace));
+        }
+
+        int targetPort = resolveTargetPort(service, key.servicePort);
+        LocalPortForward forward = k8sClient.services().inNamespace(key.namespace).withName(key.serviceName).portForward(targetPort);
+        LOG.info(String.format("Opened port-forward localhost:%d to service '%s' port %d in namespace '%s'",
+                forward.getLocalPort(), key.serviceName, targetPort, key.namespace));
+        return forward;
+    }
+
+    /**
+     * Resolves the container port for given service port. Port-forwards connect to the pod directly so numeric
+     * target ports of the service need to be applied. Uses the first service port when no port is given.
+     * @param service
+     * @param servicePort
+     * @return
+     */
+    private static int resolveTargetPort(Service service, int servicePort) {
+        if (service.getSpec() == null || service.getSpec().getPorts() == null || service.getSpec().getPorts().isEmpty()) {
+            if (servicePort > 0) {
+                return servicePort;
+            }
+
+            throw new CitrusRuntimeException(String.format("Unable to port-forward to service '%s' - service has no ports",
+                    service.getMetadata().getName()));
+        }
+
+        ServicePort port = service.getSpec().getPorts().stream()
+                .filter(p -> servicePort <= 0 || Objects.equals(p.getPort(), servicePort))
+                .findFirst()
+                .orElse(null);
+
+        if (port == null) {
+            return servicePort;
+        }
+
+        if (port.getTargetPort() != null && port.getTargetPort().getIntVal() != null) {
+            return port.getTargetPort().getIntVal();
+        }
+
+        return port.getPort();
+    }
+
+    @Override
+    public void close() {
+        forwards.values().forEach(pending -> pending.thenAccept(ServicePortForwardPool::closeQuietly));
+        forwards.clear();
+    }
+
+    private static void closeQuietly(LocalPortForward forward) {
+        try {
+            forward.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close port-forward", e);
+        }
+    }
+
+    private static final class Key {
+        private final String namespace;
+        private final String serviceName;
+        private final int servicePort;
+
+        Key(String namespace, String serviceName, int servicePort) {
+            this.namespace = namespace;
+            this.serviceName = serviceName;
+            this.servicePort = servicePort;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return servicePort == key.servicePort &&
+                    Objects.equals(namespace, key.namespace) &&
+                    Objects.equals(serviceName, key.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespace, serviceName, servicePort);
+        }
+    }
+}
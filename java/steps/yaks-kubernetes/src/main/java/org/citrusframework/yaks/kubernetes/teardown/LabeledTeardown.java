@@ -0,0 +1,121 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.teardown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+
+/**
+ * Collects the resource kinds created by a test scenario. All resources created by the scenario carry the scenario label
+ * so the teardown is able to remove the resources with a single label selector delete per resource kind and namespace
+ * instead of deleting each resource separately.
+ */
+public class LabeledTeardown {
+
+    /** Label that identifies all resources created by a test scenario */
+    public static final String SCENARIO_LABEL = "yaks.citrusframework.org/scenario";
+
+    private final Map<String, String> labels;
+
+    private final Set<Target> targets = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    public LabeledTeardown(Map<String, String> labels) {
+        this.labels = Collections.unmodifiableMap(labels);
+    }
+
+    /**
+     * Adds resource kind in given namespace to the teardown.
+     * @param namespace
+     * @param kind
+     * @return true if the kind has not been added before.
+     */
+    public boolean add(String namespace, ResourceDefinitionContext kind) {
+        return targets.add(new Target(namespace, kind));
+    }
+
+    /**
+     * Gets the label selector identifying the resources to delete.
+     * @return
+     */
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+
+    /**
+     * Gets a snapshot of all resource kinds to delete.
+     * @return
+     */
+    public List<Target> getTargets() {
+        synchronized (targets) {
+            return new ArrayList<>(targets);
+        }
+    }
+
+    /**
+     * Resource kind in a namespace.
+     */
+    public static final class Target {
+        private final String namespace;
+        private final ResourceDefinitionContext kind;
+
+        public Target(String namespace, ResourceDefinitionContext kind) {
+            this.namespace = namespace;
+            this.kind = kind;
+        }
+
+        public String getNamespace() {
+            return namespace;
+        }
+
+        public ResourceDefinitionContext getKind() {
+            return kind;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Target target = (Target) o;
+            return Objects.equals(namespace, target.namespace) &&
+                    Objects.equals(kind.getGroup(), target.kind.getGroup()) &&
+                    Objects.equals(kind.getVersion(), target.kind.getVersion()) &&
+                    Objects.equals(kind.getPlural(), target.kind.getPlural());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespace, kind.getGroup(), kind.getVersion(), kind.getPlural());
+        }
+
+        @Override
+        public String toString() {
+            String group = kind.getGroup() == null || kind.getGroup().isEmpty() ? "" : "." + kind.getGroup();
+            return String.format("%s%s/%s in namespace '%s'", kind.getPlural(), group, kind.getVersion(), namespace);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Resource template compiled once into literal text segments and an indexed list of placeholders. Rendering the template
+ * for a row of values just concatenates the segments with the row values, so there is no need to parse the template
+ * content again for each resource.
+ *
+ * Only placeholders of the form ${name} that match one of the given template variable names are compiled into
+ * placeholders. All other content, including test variables and functions, stays part of the literal segments and
+ * is resolved on the rendered document, so functions may use row values as arguments.
+ */
+public final class ResourceTemplate {
+
+    /** Placeholder expression in template content */
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+
+    private final List<String> segments;
+    private final List<String> placeholders;
+    private final int length;
+
+    private ResourceTemplate(List<String> segments, List<String> placeholders) {
+        this.segments = segments;
+        this.placeholders = placeholders;
+        this.length = segments.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compiles given template content. Placeholders that match one of the given variable names are replaced with
+     * the row values when rendering the template.
+     * @param content
+     * @param variables
+     * @return
+     */
+    public static ResourceTemplate compile(String content, Set<String> variables) {
+        List<String> segments = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        Matcher matcher = PLACEHOLDER.matcher(content);
+        int position = 0;
+        while (matcher.find()) {
+            if (variables.contains(matcher.group(1))) {
+                segments.add(content.substring(position, matcher.start()));
+                placeholders.add(matcher.group(1));
+                position = matcher.end();
+            }
+        }
+        segments.add(content.substring(position));
+
+        return new ResourceTemplate(segments, placeholders);
+    }
+
+    /**
+     * Renders the template with given row values.
+     * @param values
+     * @return
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder rendered = new StringBuilder(length + placeholders.size() * 16);
+        for (int i = 0; i < placeholders.size(); i++) {
+            String value = values.get(placeholders.get(i));
+            if (value == null) {
+                throw new CitrusRuntimeException(String.format("Missing value for template placeholder '%s'", placeholders.get(i)));
+            }
+
+            rendered.append(segments.get(i)).append(value);
+        }
+
+        return rendered.append(segments.get(placeholders.size())).toString();
+    }
+
+    /**
+     * Gets the placeholder names in order of appearance in the template.
+     * @return
+     */
+    public List<String> getPlaceholders() {
+        return Collections.unmodifiableList(placeholders);
+    }
+}
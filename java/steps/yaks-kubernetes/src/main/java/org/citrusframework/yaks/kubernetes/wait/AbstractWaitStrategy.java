@@ -0,0 +1,72 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base wait strategy runs the wait loop. Checks the condition, asks the strategy for the next delay and pauses
+ * via wait trigger until the condition is satisfied or the strategy gives up. Each wait operation is recorded
+ * on the wait statistics.
+ */
+public abstract class AbstractWaitStrategy implements WaitStrategy {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(WaitStrategy.class);
+
+    @Override
+    public <T> WaitResult<T> waitFor(String description, WaitCondition<T> condition, WaitTrigger trigger) {
+        long start = System.currentTimeMillis();
+        int attempts = 0;
+
+        try {
+            while (true) {
+                attempts++;
+                T result = condition.check();
+                long elapsed = System.currentTimeMillis() - start;
+
+                if (result != null) {
+                    return complete(new WaitResult<>(description, getName(), WaitResult.Outcome.SATISFIED, result, attempts, elapsed));
+                }
+
+                long delay = nextDelay(attempts, elapsed);
+                if (delay < 0) {
+                    return complete(new WaitResult<>(description, getName(), WaitResult.Outcome.TIMEOUT, null, attempts, elapsed));
+                }
+
+                if (isWatch()) {
+                    LOG.debug(String.format("Waiting for %s - watching changes", description));
+                } else {
+                    LOG.info(String.format("Waiting for %s - retry in %s ms", description, delay));
+                }
+
+                trigger.await(delay);
+            }
+        } catch (RuntimeException e) {
+            complete(new WaitResult<>(description, getName(), WaitResult.Outcome.FAILED, null, attempts,
+                    System.currentTimeMillis() - start));
+            throw e;
+        }
+    }
+
+    private <T> WaitResult<T> complete(WaitResult<T> result) {
+        LOG.debug(result.toString());
+        WaitStatistics.getInstance().record(result);
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Checks the condition with an exponentially growing delay between attempts until the timeout is exceeded.
+ * Starts with a short initial delay so fast resources are verified quickly and backs off to a maximum delay
+ * for slow resources. A random jitter spreads the attempts of concurrent wait operations.
+ */
+public class ExponentialBackoffWaitStrategy extends AbstractWaitStrategy {
+
+    public static final String NAME = "exponential";
+
+    private final long timeout;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final double multiplier;
+    private final double jitter;
+
+    /**
+     * Constructor using timeout and backoff settings.
+     * @param timeout total time to wait in milliseconds.
+     * @param initialDelay delay after the first attempt.
+     * @param maxDelay upper bound for the delay between attempts.
+     * @param multiplier factor applied to the delay after each attempt.
+     * @param jitter random deviation of the delay as fraction (e.g. 0.2 = +/-20%).
+     */
+    public ExponentialBackoffWaitStrategy(long timeout, long initialDelay, long maxDelay, double multiplier, double jitter) {
+        this.timeout = timeout;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public long nextDelay(int attempt, long elapsed) {
+        long remaining = timeout - elapsed;
+        if (remaining <= 0) {
+            return -1L;
+        }
+
+        double delay = Math.min(initialDelay * Math.pow(multiplier, attempt - 1), maxDelay);
+        if (jitter > 0) {
+            delay = delay * (1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1));
+        }
+
+        return Math.min(Math.max(0L, Math.round(delay)), remaining);
+    }
+
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+}
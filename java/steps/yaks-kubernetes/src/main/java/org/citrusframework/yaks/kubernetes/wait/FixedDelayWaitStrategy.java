@@ -0,0 +1,56 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+/**
+ * Checks the condition for a maximum number of attempts with a fixed delay between attempts.
+ */
+public class FixedDelayWaitStrategy extends AbstractWaitStrategy {
+
+    public static final String NAME = "fixed";
+
+    private final int maxAttempts;
+    private final long delayBetweenAttempts;
+
+    public FixedDelayWaitStrategy(int maxAttempts, long delayBetweenAttempts) {
+        this.maxAttempts = maxAttempts;
+        this.delayBetweenAttempts = delayBetweenAttempts;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTimeout() {
+        return maxAttempts * delayBetweenAttempts;
+    }
+
+    @Override
+    public long nextDelay(int attempt, long elapsed) {
+        return attempt < maxAttempts ? delayBetweenAttempts : -1L;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getDelayBetweenAttempts() {
+        return delayBetweenAttempts;
+    }
+}
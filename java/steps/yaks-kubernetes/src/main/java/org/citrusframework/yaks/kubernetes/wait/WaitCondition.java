@@ -0,0 +1,31 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+/**
+ * Condition checked on each attempt of a wait operation.
+ * @param <T>
+ */
+@FunctionalInterface
+public interface WaitCondition<T> {
+
+    /**
+     * Checks the condition. Exceptions abort the wait operation.
+     * @return the result when condition is satisfied or null to keep waiting.
+     */
+    T check();
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+/**
+ * Result of a wait operation holding the outcome, the number of attempts and the total wait time.
+ * @param <T>
+ */
+public class WaitResult<T> {
+
+    /**
+     * Outcome of a wait operation.
+     */
+    public enum Outcome {
+        SATISFIED,
+        TIMEOUT,
+        FAILED
+    }
+
+    private final String description;
+    private final String strategy;
+    private final Outcome outcome;
+    private final T result;
+    private final int attempts;
+    private final long elapsed;
+
+    public WaitResult(String description, String strategy, Outcome outcome, T result, int attempts, long elapsed) {
+        this.description = description;
+        this.strategy = strategy;
+        this.outcome = outcome;
+        this.result = result;
+        this.attempts = attempts;
+        this.elapsed = elapsed;
+    }
+
+    public boolean isSatisfied() {
+        return outcome == Outcome.SATISFIED;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Wait for %s %s after %d attempts in %d ms (%s)", description, outcome, attempts, elapsed, strategy);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Wait trigger that returns early as soon as a signal has been raised, e.g. on a resource change event reported by
+ * a Kubernetes watch. Multiple signals raised between two attempts are combined into one.
+ */
+public class WaitSignal implements WaitTrigger {
+
+    private final Semaphore signals = new Semaphore(0);
+
+    /**
+     * Raise signal so the waiting operation performs the next attempt immediately.
+     */
+    public void signal() {
+        if (signals.availablePermits() == 0) {
+            signals.release();
+        }
+    }
+
+    @Override
+    public void await(long millis) {
+        try {
+            if (signals.tryAcquire(millis, TimeUnit.MILLISECONDS)) {
+                signals.drainPermits();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting", e);
+        }
+    }
+
+    /**
+     * Resource event handler that raises a signal on each resource change.
+     * @return
+     * @param <T>
+     */
+    public <T> ResourceEventHandler<T> handler() {
+        return new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(T obj) {
+                signal();
+            }
+
+            @Override
+            public void onUpdate(T oldObj, T newObj) {
+                signal();
+            }
+
+            @Override
+            public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+                signal();
+            }
+        };
+    }
+}
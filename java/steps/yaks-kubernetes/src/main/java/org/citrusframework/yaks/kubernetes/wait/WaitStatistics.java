@@ -0,0 +1,123 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the results of all wait operations in the test run. Provides the number of attempts, the total wait time
+ * and the outcome of each wait so slow waits can be reported.
+ */
+public final class WaitStatistics {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(WaitStatistics.class);
+
+    /** Number of slowest waits listed in the summary */
+    private static final int SLOWEST_WAITS_LIMIT = 5;
+
+    private static final WaitStatistics INSTANCE = new WaitStatistics();
+
+    private final Queue<WaitResult<?>> results = new ConcurrentLinkedQueue<>();
+
+    private WaitStatistics() {
+        // use singleton instance
+    }
+
+    public static WaitStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records given wait result.
+     * @param result
+     */
+    public void record(WaitResult<?> result) {
+        results.add(result);
+    }
+
+    /**
+     * Gets all recorded wait results.
+     * @return
+     */
+    public List<WaitResult<?>> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * Gets the recorded wait results with the longest wait time.
+     * @param limit
+     * @return
+     */
+    public List<WaitResult<?>> getSlowest(int limit) {
+        return results.stream()
+                .sorted(Comparator.comparingLong((WaitResult<?> result) -> result.getElapsed()).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the number of recorded wait operations with given outcome.
+     * @param outcome
+     * @return
+     */
+    public long getCount(WaitResult.Outcome outcome) {
+        return results.stream().filter(result -> result.getOutcome() == outcome).count();
+    }
+
+    /**
+     * Gets the accumulated wait time of all recorded wait operations.
+     * @return
+     */
+    public long getTotalWaitTime() {
+        return results.stream().mapToLong(WaitResult::getElapsed).sum();
+    }
+
+    /**
+     * Logs summary of all recorded wait operations including the slowest waits.
+     */
+    public void logSummary() {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        LOG.info(String.format("Wait statistics - %s", this));
+        getSlowest(SLOWEST_WAITS_LIMIT).forEach(result -> LOG.info(result.toString()));
+    }
+
+    /**
+     * Removes all recorded results.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("waits=%d, satisfied=%d, timeout=%d, failed=%d, total wait time=%d ms",
+                results.size(), getCount(WaitResult.Outcome.SATISFIED), getCount(WaitResult.Outcome.TIMEOUT),
+                getCount(WaitResult.Outcome.FAILED), getTotalWaitTime());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSettings;
+
+/**
+ * Creates wait strategies by name. Backoff settings of the exponential strategy are read from Kubernetes settings.
+ */
+public final class WaitStrategies {
+
+    private WaitStrategies() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Creates wait strategy with given name that waits for the time given by max attempts and delay between attempts.
+     * @param name one of fixed, exponential or watch.
+     * @param maxAttempts
+     * @param delayBetweenAttempts
+     * @return
+     */
+    public static WaitStrategy create(String name, int maxAttempts, long delayBetweenAttempts) {
+        long timeout = maxAttempts * delayBetweenAttempts;
+
+        switch (name) {
+            case FixedDelayWaitStrategy.NAME:
+                return fixed(maxAttempts, delayBetweenAttempts);
+            case ExponentialBackoffWaitStrategy.NAME:
+                return new ExponentialBackoffWaitStrategy(timeout,
+                        Math.min(KubernetesSettings.getWaitInitialDelay(), delayBetweenAttempts),
+                        KubernetesSettings.getWaitMaxDelay() > 0 ? KubernetesSettings.getWaitMaxDelay() : delayBetweenAttempts,
+                        KubernetesSettings.getWaitMultiplier(), KubernetesSettings.getWaitJitter());
+            case WatchWaitStrategy.NAME:
+                return new WatchWaitStrategy(timeout, delayBetweenAttempts);
+            default:
+                throw new CitrusRuntimeException(String.format("Unsupported wait strategy '%s' - " +
+                        "please use one of %s, %s, %s", name, FixedDelayWaitStrategy.NAME, ExponentialBackoffWaitStrategy.NAME, WatchWaitStrategy.NAME));
+        }
+    }
+
+    /**
+     * Creates fixed delay wait strategy.
+     * @param maxAttempts
+     * @param delayBetweenAttempts
+     * @return
+     */
+    public static WaitStrategy fixed(int maxAttempts, long delayBetweenAttempts) {
+        return new FixedDelayWaitStrategy(maxAttempts, delayBetweenAttempts);
+    }
+
+    /**
+     * Gets polling strategy for given strategy. Watch strategies are replaced by a fixed delay strategy with the same timeout
+     * because polling callers do not signal resource changes. All other strategies are returned as is.
+     * @param strategy
+     * @param maxAttempts
+     * @param delayBetweenAttempts
+     * @return
+     */
+    public static WaitStrategy polling(WaitStrategy strategy, int maxAttempts, long delayBetweenAttempts) {
+        return strategy.isWatch() ? fixed(maxAttempts, delayBetweenAttempts) : strategy;
+    }
+}
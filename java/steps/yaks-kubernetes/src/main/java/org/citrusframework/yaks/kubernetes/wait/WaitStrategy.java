@@ -0,0 +1,75 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+/**
+ * Strategy that decides how often and how long a test action checks a condition while waiting for a resource
+ * to reach an expected state. Implementations provide the delay before the next attempt and the overall time budget.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Strategy name used in logs and reports.
+     * @return
+     */
+    String getName();
+
+    /**
+     * Maximum time in milliseconds to wait for the condition.
+     * @return
+     */
+    long getTimeout();
+
+    /**
+     * Gets the delay in milliseconds before the next attempt. Negative value stops the wait.
+     * @param attempt number of attempts made so far.
+     * @param elapsed milliseconds elapsed since the wait started.
+     * @return
+     */
+    long nextDelay(int attempt, long elapsed);
+
+    /**
+     * When true the wait is backed by a Kubernetes watch and the caller should read the resource state from the
+     * informer cache and signal resource changes via wait trigger.
+     * @return
+     */
+    default boolean isWatch() {
+        return false;
+    }
+
+    /**
+     * Checks given condition until it is satisfied or the strategy gives up. Sleeps between attempts.
+     * @param description
+     * @param condition
+     * @return
+     * @param <T>
+     */
+    default <T> WaitResult<T> waitFor(String description, WaitCondition<T> condition) {
+        return waitFor(description, condition, WaitTrigger.SLEEP);
+    }
+
+    /**
+     * Checks given condition until it is satisfied or the strategy gives up. Uses given trigger to wait between attempts
+     * so the next attempt can start early once the resource has changed.
+     * @param description
+     * @param condition
+     * @param trigger
+     * @return
+     * @param <T>
+     */
+    <T> WaitResult<T> waitFor(String description, WaitCondition<T> condition, WaitTrigger trigger);
+}
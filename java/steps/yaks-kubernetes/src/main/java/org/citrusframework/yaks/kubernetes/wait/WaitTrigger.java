@@ -0,0 +1,42 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Pauses a wait operation between two attempts. Implementations may return early e.g. when the resource has changed.
+ */
+@FunctionalInterface
+public interface WaitTrigger {
+
+    /** Trigger that just sleeps for the given amount of time */
+    WaitTrigger SLEEP = millis -> {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting", e);
+        }
+    };
+
+    /**
+     * Waits at most for given amount of milliseconds.
+     * @param millis
+     */
+    void await(long millis);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+/**
+ * Wait strategy backed by a Kubernetes watch. Callers read the resource state from the informer cache and signal
+ * resource changes so the condition is checked as soon as the resource changes. The condition is checked again after
+ * the resync interval in case no change has been signaled. Waits until the timeout is exceeded.
+ */
+public class WatchWaitStrategy extends AbstractWaitStrategy {
+
+    public static final String NAME = "watch";
+
+    private final long timeout;
+    private final long resyncInterval;
+
+    public WatchWaitStrategy(long timeout, long resyncInterval) {
+        this.timeout = timeout;
+        this.resyncInterval = resyncInterval;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public long nextDelay(int attempt, long elapsed) {
+        long remaining = timeout - elapsed;
+        if (remaining <= 0) {
+            return -1L;
+        }
+
+        return Math.min(resyncInterval, remaining);
+    }
+
+    @Override
+    public boolean isWatch() {
+        return true;
+    }
+
+    public long getResyncInterval() {
+        return resyncInterval;
+    }
+}
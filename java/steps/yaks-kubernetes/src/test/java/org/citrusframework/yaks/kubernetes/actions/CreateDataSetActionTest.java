@@ -0,0 +1,108 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+import org.citrusframework.yaks.kubernetes.data.DataSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CreateDataSetActionTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+        context.setVariable(KubernetesVariableNames.NAMESPACE.value(), "test");
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldCreateSecretFromDirectory() {
+        new CreateDataSetAction.Builder()
+                .client(k8sClient)
+                .secret("fixtures")
+                .fromDirectory("classpath:data")
+                .build()
+                .execute(context);
+
+        Secret secret = k8sClient.secrets().inNamespace("test").withName("fixtures").get();
+        Assert.assertNotNull(secret);
+        Assert.assertEquals("first\n", new String(Base64.getDecoder().decode(secret.getData().get("first.txt"))));
+        Assert.assertEquals(300, Base64.getDecoder().decode(secret.getData().get("payload.bin")).length);
+        Assert.assertEquals("fixtures", secret.getMetadata().getLabels().get(DataSet.DATA_SET_LABEL));
+        Assert.assertEquals(DataSet.digest(secret.getData()),
+                secret.getMetadata().getAnnotations().get(DataSet.CONTENT_DIGEST_ANNOTATION));
+    }
+
+    @Test
+    public void shouldSplitConfigMapAndReuseUnchanged() {
+        createConfigMap(200);
+
+        List<ConfigMap> configMaps = k8sClient.configMaps().inNamespace("test").withLabel(DataSet.DATA_SET_LABEL, "fixtures").list().getItems();
+        Assert.assertEquals(3, configMaps.size());
+        ConfigMap payload = k8sClient.configMaps().inNamespace("test").withName("fixtures-1").get();
+        String resourceVersion = payload.getMetadata().getResourceVersion();
+
+        createConfigMap(200);
+        Assert.assertEquals(resourceVersion, k8sClient.configMaps().inNamespace("test").withName("fixtures-1").get()
+                .getMetadata().getResourceVersion());
+
+        createConfigMap(1000);
+        Assert.assertNotNull(k8sClient.configMaps().inNamespace("test").withName("fixtures").get());
+        Assert.assertNull(k8sClient.configMaps().inNamespace("test").withName("fixtures-1").get());
+        Assert.assertNull(k8sClient.configMaps().inNamespace("test").withName("fixtures-2").get());
+    }
+
+    private void createConfigMap(int maxObjectSize) {
+        new CreateDataSetAction.Builder()
+                .client(k8sClient)
+                .configMap("fixtures")
+                .fromFile("classpath:data/first.txt")
+                .fromFile("classpath:data/payload.bin")
+                .maxObjectSize(maxObjectSize)
+                .build()
+                .execute(context);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CreateLabelsActionTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+
+        context.setVariable(KubernetesVariableNames.NAMESPACE.value(), "test");
+        createPod("foo", "app", "foo");
+        createPod("bar", "app", "foo");
+        createPod("baz", "app", "baz");
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldAddLabelsByName() {
+        new CreateLabelsAction.Builder()
+                .client(k8sClient)
+                .type("POD")
+                .names("foo", "baz")
+                .label("tier", "backend")
+                .build()
+                .execute(context);
+
+        Assert.assertEquals("backend", labels("foo").get("tier"));
+        Assert.assertEquals("foo", labels("foo").get("app"));
+        Assert.assertEquals("backend", labels("baz").get("tier"));
+        Assert.assertNull(labels("bar").get("tier"));
+    }
+
+    @Test
+    public void shouldAddLabelsBySelector() {
+        new CreateLabelsAction.Builder()
+                .client(k8sClient)
+                .type("POD")
+                .selector("app", "foo")
+                .label("tier", "backend")
+                .build()
+                .execute(context);
+
+        Assert.assertEquals("backend", labels("foo").get("tier"));
+        Assert.assertEquals("backend", labels("bar").get("tier"));
+        Assert.assertNull(labels("baz").get("tier"));
+    }
+
+    @Test
+    public void shouldAddAnnotations() {
+        new CreateAnnotationsAction.Builder()
+                .client(k8sClient)
+                .pod("foo")
+                .annotation("owner", "yaks")
+                .build()
+                .execute(context);
+
+        Assert.assertEquals("yaks", k8sClient.pods().inNamespace("test").withName("foo").get()
+                .getMetadata().getAnnotations().get("owner"));
+    }
+
+    @Test
+    public void shouldReportFailedPatches() {
+        try {
+            new CreateLabelsAction.Builder()
+                    .client(k8sClient)
+                    .type("POD")
+                    .names("foo", "unknown")
+                    .label("tier", "backend")
+                    .build()
+                    .execute(context);
+            Assert.fail("Missing error for unknown pod");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to add labels to 1 of 2 pods"));
+            Assert.assertTrue(e.getMessage().contains("'unknown'"));
+        }
+
+        Assert.assertEquals("backend", labels("foo").get("tier"));
+    }
+
+    private Map<String, String> labels(String name) {
+        return k8sClient.pods().inNamespace("test").withName(name).get().getMetadata().getLabels();
+    }
+
+    private void createPod(String name, String label, String value) {
+        k8sClient.pods().inNamespace("test").resource(new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .addToLabels(label, value)
+                .endMetadata()
+                .build())
+                .create();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CreateResourcesFromTemplateActionTest {
+
+    private static final String TEMPLATE = "apiVersion: v1\n" +
+            "kind: ConfigMap\n" +
+            "metadata:\n" +
+            "  name: ${prefix}-${index}\n" +
+            "data:\n" +
+            "  color: ${color}\n" +
+            "  owner: ${owner}\n";
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        System.setProperty("yaks.kubernetes.teardown.labeled", "true");
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+
+        context.setVariable("prefix", "config");
+        context.setVariable("owner", "yaks");
+        context.setVariable(KubernetesVariableNames.NAMESPACE.value(), "test");
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty("yaks.kubernetes.teardown.labeled");
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldCreateResourcesInRange() {
+        new CreateResourcesFromTemplateAction.Builder()
+                .client(k8sClient)
+                .template(TEMPLATE.replace("${color}", "blue"))
+                .range(1, 25)
+                .concurrency(4)
+                .build()
+                .execute(context);
+
+        List<ConfigMap> configMaps = k8sClient.configMaps().inNamespace("test")
+                .withLabels(KubernetesSupport.getScenarioLabels(context))
+                .list()
+                .getItems();
+        Assert.assertEquals(25, configMaps.size());
+
+        ConfigMap configMap = k8sClient.configMaps().inNamespace("test").withName("config-25").get();
+        Assert.assertEquals("blue", configMap.getData().get("color"));
+        Assert.assertEquals("yaks", configMap.getData().get("owner"));
+        Assert.assertNotNull(configMap.getMetadata().getLabels().get(LabeledTeardown.SCENARIO_LABEL));
+    }
+
+    @Test
+    public void shouldRemoveResourcesWithoutLabeledTeardown() {
+        System.setProperty("yaks.kubernetes.teardown.labeled", "false");
+
+        new CreateResourcesFromTemplateAction.Builder()
+                .client(k8sClient)
+                .template(TEMPLATE.replace("${color}", "blue"))
+                .range(1, 5)
+                .build()
+                .execute(context);
+
+        ConfigMap configMap = k8sClient.configMaps().inNamespace("test").withName("config-1").get();
+        Assert.assertEquals(KubernetesSupport.getScenarioLabels(context).get(LabeledTeardown.SCENARIO_LABEL),
+                configMap.getMetadata().getLabels().get(LabeledTeardown.SCENARIO_LABEL));
+
+        // same teardown as registered by the template step for auto removal
+        LabeledTeardown teardown = new LabeledTeardown(KubernetesSupport.getScenarioLabels(context));
+        teardown.add("test", ResourceDefinitionContext.fromResourceType(ConfigMap.class));
+        new DeleteLabeledResourcesAction.Builder()
+                .client(k8sClient)
+                .teardown(teardown)
+                .timeout(5000L)
+                .build()
+                .execute(context);
+
+        Assert.assertTrue(k8sClient.configMaps().inNamespace("test").list().getItems().isEmpty());
+    }
+
+    @Test
+    public void shouldCreateResourcesFromRows() {
+        Map<String, String> red = new HashMap<>();
+        red.put("color", "red");
+        Map<String, String> green = new HashMap<>();
+        green.put("color", "green");
+        green.put("index", "custom");
+
+        new CreateResourcesFromTemplateAction.Builder()
+                .client(k8sClient)
+                .template(TEMPLATE)
+                .rows(Arrays.asList(red, green))
+                .build()
+                .execute(context);
+
+        Assert.assertEquals("red", k8sClient.configMaps().inNamespace("test").withName("config-0").get().getData().get("color"));
+        Assert.assertEquals("green", k8sClient.configMaps().inNamespace("test").withName("config-custom").get().getData().get("color"));
+    }
+
+    @Test
+    public void shouldResolveFunctionsWithRowValues() {
+        Map<String, String> red = new HashMap<>();
+        red.put("color", "red");
+
+        new CreateResourcesFromTemplateAction.Builder()
+                .client(k8sClient)
+                .template(TEMPLATE.replace("${owner}", "citrus:upperCase('${owner}-${color}')"))
+                .rows(Arrays.asList(red))
+                .build()
+                .execute(context);
+
+        Assert.assertEquals("YAKS-RED", k8sClient.configMaps().inNamespace("test").withName("config-0").get().getData().get("owner"));
+    }
+
+    @Test
+    public void shouldReportFailedRows() {
+        Map<String, String> valid = new HashMap<>();
+        valid.put("color", "red");
+        Map<String, String> missing = new HashMap<>();
+        missing.put("shade", "dark");
+
+        try {
+            new CreateResourcesFromTemplateAction.Builder()
+                    .client(k8sClient)
+                    .template(TEMPLATE)
+                    .rows(Arrays.asList(valid, missing))
+                    .build()
+                    .execute(context);
+            Assert.fail("Missing error for failed template row");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to create resources from template for 1 of 2 row(s)"));
+            Assert.assertTrue(e.getMessage().contains("Row 1 failed"));
+            Assert.assertTrue(e.getMessage().contains("Missing value for template placeholder 'color'"));
+        }
+
+        Assert.assertNotNull(k8sClient.configMaps().inNamespace("test").withName("config-0").get());
+    }
+}
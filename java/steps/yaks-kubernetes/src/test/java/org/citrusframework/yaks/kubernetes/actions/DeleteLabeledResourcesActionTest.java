@@ -0,0 +1,117 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeleteLabeledResourcesActionTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldDeleteLabeledResources() {
+        Map<String, String> labels = KubernetesSupport.getScenarioLabels(context);
+        Map<String, String> otherLabels = Collections.singletonMap(LabeledTeardown.SCENARIO_LABEL, "other");
+
+        createSecret("foo", labels);
+        createSecret("bar", otherLabels);
+        createService("foo", labels);
+        createService("bar", labels);
+
+        LabeledTeardown teardown = new LabeledTeardown(labels);
+        Assert.assertTrue(teardown.add("test", ResourceDefinitionContext.fromResourceType(Secret.class)));
+        Assert.assertTrue(teardown.add("test", ResourceDefinitionContext.fromResourceType(Service.class)));
+        Assert.assertFalse(teardown.add("test", ResourceDefinitionContext.fromResourceType(Secret.class)));
+
+        new DeleteLabeledResourcesAction.Builder()
+                .client(k8sClient)
+                .teardown(teardown)
+                .timeout(5000L)
+                .build()
+                .execute(context);
+
+        Assert.assertNull(k8sClient.secrets().inNamespace("test").withName("foo").get());
+        Assert.assertNotNull(k8sClient.secrets().inNamespace("test").withName("bar").get());
+        Assert.assertTrue(k8sClient.services().inNamespace("test").list().getItems().isEmpty());
+    }
+
+    @Test
+    public void shouldUseSameScenarioLabels() {
+        Map<String, String> labels = KubernetesSupport.getScenarioLabels(context);
+
+        Assert.assertEquals(labels, KubernetesSupport.getScenarioLabels(context));
+        Assert.assertNotEquals(labels, KubernetesSupport.getScenarioLabels(TestContextFactory.newInstance().getObject()));
+    }
+
+    private void createSecret(String name, Map<String, String> labels) {
+        k8sClient.secrets().inNamespace("test").resource(new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withLabels(labels)
+                .endMetadata()
+                .build())
+                .create();
+    }
+
+    private void createService(String name, Map<String, String> labels) {
+        k8sClient.services().inNamespace("test").resource(new ServiceBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withLabels(labels)
+                .endMetadata()
+                .build())
+                .create();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.actions;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.ActionTimeoutException;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.citrusframework.yaks.kubernetes.KubernetesVariableNames;
+import org.citrusframework.yaks.kubernetes.wait.FixedDelayWaitStrategy;
+import org.citrusframework.yaks.kubernetes.wait.WatchWaitStrategy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VerifyPodActionTest {
+
+    private static final String POD_LIST_PATH = "/api/v1/namespaces/test/pods?";
+    private static final String POD_PATH = "/api/v1/namespaces/test/pods/foo";
+
+    private final AtomicInteger podListRequests = new AtomicInteger();
+    private final AtomicInteger podRequests = new AtomicInteger();
+    private volatile boolean rejectPodList;
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    if (request.getPath().startsWith(POD_LIST_PATH)) {
+                        podListRequests.incrementAndGet();
+
+                        if (rejectPodList) {
+                            return new MockResponse().setResponseCode(403);
+                        }
+                    } else if (request.getPath().equals(POD_PATH) && "GET".equals(request.getMethod())) {
+                        podRequests.incrementAndGet();
+                    }
+
+                    return super.dispatch(request);
+                }
+            }, false);
+
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+
+        context.setVariable(KubernetesVariableNames.NAMESPACE.value(), "test");
+    }
+
+    @After
+    public void cleanup() {
+        KubernetesSupport.closeInformerCaches();
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldCompleteWatchOnPodChange() throws Exception {
+        createPod("foo", "Pending", false);
+
+        CompletableFuture<Void> verified = CompletableFuture.runAsync(() -> verifyPod(WatchWaitStrategy.NAME, 100, 100L));
+
+        Thread.sleep(500L);
+        Assert.assertFalse(verified.isDone());
+        // pod state is read from the informer cache instead of polling the pod
+        Assert.assertEquals(0, podRequests.get());
+
+        long start = System.currentTimeMillis();
+        updatePodStatus("foo", "Running", true);
+        verified.get(5, TimeUnit.SECONDS);
+
+        // watch notifies the wait on the pod change instead of waiting for the full timeout
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        Assert.assertTrue(podListRequests.get() > 0);
+    }
+
+    @Test
+    public void shouldTimeoutWhenPodNotRunning() {
+        createPod("foo", "Running", false);
+
+        for (String waitStrategy : new String[] { WatchWaitStrategy.NAME, FixedDelayWaitStrategy.NAME }) {
+            long start = System.currentTimeMillis();
+            try {
+                verifyPod(waitStrategy, 5, 100L);
+                Assert.fail("Missing timeout for pod not ready with wait strategy " + waitStrategy);
+            } catch (ActionTimeoutException e) {
+                Assert.assertTrue(e.getCause().getMessage().startsWith("Failed to verify pod 'foo' - is not in state 'Running'"));
+                Assert.assertTrue(System.currentTimeMillis() - start >= 400L);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFallbackToPollingWhenWatchFails() throws Exception {
+        rejectPodList = true;
+        createPod("foo", "Pending", false);
+
+        CompletableFuture<Void> verified = CompletableFuture.runAsync(() -> verifyPod(WatchWaitStrategy.NAME, 50, 100L));
+
+        Thread.sleep(500L);
+        updatePodStatus("foo", "Running", true);
+        verified.get(5, TimeUnit.SECONDS);
+
+        // pod state is polled after the watch has failed
+        Assert.assertTrue(podListRequests.get() > 0);
+        Assert.assertTrue(podRequests.get() > 1);
+    }
+
+    private void verifyPod(String waitStrategy, int maxAttempts, long delayBetweenAttempts) {
+        new VerifyPodAction.Builder()
+                .client(k8sClient)
+                .podName("foo")
+                .isRunning()
+                .waitStrategy(waitStrategy)
+                .maxAttempts(maxAttempts)
+                .delayBetweenAttempts(delayBetweenAttempts)
+                .build()
+                .execute(context);
+    }
+
+    private void createPod(String name, String phase, boolean ready) {
+        k8sClient.pods().inNamespace("test").resource(pod(name, phase, ready)).create();
+    }
+
+    private void updatePodStatus(String name, String phase, boolean ready) {
+        k8sClient.pods().inNamespace("test").resource(pod(name, phase, ready)).updateStatus();
+    }
+
+    private static Pod pod(String name, String phase, boolean ready) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("test")
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase(phase)
+                    .addNewContainerStatus()
+                        .withName("main")
+                        .withReady(ready)
+                    .endContainerStatus()
+                .endStatus()
+                .build();
+    }
+}
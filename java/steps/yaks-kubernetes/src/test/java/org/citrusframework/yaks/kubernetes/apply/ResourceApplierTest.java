@@ -0,0 +1,153 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.apply;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResourceApplierTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldComputeCanonicalSpecHash() {
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("foo", "1");
+        data.put("bar", "2");
+        Map<String, String> reversed = new LinkedHashMap<>();
+        reversed.put("bar", "2");
+        reversed.put("foo", "1");
+
+        ConfigMap configMap = configMap("test", data);
+        ConfigMap live = configMap("test", reversed);
+        live.getMetadata().setResourceVersion("42");
+        live.getMetadata().setUid("4711");
+        live.getMetadata().setAnnotations(new HashMap<>());
+        live.getMetadata().getAnnotations().put(SpecHash.ANNOTATION, "outdated");
+
+        Assert.assertEquals(SpecHash.of(configMap), SpecHash.of(live));
+        Assert.assertNotEquals(SpecHash.of(configMap), SpecHash.of(configMap("test", Map.of("foo", "changed"))));
+    }
+
+    @Test
+    public void shouldSkipUnchangedResources() {
+        ConfigMap created = apply(configMap("test", Map.of("foo", "1")), ApplyMode.UPDATE);
+        Assert.assertNotNull(SpecHash.get(created));
+
+        ConfigMap unchanged = apply(configMap("test", Map.of("foo", "1")), ApplyMode.UPDATE);
+        Assert.assertEquals(created.getMetadata().getResourceVersion(), unchanged.getMetadata().getResourceVersion());
+
+        ConfigMap updated = apply(configMap("test", Map.of("foo", "2")), ApplyMode.UPDATE);
+        Assert.assertNotEquals(created.getMetadata().getResourceVersion(), updated.getMetadata().getResourceVersion());
+        Assert.assertEquals("2", k8sClient.configMaps().inNamespace("test").withName("test").get().getData().get("foo"));
+    }
+
+    @Test
+    public void shouldSkipUnchangedResourcesAcrossScenarios() {
+        ConfigMap first = configMap("test", Map.of("foo", "1"));
+        first.getMetadata().setLabels(new HashMap<>(Map.of(LabeledTeardown.SCENARIO_LABEL, "scenario-1")));
+        ConfigMap created = apply(first, ApplyMode.UPDATE);
+
+        ConfigMap second = configMap("test", Map.of("foo", "1"));
+        second.getMetadata().setLabels(new HashMap<>(Map.of(LabeledTeardown.SCENARIO_LABEL, "scenario-2")));
+        Assert.assertEquals(SpecHash.of(first), SpecHash.of(second));
+
+        ConfigMap skipped = apply(second, ApplyMode.UPDATE);
+        Assert.assertEquals(SpecHash.get(created), SpecHash.get(skipped));
+        Assert.assertEquals("1", skipped.getData().get("foo"));
+
+        ConfigMap live = k8sClient.configMaps().inNamespace("test").withName("test").get();
+        Assert.assertEquals("scenario-2", live.getMetadata().getLabels().get(LabeledTeardown.SCENARIO_LABEL));
+        Assert.assertEquals(SpecHash.get(created), SpecHash.get(live));
+    }
+
+    @Test
+    public void shouldApplyServerSide() throws InterruptedException {
+        KubernetesMockServer server = new KubernetesMockServer(false);
+        server.init();
+
+        try (KubernetesClient client = server.createClient()) {
+            ConfigMap configMap = configMap("test", Map.of("foo", "1"));
+            String hash = SpecHash.of(configMap);
+
+            server.expect().get().withPath("/api/v1/namespaces/test/configmaps/test")
+                    .andReturn(404, null).once();
+            server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/test?fieldManager=yaks&force=true")
+                    .andReturn(200, configMap).once();
+
+            ResourceApplier.apply(item -> client.configMaps().inNamespace("test").resource(item), configMap, ApplyMode.SERVER_SIDE, true);
+
+            server.takeRequest();
+            RecordedRequest patch = server.takeRequest();
+            Assert.assertEquals("PATCH", patch.getMethod());
+            Assert.assertEquals("application/apply-patch+yaml", patch.getHeader("Content-Type").split(";")[0]);
+            Assert.assertTrue(patch.getBody().readUtf8().contains(hash));
+
+            server.expect().get().withPath("/api/v1/namespaces/test/configmaps/test")
+                    .andReturn(200, configMap).once();
+
+            ResourceApplier.apply(item -> client.configMaps().inNamespace("test").resource(item),
+                    configMap("test", Map.of("foo", "1")), ApplyMode.SERVER_SIDE, true);
+            Assert.assertEquals(3, server.getRequestCount());
+        } finally {
+            server.destroy();
+        }
+    }
+
+    private ConfigMap apply(ConfigMap configMap, ApplyMode mode) {
+        return ResourceApplier.apply(item -> k8sClient.configMaps().inNamespace("test").resource(item), configMap, mode, true);
+    }
+
+    private static ConfigMap configMap(String name, Map<String, String> data) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ApiCallStatisticsTest {
+
+    private final ApiCallStatistics statistics = ApiCallStatistics.getInstance();
+
+    @After
+    public void cleanup() {
+        statistics.reset();
+    }
+
+    @Test
+    public void shouldParseApiCalls() {
+        Assert.assertEquals(new ApiCall("get", "pods", "test"),
+                ApiCall.of("GET", HttpUrl.get("https://k8s:6443/api/v1/namespaces/test/pods/foo")));
+        Assert.assertEquals(new ApiCall("list", "pods", "test"),
+                ApiCall.of("GET", HttpUrl.get("https://k8s:6443/api/v1/namespaces/test/pods?labelSelector=app%3Dfoo")));
+        Assert.assertEquals(new ApiCall("watch", "pods", "test"),
+                ApiCall.of("GET", HttpUrl.get("https://k8s:6443/api/v1/namespaces/test/pods?watch=true")));
+        Assert.assertEquals(new ApiCall("get", "pods/log", "test"),
+                ApiCall.of("GET", HttpUrl.get("https://k8s:6443/api/v1/namespaces/test/pods/foo/log?follow=true")));
+        Assert.assertEquals(new ApiCall("create", "integrations", "test"),
+                ApiCall.of("POST", HttpUrl.get("https://k8s:6443/apis/camel.apache.org/v1/namespaces/test/integrations")));
+        Assert.assertEquals(new ApiCall("deletecollection", "secrets", "test"),
+                ApiCall.of("DELETE", HttpUrl.get("https://k8s:6443/api/v1/namespaces/test/secrets?labelSelector=app%3Dfoo")));
+        Assert.assertEquals(new ApiCall("get", "namespaces", ""),
+                ApiCall.of("GET", HttpUrl.get("https://k8s:6443/api/v1/namespaces/test")));
+        Assert.assertEquals(new ApiCall("patch", "customresourcedefinitions", ""),
+                ApiCall.of("PATCH", HttpUrl.get("https://k8s:6443/apis/apiextensions.k8s.io/v1/customresourcedefinitions/foo")));
+    }
+
+    @Test
+    public void shouldRecordApiCalls() {
+        ApiCall getPod = new ApiCall("get", "pods", "test");
+        ApiCall listPods = new ApiCall("list", "pods", "test");
+
+        statistics.record(getPod, 200, 5L, 0L, 100L);
+        Map<ApiCall, ApiCallStats> snapshot = statistics.snapshot();
+
+        statistics.record(getPod, 429, 30L, 0L, 50L);
+        statistics.record(getPod, 503, 700L, 0L, 50L);
+        statistics.record(listPods, -1, 20000L, 0L, 0L);
+
+        Map<ApiCall, ApiCallStats> calls = statistics.since(snapshot);
+        Assert.assertEquals(2, calls.size());
+        Assert.assertEquals(2L, calls.get(getPod).getCount());
+        Assert.assertEquals(1L, calls.get(getPod).getThrottled());
+        Assert.assertEquals(1L, calls.get(getPod).getServerErrors());
+        Assert.assertEquals(730L, calls.get(getPod).getTotalTime());
+        Assert.assertEquals(100L, calls.get(getPod).getBytesReceived());
+        Assert.assertEquals(1L, calls.get(getPod).getLatencyHistogram().get("50").longValue());
+        Assert.assertEquals(1L, calls.get(getPod).getLatencyHistogram().get("1000").longValue());
+        Assert.assertEquals(1L, calls.get(listPods).getFailures());
+        Assert.assertEquals(1L, calls.get(listPods).getLatencyHistogram().get("+Inf").longValue());
+
+        ApiCallStats total = statistics.getTotal();
+        Assert.assertEquals(4L, total.getCount());
+        Assert.assertEquals(20000L, total.getMaxTime());
+        Assert.assertEquals(200L, total.getBytesReceived());
+    }
+
+    @Test
+    public void shouldCreateReport() throws Exception {
+        Assert.assertNull(statistics.getReport());
+
+        ApiCall getPod = new ApiCall("get", "pods", "test");
+        statistics.record(getPod, 200, 5L, 0L, 100L);
+        statistics.scenarioFinished("foo", statistics.since(Map.of()));
+
+        ApiCallStatistics.Report report = statistics.getReport();
+        Assert.assertEquals(1L, report.getTotal().getCount());
+        Assert.assertEquals(1, report.getCalls().size());
+        Assert.assertEquals("get", report.getCalls().get(0).getVerb());
+        Assert.assertEquals("pods", report.getCalls().get(0).getResource());
+        Assert.assertEquals("test", report.getCalls().get(0).getNamespace());
+        Assert.assertEquals(1, report.getScenarios().size());
+        Assert.assertEquals("foo", report.getScenarios().get(0).getName());
+
+        String json = new ObjectMapper().writeValueAsString(report);
+        Assert.assertTrue(json.contains("\"verb\":\"get\""));
+        Assert.assertTrue(json.contains("\"resource\":\"pods\""));
+        Assert.assertTrue(json.contains("\"latencyHistogram\":{\"10\":1,"));
+    }
+
+    @Test
+    public void shouldCreateSummaryWithTotalsOnly() throws Exception {
+        Assert.assertNull(statistics.getSummary());
+
+        for (int i = 0; i < 100; i++) {
+            statistics.record(new ApiCall("get", "pods", "test-" + i), 200, 5L, 0L, 100L);
+        }
+
+        ApiCallStats summary = statistics.getSummary();
+        Assert.assertEquals(100L, summary.getCount());
+
+        String json = new ObjectMapper().writeValueAsString(summary);
+        Assert.assertFalse(json.contains("test-"));
+        Assert.assertTrue(json.length() < 1024);
+    }
+}
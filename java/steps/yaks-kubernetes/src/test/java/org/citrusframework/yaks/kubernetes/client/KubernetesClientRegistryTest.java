@@ -0,0 +1,53 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.client;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KubernetesClientRegistryTest {
+
+    private final KubernetesClientRegistry registry = new KubernetesClientRegistry();
+
+    @After
+    public void cleanup() {
+        registry.close();
+    }
+
+    @Test
+    public void shouldReuseClient() {
+        KubernetesClient client = registry.getClient();
+        Assert.assertSame(client, registry.getClient());
+        Assert.assertSame(client, registry.getClient(""));
+
+        Assert.assertEquals(1L, registry.getMetrics().getClientsCreated());
+        Assert.assertEquals(1L, registry.getMetrics().getOpenClients());
+    }
+
+    @Test
+    public void shouldCloseClients() {
+        KubernetesClient client = registry.getClient();
+        registry.close();
+
+        Assert.assertEquals(1L, registry.getMetrics().getClientsClosed());
+        Assert.assertEquals(0L, registry.getMetrics().getOpenClients());
+        Assert.assertEquals(0, registry.getMetrics().getOpenConnections());
+        Assert.assertNotSame(client, registry.getClient());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DataSetTest {
+
+    @Test
+    public void shouldEncodeInChunks() throws IOException {
+        byte[] content = new byte[200000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        DataSet dataSet = new DataSet();
+        dataSet.add("data.bin", new ByteArrayInputStream(content));
+
+        Assert.assertEquals(Base64.getEncoder().encodeToString(content), dataSet.getEntries().get("data.bin"));
+    }
+
+    @Test
+    public void shouldSplitDataSet() throws IOException {
+        DataSet dataSet = new DataSet();
+        dataSet.add("a", bytes("aaaaaa"));
+        dataSet.add("b", bytes("bbbbbb"));
+        dataSet.add("c", bytes("cccccccccccccccccccccccc"));
+
+        List<Map<String, String>> objects = dataSet.split(12);
+        Assert.assertEquals(5, objects.size());
+
+        StringBuilder decoded = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(1, objects.get(i + 1).size());
+            decoded.append(new String(Base64.getDecoder().decode(objects.get(i + 1).get("c.part-" + i)), StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals("cccccccccccccccccccccccc", decoded.toString());
+
+        Assert.assertEquals("aaaaaa", new String(Base64.getDecoder().decode(objects.get(0).get("a")), StandardCharsets.UTF_8));
+        Assert.assertEquals("bbbbbb", new String(Base64.getDecoder().decode(objects.get(4).get("b")), StandardCharsets.UTF_8));
+
+        Assert.assertEquals(3, dataSet.split(20).size());
+    }
+
+    @Test
+    public void shouldComputeStableDigest() throws IOException {
+        DataSet dataSet = new DataSet();
+        dataSet.add("a", bytes("a"));
+        dataSet.add("b", bytes("b"));
+
+        DataSet other = new DataSet();
+        other.add("b", bytes("b"));
+        other.add("a", bytes("a"));
+
+        Assert.assertEquals(DataSet.digest(dataSet.getEntries()), DataSet.digest(other.getEntries()));
+        Assert.assertNotEquals(DataSet.digest(dataSet.getEntries()), DataSet.digest(Map.of("a", "Yg==")));
+    }
+
+    private static ByteArrayInputStream bytes(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
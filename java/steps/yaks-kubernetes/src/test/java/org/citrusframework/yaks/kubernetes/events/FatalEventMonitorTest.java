@@ -0,0 +1,161 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.events;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.yaks.kubernetes.KubernetesSupport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FatalEventMonitorTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private final Set<String> fatalReasons = Set.of("ImagePullBackOff", "CrashLoopBackOff", "FailedScheduling");
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        KubernetesSupport.closeInformerCaches();
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldFailOnPodEvent() throws Exception {
+        Pod pod = createPod("foo", null);
+
+        try (FatalEventMonitor monitor = new FatalEventMonitor(k8sClient, "default", fatalReasons)
+                .involvedPods(p -> "foo".equals(p.getMetadata().getName()))
+                .start()) {
+            createEvent("bar-event", "Pod", "bar", null, "Failed", "Error: ImagePullBackOff");
+            createEvent("foo-event", "Pod", "foo", pod.getMetadata().getUid(), "Failed", "Error: ImagePullBackOff");
+
+            FatalEventException error = monitor.fatalError().get(5, TimeUnit.SECONDS);
+            Assert.assertEquals("ImagePullBackOff", error.getReason());
+            Assert.assertEquals("Pod/foo", error.getInvolvedObject());
+            Assert.assertEquals("Error: ImagePullBackOff", error.getEventMessage());
+        }
+    }
+
+    @Test
+    public void shouldFailOnContainerState() throws Exception {
+        createPod("foo", "CrashLoopBackOff");
+
+        try (FatalEventMonitor monitor = new FatalEventMonitor(k8sClient, "default", fatalReasons)
+                .involvedPods(p -> "foo".equals(p.getMetadata().getName()))
+                .start()) {
+            FatalEventException error = monitor.fatalError().get(5, TimeUnit.SECONDS);
+            Assert.assertEquals("CrashLoopBackOff", error.getReason());
+        }
+    }
+
+    @Test
+    public void shouldIgnoreStaleObjectEvents() throws Exception {
+        createEvent("stale-event", "Foo", "foo", null, "FailedScheduling", "stale");
+
+        try (FatalEventMonitor monitor = new FatalEventMonitor(k8sClient, "default", fatalReasons)
+                .involvedObject("Foo", "foo")
+                .start()) {
+            Thread.sleep(200L);
+            monitor.verify();
+
+            createEvent("new-event", "Foo", "foo", null, "FailedScheduling", "0/1 nodes are available");
+            FatalEventException error = monitor.fatalError().get(5, TimeUnit.SECONDS);
+            Assert.assertEquals("0/1 nodes are available", error.getEventMessage());
+        }
+    }
+
+    @Test
+    public void shouldBeDisabledWithoutFatalReasons() throws Exception {
+        createPod("foo", "CrashLoopBackOff");
+
+        try (FatalEventMonitor monitor = new FatalEventMonitor(k8sClient, "default", Collections.emptySet())
+                .involvedPods(p -> true)
+                .start()) {
+            Thread.sleep(200L);
+            monitor.verify();
+            Assert.assertFalse(monitor.fatalError().isDone());
+        }
+    }
+
+    private Pod createPod(String name, String waitingReason) {
+        PodBuilder pod = new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("default")
+                .endMetadata();
+
+        if (waitingReason != null) {
+            pod.withNewStatus()
+                    .addNewContainerStatus()
+                        .withName("main")
+                        .withNewState()
+                            .withNewWaiting()
+                                .withReason(waitingReason)
+                                .withMessage("back-off restarting failed container")
+                            .endWaiting()
+                        .endState()
+                    .endContainerStatus()
+                .endStatus();
+        }
+
+        return k8sClient.pods().inNamespace("default").resource(pod.build()).create();
+    }
+
+    private void createEvent(String name, String kind, String involvedName, String uid, String reason, String message) {
+        Event event = new EventBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("default")
+                .endMetadata()
+                .withType("Warning")
+                .withReason(reason)
+                .withMessage(message)
+                .withNewInvolvedObject()
+                    .withKind(kind)
+                    .withName(involvedName)
+                    .withUid(uid)
+                .endInvolvedObject()
+                .build();
+
+        k8sClient.v1().events().inNamespace("default").resource(event).create();
+    }
+}
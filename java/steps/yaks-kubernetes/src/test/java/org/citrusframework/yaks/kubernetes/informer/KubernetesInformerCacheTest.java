@@ -0,0 +1,119 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.informer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KubernetesInformerCacheTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private KubernetesClient k8sClient;
+    private KubernetesInformerCache cache;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+        cache = new KubernetesInformerCache(k8sClient);
+    }
+
+    @After
+    public void cleanup() {
+        cache.close();
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldReadPodsFromCache() {
+        createPod("p1", "app", "foo");
+        createPod("p2", "app", "bar");
+
+        Assert.assertNotNull(cache.getPod("default", "p1"));
+        Assert.assertNull(cache.getPod("default", "unknown"));
+        Assert.assertEquals(1, cache.getPods("default", "app", "foo").size());
+        Assert.assertEquals("p1", cache.getPods("default", "app", "foo").get(0).getMetadata().getName());
+        Assert.assertTrue(cache.getPods("default", "app", "unknown").isEmpty());
+    }
+
+    @Test
+    public void shouldNotifySubscribers() throws Exception {
+        createPod("p1", "app", "foo");
+
+        CompletableFuture<Pod> existing = new CompletableFuture<>();
+        CompletableFuture<Pod> added = new CompletableFuture<>();
+        KubernetesInformerCache.Subscription subscription = cache.subscribePods("default", new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(Pod pod) {
+                if ("p1".equals(pod.getMetadata().getName())) {
+                    existing.complete(pod);
+                } else if ("p2".equals(pod.getMetadata().getName())) {
+                    added.complete(pod);
+                }
+            }
+
+            @Override
+            public void onUpdate(Pod oldPod, Pod newPod) {
+            }
+
+            @Override
+            public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+            }
+        });
+
+        try {
+            Assert.assertNotNull(existing.get(5, TimeUnit.SECONDS));
+            createPod("p2", "app", "bar");
+            Assert.assertNotNull(added.get(5, TimeUnit.SECONDS));
+        } finally {
+            subscription.close();
+        }
+    }
+
+    private void createPod(String name, String labelKey, String labelValue) {
+        Pod pod = new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("default")
+                    .withLabels(Collections.singletonMap(labelKey, labelValue))
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                .endStatus()
+                .build();
+
+        k8sClient.pods().inNamespace("default").resource(pod).create();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LogMessageMatcherTest {
+
+    @Test
+    public void shouldMatchSingleMessage() {
+        LogMessageMatcher matcher = new LogMessageMatcher("Started application");
+
+        Assert.assertFalse(matcher.scan("INFO Starting application\n"));
+        Assert.assertTrue(matcher.scan("INFO Started application in 1.2s\n"));
+        Assert.assertTrue(matcher.isMatched());
+    }
+
+    @Test
+    public void shouldMatchAcrossChunkBoundaries() {
+        LogMessageMatcher matcher = new LogMessageMatcher("Hello YAKS!");
+
+        Assert.assertFalse(matcher.scan("INFO Hel"));
+        Assert.assertFalse(matcher.scan("lo YA"));
+        Assert.assertTrue(matcher.scan("KS!\n"));
+    }
+
+    @Test
+    public void shouldMatchMultipleMessages() {
+        LogMessageMatcher matcher = new LogMessageMatcher(List.of("foo", "bar", "oob"));
+
+        Assert.assertFalse(matcher.scan("xxfo"));
+        Assert.assertFalse(matcher.scan("obaxx"));
+        Assert.assertTrue(matcher.isMatched("foo"));
+        Assert.assertTrue(matcher.isMatched("oob"));
+        Assert.assertFalse(matcher.isMatched("bar"));
+        Assert.assertEquals(List.of("bar"), matcher.getUnmatched());
+
+        Assert.assertTrue(matcher.scan("bar"));
+        Assert.assertTrue(matcher.getUnmatched().isEmpty());
+    }
+
+    @Test
+    public void shouldMatchOverlappingMessages() {
+        LogMessageMatcher matcher = new LogMessageMatcher(List.of("she", "he", "hers"));
+
+        Assert.assertFalse(matcher.scan("ushe"));
+        Assert.assertTrue(matcher.isMatched("she"));
+        Assert.assertTrue(matcher.isMatched("he"));
+        Assert.assertTrue(matcher.scan("rs"));
+    }
+
+    @Test
+    public void shouldMatchAnyMessage() {
+        LogMessageMatcher matcher = LogMessageMatcher.anyOf(List.of("ERROR", "Exception"));
+
+        Assert.assertFalse(matcher.scan("INFO Started application\n"));
+        Assert.assertTrue(matcher.scan("WARN Caught Exception\n"));
+        Assert.assertEquals(List.of("Exception"), matcher.getMatched());
+        Assert.assertEquals(List.of("ERROR"), matcher.getUnmatched());
+    }
+
+    @Test
+    public void shouldResetState() {
+        LogMessageMatcher matcher = new LogMessageMatcher("abc");
+
+        Assert.assertFalse(matcher.scan("ab"));
+        matcher.reset();
+        Assert.assertFalse(matcher.scan("c"));
+        Assert.assertTrue(matcher.scan("abc"));
+    }
+
+    @Test
+    public void shouldKeepBoundedTail() {
+        LogMessageMatcher matcher = new LogMessageMatcher(List.of("unknown"), 5);
+
+        matcher.scan("123");
+        Assert.assertEquals("123", matcher.getTail());
+        matcher.scan("4567");
+        Assert.assertEquals("34567", matcher.getTail());
+        matcher.scan("abcdefgh");
+        Assert.assertEquals("defgh", matcher.getTail());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LogRingBufferTest {
+
+    @Test
+    public void shouldKeepAllLinesWithinCapacity() {
+        LogRingBuffer buffer = LogRingBuffer.heap(64);
+        buffer.append("line 1");
+        buffer.append("line 2");
+
+        Assert.assertEquals("line 1\nline 2\n", buffer.toString());
+        Assert.assertFalse(buffer.isTruncated());
+        Assert.assertEquals(14L, buffer.getWritten());
+    }
+
+    @Test
+    public void shouldOverwriteOldestLines() {
+        LogRingBuffer buffer = LogRingBuffer.heap(20);
+        for (int i = 1; i <= 10; i++) {
+            buffer.append("line " + i);
+        }
+
+        Assert.assertTrue(buffer.isTruncated());
+        Assert.assertEquals("line 9\nline 10\n", buffer.toString());
+    }
+
+    @Test
+    public void shouldKeepTailOfLongLine() {
+        LogRingBuffer buffer = LogRingBuffer.heap(8);
+        buffer.append("0123456789abcdef");
+
+        Assert.assertTrue(buffer.isTruncated());
+        Assert.assertEquals(17L, buffer.getWritten());
+        Assert.assertEquals("9abcdef\n", buffer.toString());
+    }
+
+    @Test
+    public void shouldUseMemoryMappedSpillFile() throws Exception {
+        Path spillFile = Files.createTempFile("yaks-pod-logs", ".spill");
+
+        LogRingBuffer buffer = LogRingBuffer.mapped(spillFile, 32);
+        for (int i = 1; i <= 10; i++) {
+            buffer.append("line " + i);
+        }
+
+        Assert.assertEquals(32L, Files.size(spillFile));
+        Assert.assertEquals("line 7\nline 8\nline 9\nline 10\n", buffer.toString());
+
+        buffer.close();
+        Assert.assertTrue(buffer.isClosed());
+        Assert.assertFalse(Files.exists(spillFile));
+
+        buffer.append("line 11");
+        Assert.assertEquals("", buffer.toString());
+        buffer.close();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PodLogCursorTest {
+
+    @Test
+    public void shouldStripTimestamps() {
+        PodLogCursor cursor = new PodLogCursor();
+
+        Assert.assertNull(cursor.getSinceTime());
+        Assert.assertEquals("INFO Started application", cursor.accept("2024-01-10T09:15:30.123456789Z INFO Started application"));
+        Assert.assertEquals("2024-01-10T09:15:30.123456789Z", cursor.getSinceTime());
+    }
+
+    @Test
+    public void shouldSkipProcessedLines() {
+        PodLogCursor cursor = new PodLogCursor();
+
+        Assert.assertEquals("foo", cursor.accept("2024-01-10T09:15:30.1Z foo"));
+        Assert.assertEquals("bar", cursor.accept("2024-01-10T09:15:30.25Z bar"));
+
+        // log resumed with sinceTime repeats the last processed line
+        cursor.resume();
+        Assert.assertNull(cursor.accept("2024-01-10T09:15:30.1Z foo"));
+        Assert.assertNull(cursor.accept("2024-01-10T09:15:30.250Z bar"));
+        Assert.assertEquals("baz", cursor.accept("2024-01-10T09:15:31Z baz"));
+        Assert.assertEquals("2024-01-10T09:15:31Z", cursor.getSinceTime());
+    }
+
+    @Test
+    public void shouldAcceptAllNewLines() {
+        PodLogCursor cursor = new PodLogCursor();
+
+        Assert.assertEquals(String.format("foo%nbar%n"),
+                cursor.acceptAll("2024-01-10T09:15:30Z foo\n2024-01-10T09:15:31Z bar\n"));
+        Assert.assertEquals(String.format("baz%n"),
+                cursor.acceptAll("2024-01-10T09:15:31Z bar\n2024-01-10T09:15:32Z baz\n"));
+        Assert.assertEquals("", cursor.acceptAll("2024-01-10T09:15:32Z baz\n"));
+    }
+
+    @Test
+    public void shouldAcceptLinesWithSameTimestamp() {
+        PodLogCursor cursor = new PodLogCursor();
+
+        Assert.assertEquals(String.format("ERROR Failed%n  at foo%n"),
+                cursor.acceptAll("2024-01-10T09:15:30Z ERROR Failed\n2024-01-10T09:15:30Z   at foo\n"));
+
+        // log resumed with sinceTime repeats the processed lines and the stack trace continues at the same timestamp
+        Assert.assertEquals(String.format("  at bar%nINFO Done%n"),
+                cursor.acceptAll("2024-01-10T09:15:30Z ERROR Failed\n2024-01-10T09:15:30Z   at foo\n" +
+                        "2024-01-10T09:15:30Z   at bar\n2024-01-10T09:15:31Z INFO Done\n"));
+        Assert.assertEquals("2024-01-10T09:15:31Z", cursor.getSinceTime());
+    }
+
+    @Test
+    public void shouldKeepLinesWithoutTimestamp() {
+        PodLogCursor cursor = new PodLogCursor();
+
+        Assert.assertEquals("INFO Started application", cursor.accept("INFO Started application"));
+        Assert.assertEquals("Hello", cursor.accept("Hello"));
+        Assert.assertNull(cursor.getSinceTime());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.logs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PodLogFanInTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(false);
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldMergeLogsOfAllContainers() {
+        Pod p1 = pod("p1", "main", "sidecar");
+        Pod p2 = pod("p2", "main");
+        expectPod(p1);
+        expectPod(p2);
+
+        expectLogs("p1", "main", "main 1\nmain 2\n");
+        expectLogs("p1", "sidecar", "sidecar 1\n");
+        expectLogs("p2", "main", "other 1\n");
+
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        try (PodLogFanIn fanIn = new PodLogFanIn(k8sClient, "test", (pod, container, line) -> lines.add(pod + "/" + container + ": " + line))) {
+            fanIn.follow(p1);
+            fanIn.follow(p2);
+            fanIn.follow(p1);
+
+            Assert.assertTrue(fanIn.awaitStreams(5000L));
+            Assert.assertEquals(3, fanIn.getStreams().size());
+        }
+
+        Assert.assertEquals(4, lines.size());
+        Assert.assertTrue(lines.containsAll(Arrays.asList("p1/main: main 1", "p1/main: main 2", "p1/sidecar: sidecar 1", "p2/main: other 1")));
+        Assert.assertTrue(lines.indexOf("p1/main: main 1") < lines.indexOf("p1/main: main 2"));
+    }
+
+    @Test
+    public void shouldFollowRestartedContainers() {
+        Pod pod = withRestartCount(pod("p1", "main"), 0);
+        expectPod(pod);
+
+        expectLogs("p1", "main", "first 1\n");
+        expectLogs("p1", "main", "second 1\n");
+
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        try (PodLogFanIn fanIn = new PodLogFanIn(k8sClient, "test", (p, container, line) -> lines.add(line))) {
+            fanIn.follow(pod);
+            Assert.assertTrue(fanIn.awaitStreams(5000L));
+
+            // finished stream of the same container instance is not followed again
+            fanIn.follow(pod);
+            Assert.assertTrue(fanIn.awaitStreams(5000L));
+            Assert.assertEquals(Collections.singletonList("first 1"), lines);
+
+            fanIn.follow(withRestartCount(pod, 1));
+            Assert.assertTrue(fanIn.awaitStreams(5000L));
+            Assert.assertEquals(1, fanIn.getStreams().size());
+        }
+
+        Assert.assertEquals(Arrays.asList("first 1", "second 1"), lines);
+    }
+
+    @Test
+    public void shouldSkipContainersNotStarted() {
+        Pod pod = new PodBuilder(pod("p1", "main", "init"))
+                .editStatus()
+                    .withContainerStatuses(new ContainerStatusBuilder()
+                                .withName("main")
+                                .withNewState().withNewRunning().endRunning().endState()
+                            .build(),
+                            new ContainerStatusBuilder()
+                                .withName("init")
+                                .withNewState().withNewWaiting().withReason("ContainerCreating").endWaiting().endState()
+                            .build())
+                .endStatus()
+                .build();
+
+        Assert.assertEquals(Collections.singletonList("main"), PodLogFanIn.getStartedContainers(pod));
+    }
+
+    private static Pod withRestartCount(Pod pod, int restartCount) {
+        return new PodBuilder(pod)
+                .editStatus()
+                    .withContainerStatuses(new ContainerStatusBuilder()
+                                .withName("main")
+                                .withRestartCount(restartCount)
+                                .withNewState().withNewRunning().endRunning().endState()
+                            .build())
+                .endStatus()
+                .build();
+    }
+
+    private void expectPod(Pod pod) {
+        k8sServer.expect().get()
+                .withPath(String.format("/api/v1/namespaces/test/pods?fieldSelector=metadata.name%%3D%s", pod.getMetadata().getName()))
+                .andReturn(200, new PodListBuilder().withItems(pod).withNewMetadata().withResourceVersion("1").endMetadata().build())
+                .always();
+    }
+
+    private void expectLogs(String pod, String container, String logs) {
+        k8sServer.expect().get()
+                .withPath(String.format("/api/v1/namespaces/test/pods/%s/log?pretty=false&container=%s&follow=true", pod, container))
+                .andReturn(200, logs)
+                .once();
+    }
+
+    private static Pod pod(String name, String... containers) {
+        PodBuilder builder = new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("test")
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                .endStatus()
+                .withNewSpec()
+                .endSpec();
+
+        for (String container : containers) {
+            builder.editSpec().addNewContainer().withName(container).endContainer().endSpec();
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.namespace;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.ServiceAccountBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.yaks.kubernetes.teardown.LabeledTeardown;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NamespacePoolTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private final Map<String, String> wipeLabels = Collections.singletonMap("app", "yaks");
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldLeaseAndReleaseNamespaces() {
+        createServiceAccounts(2);
+
+        try (NamespacePool pool = new NamespacePool(k8sClient, "test-pool", 2, NamespaceWipePolicy.LABELED, wipeLabels)) {
+            String first = pool.lease(1000L);
+            String second = pool.lease(1000L);
+
+            Assert.assertNotEquals(first, second);
+            Assert.assertEquals(0, pool.getAvailable());
+            Assert.assertEquals(2, pool.getLeased().size());
+            Assert.assertEquals("test-pool",
+                    k8sClient.namespaces().withName(first).get().getMetadata().getLabels().get(NamespacePool.POOL_LABEL));
+
+            pool.release(first);
+            Assert.assertEquals(first, pool.lease(5000L));
+
+            Assert.assertEquals(3L, pool.getMetrics().getLeases());
+            Assert.assertEquals(1L, pool.getMetrics().getWipes());
+        }
+    }
+
+    @Test
+    public void shouldFailOnLeaseTimeout() {
+        createServiceAccounts(1);
+
+        try (NamespacePool pool = new NamespacePool(k8sClient, "test-pool", 1, NamespaceWipePolicy.NONE, wipeLabels)) {
+            pool.lease(1000L);
+
+            try {
+                pool.lease(100L);
+                Assert.fail("Missing lease timeout error");
+            } catch (CitrusRuntimeException e) {
+                Assert.assertTrue(e.getMessage().startsWith("Failed to lease namespace from pool 'test-pool'"));
+            }
+
+            Assert.assertEquals(1L, pool.getMetrics().getLeases());
+            Assert.assertEquals(1L, pool.getMetrics().getLeaseTimeouts());
+        }
+    }
+
+    @Test
+    public void shouldWipeLabeledObjects() {
+        createServiceAccounts(1);
+
+        try (NamespacePool pool = new NamespacePool(k8sClient, "test-pool", 1, NamespaceWipePolicy.LABELED, wipeLabels)) {
+            String namespace = pool.lease(1000L);
+
+            createPod(namespace, "foo", wipeLabels);
+            createPod(namespace, "bar", Collections.singletonMap("app", "other"));
+
+            pool.release(namespace);
+            Assert.assertEquals(namespace, pool.lease(5000L));
+
+            k8sClient.pods().inNamespace(namespace).withName("foo")
+                    .waitUntilCondition(Objects::isNull, 5, TimeUnit.SECONDS);
+            Assert.assertNotNull(k8sClient.pods().inNamespace(namespace).withName("bar").get());
+        }
+    }
+
+    @Test
+    public void shouldWipeCreatedCustomResourceKinds() {
+        createServiceAccounts(1);
+
+        ResourceDefinitionContext integrations = new ResourceDefinitionContext.Builder()
+                .withGroup("camel.apache.org")
+                .withVersion("v1")
+                .withKind("Integration")
+                .withPlural("integrations")
+                .withNamespaced(true)
+                .build();
+
+        try (NamespacePool pool = new NamespacePool(k8sClient, "test-pool", 1, NamespaceWipePolicy.LABELED, wipeLabels)) {
+            String namespace = pool.lease(1000L);
+
+            createIntegration(integrations, namespace, "foo", Collections.singletonMap(LabeledTeardown.SCENARIO_LABEL, "scenario-1"));
+            createIntegration(integrations, namespace, "bar", Collections.singletonMap("app", "other"));
+
+            pool.release(namespace, Collections.singletonList(integrations));
+            Assert.assertEquals(namespace, pool.lease(5000L));
+
+            Assert.assertNull(k8sClient.genericKubernetesResources(integrations).inNamespace(namespace).withName("foo").get());
+            Assert.assertNotNull(k8sClient.genericKubernetesResources(integrations).inNamespace(namespace).withName("bar").get());
+            Assert.assertTrue(pool.getMetrics().getWipedKinds() > 0);
+            Assert.assertSame(pool.getMetrics(), NamespacePool.getAllMetrics().get("test-pool"));
+        }
+    }
+
+    private void createIntegration(ResourceDefinitionContext kind, String namespace, String name, Map<String, String> labels) {
+        k8sClient.genericKubernetesResources(kind).inNamespace(namespace).resource(new GenericKubernetesResourceBuilder()
+                .withApiVersion("camel.apache.org/v1")
+                .withKind("Integration")
+                .withNewMetadata()
+                    .withName(name)
+                    .withLabels(labels)
+                .endMetadata()
+                .build())
+                .create();
+    }
+
+    private void createServiceAccounts(int size) {
+        for (int i = 0; i < size; i++) {
+            k8sClient.serviceAccounts().inNamespace("test-pool-" + i).resource(new ServiceAccountBuilder()
+                    .withNewMetadata()
+                        .withName("default")
+                    .endMetadata()
+                    .build())
+                    .create();
+        }
+    }
+
+    private void createPod(String namespace, String name, Map<String, String> labels) {
+        k8sClient.pods().inNamespace(namespace).resource(new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withLabels(labels)
+                .endMetadata()
+                .build())
+                .create();
+    }
+}
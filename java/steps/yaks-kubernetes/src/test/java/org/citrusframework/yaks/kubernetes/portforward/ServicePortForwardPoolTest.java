@@ -0,0 +1,80 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.portforward;
+
+import java.util.HashMap;
+
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ServicePortForwardPoolTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private KubernetesClient k8sClient;
+
+    @Before
+    public void setup() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+    }
+
+    @After
+    public void cleanup() {
+        k8sClient.close();
+        k8sServer.destroy();
+    }
+
+    @Test
+    public void shouldFailForUnknownService() {
+        ServicePortForwardPool pool = new ServicePortForwardPool(k8sClient);
+
+        CitrusRuntimeException error = Assert.assertThrows(CitrusRuntimeException.class,
+                () -> pool.getLocalPort("test", "unknown", 8080));
+        Assert.assertTrue(error.getMessage().contains("service not found"));
+        Assert.assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void shouldFailForServiceWithoutPorts() {
+        k8sClient.services().inNamespace("test").resource(new ServiceBuilder()
+                .withNewMetadata()
+                    .withName("no-ports")
+                .endMetadata()
+                .build())
+                .create();
+
+        ServicePortForwardPool pool = new ServicePortForwardPool(k8sClient);
+
+        CitrusRuntimeException error = Assert.assertThrows(CitrusRuntimeException.class,
+                () -> pool.getLocalPort("test", "no-ports", 0));
+        Assert.assertTrue(error.getMessage().contains("service has no ports"));
+
+        pool.close();
+        Assert.assertEquals(0, pool.size());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.kubernetes.wait;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WaitStrategyTest {
+
+    @Test
+    public void shouldStopAfterMaxAttempts() {
+        AtomicInteger checks = new AtomicInteger();
+        WaitResult<String> result = WaitStrategies.fixed(3, 10L).waitFor("fixed", () -> {
+            checks.incrementAndGet();
+            return null;
+        });
+
+        Assert.assertFalse(result.isSatisfied());
+        Assert.assertEquals(WaitResult.Outcome.TIMEOUT, result.getOutcome());
+        Assert.assertEquals(3, result.getAttempts());
+        Assert.assertEquals(3, checks.get());
+    }
+
+    @Test
+    public void shouldReturnResultWhenSatisfied() {
+        AtomicInteger checks = new AtomicInteger();
+        WaitResult<String> result = WaitStrategies.fixed(5, 10L).waitFor("fixed", () -> checks.incrementAndGet() == 2 ? "ok" : null);
+
+        Assert.assertTrue(result.isSatisfied());
+        Assert.assertEquals("ok", result.getResult());
+        Assert.assertEquals(2, result.getAttempts());
+        Assert.assertTrue(WaitStatistics.getInstance().getResults().stream()
+                .anyMatch(recorded -> recorded == result));
+    }
+
+    @Test
+    public void shouldBackOffExponentially() {
+        ExponentialBackoffWaitStrategy strategy = new ExponentialBackoffWaitStrategy(10000L, 100L, 1000L, 2.0, 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            assertBetween(80L, 120L, strategy.nextDelay(1, 0L));
+            assertBetween(160L, 240L, strategy.nextDelay(2, 0L));
+            assertBetween(320L, 480L, strategy.nextDelay(3, 0L));
+            assertBetween(800L, 1200L, strategy.nextDelay(10, 0L));
+        }
+
+        Assert.assertEquals(50L, strategy.nextDelay(10, 9950L));
+        Assert.assertTrue(strategy.nextDelay(10, 10000L) < 0);
+    }
+
+    @Test
+    public void shouldCreateStrategyByName() {
+        Assert.assertEquals(FixedDelayWaitStrategy.NAME, WaitStrategies.create("fixed", 10, 100L).getName());
+        Assert.assertEquals(ExponentialBackoffWaitStrategy.NAME, WaitStrategies.create("exponential", 10, 100L).getName());
+
+        WaitStrategy watch = WaitStrategies.create("watch", 10, 100L);
+        Assert.assertTrue(watch.isWatch());
+        Assert.assertEquals(1000L, watch.getTimeout());
+        Assert.assertEquals(FixedDelayWaitStrategy.NAME, WaitStrategies.polling(watch, 10, 100L).getName());
+
+        Assert.assertThrows(CitrusRuntimeException.class, () -> WaitStrategies.create("unknown", 10, 100L));
+    }
+
+    @Test
+    public void shouldWakeUpOnSignal() throws Exception {
+        WaitSignal signal = new WaitSignal();
+        AtomicBoolean changed = new AtomicBoolean();
+
+        CompletableFuture<WaitResult<Boolean>> result = CompletableFuture.supplyAsync(() ->
+                new WatchWaitStrategy(30000L, 10000L).waitFor("watch", () -> changed.get() ? Boolean.TRUE : null, signal));
+
+        Thread.sleep(200L);
+        changed.set(true);
+        signal.signal();
+
+        WaitResult<Boolean> waitResult = result.get(5, TimeUnit.SECONDS);
+        Assert.assertTrue(waitResult.isSatisfied());
+        Assert.assertEquals(2, waitResult.getAttempts());
+        Assert.assertTrue(waitResult.getElapsed() < 10000L);
+    }
+
+    @Test
+    public void shouldRecordFailedWait() {
+        Assert.assertThrows(CitrusRuntimeException.class, () -> WaitStrategies.fixed(3, 10L).waitFor("failing", () -> {
+            throw new CitrusRuntimeException("Failed");
+        }));
+
+        Assert.assertTrue(WaitStatistics.getInstance().getResults().stream()
+                .anyMatch(recorded -> "failing".equals(recorded.getDescription()) &&
+                        recorded.getOutcome() == WaitResult.Outcome.FAILED));
+    }
+
+    private static void assertBetween(long min, long max, long value) {
+        Assert.assertTrue(String.format("Expected value between %d and %d but was %d", min, max, value),
+                value >= min && value <= max);
+    }
+}
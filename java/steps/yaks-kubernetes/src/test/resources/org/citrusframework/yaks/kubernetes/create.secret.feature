@@ -15,3 +15,19 @@ Feature: Kubernetes secrets
     Given load Kubernetes secret from file secret.properties
     Then verify secret secret exists
     Then delete Kubernetes secret secret
+
+  Scenario: Label many secrets
+    Given create Kubernetes secret first-secret
+    | username | admin |
+    Given create Kubernetes secret second-secret
+    | username | admin |
+    Then create labels on Kubernetes secrets first-secret, second-secret
+    | app  | yaks  |
+    | tier | tests |
+    Then create annotations on Kubernetes secrets labeled with app=yaks
+    | owner | yaks |
+
+  Scenario: Create secret from directory
+    Given create Kubernetes secret fixtures from directory data
+    Then verify secret fixtures exists
+    Given create Kubernetes config map payload from binary file data/payload.bin
@@ -24,3 +24,17 @@ spec:
   Scenario: Create from file resource
     Given load Kubernetes resource pod.yaml
     Then verify pod my-pod-resource exists
+
+  Scenario: Create resources from template
+    Given load Kubernetes resources from template pod-template.yaml
+      | name       | index |
+      | my-pod-foo | 1     |
+      | my-pod-bar | 2     |
+    Then verify pod my-pod-foo-1 exists
+    Then verify pod my-pod-bar-2 exists
+
+  Scenario: Create resources from template with index range
+    Given variable name is "my-pod-range"
+    Given Kubernetes resource template concurrency is 2
+    Given load Kubernetes resources from template pod-template.yaml with index 1 to 3
+    Then verify pod my-pod-range-3 exists
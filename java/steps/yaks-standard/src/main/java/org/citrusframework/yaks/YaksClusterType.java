@@ -17,12 +17,14 @@
 package org.citrusframework.yaks;
 
 /**
- * Cluster type determines where YAKS is being hosted on.
+ * Cluster type determines where YAKS is being hosted on. The mock cluster type runs all Kubernetes operations
+ * against an embedded in-process API server stand-in.
  * @author Christoph Deppisch
  */
 public enum YaksClusterType {
 
     LOCAL(""),
+    MOCK(""),
     KUBERNETES("yaks-system"),
     OPENSHIFT("openshift-operators");
 
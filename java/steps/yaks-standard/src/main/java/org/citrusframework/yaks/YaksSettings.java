@@ -66,6 +66,10 @@ public class YaksSettings {
     private static final String TERMINATION_LOG_ENV = YAKS_ENV_PREFIX + "TERMINATION_LOG";
     private static final String TERMINATION_LOG_DEFAULT = "target/termination.log";
 
+    private static final String TEST_REPORT_PROPERTY = YAKS_PROPERTY_PREFIX + "test.report";
+    private static final String TEST_REPORT_ENV = YAKS_ENV_PREFIX + "TEST_REPORT";
+    private static final String TEST_REPORT_DEFAULT = "target/yaks-test-report.json";
+
     /**
      * Default YAKS operator namespace. If not set in environment vars use default according to the cluster type.
      * @return
@@ -125,6 +129,15 @@ public class YaksSettings {
                 System.getenv(TERMINATION_LOG_ENV) != null ? System.getenv(TERMINATION_LOG_ENV) : TERMINATION_LOG_DEFAULT));
     }
 
+    /**
+     * Test report file path. The test report holds the detailed report sections that do not fit into the termination log.
+     * @return
+     */
+    public static Path getTestReport() {
+        return Paths.get(System.getProperty(TEST_REPORT_PROPERTY,
+                System.getenv(TEST_REPORT_ENV) != null ? System.getenv(TEST_REPORT_ENV) : TEST_REPORT_DEFAULT));
+    }
+
     /**
      * Current test id that is also set as label on the Pod running the test.
      * @return
@@ -157,6 +170,14 @@ public class YaksSettings {
         return YaksClusterType.LOCAL.equals(clusterType);
     }
 
+    /**
+     * True when running against the embedded mock cluster.
+     * @return
+     */
+    public static boolean isMock() {
+        return YaksClusterType.MOCK.equals(getClusterType());
+    }
+
     /**
      * True when running on Openshift.
      * @return
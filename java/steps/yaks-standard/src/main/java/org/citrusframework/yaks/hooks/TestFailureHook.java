@@ -25,6 +25,8 @@ import io.cucumber.java.After;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.Status;
 import org.citrusframework.yaks.util.CucumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Failure hook makes sure that the Citrus test state is set to FAILED when the Cucumber scenario is failed. This is because
@@ -33,10 +35,15 @@ import org.citrusframework.yaks.util.CucumberUtils;
  * This would then lead to a false positive Citrus test report because the error was not part of the Citrus test. This hook makes sure to always set
  * an exception on the test context in order to correctly reflect the scenario failed state.
  *
+ * Failed scenarios are also reported to all {@link TestFailureListener} implementations available via service loader.
+ *
  * @author Christoph Deppisch
  */
 public class TestFailureHook {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(TestFailureHook.class);
+
     @CitrusResource
     private TestCaseRunner runner;
 
@@ -45,12 +52,30 @@ public class TestFailureHook {
         if (scenario.isFailed()) {
             runner.run(new AddErrorAction(String.format("Scenario '%s' in %s status %s",
                     scenario.getName(), CucumberUtils.extractFeatureFileName(scenario), scenario.getStatus().toString())));
+            notifyListeners(scenario);
         } else if (Status.PENDING == scenario.getStatus() || Status.UNDEFINED == scenario.getStatus()) {
             runner.run(new AddErrorAction(String.format("Scenario '%s' in %s has pending or undefined step(s)",
                     scenario.getName(), CucumberUtils.extractFeatureFileName(scenario))));
         }
     }
 
+    /**
+     * Notifies all failure listeners available via service loader. Errors in listeners are logged and do not
+     * affect the test result.
+     * @param scenario
+     */
+    private static void notifyListeners(Scenario scenario) {
+        synchronized (TestFailureListener.SERVICE_LOADER) {
+            for (TestFailureListener listener : TestFailureListener.SERVICE_LOADER) {
+                try {
+                    listener.onTestFailure(scenario);
+                } catch (RuntimeException e) {
+                    LOG.warn(String.format("Failed to notify test failure listener %s", listener.getClass().getName()), e);
+                }
+            }
+        }
+    }
+
     /**
      * Test action adds new error to the test context.
      */
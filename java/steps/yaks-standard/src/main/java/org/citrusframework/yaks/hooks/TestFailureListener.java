@@ -0,0 +1,36 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.hooks;
+
+import java.util.ServiceLoader;
+
+import io.cucumber.java.Scenario;
+
+/**
+ * Listener notified by the {@link TestFailureHook} when a scenario has failed. Modules provide listeners via service loader
+ * e.g. to write diagnostic information such as captured logs only for failed scenarios.
+ */
+public interface TestFailureListener {
+
+    ServiceLoader<TestFailureListener> SERVICE_LOADER = ServiceLoader.load(TestFailureListener.class);
+
+    /**
+     * Called when given scenario has failed.
+     * @param scenario
+     */
+    void onTestFailure(Scenario scenario);
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.yaks.report;
+
+import java.util.ServiceLoader;
+
+/**
+ * Extension adds a module specific report section to the test results written by the {@link TestReporter}.
+ * Modules provide extensions via service loader e.g. to add statistics collected during the test run.
+ *
+ * The termination log is limited to 4096 bytes, so it only holds the summary of each extension. The detailed report
+ * is written to a separate test report file.
+ */
+public interface TestReportExtension {
+
+    ServiceLoader<TestReportExtension> SERVICE_LOADER = ServiceLoader.load(TestReportExtension.class);
+
+    /**
+     * Name of the report section in the test results.
+     * @return
+     */
+    String getName();
+
+    /**
+     * Gets the detailed report section. The report is serialized to Json as part of the test report file.
+     * @return the report or null when there is nothing to report.
+     */
+    Object getReport();
+
+    /**
+     * Gets the compact summary of the report that is added to the test results in the termination log.
+     * Extensions with large reports should only return totals here. Defaults to the detailed report.
+     * @return the summary or null when there is nothing to report.
+     */
+    default Object getSummary() {
+        return getReport();
+    }
+}
@@ -19,8 +19,10 @@ package org.citrusframework.yaks.report;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -116,16 +118,58 @@ public class TestReporter extends CitrusReporter {
     }
 
     /**
-     * Prints test results to termination log.
+     * Prints test results to termination log. The termination log only holds the summaries of the report extensions.
+     * The detailed report extensions are written to a separate test report file.
      * @param event
      */
     private void printReports(TestRunFinished event) {
-        try (Writer terminationLogWriter = Files.newBufferedWriter(YaksSettings.getTerminationLog(),
-                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-            terminationLogWriter.write(testResults.toJson());
-            terminationLogWriter.flush();
+        addReportExtensions(TestReportExtension::getReport);
+        if (!testResults.getExtensions().isEmpty()) {
+            write(YaksSettings.getTestReport(), "test report");
+        }
+
+        addReportExtensions(TestReportExtension::getSummary);
+        write(YaksSettings.getTerminationLog(), "termination logs");
+    }
+
+    /**
+     * Writes the test results as Json to given file.
+     * @param file
+     * @param description
+     */
+    private void write(Path file, String description) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+
+            try (Writer writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.write(testResults.toJson());
+                writer.flush();
+            }
         } catch (IOException e) {
-            LOG.warn(String.format("Failed to write termination logs to file '%s'", YaksSettings.getTerminationLog()), e);
+            LOG.warn(String.format("Failed to write %s to file '%s'", description, file), e);
+        }
+    }
+
+    /**
+     * Sets the report sections provided by report extensions on the test results.
+     * @param section either the detailed report or the summary of the extension.
+     */
+    private void addReportExtensions(Function<TestReportExtension, Object> section) {
+        testResults.getExtensions().clear();
+
+        synchronized (TestReportExtension.SERVICE_LOADER) {
+            for (TestReportExtension extension : TestReportExtension.SERVICE_LOADER) {
+                try {
+                    Object report = section.apply(extension);
+                    if (report != null) {
+                        testResults.addExtension(extension.getName(), report);
+                    }
+                } catch (RuntimeException e) {
+                    LOG.warn(String.format("Failed to add report '%s' to test results", extension.getName()), e);
+                }
+            }
         }
     }
 
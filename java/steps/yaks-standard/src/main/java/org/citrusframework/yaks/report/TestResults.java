@@ -17,9 +17,12 @@
 package org.citrusframework.yaks.report;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -40,6 +43,8 @@ public class TestResults {
 
     private final List<TestResult> tests = new ArrayList<>();
 
+    private final Map<String, Object> extensions = new LinkedHashMap<>();
+
     public void setSuiteName(String suiteName) {
         this.suiteName = suiteName;
     }
@@ -56,11 +61,21 @@ public class TestResults {
         return summary;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public Map<String, Object> getExtensions() {
+        return extensions;
+    }
+
     @JsonIgnore
     public void addTestResult(TestResult result) {
         this.tests.add(result);
     }
 
+    @JsonIgnore
+    public void addExtension(String name, Object report) {
+        this.extensions.put(name, report);
+    }
+
     @JsonIgnore
     public String toJson() {
         try {